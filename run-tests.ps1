@@ -1,6 +1,13 @@
 # Script para ejecutar tests de SmartTask
 # Autor: Yulieta (Melek) Eyzaguirre
 # Fecha: Febrero 2026
+#
+# Compila todos los módulos y ejecuta las pruebas unitarias con Maven.
+# Uso: .\run-tests.ps1 [-SinConexion]
+#   -SinConexion  Ejecuta Maven en modo offline (requiere el repositorio local poblado,
+#                 ver README.md, sección "Compilar sin conexión")
+
+param([switch]$SinConexion)
 
 Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
 Write-Host "   🧪 SMARTTASK - EJECUTOR DE PRUEBAS UNITARIAS 🧪     " -ForegroundColor Cyan
@@ -27,130 +34,57 @@ function Write-Error-Custom {
 $currentPath = Get-Location
 Write-Step "Directorio actual: $currentPath" "Cyan"
 
-# Verificar estructura de directorios
-Write-Step "Verificando estructura del proyecto..." "Yellow"
-
-$requiredDirs = @("src", "test", "lib")
-$missingDirs = @()
-
-foreach ($dir in $requiredDirs) {
-    if (-not (Test-Path $dir)) {
-        $missingDirs += $dir
-        Write-Error-Custom "Falta directorio: $dir"
-    } else {
-        Write-Success "Encontrado: $dir/"
-    }
-}
-
-if ($missingDirs.Count -gt 0) {
-    Write-Error-Custom "Faltan directorios requeridos. Abortando."
+if (-not (Test-Path "pom.xml")) {
+    Write-Error-Custom "No se encuentra pom.xml. Ejecuta el script desde la raíz del proyecto."
     exit 1
 }
 
-# Verificar JUnit JAR
-Write-Step "Verificando JUnit5..." "Yellow"
-$junitJar = "lib/junit-platform-console-standalone-1.10.1.jar"
-
-if (-not (Test-Path $junitJar)) {
-    Write-Error-Custom "No se encuentra JUnit5 en: $junitJar"
+# Verificar Maven
+Write-Step "Verificando Maven..." "Yellow"
+if (-not (Get-Command mvn -ErrorAction SilentlyContinue)) {
+    Write-Error-Custom "No se encuentra Maven (mvn) en el PATH"
     Write-Host ""
-    Write-Host "Descarga JUnit5 desde:" -ForegroundColor Yellow
-    Write-Host "https://repo1.maven.org/maven2/org/junit/platform/junit-platform-console-standalone/1.10.1/junit-platform-console-standalone-1.10.1.jar" -ForegroundColor Cyan
-    Write-Host ""
-    Write-Host "O ejecuta:" -ForegroundColor Yellow
-    Write-Host 'Invoke-WebRequest -Uri "https://repo1.maven.org/maven2/org/junit/platform/junit-platform-console-standalone/1.10.1/junit-platform-console-standalone-1.10.1.jar" -OutFile "lib/junit-platform-console-standalone-1.10.1.jar"' -ForegroundColor Cyan
+    Write-Host "Descarga Maven 3.9+ desde:" -ForegroundColor Yellow
+    Write-Host "https://maven.apache.org/download.cgi" -ForegroundColor Cyan
     exit 1
-} else {
-    Write-Success "JUnit5 encontrado"
 }
+Write-Success "Maven encontrado"
 
 Write-Host ""
 Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
-Write-Host "   📦 COMPILACIÓN                                       " -ForegroundColor Cyan
+Write-Host "   🧪 COMPILACIÓN Y EJECUCIÓN DE PRUEBAS                " -ForegroundColor Cyan
 Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
 Write-Host ""
 
-# Limpiar directorio bin
-Write-Step "Limpiando directorio bin..." "Yellow"
-if (Test-Path bin) {
-    Remove-Item -Path bin\* -Recurse -Force -ErrorAction SilentlyContinue
-    Write-Success "Directorio bin limpiado"
-} else {
-    New-Item -Path bin -ItemType Directory -Force | Out-Null
-    Write-Success "Directorio bin creado"
-}
-
-# Compilar código fuente
-Write-Step "Compilando código fuente (src/)..." "Yellow"
-javac -encoding UTF-8 -d bin src\*.java 2>&1 | Out-String | ForEach-Object {
-    if ($_ -match "error") {
-        Write-Host $_ -ForegroundColor Red
-    } elseif ($_ -match "warning") {
-        Write-Host $_ -ForegroundColor Yellow
-    }
-}
-
-if ($LASTEXITCODE -ne 0) {
-    Write-Error-Custom "Error al compilar código fuente"
-    exit 1
-}
-Write-Success "Código fuente compilado exitosamente"
-
-# Compilar tests
-Write-Step "Compilando tests (test/)..." "Yellow"
-javac -encoding UTF-8 -d bin -cp "lib\*;bin" test\*.java 2>&1 | Out-String | ForEach-Object {
-    if ($_ -match "error") {
-        Write-Host $_ -ForegroundColor Red
-    } elseif ($_ -match "warning") {
-        Write-Host $_ -ForegroundColor Yellow
-    }
-}
-
-if ($LASTEXITCODE -ne 0) {
-    Write-Error-Custom "Error al compilar tests"
-    exit 1
+$mavenArgs = @("-B", "verify")
+if ($SinConexion) {
+    $mavenArgs = @("-o") + $mavenArgs
+    Write-Step "Modo sin conexión activado" "Cyan"
 }
-Write-Success "Tests compilados exitosamente"
 
-# Contar archivos compilados
-$classCount = (Get-ChildItem -Path bin -Filter *.class -Recurse).Count
+Write-Step "Ejecutando: mvn $($mavenArgs -join ' ')" "Green"
 Write-Host ""
-Write-Step "Archivos .class generados: $classCount" "Cyan"
-
-Write-Host ""
-Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
-Write-Host "   🧪 EJECUCIÓN DE PRUEBAS                              " -ForegroundColor Cyan
-Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
-Write-Host ""
-
-# Ejecutar tests
-Write-Step "Ejecutando pruebas unitarias..." "Green"
-Write-Host ""
-
-$testOutput = java -jar $junitJar `
-    --class-path bin `
-    --scan-class-path `
-    --disable-banner 2>&1
 
 # Mostrar output
-$testOutput | ForEach-Object {
+mvn @mavenArgs 2>&1 | ForEach-Object {
     $line = $_
-    if ($line -match "successful|SUCCESSFUL") {
+    if ($line -match "BUILD SUCCESS|Tests run:.*Failures: 0, Errors: 0") {
         Write-Host $line -ForegroundColor Green
-    } elseif ($line -match "failed|FAILED|Failures") {
+    } elseif ($line -match "FAIL|ERROR") {
         Write-Host $line -ForegroundColor Red
-    } elseif ($line -match "Test run") {
+    } elseif ($line -match "Tests run") {
         Write-Host $line -ForegroundColor Cyan
     } else {
         Write-Host $line
     }
 }
+$resultado = $LASTEXITCODE
 
 Write-Host ""
 Write-Host "═══════════════════════════════════════════════════════" -ForegroundColor Cyan
 
 # Verificar resultado
-if ($LASTEXITCODE -eq 0) {
+if ($resultado -eq 0) {
     Write-Host "   ✅ TODAS LAS PRUEBAS PASARON EXITOSAMENTE ✅        " -ForegroundColor Green
 } else {
     Write-Host "   ❌ ALGUNAS PRUEBAS FALLARON ❌                      " -ForegroundColor Red
@@ -161,14 +95,14 @@ Write-Host ""
 
 # Resumen
 Write-Host "📊 RESUMEN:" -ForegroundColor Cyan
-Write-Host "   - Clases compiladas: $classCount" -ForegroundColor White
-Write-Host "   - Tests ejecutados: Ver arriba" -ForegroundColor White
-Write-Host "   - Código fuente: src/" -ForegroundColor White
-Write-Host "   - Tests: test/" -ForegroundColor White
+Write-Host "   - Código fuente: smarttask-*/src/main/java" -ForegroundColor White
+Write-Host "   - Tests: smarttask-core/src/test/java" -ForegroundColor White
+Write-Host "   - Reportes: smarttask-*/target/surefire-reports" -ForegroundColor White
+Write-Host "   - JAR ejecutable: smarttask-cli/target/smarttask.jar" -ForegroundColor White
 Write-Host ""
 
 # Mensaje final
-if ($LASTEXITCODE -eq 0) {
+if ($resultado -eq 0) {
     Write-Host "🎉 ¡Excelente trabajo! Tu código pasa todas las pruebas. 🎉" -ForegroundColor Green
 } else {
     Write-Host "⚠️  Revisa los errores arriba y corrige los tests fallidos." -ForegroundColor Yellow
@@ -177,4 +111,4 @@ if ($LASTEXITCODE -eq 0) {
 Write-Host ""
 Read-Host "Presiona ENTER para salir"
 
-exit $LASTEXITCODE
+exit $resultado
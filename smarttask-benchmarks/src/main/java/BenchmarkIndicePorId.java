@@ -0,0 +1,220 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark que compara la búsqueda, el completado y la eliminación por ID
+ * de {@link GestorTareas} (índice hash) contra el recorrido lineal original
+ * sobre un {@link ArrayList}.
+ *
+ * <p>Se ejecuta con 10.000, 100.000 y 1.000.000 de tareas y reporta nanosegundos
+ * por operación. El recorrido lineal usa menos operaciones en los tamaños grandes
+ * para que el benchmark termine en un tiempo razonable.</p>
+ *
+ * <p>Uso: {@code java -cp smarttask-benchmarks/target/benchmarks.jar BenchmarkIndicePorId}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkIndicePorId {
+
+    /**
+     * Tamaños de conjunto de tareas evaluados.
+     */
+    private static final int[] TAMANIOS = {10_000, 100_000, 1_000_000};
+
+    /**
+     * Operaciones medidas sobre el índice hash en cada tamaño.
+     */
+    private static final int OPERACIONES_INDICE = 1_000_000;
+
+    /**
+     * Presupuesto de comparaciones para el recorrido lineal (operaciones x tamaño).
+     */
+    private static final long PRESUPUESTO_LINEAL = 2_000_000_000L;
+
+    /**
+     * Evita que el JIT elimine los resultados de las búsquedas.
+     */
+    private static long sumidero;
+
+    /**
+     * Método principal del benchmark.
+     *
+     * @param args Argumentos de línea de comandos (no utilizados)
+     */
+    public static void main(String[] args) {
+        System.out.println("Benchmark de búsqueda/completado/eliminación por ID (ns/op)");
+        System.out.printf("%-10s %-10s %14s %14s %14s%n", "Tareas", "Variante", "buscar", "completar", "eliminar");
+
+        for (int tamanio : TAMANIOS) {
+            int operacionesLineal = (int) Math.max(200, Math.min(OPERACIONES_INDICE, PRESUPUESTO_LINEAL / tamanio));
+
+            // Calentamiento para que ambas variantes se midan compiladas
+            medirIndice(tamanio, Math.min(tamanio, 100_000));
+            medirLineal(Math.min(tamanio, 10_000), 2_000);
+
+            double[] indice = medirIndice(tamanio, OPERACIONES_INDICE);
+            double[] lineal = medirLineal(tamanio, operacionesLineal);
+
+            imprimir(tamanio, "indice", indice);
+            imprimir(tamanio, "lineal", lineal);
+        }
+
+        System.out.println("(checksum " + sumidero + ")");
+    }
+
+    /**
+     * Mide las operaciones sobre {@link GestorTareas}.
+     *
+     * @param tamanio Número de tareas cargadas
+     * @param operaciones Número de operaciones a medir
+     * @return Nanosegundos por operación de búsqueda, completado y eliminación
+     */
+    private static double[] medirIndice(int tamanio, int operaciones) {
+        GestorTareas gestor = new GestorTareas();
+        for (int i = 0; i < tamanio; i++) {
+            gestor.agregarTarea("Tarea " + i, (i % 3) + 1);
+        }
+        int[] ids = idsAleatorios(tamanio, operaciones);
+
+        long inicio = System.nanoTime();
+        for (int id : ids) {
+            sumidero += gestor.buscarTareaPorId(id).getPrioridad();
+        }
+        double buscar = (System.nanoTime() - inicio) / (double) operaciones;
+
+        inicio = System.nanoTime();
+        for (int id : ids) {
+            if (gestor.marcarComoCompletada(id)) {
+                sumidero++;
+            }
+        }
+        double completar = (System.nanoTime() - inicio) / (double) operaciones;
+
+        int eliminaciones = Math.min(operaciones, tamanio);
+        int[] aEliminar = permutacion(tamanio, eliminaciones);
+        inicio = System.nanoTime();
+        for (int id : aEliminar) {
+            if (gestor.eliminarTarea(id)) {
+                sumidero++;
+            }
+        }
+        double eliminar = (System.nanoTime() - inicio) / (double) eliminaciones;
+
+        return new double[] {buscar, completar, eliminar};
+    }
+
+    /**
+     * Mide las mismas operaciones con el recorrido lineal y
+     * {@link List#remove(Object)} que usaba la versión anterior del gestor.
+     *
+     * @param tamanio Número de tareas cargadas
+     * @param operaciones Número de operaciones a medir
+     * @return Nanosegundos por operación de búsqueda, completado y eliminación
+     */
+    private static double[] medirLineal(int tamanio, int operaciones) {
+        List<Tarea> lista = new ArrayList<>();
+        for (int i = 0; i < tamanio; i++) {
+            lista.add(new Tarea(i + 1, "Tarea " + i, (i % 3) + 1));
+        }
+        int[] ids = idsAleatorios(tamanio, operaciones);
+
+        long inicio = System.nanoTime();
+        for (int id : ids) {
+            sumidero += buscarLineal(lista, id).getPrioridad();
+        }
+        double buscar = (System.nanoTime() - inicio) / (double) operaciones;
+
+        inicio = System.nanoTime();
+        for (int id : ids) {
+            Tarea tarea = buscarLineal(lista, id);
+            if (tarea != null) {
+                tarea.marcarCompletada();
+                sumidero++;
+            }
+        }
+        double completar = (System.nanoTime() - inicio) / (double) operaciones;
+
+        int eliminaciones = Math.min(operaciones, tamanio);
+        int[] aEliminar = permutacion(tamanio, eliminaciones);
+        inicio = System.nanoTime();
+        for (int id : aEliminar) {
+            Tarea tarea = buscarLineal(lista, id);
+            if (tarea != null && lista.remove(tarea)) {
+                sumidero++;
+            }
+        }
+        double eliminar = (System.nanoTime() - inicio) / (double) eliminaciones;
+
+        return new double[] {buscar, completar, eliminar};
+    }
+
+    /**
+     * Búsqueda lineal equivalente a la implementación original de buscarTareaPorId.
+     *
+     * @param lista Lista de tareas
+     * @param id ID buscado
+     * @return La tarea encontrada o null
+     */
+    private static Tarea buscarLineal(List<Tarea> lista, int id) {
+        for (Tarea tarea : lista) {
+            if (tarea.getId() == id) {
+                return tarea;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Genera IDs aleatorios (con repetición) dentro del rango cargado.
+     *
+     * @param tamanio Número de tareas cargadas
+     * @param cantidad Número de IDs a generar
+     * @return Arreglo de IDs
+     */
+    private static int[] idsAleatorios(int tamanio, int cantidad) {
+        Random random = new Random(7);
+        int[] ids = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            ids[i] = random.nextInt(tamanio) + 1;
+        }
+        return ids;
+    }
+
+    /**
+     * Genera IDs distintos en orden aleatorio (Fisher-Yates parcial).
+     *
+     * @param tamanio Número de tareas cargadas
+     * @param cantidad Número de IDs a generar
+     * @return Arreglo de IDs sin repetición
+     */
+    private static int[] permutacion(int tamanio, int cantidad) {
+        Random random = new Random(11);
+        int[] ids = new int[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = 0; i < cantidad; i++) {
+            int j = i + random.nextInt(tamanio - i);
+            int temporal = ids[i];
+            ids[i] = ids[j];
+            ids[j] = temporal;
+        }
+        int[] resultado = new int[cantidad];
+        System.arraycopy(ids, 0, resultado, 0, cantidad);
+        return resultado;
+    }
+
+    /**
+     * Imprime una fila de resultados.
+     *
+     * @param tamanio Número de tareas
+     * @param variante Nombre de la variante medida
+     * @param tiempos Nanosegundos por operación
+     */
+    private static void imprimir(int tamanio, String variante, double[] tiempos) {
+        System.out.printf("%-10d %-10s %14.1f %14.1f %14.1f%n", tamanio, variante, tiempos[0], tiempos[1], tiempos[2]);
+    }
+}
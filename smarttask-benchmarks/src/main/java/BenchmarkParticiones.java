@@ -0,0 +1,108 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark de rendimiento de escritura de {@link GestorTareasConcurrente}
+ * (un único bloqueo) frente a {@link GestorTareasParticionado} (un bloqueo por partición).
+ *
+ * <p>Cada hilo ejecuta durante un tiempo fijo una mezcla de {@code agregarTarea},
+ * {@code marcarComoCompletada} y {@code eliminarTarea} sobre IDs aleatorios.
+ * Se reporta la curva de operaciones por segundo de 1 a 32 hilos.</p>
+ *
+ * <p>Uso: {@code java -cp smarttask-benchmarks/target/benchmarks.jar BenchmarkParticiones [milisegundosPorMedicion]}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkParticiones {
+
+    /**
+     * Cantidades de hilos evaluadas.
+     */
+    private static final int[] HILOS = {1, 2, 4, 8, 16, 32};
+
+    /**
+     * Tareas cargadas antes de cada medición.
+     */
+    private static final int TAREAS_INICIALES = 100_000;
+
+    /**
+     * Método principal del benchmark.
+     *
+     * @param args Opcionalmente, la duración de cada medición en milisegundos
+     * @throws InterruptedException si se interrumpe la espera de los hilos
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long duracion = args.length > 0 ? Long.parseLong(args[0]) : 2_000;
+
+        System.out.println("Rendimiento de escritura (operaciones/segundo)");
+        System.out.printf("%-8s %18s %18s %10s%n", "Hilos", "concurrente", "particionado", "relacion");
+
+        // Calentamiento
+        medir(GestorTareasConcurrente::new, 4, duracion / 2);
+        medir(GestorTareasParticionado::new, 4, duracion / 2);
+
+        for (int hilos : HILOS) {
+            double unico = medir(GestorTareasConcurrente::new, hilos, duracion);
+            double particionado = medir(GestorTareasParticionado::new, hilos, duracion);
+            System.out.printf("%-8d %18.0f %18.0f %9.2fx%n", hilos, unico, particionado, particionado / unico);
+        }
+    }
+
+    /**
+     * Mide las operaciones por segundo de un gestor con la cantidad de hilos indicada.
+     *
+     * @param fabrica Crea el gestor a medir
+     * @param hilos Cantidad de hilos escritores
+     * @param duracion Duración de la medición en milisegundos
+     * @return Operaciones por segundo
+     * @throws InterruptedException si se interrumpe la espera de los hilos
+     */
+    private static double medir(Supplier<GestorTareas> fabrica, int hilos, long duracion)
+            throws InterruptedException {
+        GestorTareas gestor = fabrica.get();
+        for (int i = 0; i < TAREAS_INICIALES; i++) {
+            gestor.agregarTarea("Tarea " + i, (i % 3) + 1);
+        }
+
+        LongAdder operaciones = new LongAdder();
+        CountDownLatch salida = new CountDownLatch(1);
+        CountDownLatch fin = new CountDownLatch(hilos);
+        long limite = System.nanoTime() + duracion * 1_000_000L + 50_000_000L;
+
+        for (int h = 0; h < hilos; h++) {
+            Thread hilo = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long cuenta = 0;
+                try {
+                    salida.await();
+                    while (System.nanoTime() < limite) {
+                        for (int i = 0; i < 64; i++) {
+                            Tarea tarea = gestor.agregarTarea("Tarea", random.nextInt(1, 4));
+                            int id = random.nextInt(1, tarea.getId() + 1);
+                            gestor.marcarComoCompletada(id);
+                            gestor.eliminarTarea(id);
+                        }
+                        cuenta += 64 * 3;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    operaciones.add(cuenta);
+                    fin.countDown();
+                }
+            });
+            hilo.start();
+        }
+
+        Thread.sleep(50);
+        long inicio = System.nanoTime();
+        salida.countDown();
+        fin.await();
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        return operaciones.sum() / segundos;
+    }
+}
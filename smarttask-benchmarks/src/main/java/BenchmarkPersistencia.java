@@ -0,0 +1,183 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de {@link GestorTareasPersistente}: costo por operación de cada
+ * {@link ModoDurabilidad} y tiempo de inicio a partir de una instantánea frente a
+ * reproducir el diario completo.
+ *
+ * <p>Uso: {@code java -cp smarttask-benchmarks/target/benchmarks.jar BenchmarkPersistencia [tareas]}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkPersistencia {
+
+    /**
+     * Operaciones medidas por cada modo de durabilidad.
+     */
+    private static final int OPERACIONES_POR_MODO = 20_000;
+
+    /**
+     * Tamaño de los lotes con que se carga el gestor para medir el inicio.
+     */
+    private static final int TAMANIO_LOTE = 10_000;
+
+    /**
+     * Repeticiones de cada medición de inicio; se informa la mejor.
+     */
+    private static final int REPETICIONES = 3;
+
+    /**
+     * Método principal del benchmark.
+     *
+     * @param args Opcionalmente, la cantidad de tareas
+     * @throws IOException si falla la escritura o la lectura de los datos
+     */
+    public static void main(String[] args) throws IOException {
+        int tareas = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path base = Files.createTempDirectory("smarttask-benchmark");
+
+        try {
+            System.out.println("Costo de agregarTarea por modo de durabilidad (1 hilo)");
+            System.out.printf("%-20s %14s%n", "Modo", "us/operacion");
+            for (ModoDurabilidad modo : ModoDurabilidad.values()) {
+                System.out.printf("%-20s %14.2f%n", modo, medirOperaciones(base.resolve("modo-" + modo), modo));
+            }
+
+            Path datos = base.resolve("inicio");
+            cargar(datos, tareas);
+            System.out.println();
+            System.out.println("Inicio con " + tareas + " tareas (mejor de " + REPETICIONES + ")");
+            System.out.printf("%-30s %10.1f ms%n", "instantanea + cola del diario", medirInicio(datos, false));
+            System.out.printf("%-30s %10.1f ms%n", "diario completo", medirInicio(datos, true));
+        } finally {
+            borrar(base);
+        }
+    }
+
+    /**
+     * Mide el costo medio de agregarTarea en un modo de durabilidad.
+     *
+     * @param directorio Directorio de datos (se crea vacío)
+     * @param modo Modo de durabilidad
+     * @return Microsegundos por operación
+     * @throws IOException si falla el diario
+     */
+    private static double medirOperaciones(Path directorio, ModoDurabilidad modo) throws IOException {
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio, modo)) {
+            // Calentamiento
+            for (int i = 0; i < OPERACIONES_POR_MODO / 10; i++) {
+                gestor.agregarTarea("Calentamiento " + i, (i % 3) + 1);
+            }
+            long inicio = System.nanoTime();
+            for (int i = 0; i < OPERACIONES_POR_MODO; i++) {
+                gestor.agregarTarea("Tarea " + i, (i % 3) + 1);
+            }
+            return (System.nanoTime() - inicio) / 1_000.0 / OPERACIONES_POR_MODO;
+        }
+    }
+
+    /**
+     * Crea el directorio de datos con la cantidad de tareas indicada, algunas completadas.
+     * Al cerrar, el gestor deja una instantánea con todas ellas.
+     *
+     * @param directorio Directorio de datos
+     * @param tareas Cantidad de tareas
+     * @throws IOException si falla el diario
+     */
+    private static void cargar(Path directorio, int tareas) throws IOException {
+        try (GestorTareasPersistente gestor =
+                 new GestorTareasPersistente(directorio, ModoDurabilidad.SISTEMA_OPERATIVO)) {
+            for (int desde = 0; desde < tareas; desde += TAMANIO_LOTE) {
+                int cantidad = Math.min(TAMANIO_LOTE, tareas - desde);
+                String[] nombres = new String[cantidad];
+                int[] prioridades = new int[cantidad];
+                for (int i = 0; i < cantidad; i++) {
+                    nombres[i] = "Tarea " + (desde + i);
+                    prioridades[i] = ((desde + i) % 3) + 1;
+                }
+                gestor.agregarTareas(nombres, prioridades);
+            }
+            int[] completadas = new int[tareas / 4];
+            for (int i = 0; i < completadas.length; i++) {
+                completadas[i] = i * 4 + 1;
+            }
+            gestor.completarTareas(completadas);
+        }
+    }
+
+    /**
+     * Mide el tiempo de abrir el gestor.
+     *
+     * @param directorio Directorio de datos
+     * @param sinInstantanea true para apartar las instantáneas y reproducir todo el diario
+     * @return Mejor tiempo en milisegundos
+     * @throws IOException si falla la lectura
+     */
+    private static double medirInicio(Path directorio, boolean sinInstantanea) throws IOException {
+        Path apartadas = directorio.resolveSibling("instantaneas-apartadas");
+        if (sinInstantanea) {
+            Files.createDirectories(apartadas);
+            for (Path instantanea : instantaneas(directorio)) {
+                Files.move(instantanea, apartadas.resolve(instantanea.getFileName()));
+            }
+        }
+
+        double mejor = Double.MAX_VALUE;
+        int tareas = 0;
+        try {
+            for (int r = 0; r < REPETICIONES; r++) {
+                long inicio = System.nanoTime();
+                GestorTareasPersistente gestor =
+                    new GestorTareasPersistente(directorio, ModoDurabilidad.SISTEMA_OPERATIVO);
+                mejor = Math.min(mejor, (System.nanoTime() - inicio) / 1e6);
+                tareas = gestor.obtenerTotalTareas();
+                // Se cierra solo el diario, para no generar una instantánea nueva
+                gestor.obtenerDiario().close();
+            }
+        } finally {
+            if (sinInstantanea) {
+                for (Path instantanea : instantaneas(apartadas)) {
+                    Files.move(instantanea, directorio.resolve(instantanea.getFileName()));
+                }
+            }
+        }
+        if (tareas == 0) {
+            throw new IllegalStateException("El gestor se abrió sin tareas");
+        }
+        return mejor;
+    }
+
+    /**
+     * Lista las instantáneas de un directorio.
+     *
+     * @param directorio Directorio de datos
+     * @return Rutas de las instantáneas
+     * @throws IOException si no puede leerse el directorio
+     */
+    private static List<Path> instantaneas(Path directorio) throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.filter(p -> p.getFileName().toString().endsWith(".snap")).toList();
+        }
+    }
+
+    /**
+     * Borra un directorio con todo su contenido.
+     *
+     * @param directorio Directorio a borrar
+     * @throws IOException si no puede borrarse
+     */
+    private static void borrar(Path directorio) throws IOException {
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(archivo);
+            }
+        }
+    }
+}
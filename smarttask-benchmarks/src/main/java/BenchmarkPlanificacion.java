@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark de {@link PlanificadorEjecucion}: tiempo de construir un plan y calidad del
+ * reparto para lotes de 10.000 a 1.000.000 de tareas normales entre 64 trabajadores.
+ *
+ * <p>Para cada criterio reporta milisegundos por plan (mediana de varias repeticiones) y
+ * cuánto supera el makespan a la cota inferior del óptimo, en porcentaje.</p>
+ *
+ * <p>Uso: {@code java -cp smarttask-benchmarks/target/benchmarks.jar BenchmarkPlanificacion}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkPlanificacion {
+
+    /**
+     * Cantidades de tareas evaluadas.
+     */
+    private static final int[] TAMANIOS = {10_000, 100_000, 1_000_000};
+
+    /**
+     * Trabajadores entre los que se reparte cada lote.
+     */
+    private static final int TRABAJADORES = 64;
+
+    /**
+     * Repeticiones por medición; se informa la mediana.
+     */
+    private static final int REPETICIONES = 7;
+
+    /**
+     * Suma de makespans, para que el JIT no elimine el trabajo.
+     */
+    private static long sumidero;
+
+    /**
+     * Método principal del benchmark.
+     *
+     * @param args Argumentos de línea de comandos (no utilizados)
+     */
+    public static void main(String[] args) {
+        System.out.println("Benchmark de PlanificadorEjecucion (" + TRABAJADORES + " trabajadores)");
+        System.out.printf("%-10s %-20s %12s %14s%n", "Tareas", "Criterio", "ms/plan", "sobre cota %");
+
+        PlanificadorEjecucion planificador = new PlanificadorEjecucion(TRABAJADORES);
+        // Calentamiento para medir el código compilado
+        List<Tarea> calentamiento = crearLote(TAMANIOS[1]);
+        for (int i = 0; i < 15; i++) {
+            for (PlanificadorEjecucion.Criterio criterio : PlanificadorEjecucion.Criterio.values()) {
+                sumidero += planificador.planificar(calentamiento, criterio).obtenerMakespan();
+            }
+        }
+
+        for (int tamanio : TAMANIOS) {
+            List<Tarea> lote = crearLote(tamanio);
+            for (PlanificadorEjecucion.Criterio criterio : PlanificadorEjecucion.Criterio.values()) {
+                long[] tiempos = new long[REPETICIONES];
+                PlanEjecucion plan = null;
+                for (int r = 0; r < REPETICIONES; r++) {
+                    long inicio = System.nanoTime();
+                    plan = planificador.planificar(lote, criterio);
+                    tiempos[r] = System.nanoTime() - inicio;
+                    sumidero += plan.obtenerMakespan();
+                }
+                Arrays.sort(tiempos);
+                double exceso = 100.0 * (plan.obtenerMakespan() - plan.calcularCotaInferior())
+                                / plan.calcularCotaInferior();
+                System.out.printf("%-10d %-20s %12.2f %14.3f%n",
+                                  tamanio, criterio, tiempos[REPETICIONES / 2] / 1e6, exceso);
+            }
+        }
+
+        System.out.println("(checksum " + sumidero + ")");
+    }
+
+    /**
+     * Crea tareas normales con tiempos estimados aleatorios de 1 a 240 minutos.
+     *
+     * @param tamanio Cantidad de tareas
+     * @return Lote de tareas
+     */
+    private static List<Tarea> crearLote(int tamanio) {
+        Random random = new Random(17);
+        List<Tarea> lote = new ArrayList<>(tamanio);
+        for (int i = 0; i < tamanio; i++) {
+            lote.add(new TareaNormal(i + 1, "Tarea " + i, 1 + random.nextInt(3), "Trabajo", 1 + random.nextInt(240)));
+        }
+        return lote;
+    }
+}
@@ -0,0 +1,110 @@
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Benchmark de {@link PlanificadorRecordatorios}: costo de programar y cancelar recordatorios,
+ * memoria que ocupa la rueda por recordatorio y costo de hacerlos vencer avanzando el tiempo.
+ *
+ * <p>Se ejecuta con 100.000 y 1.000.000 de recordatorios con fechas límite repartidas en
+ * los próximos 30 días y reporta nanosegundos por operación y bytes por recordatorio
+ * (sin contar las tareas, que existen de todos modos). La medición de memoria es aproximada:
+ * se basa en el heap ocupado antes y después de programar, tras pedir una recolección.</p>
+ *
+ * <p>Uso: {@code java -cp smarttask-benchmarks/target/benchmarks.jar BenchmarkRecordatorios}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkRecordatorios {
+
+    /**
+     * Cantidades de recordatorios evaluadas.
+     */
+    private static final int[] TAMANIOS = {100_000, 1_000_000};
+
+    /**
+     * Ventana en la que se reparten las fechas límite, en nanosegundos (30 días).
+     */
+    private static final long VENTANA = Duration.ofDays(30).toNanos();
+
+    /**
+     * Cantidad de recordatorios ejecutados, para que el JIT no elimine el trabajo.
+     */
+    private static long sumidero;
+
+    /**
+     * Método principal del benchmark.
+     *
+     * @param args Argumentos de línea de comandos (no utilizados)
+     */
+    public static void main(String[] args) {
+        System.out.println("Benchmark de PlanificadorRecordatorios");
+        System.out.printf("%-10s %14s %14s %14s %14s%n",
+                          "Recordat.", "programar ns", "cancelar ns", "vencer ns", "bytes/record.");
+
+        // Calentamiento para medir el código compilado
+        medir(TAMANIOS[0]);
+
+        for (int tamanio : TAMANIOS) {
+            double[] resultado = medir(tamanio);
+            System.out.printf("%-10d %14.1f %14.1f %14.1f %14.1f%n",
+                              tamanio, resultado[0], resultado[1], resultado[2], resultado[3]);
+        }
+
+        System.out.println("(checksum " + sumidero + ")");
+    }
+
+    /**
+     * Programa, cancela la mitad y hace vencer el resto de una cantidad de recordatorios.
+     *
+     * @param tamanio Cantidad de recordatorios
+     * @return Nanosegundos por programación, por cancelación, por vencimiento y bytes por recordatorio
+     */
+    private static double[] medir(int tamanio) {
+        long inicio = TareaUrgente.instanteActual();
+        Random random = new Random(13);
+        TareaUrgente[] tareas = new TareaUrgente[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            tareas[i] = new TareaUrgente(i + 1, "Urgente " + i, 3, null, 5, "Equipo");
+            tareas[i].setFechaLimiteEpochNanos(inicio + 1 + (long) (random.nextDouble() * VENTANA));
+        }
+
+        long memoriaAntes = memoriaUsada();
+        PlanificadorRecordatorios planificador =
+            new PlanificadorRecordatorios(Duration.ofSeconds(1), Duration.ZERO, tarea -> sumidero++);
+        long t0 = System.nanoTime();
+        for (TareaUrgente tarea : tareas) {
+            planificador.programar(tarea);
+        }
+        double programar = (System.nanoTime() - t0) / (double) tamanio;
+        double bytes = (memoriaUsada() - memoriaAntes) / (double) tamanio;
+
+        int cancelaciones = tamanio / 2;
+        t0 = System.nanoTime();
+        for (int i = 0; i < cancelaciones; i++) {
+            planificador.cancelar(tareas[i * 2]);
+        }
+        double cancelar = (System.nanoTime() - t0) / (double) cancelaciones;
+
+        int pendientes = planificador.contarProgramados();
+        t0 = System.nanoTime();
+        planificador.avanzarHasta(inicio + VENTANA + Duration.ofSeconds(2).toNanos());
+        double vencer = (System.nanoTime() - t0) / (double) pendientes;
+
+        return new double[] {programar, cancelar, vencer, bytes};
+    }
+
+    /**
+     * Obtiene la memoria ocupada del heap después de pedir una recolección.
+     *
+     * @return Bytes ocupados
+     */
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
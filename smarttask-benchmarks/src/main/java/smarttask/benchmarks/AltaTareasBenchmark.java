@@ -0,0 +1,78 @@
+package smarttask.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@code GestorTareas.agregarTarea} partiendo de gestores de distintos tamaños.
+ *
+ * <p>El gestor se recarga antes de cada iteración, de modo que todas las mediciones
+ * empiezan con el mismo tamaño; durante la iteración crece con las tareas agregadas,
+ * por lo que el resultado incluye el costo amortizado de redimensionar las estructuras.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AltaTareasBenchmark {
+
+    /**
+     * Cantidad de nombres distintos (potencia de 2).
+     */
+    private static final int NOMBRES = 1024;
+
+    /**
+     * Cantidad de tareas cargadas al inicio de cada iteración.
+     */
+    @Param({"0", "100000", "1000000"})
+    public int tamanio;
+
+    private Object gestor;
+    private String[] nombres;
+    private int cursor;
+
+    /**
+     * Genera los nombres de las tareas a agregar.
+     */
+    @Setup(Level.Trial)
+    public void prepararNombres() {
+        nombres = new String[NOMBRES];
+        for (int i = 0; i < NOMBRES; i++) {
+            nombres[i] = "  Tarea agregada " + i + "  ";
+        }
+    }
+
+    /**
+     * Recarga el gestor con el tamaño inicial.
+     *
+     * @throws Throwable si falla la carga
+     */
+    @Setup(Level.Iteration)
+    public void prepararGestor() throws Throwable {
+        gestor = Nucleo.gestorConTareas(tamanio);
+    }
+
+    @Benchmark
+    public Object agregarTarea() throws Throwable {
+        int i = cursor++;
+        return (Object) Nucleo.AGREGAR_TAREA.invokeExact(gestor, nombres[i & (NOMBRES - 1)], (i % 3) + 1);
+    }
+}
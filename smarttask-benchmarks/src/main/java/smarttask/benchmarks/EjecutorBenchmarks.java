@@ -0,0 +1,55 @@
+package smarttask.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}.
+ * Acepta las mismas opciones de línea de comando que JMH y activa siempre el
+ * perfilador de GC, de modo que cada resultado incluye la tasa de asignación
+ * ({@code gc.alloc.rate.norm}, bytes por operación).
+ *
+ * <p>Uso: {@code java -jar target/benchmarks.jar [opciones de JMH] [filtro]}</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class EjecutorBenchmarks {
+
+    private EjecutorBenchmarks() {
+    }
+
+    /**
+     * Método principal.
+     *
+     * @param args Opciones de JMH (por ejemplo {@code -p tamanio=1000 GestorTareasBenchmark})
+     * @throws CommandLineOptionException si las opciones no son válidas
+     * @throws IOException si no puede mostrarse la ayuda
+     * @throws RunnerException si falla la ejecución de los benchmarks
+     */
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions lineaComandos = new CommandLineOptions(args);
+        if (lineaComandos.shouldHelp()) {
+            lineaComandos.showHelp();
+            return;
+        }
+        if (lineaComandos.shouldList()) {
+            new Runner(lineaComandos).list();
+            return;
+        }
+
+        Options opciones = new OptionsBuilder()
+            .parent(lineaComandos)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opciones).run();
+    }
+}
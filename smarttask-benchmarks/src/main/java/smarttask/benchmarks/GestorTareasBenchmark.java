@@ -0,0 +1,111 @@
+package smarttask.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks de las consultas y estadísticas de {@code GestorTareas} y de
+ * {@code GestorTareasColumnar} sobre un gestor precargado de distintos tamaños.
+ *
+ * <p>Las consultas por ID recorren una secuencia fija de IDs aleatorios existentes,
+ * para que el resultado no dependa de la posición de la tarea en la lista.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GestorTareasBenchmark {
+
+    /**
+     * Cantidad de IDs de consulta (potencia de 2).
+     */
+    private static final int CONSULTAS = 4096;
+
+    /**
+     * Cantidad de tareas precargadas en el gestor.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int tamanio;
+
+    /**
+     * Variante de gestor medida: objetos en listas o columnas primitivas.
+     */
+    @Param({"GestorTareas", "GestorTareasColumnar"})
+    public String variante;
+
+    private Object gestor;
+    private int[] idsConsulta;
+    private int cursor;
+
+    /**
+     * Carga el gestor y genera la secuencia de IDs a consultar.
+     *
+     * @throws Throwable si falla la carga
+     */
+    @Setup(Level.Trial)
+    public void preparar() throws Throwable {
+        gestor = Nucleo.gestorConTareas(variante, tamanio);
+        SplittableRandom random = new SplittableRandom(42);
+        idsConsulta = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            idsConsulta[i] = random.nextInt(1, tamanio + 1);
+        }
+    }
+
+    @Benchmark
+    public Object buscarTareaPorId() throws Throwable {
+        int id = idsConsulta[cursor++ & (CONSULTAS - 1)];
+        return (Object) Nucleo.BUSCAR_TAREA_POR_ID.invokeExact(gestor, id);
+    }
+
+    /**
+     * Filtra por prioridad y recorre el resultado, como lo haría quien lo muestra.
+     */
+    @Benchmark
+    public void filtrarPorPrioridad(Blackhole blackhole) throws Throwable {
+        List<?> tareas = (List<?>) Nucleo.FILTRAR_POR_PRIORIDAD.invokeExact(gestor, 2);
+        for (Object tarea : tareas) {
+            blackhole.consume(tarea);
+        }
+    }
+
+    @Benchmark
+    public void contarTareas(Blackhole blackhole) throws Throwable {
+        blackhole.consume((int) Nucleo.OBTENER_TOTAL_TAREAS.invokeExact(gestor));
+        blackhole.consume((int) Nucleo.CONTAR_TAREAS_COMPLETADAS.invokeExact(gestor));
+        blackhole.consume((int) Nucleo.CONTAR_TAREAS_PENDIENTES.invokeExact(gestor));
+        blackhole.consume((int) Nucleo.CONTAR_POR_PRIORIDAD.invokeExact(gestor, 3));
+    }
+
+    @Benchmark
+    public void calcularPorcentajes(Blackhole blackhole) throws Throwable {
+        blackhole.consume((double) Nucleo.CALCULAR_PORCENTAJE_COMPLETADAS.invokeExact(gestor));
+        blackhole.consume((double) Nucleo.CALCULAR_PORCENTAJE_PENDIENTES.invokeExact(gestor));
+    }
+
+    @Benchmark
+    public List<?> listarTareas() throws Throwable {
+        return (List<?>) Nucleo.LISTAR_TAREAS.invokeExact(gestor);
+    }
+}
@@ -0,0 +1,166 @@
+package smarttask.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+
+/**
+ * Enlace entre los benchmarks y las clases de SmartTask.
+ *
+ * <p>JMH exige que las clases de benchmark estén en un paquete con nombre, y el código
+ * de un paquete con nombre no puede referenciar clases del paquete por defecto, que es
+ * donde viven {@code GestorTareas} y la jerarquía {@code Tarea}. Por eso cada operación
+ * medida se resuelve una vez como {@link MethodHandle} constante, con los tipos de
+ * SmartTask vistos como {@link Object}. Al ser {@code static final}, el JIT integra
+ * la llamada y su costo es el de una invocación directa.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Nucleo {
+
+    // ==================== ATRIBUTOS ====================
+
+    private static final MethodHandles.Lookup BUSQUEDA = MethodHandles.publicLookup();
+
+    /** {@code agregarTarea}: {@code (Object, String, int)Object} */
+    static final MethodHandle AGREGAR_TAREA = metodo("GestorTareas", "agregarTarea", String.class, int.class);
+
+    /** {@code marcarComoCompletada}: {@code (Object, int)boolean} */
+    static final MethodHandle MARCAR_COMO_COMPLETADA = metodo("GestorTareas", "marcarComoCompletada", int.class);
+
+    /** {@code buscarTareaPorId}: {@code (Object, int)Object} */
+    static final MethodHandle BUSCAR_TAREA_POR_ID = metodo("GestorTareas", "buscarTareaPorId", int.class);
+
+    /** {@code filtrarPorPrioridad}: {@code (Object, int)List} */
+    static final MethodHandle FILTRAR_POR_PRIORIDAD = metodo("GestorTareas", "filtrarPorPrioridad", int.class);
+
+    /** {@code listarTareas}: {@code (Object)List} */
+    static final MethodHandle LISTAR_TAREAS = metodo("GestorTareas", "listarTareas");
+
+    /** {@code obtenerTotalTareas}: {@code (Object)int} */
+    static final MethodHandle OBTENER_TOTAL_TAREAS = metodo("GestorTareas", "obtenerTotalTareas");
+
+    /** {@code contarTareasCompletadas}: {@code (Object)int} */
+    static final MethodHandle CONTAR_TAREAS_COMPLETADAS = metodo("GestorTareas", "contarTareasCompletadas");
+
+    /** {@code contarTareasPendientes}: {@code (Object)int} */
+    static final MethodHandle CONTAR_TAREAS_PENDIENTES = metodo("GestorTareas", "contarTareasPendientes");
+
+    /** {@code contarPorPrioridad}: {@code (Object, int)int} */
+    static final MethodHandle CONTAR_POR_PRIORIDAD = metodo("GestorTareas", "contarPorPrioridad", int.class);
+
+    /** {@code calcularPorcentajeCompletadas}: {@code (Object)double} */
+    static final MethodHandle CALCULAR_PORCENTAJE_COMPLETADAS =
+        metodo("GestorTareas", "calcularPorcentajeCompletadas");
+
+    /** {@code calcularPorcentajePendientes}: {@code (Object)double} */
+    static final MethodHandle CALCULAR_PORCENTAJE_PENDIENTES =
+        metodo("GestorTareas", "calcularPorcentajePendientes");
+
+    /** {@code new Tarea(id, nombre, prioridad)}: {@code (int, String, int)Object} */
+    static final MethodHandle NUEVA_TAREA = constructor("Tarea", int.class, String.class, int.class);
+
+    /** {@code new TareaNormal(id, nombre, prioridad, categoria, tiempoEstimado)} */
+    static final MethodHandle NUEVA_TAREA_NORMAL =
+        constructor("TareaNormal", int.class, String.class, int.class, String.class, int.class);
+
+    /** {@code new TareaUrgente(id, nombre, prioridad, fechaLimite, nivelCriticidad, responsable)} */
+    static final MethodHandle NUEVA_TAREA_URGENTE =
+        constructor("TareaUrgente", int.class, String.class, int.class, LocalDateTime.class, int.class, String.class);
+
+    // ==================== CONSTRUCTORES ====================
+
+    private Nucleo() {
+    }
+
+    // ==================== UTILIDADES ====================
+
+    /**
+     * Crea un gestor con la cantidad de tareas indicada, prioridades rotativas
+     * y una de cada dos tareas completada.
+     *
+     * @param cantidad Número de tareas a cargar
+     * @return El gestor cargado
+     * @throws Throwable si falla alguna invocación
+     */
+    static Object gestorConTareas(int cantidad) throws Throwable {
+        return gestorConTareas("GestorTareas", cantidad);
+    }
+
+    /**
+     * Crea un gestor de la variante indicada con la cantidad de tareas indicada,
+     * prioridades rotativas y una de cada dos tareas completada.
+     *
+     * @param clase Nombre de la subclase de {@code GestorTareas} (con constructor sin parámetros)
+     * @param cantidad Número de tareas a cargar
+     * @return El gestor cargado
+     * @throws Throwable si falla alguna invocación
+     */
+    static Object gestorConTareas(String clase, int cantidad) throws Throwable {
+        Object gestor = (Object) constructor(clase).invokeExact();
+        for (int i = 1; i <= cantidad; i++) {
+            Object tarea = (Object) AGREGAR_TAREA.invokeExact(gestor, "Tarea " + i, (i % 3) + 1);
+            if (tarea == null) {
+                throw new IllegalStateException("No se pudo agregar la tarea " + i);
+            }
+            if (i % 2 == 0) {
+                boolean completada = (boolean) MARCAR_COMO_COMPLETADA.invokeExact(gestor, i);
+                if (!completada) {
+                    throw new IllegalStateException("No se encontró la tarea " + i);
+                }
+            }
+        }
+        return gestor;
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Resuelve un método público de instancia de una clase de SmartTask.
+     *
+     * @param clase Nombre de la clase (paquete por defecto)
+     * @param nombre Nombre del método
+     * @param parametros Tipos de los parámetros (solo tipos del JDK)
+     * @return Handle con el receptor y los tipos de SmartTask vistos como Object
+     */
+    private static MethodHandle metodo(String clase, String nombre, Class<?>... parametros) {
+        try {
+            Method metodo = Class.forName(clase).getMethod(nombre, parametros);
+            MethodHandle handle = BUSQUEDA.unreflect(metodo);
+            MethodType tipo = handle.type().changeParameterType(0, Object.class);
+            return handle.asType(tipo.changeReturnType(visible(tipo.returnType())));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Resuelve un constructor público de una clase de SmartTask.
+     *
+     * @param clase Nombre de la clase (paquete por defecto)
+     * @param parametros Tipos de los parámetros (solo tipos del JDK)
+     * @return Handle que devuelve la instancia como Object
+     */
+    private static MethodHandle constructor(String clase, Class<?>... parametros) {
+        try {
+            MethodHandle handle = BUSQUEDA.unreflectConstructor(Class.forName(clase).getConstructor(parametros));
+            return handle.asType(handle.type().changeReturnType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Obtiene el tipo con el que los benchmarks ven un tipo de retorno.
+     *
+     * @param tipo Tipo real
+     * @return Object para las clases del paquete por defecto; el mismo tipo en otro caso
+     */
+    private static Class<?> visible(Class<?> tipo) {
+        return !tipo.isPrimitive() && tipo.getPackageName().isEmpty() ? Object.class : tipo;
+    }
+}
@@ -0,0 +1,73 @@
+package smarttask.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de {@code toString} de {@code Tarea}, {@code TareaNormal} y {@code TareaUrgente}
+ * con nombres de distintas longitudes.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TareaBenchmark {
+
+    /**
+     * Longitud del nombre de las tareas.
+     */
+    @Param({"16", "256", "4096"})
+    public int longitudNombre;
+
+    private Object tarea;
+    private Object tareaNormal;
+    private Object tareaUrgente;
+
+    /**
+     * Crea una tarea de cada tipo con el nombre de la longitud indicada.
+     *
+     * @throws Throwable si falla la creación
+     */
+    @Setup(Level.Trial)
+    public void preparar() throws Throwable {
+        String nombre = "x".repeat(longitudNombre);
+        tarea = (Object) Nucleo.NUEVA_TAREA.invokeExact(1, nombre, 2);
+        tareaNormal = (Object) Nucleo.NUEVA_TAREA_NORMAL.invokeExact(2, nombre, 1, "Trabajo", 90);
+        LocalDateTime fechaLimite = LocalDateTime.now().plusDays(2);
+        tareaUrgente = (Object) Nucleo.NUEVA_TAREA_URGENTE.invokeExact(3, nombre, 3, fechaLimite, 8, "Ana");
+    }
+
+    @Benchmark
+    public String tareaToString() {
+        return tarea.toString();
+    }
+
+    @Benchmark
+    public String tareaNormalToString() {
+        return tareaNormal.toString();
+    }
+
+    @Benchmark
+    public String tareaUrgenteToString() {
+        return tareaUrgente.toString();
+    }
+}
@@ -1,3 +1,5 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Scanner;
 
@@ -9,12 +11,22 @@ import java.util.Scanner;
  * <p>Esta clase actúa como capa de presentación (UI) y delega toda
  * la lógica de negocio a la clase {@link GestorTareas}.</p>
  *
+ * <p>Las tareas se guardan en un directorio de datos mediante {@link GestorTareasPersistente},
+ * por lo que se conservan entre ejecuciones.</p>
+ *
  * @author Yulieta (Melek) Eyzaguirre
  * @version 2.0
  * @since 2026-02-12
  */
 public class Main {
     
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Directorio de datos usado cuando no se indica uno como argumento.
+     */
+    private static final String DIRECTORIO_DATOS = "smarttask-datos";
+
     // ==================== ATRIBUTOS ====================
 
     /**
@@ -31,13 +43,26 @@ public class Main {
 
     /**
      * Método principal que inicia la aplicación.
-     * Inicializa el gestor y el scanner, luego ejecuta el menú principal.
+     * Abre el gestor persistente, inicializa el scanner y ejecuta el menú principal.
      *
-     * @param args Argumentos de línea de comandos (no utilizados)
+     * @param args Opcionalmente, el directorio de datos (por defecto {@value #DIRECTORIO_DATOS})
      */
     public static void main(String[] args) {
-        // Inicializar componentes
-        gestorTareas = new GestorTareas();
+        Path directorioDatos = Path.of(args.length > 0 ? args[0] : DIRECTORIO_DATOS);
+
+        // Inicializar componentes; el gestor se cierra (y sincroniza) al salir del menú
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorioDatos)) {
+            gestorTareas = gestor;
+            ejecutarMenu();
+        } catch (IOException e) {
+            System.out.println("❌ No se pudieron cargar las tareas de " + directorioDatos + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ejecuta el bucle del menú principal hasta que el usuario elige salir.
+     */
+    private static void ejecutarMenu() {
         scanner = new Scanner(System.in);
         boolean continuar = true;
         
@@ -74,6 +99,12 @@ public class Main {
                 case 7:
                     mostrarEstadisticas();
                     break;
+                case 8:
+                    importarTareas();
+                    break;
+                case 9:
+                    exportarTareas();
+                    break;
                 case 0:
                     continuar = false;
                     System.out.println("\n┌─────────────────────────────────────┐");
@@ -109,6 +140,8 @@ public class Main {
         System.out.println("║ 5. 🔍 Buscar Tarea por ID          ║");
         System.out.println("║ 6. 🎯 Filtrar por Prioridad        ║");
         System.out.println("║ 7. 📊 Ver Estadísticas             ║");
+        System.out.println("║ 8. 📥 Importar Tareas (CSV/JSONL)  ║");
+        System.out.println("║ 9. 📤 Exportar Tareas (CSV/JSONL)  ║");
         System.out.println("║ 0. 🚪 Salir                        ║");
         System.out.println("╚═════════════════════════════════════╝");
         System.out.print("Seleccione una opción: ");
@@ -366,5 +399,52 @@ public class Main {
         System.out.println("   🟢 Baja: " + prioridadBaja);
         System.out.println("   🟡 Media: " + prioridadMedia);
         System.out.println("   🔴 Alta: " + prioridadAlta);
+
+        int vencidas = gestorTareas.obtenerTareasVencidas().size();
+        if (vencidas > 0) {
+            System.out.println("\n⚠️  Tareas urgentes vencidas: " + vencidas);
+        }
+    }
+
+    /**
+     * Importa tareas desde un archivo CSV o JSON Lines.
+     * Solicita al usuario la ruta; el formato se deduce de la extensión.
+     * Delega la lectura a {@link IntercambioTareas}.
+     */
+    private static void importarTareas() {
+        System.out.println("\n┌─────────────────────────────────────┐");
+        System.out.println("│         IMPORTAR TAREAS             │");
+        System.out.println("└─────────────────────────────────────┘");
+
+        System.out.print("Ruta del archivo (.csv, .jsonl): ");
+        String ruta = scanner.nextLine().trim();
+
+        try {
+            long importadas = IntercambioTareas.importar(Path.of(ruta), gestorTareas);
+            System.out.println("\n✅ Tareas importadas: " + importadas);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("\n❌ Error al importar tareas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Exporta todas las tareas a un archivo CSV o JSON Lines.
+     * Solicita al usuario la ruta; el formato se deduce de la extensión.
+     * Delega la escritura a {@link IntercambioTareas}.
+     */
+    private static void exportarTareas() {
+        System.out.println("\n┌─────────────────────────────────────┐");
+        System.out.println("│         EXPORTAR TAREAS             │");
+        System.out.println("└─────────────────────────────────────┘");
+
+        System.out.print("Ruta del archivo (.csv, .jsonl): ");
+        String ruta = scanner.nextLine().trim();
+
+        try {
+            long exportadas = IntercambioTareas.exportar(gestorTareas, Path.of(ruta));
+            System.out.println("\n✅ Tareas exportadas: " + exportadas);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("\n❌ Error al exportar tareas: " + e.getMessage());
+        }
     }
 }
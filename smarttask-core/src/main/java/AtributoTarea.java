@@ -0,0 +1,44 @@
+/**
+ * Atributo propio de una subclase de {@link Tarea} que cambió, informado en
+ * {@link ObservadorTarea#atributoCambiado(Tarea, AtributoTarea)}.
+ *
+ * <p>Permite que un observador que guarda los atributos fuera de la tarea (por ejemplo,
+ * {@link GestorTareasColumnar}) copie solo el que cambió, sin pisar los demás con los
+ * valores de una vista desactualizada.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum AtributoTarea {
+
+    /**
+     * Categoría de una {@link TareaNormal}.
+     */
+    CATEGORIA,
+
+    /**
+     * Tiempo estimado de una {@link TareaNormal}.
+     */
+    TIEMPO_ESTIMADO,
+
+    /**
+     * Fecha límite de una {@link TareaUrgente}.
+     */
+    FECHA_LIMITE,
+
+    /**
+     * Estado de las notificaciones de una {@link TareaUrgente}.
+     */
+    NOTIFICACIONES,
+
+    /**
+     * Nivel de criticidad de una {@link TareaUrgente}.
+     */
+    CRITICIDAD,
+
+    /**
+     * Responsable de una {@link TareaUrgente}.
+     */
+    RESPONSABLE
+}
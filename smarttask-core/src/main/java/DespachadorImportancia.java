@@ -0,0 +1,290 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cola de trabajo concurrente que entrega primero las acciones de mayor
+ * {@link Accionable#obtenerNivelImportancia() importancia}, con envejecimiento para
+ * que las de menor importancia nunca esperen indefinidamente.
+ *
+ * <p>Cada nivel de importancia (de {@link #IMPORTANCIA_MINIMA} a {@link #IMPORTANCIA_MAXIMA})
+ * tiene su propia cola FIFO sin bloqueos, de modo que productores y consumidores de
+ * distintos niveles no compiten por un bloqueo global. Un semáforo cuenta las acciones
+ * disponibles para que los consumidores puedan esperar sin sondear.</p>
+ *
+ * <p><b>Envejecimiento:</b> una acción gana un nivel de importancia efectiva por cada
+ * intervalo de envejecimiento que lleva esperando, hasta {@link #IMPORTANCIA_MAXIMA}. Al
+ * extraer se compara la cabeza de cada cola (su acción más antigua) por importancia
+ * efectiva y, a igualdad, por antigüedad. Con el intervalo por defecto de un segundo, una
+ * tarea normal de importancia 1 que lleva nueve segundos esperando compite en igualdad con
+ * una urgente recién llegada.</p>
+ *
+ * <p>Las importancias fuera del rango se ajustan al extremo más cercano.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DespachadorImportancia {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Menor importancia que distingue el despachador.
+     */
+    public static final int IMPORTANCIA_MINIMA = 1;
+
+    /**
+     * Mayor importancia que distingue el despachador.
+     */
+    public static final int IMPORTANCIA_MAXIMA = 10;
+
+    /**
+     * Intervalo de envejecimiento por defecto: un segundo por nivel.
+     */
+    private static final Duration ENVEJECIMIENTO_DEFECTO = Duration.ofSeconds(1);
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Colas FIFO por nivel de importancia; el índice es la importancia menos la mínima.
+     */
+    private final List<ConcurrentLinkedQueue<Entrada>> colas;
+
+    /**
+     * Acciones disponibles para extraer.
+     */
+    private final Semaphore disponibles = new Semaphore(0);
+
+    /**
+     * Nanosegundos de espera por cada nivel ganado.
+     */
+    private final long envejecimiento;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un despachador que sube un nivel de importancia por cada segundo de espera.
+     */
+    public DespachadorImportancia() {
+        this(ENVEJECIMIENTO_DEFECTO);
+    }
+
+    /**
+     * Crea un despachador con un intervalo de envejecimiento dado.
+     *
+     * @param envejecimiento Tiempo de espera por cada nivel de importancia ganado
+     * @throws IllegalArgumentException si el intervalo es nulo o no es positivo
+     */
+    public DespachadorImportancia(Duration envejecimiento) {
+        if (envejecimiento == null || envejecimiento.isZero() || envejecimiento.isNegative()) {
+            throw new IllegalArgumentException("El intervalo de envejecimiento debe ser positivo");
+        }
+        this.envejecimiento = saturar(envejecimiento);
+        int niveles = IMPORTANCIA_MAXIMA - IMPORTANCIA_MINIMA + 1;
+        List<ConcurrentLinkedQueue<Entrada>> porNivel = new ArrayList<>(niveles);
+        for (int i = 0; i < niveles; i++) {
+            porNivel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.colas = List.copyOf(porNivel);
+    }
+
+    // ==================== PRODUCCIÓN ====================
+
+    /**
+     * Agrega una acción al despachador.
+     *
+     * @param accion Acción a despachar
+     * @throws IllegalArgumentException si la acción es null
+     */
+    public void ofrecer(Accionable accion) {
+        ofrecer(accion, System.nanoTime());
+    }
+
+    /**
+     * Agrega una acción al despachador como encolada en un instante dado.
+     *
+     * @param accion Acción a despachar
+     * @param instante Instante de encolado, en la escala de {@link System#nanoTime()}
+     * @throws IllegalArgumentException si la acción es null
+     */
+    void ofrecer(Accionable accion, long instante) {
+        if (accion == null) {
+            throw new IllegalArgumentException("La acción no puede ser null");
+        }
+        int nivel = Math.max(IMPORTANCIA_MINIMA, Math.min(IMPORTANCIA_MAXIMA, accion.obtenerNivelImportancia()));
+        colas.get(nivel - IMPORTANCIA_MINIMA).offer(new Entrada(accion, nivel, instante));
+        // Se libera después de encolar: quien adquiere el permiso siempre encuentra una entrada
+        disponibles.release();
+    }
+
+    // ==================== CONSUMO ====================
+
+    /**
+     * Extrae la acción de mayor importancia efectiva, esperando si no hay ninguna.
+     *
+     * @return Acción extraída
+     * @throws InterruptedException si el hilo se interrumpe mientras espera
+     */
+    public Accionable tomar() throws InterruptedException {
+        disponibles.acquire();
+        return extraerReservada(System.nanoTime());
+    }
+
+    /**
+     * Extrae la acción de mayor importancia efectiva, esperando como máximo un tiempo dado.
+     *
+     * @param espera Tiempo máximo de espera
+     * @return Acción extraída, o null si no llegó ninguna a tiempo
+     * @throws IllegalArgumentException si la espera es nula
+     * @throws InterruptedException si el hilo se interrumpe mientras espera
+     */
+    public Accionable tomar(Duration espera) throws InterruptedException {
+        if (espera == null) {
+            throw new IllegalArgumentException("La espera no puede ser nula");
+        }
+        if (!disponibles.tryAcquire(saturar(espera), TimeUnit.NANOSECONDS)) {
+            return null;
+        }
+        return extraerReservada(System.nanoTime());
+    }
+
+    /**
+     * Extrae la acción de mayor importancia efectiva sin esperar.
+     *
+     * @return Acción extraída, o null si el despachador está vacío
+     */
+    public Accionable sondear() {
+        return sondear(System.nanoTime());
+    }
+
+    /**
+     * Extrae sin esperar la acción de mayor importancia efectiva en un instante dado.
+     *
+     * @param ahora Instante de referencia para el envejecimiento, en la escala de {@link System#nanoTime()}
+     * @return Acción extraída, o null si el despachador está vacío
+     */
+    Accionable sondear(long ahora) {
+        if (!disponibles.tryAcquire()) {
+            return null;
+        }
+        return extraerReservada(ahora);
+    }
+
+    /**
+     * Extrae una entrada tras haber adquirido su permiso. Compara las cabezas de las colas
+     * y extrae de la mejor; si otro consumidor la vació entretanto, vuelve a comparar. El
+     * permiso garantiza que queda al menos una entrada para este consumidor.
+     *
+     * @param ahora Instante de referencia para el envejecimiento
+     * @return Acción extraída
+     */
+    private Accionable extraerReservada(long ahora) {
+        while (true) {
+            ConcurrentLinkedQueue<Entrada> mejor = null;
+            long mejorImportancia = Long.MIN_VALUE;
+            long mejorInstante = Long.MAX_VALUE;
+            for (int i = colas.size() - 1; i >= 0; i--) {
+                Entrada cabeza = colas.get(i).peek();
+                if (cabeza == null) {
+                    continue;
+                }
+                long importancia = importanciaEfectiva(cabeza, ahora);
+                if (importancia > mejorImportancia
+                        || (importancia == mejorImportancia && cabeza.instante - mejorInstante < 0)) {
+                    mejor = colas.get(i);
+                    mejorImportancia = importancia;
+                    mejorInstante = cabeza.instante;
+                }
+            }
+            if (mejor != null) {
+                Entrada entrada = mejor.poll();
+                if (entrada != null) {
+                    return entrada.accion;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Calcula la importancia de una entrada incluidos los niveles ganados por su espera.
+     *
+     * @param entrada Entrada encolada
+     * @param ahora Instante de referencia
+     * @return Importancia efectiva, como máximo {@link #IMPORTANCIA_MAXIMA}
+     */
+    private long importanciaEfectiva(Entrada entrada, long ahora) {
+        long espera = Math.max(0, ahora - entrada.instante);
+        return Math.min(IMPORTANCIA_MAXIMA, entrada.nivel + espera / envejecimiento);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Cuenta las acciones pendientes de extraer.
+     *
+     * @return Número de acciones disponibles
+     */
+    public int contarPendientes() {
+        return disponibles.availablePermits();
+    }
+
+    /**
+     * Cuenta las acciones pendientes de un nivel de importancia. Recorre la cola del nivel.
+     *
+     * @param importancia Nivel de importancia
+     * @return Número de acciones encoladas en ese nivel
+     * @throws IllegalArgumentException si la importancia está fuera del rango
+     */
+    public int contarPendientes(int importancia) {
+        if (importancia < IMPORTANCIA_MINIMA || importancia > IMPORTANCIA_MAXIMA) {
+            throw new IllegalArgumentException("La importancia debe estar entre " + IMPORTANCIA_MINIMA
+                                               + " y " + IMPORTANCIA_MAXIMA);
+        }
+        return colas.get(importancia - IMPORTANCIA_MINIMA).size();
+    }
+
+    /**
+     * Indica si no hay acciones pendientes.
+     *
+     * @return true si el despachador está vacío
+     */
+    public boolean estaVacio() {
+        return contarPendientes() == 0;
+    }
+
+    /**
+     * Convierte una duración a nanosegundos, saturando si no cabe en un long.
+     *
+     * @param duracion Duración a convertir
+     * @return Nanosegundos de la duración
+     */
+    private static long saturar(Duration duracion) {
+        try {
+            return duracion.toNanos();
+        } catch (ArithmeticException e) {
+            return duracion.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    // ==================== CLASE INTERNA ====================
+
+    /**
+     * Acción encolada junto con su nivel y su instante de encolado.
+     */
+    private static final class Entrada {
+        private final Accionable accion;
+        private final int nivel;
+        private final long instante;
+
+        Entrada(Accionable accion, int nivel, long instante) {
+            this.accion = accion;
+            this.nivel = nivel;
+            this.instante = instante;
+        }
+    }
+}
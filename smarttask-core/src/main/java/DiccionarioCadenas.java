@@ -0,0 +1,139 @@
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diccionario que asigna a cada cadena distinta una única instancia compartida.
+ * Lo usan {@link TareaNormal} para la categoría y {@link TareaUrgente} para el responsable:
+ * cada tarea guarda una referencia a la instancia compartida en lugar de su propia copia
+ * del texto. Así, comparar categorías o responsables se reduce a comparar referencias.
+ *
+ * <p>Características de la implementación:</p>
+ * <ul>
+ *   <li>El diccionario solo guarda referencias débiles a las instancias compartidas: una
+ *       cadena que ya no usa ninguna tarea (por ejemplo, de tareas eliminadas, vistas
+ *       descartadas o importaciones ya procesadas) la recoge el recolector de basura y su
+ *       entrada se descarta en el siguiente registro, así que el diccionario no crece
+ *       con los valores que dejan de usarse</li>
+ *   <li>Mientras una tarea conserve su instancia, cualquier búsqueda del mismo valor
+ *       devuelve esa misma instancia, por lo que la comparación por referencia es exacta</li>
+ *   <li>Buscar una cadena ya registrada no toma candados; el registro de una nueva
+ *       usa operaciones atómicas del mapa</li>
+ * </ul>
+ *
+ * <p>Es seguro para compartir entre hilos.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class DiccionarioCadenas {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Instancia compartida de cada cadena, indexada por una copia que comparte sus bytes.
+     */
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    /**
+     * Entradas cuya instancia compartida ya fue recogida.
+     */
+    private final ReferenceQueue<String> recogidas = new ReferenceQueue<>();
+
+    // ==================== OPERACIONES ====================
+
+    /**
+     * Obtiene la instancia compartida de una cadena, registrándola si ningún valor igual está en uso.
+     *
+     * @param cadena Cadena a compartir (puede ser null)
+     * @return Instancia compartida igual a la cadena, o null si la cadena es null
+     */
+    String compartir(String cadena) {
+        if (cadena == null) {
+            return null;
+        }
+        String existente = buscar(cadena);
+        return existente != null ? existente : registrar(cadena);
+    }
+
+    /**
+     * Obtiene la instancia compartida de una cadena sin registrarla.
+     * Sirve para filtrar: si no hay instancia compartida, ninguna tarea tiene ese valor.
+     *
+     * @param cadena Cadena a buscar (puede ser null)
+     * @return Instancia compartida, o null si la cadena es null o no está en uso
+     */
+    String buscar(String cadena) {
+        if (cadena == null) {
+            return null;
+        }
+        Entrada entrada = entradas.get(cadena);
+        return entrada == null ? null : entrada.get();
+    }
+
+    /**
+     * Obtiene la cantidad de cadenas distintas registradas cuyas entradas no se han descartado.
+     *
+     * @return Cantidad de entradas
+     */
+    int tamanio() {
+        descartarRecogidas();
+        return entradas.size();
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Registra una cadena como instancia compartida, salvo que otro hilo se haya adelantado
+     * con un valor igual todavía en uso.
+     *
+     * @param cadena Cadena sin instancia compartida en uso
+     * @return Instancia compartida
+     */
+    private String registrar(String cadena) {
+        descartarRecogidas();
+        Entrada nueva = new Entrada(cadena, recogidas);
+        while (true) {
+            Entrada actual = entradas.putIfAbsent(nueva.clave, nueva);
+            if (actual == null) {
+                return cadena;
+            }
+            String existente = actual.get();
+            if (existente != null) {
+                return existente;
+            }
+            // La instancia anterior ya fue recogida: ninguna tarea la usa y se puede reemplazar
+            if (entradas.replace(nueva.clave, actual, nueva)) {
+                return cadena;
+            }
+        }
+    }
+
+    /**
+     * Quita del mapa las entradas cuya instancia compartida ya fue recogida.
+     */
+    private void descartarRecogidas() {
+        Reference<? extends String> recogida;
+        while ((recogida = recogidas.poll()) != null) {
+            Entrada entrada = (Entrada) recogida;
+            entradas.remove(entrada.clave, entrada);
+        }
+    }
+
+    // ==================== CLASE INTERNA ====================
+
+    /**
+     * Referencia débil a la instancia compartida. La clave del mapa es una copia de la
+     * cadena que comparte su arreglo de bytes, para que el mapa no retenga la instancia.
+     */
+    private static final class Entrada extends WeakReference<String> {
+        private final String clave;
+
+        Entrada(String cadena, ReferenceQueue<String> recogidas) {
+            super(cadena, recogidas);
+            this.clave = new String(cadena);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ejecuta lotes grandes de acciones {@link Accionable} en un {@link ForkJoinPool} con robo
+ * de trabajo, sin una cola compartida por la que compitan todos los hilos.
+ *
+ * <p>El lote se divide recursivamente en tramos de costo parecido: cada trabajador guarda
+ * en su propia cola doble los tramos que bifurca y los trabajadores ociosos roban los más
+ * grandes del extremo opuesto. El costo de cada acción es una estimación:
+ * el {@link TareaNormal#getTiempoEstimado() tiempo estimado} de una tarea normal, o
+ * {@link #COSTO_DEFECTO} para las demás. Un tramo se divide por su punto medio de costo
+ * (no de cantidad), de modo que una tarea larga queda sola en su tramo y las cortas se
+ * agrupan.</p>
+ *
+ * <p>Cada acción se valida antes de ejecutarse, como en {@link MotorEjecucion}; las
+ * excepciones de una acción no detienen el resto del lote. Este modo está pensado para
+ * acciones que usan CPU: para acciones que se bloquean en E/S conviene {@link MotorEjecucion},
+ * que no ocupa un hilo de plataforma mientras esperan.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EjecutorRoboTrabajo implements AutoCloseable {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Costo estimado de las acciones que no son tareas normales, en minutos
+     * (el mismo tiempo estimado por defecto de {@link TareaNormal}).
+     */
+    public static final long COSTO_DEFECTO = 30;
+
+    /**
+     * Tramos hoja por trabajador a los que se apunta al dividir el lote.
+     */
+    private static final int GRANULARIDAD = 8;
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Grupo de trabajadores con robo de trabajo.
+     */
+    private final ForkJoinPool grupo;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un ejecutor con un trabajador por procesador disponible.
+     */
+    public EjecutorRoboTrabajo() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un ejecutor con un número dado de trabajadores.
+     *
+     * @param paralelismo Número de trabajadores
+     * @throws IllegalArgumentException si el paralelismo es menor que 1
+     */
+    public EjecutorRoboTrabajo(int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        this.grupo = new ForkJoinPool(paralelismo);
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    /**
+     * Ejecuta todas las acciones del lote y espera a que terminen.
+     *
+     * @param acciones Acciones a ejecutar
+     * @return Informe del lote: estados, robos de trabajo y carga por trabajador
+     * @throws IllegalArgumentException si la lista o alguna acción es null
+     */
+    public InformeEjecucionParalela ejecutar(List<? extends Accionable> acciones) {
+        if (acciones == null) {
+            throw new IllegalArgumentException("La lista de acciones no puede ser null");
+        }
+        Accionable[] lote = acciones.toArray(new Accionable[0]);
+        long[] prefijos = new long[lote.length + 1];
+        for (int i = 0; i < lote.length; i++) {
+            if (lote[i] == null) {
+                throw new IllegalArgumentException("Las acciones no pueden ser null");
+            }
+            prefijos[i + 1] = prefijos[i] + costo(lote[i]);
+        }
+
+        long umbral = Math.max(1, prefijos[lote.length] / ((long) grupo.getParallelism() * GRANULARIDAD));
+        Lote contexto = new Lote(lote, prefijos, umbral);
+        long inicio = System.nanoTime();
+        if (lote.length > 0) {
+            grupo.invoke(contexto.new Tramo(0, lote.length, null));
+        }
+        return contexto.informe(System.nanoTime() - inicio, grupo.getParallelism());
+    }
+
+    /**
+     * Estima el costo de ejecutar una acción.
+     *
+     * @param accion Acción a estimar
+     * @return Tiempo estimado de una tarea normal (al menos 1), o {@link #COSTO_DEFECTO}
+     */
+    static long costo(Accionable accion) {
+        if (accion instanceof TareaNormal normal) {
+            return Math.max(1, normal.getTiempoEstimado());
+        }
+        return COSTO_DEFECTO;
+    }
+
+    /**
+     * Busca el punto medio de costo de un tramo: la primera posición cuyo costo acumulado
+     * alcanza la mitad del costo del tramo. Ambas mitades quedan con al menos una acción.
+     *
+     * @param prefijos Costos acumulados del lote ({@code prefijos[i]} es el costo de las primeras i acciones)
+     * @param desde Inicio del tramo (inclusive)
+     * @param hasta Fin del tramo (exclusivo), al menos {@code desde + 2}
+     * @return Posición de corte, en {@code (desde, hasta)}
+     */
+    static int dividir(long[] prefijos, int desde, int hasta) {
+        long mitad = prefijos[desde] + (prefijos[hasta] - prefijos[desde]) / 2;
+        int bajo = desde + 1;
+        int alto = hasta - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (prefijos[medio] < mitad) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    // ==================== CIERRE ====================
+
+    /**
+     * Cierra el grupo de trabajadores; los lotes en curso terminan normalmente.
+     */
+    @Override
+    public void close() {
+        grupo.shutdown();
+    }
+
+    // ==================== CLASES INTERNAS ====================
+
+    /**
+     * Estado de la ejecución de un lote, compartido por todos sus tramos.
+     */
+    private static final class Lote {
+
+        private final Accionable[] acciones;
+        private final long[] prefijos;
+        private final long umbral;
+        private final AtomicIntegerArray porEstado = new AtomicIntegerArray(EstadoEjecucion.values().length);
+        private final ConcurrentLinkedQueue<Throwable> errores = new ConcurrentLinkedQueue<>();
+        private final LongAdder hojas = new LongAdder();
+        private final LongAdder robos = new LongAdder();
+
+        /**
+         * Acciones y costo ejecutados por cada trabajador; cada arreglo solo lo escribe su hilo.
+         */
+        private final Map<Thread, long[]> cargas = new ConcurrentHashMap<>();
+
+        Lote(Accionable[] acciones, long[] prefijos, long umbral) {
+            this.acciones = acciones;
+            this.prefijos = prefijos;
+            this.umbral = umbral;
+        }
+
+        /**
+         * Valida y ejecuta las acciones de un tramo hoja en el hilo actual.
+         */
+        void ejecutarHoja(int desde, int hasta) {
+            hojas.increment();
+            long[] carga = cargas.computeIfAbsent(Thread.currentThread(), hilo -> new long[2]);
+            for (int i = desde; i < hasta; i++) {
+                Accionable accion = acciones[i];
+                EstadoEjecucion estado;
+                try {
+                    if (accion.validar()) {
+                        accion.ejecutar();
+                        estado = EstadoEjecucion.COMPLETADA;
+                    } else {
+                        estado = EstadoEjecucion.RECHAZADA;
+                    }
+                } catch (RuntimeException e) {
+                    errores.add(e);
+                    estado = EstadoEjecucion.FALLIDA;
+                }
+                porEstado.incrementAndGet(estado.ordinal());
+            }
+            carga[0] += hasta - desde;
+            carga[1] += prefijos[hasta] - prefijos[desde];
+        }
+
+        /**
+         * Arma el informe una vez que el tramo raíz terminó (lo que publica todas las cargas).
+         */
+        InformeEjecucionParalela informe(long duracionNanos, int paralelismo) {
+            int trabajadores = Math.max(paralelismo, cargas.size());
+            int[] accionesPorTrabajador = new int[trabajadores];
+            long[] costoPorTrabajador = new long[trabajadores];
+            int i = 0;
+            for (long[] carga : cargas.values()) {
+                accionesPorTrabajador[i] = (int) carga[0];
+                costoPorTrabajador[i] = carga[1];
+                i++;
+            }
+            int[] estados = new int[porEstado.length()];
+            for (int e = 0; e < estados.length; e++) {
+                estados[e] = porEstado.get(e);
+            }
+            return new InformeEjecucionParalela(acciones.length, estados, List.copyOf(errores),
+                                                hojas.intValue(), robos.longValue(),
+                                                accionesPorTrabajador, costoPorTrabajador, duracionNanos);
+        }
+
+        /**
+         * Tramo {@code [desde, hasta)} del lote. Si su costo supera el umbral se divide: bifurca
+         * la mitad derecha (que otro trabajador puede robar) y resuelve la izquierda en el hilo actual.
+         */
+        private final class Tramo extends RecursiveAction {
+
+            private final int desde;
+            private final int hasta;
+
+            /**
+             * Hilo que bifurcó el tramo, o null si se ejecuta donde se creó.
+             */
+            private final Thread creador;
+
+            /**
+             * Tramo bifurcado antes que este por el mismo padre, para unirlos en orden inverso.
+             */
+            private Tramo siguiente;
+
+            Tramo(int desde, int hasta, Thread creador) {
+                this.desde = desde;
+                this.hasta = hasta;
+                this.creador = creador;
+            }
+
+            @Override
+            protected void compute() {
+                if (creador != null && creador != Thread.currentThread()) {
+                    robos.increment();
+                }
+                int inicio = desde;
+                int fin = hasta;
+                Tramo bifurcado = null;
+                // Mientras el tramo sea caro, se bifurca la mitad derecha y se sigue con la izquierda
+                while (fin - inicio > 1 && prefijos[fin] - prefijos[inicio] > umbral) {
+                    int corte = dividir(prefijos, inicio, fin);
+                    Tramo derecha = new Tramo(corte, fin, Thread.currentThread());
+                    derecha.siguiente = bifurcado;
+                    bifurcado = derecha;
+                    derecha.fork();
+                    fin = corte;
+                }
+                ejecutarHoja(inicio, fin);
+                for (Tramo pendiente = bifurcado; pendiente != null; pendiente = pendiente.siguiente) {
+                    pendiente.join();
+                }
+            }
+        }
+    }
+}
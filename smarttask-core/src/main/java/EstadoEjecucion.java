@@ -0,0 +1,36 @@
+/**
+ * Resultado final de una acción ejecutada por {@link MotorEjecucion}.
+ *
+ * <ul>
+ *   <li>{@link #COMPLETADA}: {@link Accionable#ejecutar()} terminó normalmente</li>
+ *   <li>{@link #RECHAZADA}: {@link Accionable#validar()} devolvió false y no se ejecutó</li>
+ *   <li>{@link #VENCIDA}: superó el tiempo límite y se invocó {@link Accionable#cancelar()}</li>
+ *   <li>{@link #FALLIDA}: {@link Accionable#ejecutar()} o {@link Accionable#validar()} lanzó una excepción</li>
+ * </ul>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum EstadoEjecucion {
+
+    /**
+     * La acción se ejecutó por completo dentro del tiempo límite.
+     */
+    COMPLETADA,
+
+    /**
+     * La acción no pasó la validación, por lo que no llegó a ejecutarse.
+     */
+    RECHAZADA,
+
+    /**
+     * La acción superó el tiempo límite: su hilo se interrumpió y se canceló la acción.
+     */
+    VENCIDA,
+
+    /**
+     * La acción terminó con una excepción.
+     */
+    FALLIDA
+}
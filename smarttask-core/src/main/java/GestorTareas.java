@@ -0,0 +1,1145 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Clase gestora que encapsula toda la lógica de negocio para el manejo de tareas.
+ * Implementa el patrón de diseño Singleton y proporciona métodos para realizar
+ * operaciones CRUD sobre las tareas del sistema.
+ *
+ * <p>Esta clase se encarga de:</p>
+ * <ul>
+ *   <li>Gestionar el ciclo de vida de las tareas</li>
+ *   <li>Mantener un registro único de IDs</li>
+ *   <li>Proporcionar métodos de búsqueda y filtrado</li>
+ *   <li>Calcular estadísticas del sistema</li>
+ * </ul>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 2.0
+ * @since 2026-02-12
+ */
+public class GestorTareas {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Prioridad baja para tareas.
+     */
+    public static final int PRIORIDAD_BAJA = 1;
+
+    /**
+     * Prioridad media para tareas.
+     */
+    public static final int PRIORIDAD_MEDIA = 2;
+
+    /**
+     * Prioridad alta para tareas.
+     */
+    public static final int PRIORIDAD_ALTA = 3;
+
+    /**
+     * Nanosegundos en una hora, para las consultas por fecha límite.
+     */
+    private static final long NANOS_POR_HORA = 3_600_000_000_000L;
+
+    /**
+     * Orden del índice de fechas límite: por la fecha registrada y, a igual fecha,
+     * por el orden en que se registró. No depende del ID, que puede cambiar.
+     */
+    private static final Comparator<TareaUrgente> POR_LIMITE =
+        Comparator.comparingLong((TareaUrgente tarea) -> tarea.limiteIndexado)
+                  .thenComparingLong(tarea -> tarea.ordenLimiteIndexado);
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Lista que almacena todas las tareas del sistema.
+     * Se mantiene compacta: al eliminar, la última tarea ocupa el lugar de la eliminada.
+     */
+    private final ArrayList<Tarea> listaTareas;
+
+    /**
+     * Índice hash que asocia el ID de cada tarea con su posición en {@link #listaTareas}.
+     */
+    private final IndiceEnteros indicePorId;
+
+    /**
+     * Contador para generar IDs únicos automáticamente.
+     * Es atómico para que las subclases concurrentes asignen IDs sin bloqueos.
+     */
+    private final AtomicInteger contadorId;
+
+    /**
+     * Número de tareas completadas, actualizado en cada operación.
+     */
+    private int totalCompletadas;
+
+    /**
+     * Tareas agrupadas por prioridad, indexadas por el valor de la prioridad (1-3).
+     * Cada tarea conoce su posición en la cubeta para poder retirarla en tiempo constante.
+     */
+    private final List<ArrayList<Tarea>> cubetasPrioridad;
+
+    /**
+     * Vistas de solo lectura de cada cubeta, creadas una única vez.
+     */
+    private final List<List<Tarea>> vistasPrioridad;
+
+    /**
+     * Tareas urgentes con fecha límite, ordenadas por {@link #POR_LIMITE}.
+     * Responde las consultas por vencimiento en tiempo logarítmico más el tamaño del resultado.
+     */
+    private final NavigableSet<TareaUrgente> indiceLimites;
+
+    /**
+     * Siguiente número de orden para desempatar fechas límite iguales en {@link #indiceLimites}.
+     */
+    private long secuenciaLimites;
+
+    /**
+     * Número de modificaciones estructurales (altas, bajas y limpiezas) realizadas.
+     */
+    private long version;
+
+    /**
+     * Instantánea inmutable de {@link #listaTareas} compartida por todas las lecturas
+     * hasta la siguiente modificación estructural; null si debe reconstruirse.
+     */
+    private volatile List<Tarea> instantanea;
+
+    /**
+     * Observador que este gestor registra en cada tarea que contiene,
+     * para actualizar índices y contadores cuando la tarea se modifica directamente.
+     */
+    private final ObservadorTarea observador;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Constructor que inicializa el gestor de tareas.
+     * Crea una lista vacía y establece el contador de IDs en 1.
+     */
+    public GestorTareas() {
+        this.listaTareas = new ArrayList<>();
+        this.indicePorId = new IndiceEnteros();
+        this.contadorId = new AtomicInteger(1);
+        this.cubetasPrioridad = new ArrayList<>(PRIORIDAD_ALTA + 1);
+        this.vistasPrioridad = new ArrayList<>(PRIORIDAD_ALTA + 1);
+        for (int prioridad = 0; prioridad <= PRIORIDAD_ALTA; prioridad++) {
+            ArrayList<Tarea> cubeta = new ArrayList<>();
+            cubetasPrioridad.add(cubeta);
+            vistasPrioridad.add(Collections.unmodifiableList(cubeta));
+        }
+        this.indiceLimites = new TreeSet<>(POR_LIMITE);
+        this.observador = new ObservadorTarea() {
+            @Override
+            public void idCambiado(Tarea tarea, int idAnterior) {
+                GestorTareas.this.idCambiado(tarea, idAnterior);
+            }
+
+            @Override
+            public void nombreCambiado(Tarea tarea, String nombreAnterior) {
+                GestorTareas.this.nombreCambiado(tarea);
+            }
+
+            @Override
+            public void prioridadCambiada(Tarea tarea, int prioridadAnterior) {
+                GestorTareas.this.prioridadCambiada(tarea, prioridadAnterior);
+            }
+
+            @Override
+            public void estadoCambiado(Tarea tarea) {
+                GestorTareas.this.estadoCambiado(tarea);
+            }
+
+            @Override
+            public void atributoCambiado(Tarea tarea, AtributoTarea atributo) {
+                GestorTareas.this.atributosCambiados(tarea);
+            }
+        };
+    }
+
+    // ==================== MÉTODOS PÚBLICOS - OPERACIONES CRUD ====================
+
+    /**
+     * Agrega una nueva tarea al sistema.
+     * El ID se asigna automáticamente de forma incremental.
+     *
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (1: Baja, 2: Media, 3: Alta)
+     * @return La tarea creada
+     * @throws IllegalArgumentException si el nombre es nulo/vacío o la prioridad es inválida
+     */
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        Tarea nuevaTarea = crearTarea(nombre, prioridad);
+        indexar(nuevaTarea);
+
+        return nuevaTarea;
+    }
+
+    /**
+     * Marca una tarea como completada según su ID.
+     *
+     * @param id Identificador único de la tarea
+     * @return true si la tarea fue marcada exitosamente, false si no se encontró
+     */
+    public boolean marcarComoCompletada(int id) {
+        Tarea tarea = buscarTareaPorId(id);
+
+        if (tarea != null) {
+            tarea.marcarCompletada();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Elimina una tarea del sistema según su ID.
+     * La última tarea de la lista pasa a ocupar la posición liberada, por lo que
+     * la operación es de tiempo constante y el orden de listado puede variar.
+     *
+     * @param id Identificador único de la tarea a eliminar
+     * @return true si la tarea fue eliminada exitosamente, false si no se encontró
+     */
+    public boolean eliminarTarea(int id) {
+        int posicion = indicePorId.eliminar(id);
+
+        if (posicion == IndiceEnteros.AUSENTE) {
+            return false;
+        }
+
+        desindexar(posicion);
+        registrarModificacion();
+
+        return true;
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    /**
+     * Agrega varias tareas en una sola operación.
+     * Todas las entradas se validan antes de agregar ninguna: si alguna es inválida
+     * no se agrega ninguna tarea. Los IDs se reservan como un bloque consecutivo y las
+     * estructuras internas se dimensionan una sola vez para el lote completo.
+     *
+     * @param nombres Descripciones de las tareas
+     * @param prioridades Prioridad de cada tarea, en la misma posición que su nombre
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si los arreglos son nulos o de distinto tamaño,
+     *         o si algún nombre o prioridad es inválido
+     */
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        Tarea[] tareas = crearTareas(nombres, prioridades);
+        indexarLote(tareas);
+        return resultadoAlta(tareas);
+    }
+
+    /**
+     * Agrega en una sola operación varias tareas ya construidas, de cualquier tipo
+     * ({@link TareaNormal}, {@link TareaUrgente}...), conservando sus atributos y su estado.
+     * Igual que en {@link #agregarTareas(String[], int[])}, todo el lote se valida antes
+     * de agregar ninguna tarea y los IDs se asignan como un bloque consecutivo: el ID que
+     * traiga cada tarea se reemplaza. Las tareas pasan a pertenecer al gestor.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el arreglo o alguna tarea es nula, si algún nombre
+     *         o prioridad es inválido, o si alguna tarea ya pertenece a un gestor
+     */
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        Tarea[] lote = prepararLote(tareas);
+        indexarLote(lote);
+        return resultadoAlta(lote);
+    }
+
+    /**
+     * Marca como completadas varias tareas en una sola operación.
+     * Los contadores se actualizan una única vez al final del lote.
+     * Un ID cuenta como exitoso si existe, aunque ya estuviera completado,
+     * igual que en {@link #marcarComoCompletada(int)}.
+     *
+     * @param ids IDs de las tareas a completar
+     * @return Resultado que indica qué IDs se encontraron
+     * @throws IllegalArgumentException si el arreglo es nulo
+     */
+    public ResultadoLote completarTareas(int[] ids) {
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+        int nuevasCompletadas = 0;
+
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.obtener(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                Tarea tarea = listaTareas.get(posicion);
+                if (!tarea.completadaIndexada) {
+                    // Se asigna el atributo directamente para no notificar tarea por tarea
+                    tarea.completado = true;
+                    tarea.completadaIndexada = true;
+                    nuevasCompletadas++;
+                }
+                exitosos.set(i);
+            }
+        }
+
+        totalCompletadas += nuevasCompletadas;
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    /**
+     * Elimina varias tareas en una sola operación.
+     * La instantánea de {@link #listarTareas()} se invalida una única vez al final del lote.
+     *
+     * @param ids IDs de las tareas a eliminar
+     * @return Resultado que indica qué IDs se eliminaron
+     * @throws IllegalArgumentException si el arreglo es nulo
+     */
+    public ResultadoLote eliminarTareas(int[] ids) {
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.eliminar(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                desindexar(posicion);
+                exitosos.set(i);
+            }
+        }
+
+        if (!exitosos.isEmpty()) {
+            registrarModificacion();
+        }
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    // ==================== MÉTODOS DE CONSULTA ====================
+
+    /**
+     * Obtiene una instantánea inmutable de la lista completa de tareas.
+     * La instantánea se construye una sola vez por cada versión del gestor: las
+     * llamadas sucesivas sin modificaciones intermedias devuelven la misma lista sin
+     * copiar nada, y las altas o bajas posteriores no alteran una instantánea ya entregada.
+     *
+     * @return Lista inmutable con todas las tareas
+     */
+    public List<Tarea> listarTareas() {
+        List<Tarea> actual = instantanea;
+        if (actual == null) {
+            actual = List.copyOf(listaTareas);
+            instantanea = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * Recorre las tareas de a una, para quien las procesa en flujo (por ejemplo, al exportarlas).
+     * Aquí equivale a {@link #listarTareas()}, cuya instantánea no copia las tareas; los gestores
+     * que materializan una vista por tarea lo sobrescriben para crear cada vista solo al llegar
+     * a ella, sin construir una lista con todas.
+     *
+     * @return Tareas del gestor, en el orden de {@link #listarTareas()}
+     */
+    Iterable<Tarea> recorrerTareas() {
+        return listarTareas();
+    }
+
+    /**
+     * Obtiene la versión actual del gestor.
+     * Aumenta con cada alta, baja o limpieza, por lo que dos lecturas con la misma
+     * versión observan el mismo conjunto de tareas.
+     *
+     * @return Número de modificaciones estructurales realizadas
+     */
+    public long obtenerVersion() {
+        return version;
+    }
+
+    /**
+     * Busca una tarea específica por su ID.
+     * La búsqueda se resuelve en tiempo constante mediante el índice hash.
+     *
+     * @param id Identificador único de la tarea
+     * @return La tarea encontrada o null si no existe
+     */
+    public Tarea buscarTareaPorId(int id) {
+        int posicion = indicePorId.obtener(id);
+        return posicion == IndiceEnteros.AUSENTE ? null : listaTareas.get(posicion);
+    }
+
+    /**
+     * Filtra y obtiene todas las tareas con una prioridad específica.
+     * Devuelve una vista de solo lectura de la cubeta de esa prioridad, sin copiar ni
+     * recorrer el resto de las tareas. La vista refleja los cambios posteriores del gestor.
+     *
+     * @param prioridad Nivel de prioridad a filtrar (1: Baja, 2: Media, 3: Alta)
+     * @return Lista de solo lectura con las tareas que coinciden con la prioridad
+     */
+    public List<Tarea> filtrarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return Collections.emptyList();
+        }
+        return vistasPrioridad.get(prioridad);
+    }
+
+    /**
+     * Obtiene todas las tareas completadas.
+     *
+     * @return Lista con las tareas completadas
+     */
+    public List<Tarea> obtenerTareasCompletadas() {
+        return listaTareas.stream()
+            .filter(Tarea::isCompletado)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene todas las tareas pendientes.
+     *
+     * @return Lista con las tareas pendientes
+     */
+    public List<Tarea> obtenerTareasPendientes() {
+        return listaTareas.stream()
+            .filter(tarea -> !tarea.isCompletado())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene las tareas urgentes cuya fecha límite ya pasó, ordenadas por fecha límite.
+     * El reloj se lee una sola vez, con {@link TareaUrgente#instanteActual()}, y las tareas
+     * se toman del índice de fechas límite sin recorrer las demás.
+     *
+     * @return Lista con las tareas urgentes vencidas
+     */
+    public List<Tarea> obtenerTareasVencidas() {
+        return vencidasAl(TareaUrgente.instanteActual());
+    }
+
+    /**
+     * Obtiene las tareas urgentes que vencen dentro de las próximas horas indicadas
+     * (aún no vencidas), ordenadas por fecha límite. Usa el índice de fechas límite.
+     *
+     * @param horas Ventana de tiempo en horas a partir de ahora
+     * @return Lista con las tareas urgentes que vencen dentro de la ventana
+     * @throws IllegalArgumentException si las horas son negativas
+     */
+    public List<Tarea> obtenerTareasPorVencer(int horas) {
+        validarHoras(horas);
+        long ahora = TareaUrgente.instanteActual();
+        return vencenEntre(ahora, finDeVentana(ahora, horas));
+    }
+
+    /**
+     * Obtiene las próximas tareas urgentes en vencer (aún no vencidas), ordenadas por fecha límite.
+     * Usa el índice de fechas límite y se detiene al reunir la cantidad pedida.
+     *
+     * @param cantidad Número máximo de tareas a devolver
+     * @return Lista con a lo sumo {@code cantidad} tareas urgentes
+     * @throws IllegalArgumentException si la cantidad es negativa
+     */
+    public List<Tarea> obtenerProximosVencimientos(int cantidad) {
+        validarCantidad(cantidad);
+        return proximosVencimientos(TareaUrgente.instanteActual(), cantidad);
+    }
+
+    /**
+     * Filtra las tareas normales de una categoría.
+     * La categoría se resuelve una vez a su instancia compartida en {@link TareaNormal#CATEGORIAS}
+     * y cada tarea se compara por referencia; si ninguna tarea usa la categoría, no hay tareas que revisar.
+     *
+     * @param categoria Categoría a filtrar (null filtra las tareas normales sin categoría)
+     * @return Lista con las tareas normales de esa categoría
+     */
+    public List<Tarea> filtrarPorCategoria(String categoria) {
+        String compartida = TareaNormal.CATEGORIAS.buscar(categoria);
+        List<Tarea> tareas = new ArrayList<>();
+        if (categoria != null && compartida == null) {
+            return tareas;
+        }
+        for (Tarea tarea : listarTareas()) {
+            if (tarea instanceof TareaNormal && ((TareaNormal) tarea).getCategoria() == compartida) {
+                tareas.add(tarea);
+            }
+        }
+        return tareas;
+    }
+
+    /**
+     * Filtra las tareas urgentes de un responsable.
+     * El responsable se resuelve una vez a su instancia compartida en {@link TareaUrgente#RESPONSABLES}
+     * y cada tarea se compara por referencia.
+     *
+     * @param responsable Responsable a filtrar (null filtra las tareas urgentes sin responsable)
+     * @return Lista con las tareas urgentes de ese responsable
+     */
+    public List<Tarea> filtrarPorResponsable(String responsable) {
+        String compartido = TareaUrgente.RESPONSABLES.buscar(responsable);
+        List<Tarea> tareas = new ArrayList<>();
+        if (responsable != null && compartido == null) {
+            return tareas;
+        }
+        for (Tarea tarea : listarTareas()) {
+            if (tarea instanceof TareaUrgente && ((TareaUrgente) tarea).getResponsable() == compartido) {
+                tareas.add(tarea);
+            }
+        }
+        return tareas;
+    }
+
+    // ==================== MÉTODOS DE ESTADÍSTICAS ====================
+
+    /**
+     * Obtiene el total de tareas en el sistema.
+     *
+     * @return Número total de tareas
+     */
+    public int obtenerTotalTareas() {
+        return listaTareas.size();
+    }
+
+    /**
+     * Obtiene el número de tareas completadas.
+     * Se lee de un contador mantenido en cada operación, sin recorrer la lista.
+     *
+     * @return Cantidad de tareas completadas
+     */
+    public int contarTareasCompletadas() {
+        return totalCompletadas;
+    }
+
+    /**
+     * Obtiene el número de tareas pendientes.
+     *
+     * @return Cantidad de tareas pendientes
+     */
+    public int contarTareasPendientes() {
+        return listaTareas.size() - totalCompletadas;
+    }
+
+    /**
+     * Cuenta las tareas según su nivel de prioridad.
+     *
+     * @param prioridad Nivel de prioridad a contar
+     * @return Cantidad de tareas con la prioridad especificada
+     */
+    public int contarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return 0;
+        }
+        return cubetasPrioridad.get(prioridad).size();
+    }
+
+    /**
+     * Calcula el porcentaje de tareas completadas.
+     *
+     * @return Porcentaje de completitud (0.0 a 100.0)
+     */
+    public double calcularPorcentajeCompletadas() {
+        if (listaTareas.isEmpty()) {
+            return 0.0;
+        }
+
+        return (totalCompletadas * 100.0) / listaTareas.size();
+    }
+
+    /**
+     * Calcula el porcentaje de tareas pendientes.
+     *
+     * @return Porcentaje de tareas pendientes (0.0 a 100.0)
+     */
+    public double calcularPorcentajePendientes() {
+        if (listaTareas.isEmpty()) {
+            return 0.0;
+        }
+
+        return ((listaTareas.size() - totalCompletadas) * 100.0) / listaTareas.size();
+    }
+
+    // ==================== MÉTODOS DE UTILIDAD ====================
+
+    /**
+     * Verifica si la lista de tareas está vacía.
+     *
+     * @return true si no hay tareas, false en caso contrario
+     */
+    public boolean estaVacia() {
+        return listaTareas.isEmpty();
+    }
+
+    /**
+     * Limpia todas las tareas del sistema.
+     * Reinicia el contador de IDs a 1.
+     */
+    public void limpiarTodas() {
+        for (Tarea tarea : listaTareas) {
+            tarea.observador = null;
+        }
+        listaTareas.clear();
+        listaTareas.trimToSize();
+        indicePorId.limpiar();
+        registrarModificacion();
+        totalCompletadas = 0;
+        for (List<Tarea> cubeta : cubetasPrioridad) {
+            cubeta.clear();
+        }
+        indiceLimites.clear();
+        contadorId.set(1);
+    }
+
+    /**
+     * Convierte un número de prioridad en su texto descriptivo.
+     *
+     * @param prioridad Valor numérico de la prioridad
+     * @return Texto descriptivo de la prioridad
+     */
+    public static String obtenerTextoPrioridad(int prioridad) {
+        switch (prioridad) {
+            case PRIORIDAD_BAJA:
+                return "Baja";
+            case PRIORIDAD_MEDIA:
+                return "Media";
+            case PRIORIDAD_ALTA:
+                return "Alta";
+            default:
+                return "No definida";
+        }
+    }
+
+    /**
+     * Obtiene el símbolo emoji según el nivel de prioridad.
+     *
+     * @param prioridad Valor numérico de la prioridad
+     * @return Emoji representativo de la prioridad
+     */
+    public static String obtenerEmojPrioridad(int prioridad) {
+        switch (prioridad) {
+            case PRIORIDAD_BAJA:
+                return "🟢";
+            case PRIORIDAD_MEDIA:
+                return "🟡";
+            case PRIORIDAD_ALTA:
+                return "🔴";
+            default:
+                return "⚪";
+        }
+    }
+
+    // ==================== NOTIFICACIONES DE TAREAS ====================
+
+    /**
+     * Actualiza el índice por ID cuando una tarea propia cambia de ID.
+     * Si el nuevo ID supera al contador, el contador se adelanta para que
+     * los IDs asignados automáticamente no colisionen con él.
+     *
+     * @param tarea Tarea cuyo ID cambió
+     * @param idAnterior ID que tenía la tarea antes del cambio
+     * @throws IllegalArgumentException si el nuevo ID ya pertenece a otra tarea
+     */
+    void idCambiado(Tarea tarea, int idAnterior) {
+        int id = tarea.getId();
+        if (tarea.observador != observador || id == tarea.idIndexado) {
+            return;
+        }
+        if (indicePorId.obtener(id) != IndiceEnteros.AUSENTE) {
+            throw new IllegalArgumentException("Ya existe una tarea con el ID " + id);
+        }
+        indicePorId.poner(id, indicePorId.eliminar(tarea.idIndexado));
+        tarea.idIndexado = id;
+        adelantarContador(id);
+    }
+
+    /**
+     * Actualiza los contadores cuando una tarea propia cambia de estado
+     * por una llamada directa a sus setters.
+     *
+     * @param tarea Tarea cuyo estado de completitud cambió
+     */
+    void estadoCambiado(Tarea tarea) {
+        boolean completada = tarea.isCompletado();
+        if (tarea.observador != observador || completada == tarea.completadaIndexada) {
+            return;
+        }
+        totalCompletadas += completada ? 1 : -1;
+        tarea.completadaIndexada = completada;
+    }
+
+    /**
+     * Recibe el aviso de que una tarea propia cambió de nombre.
+     * Ningún índice depende del nombre, por lo que aquí no hace nada;
+     * existe para las subclases que necesitan registrar el cambio.
+     *
+     * @param tarea Tarea cuyo nombre cambió
+     */
+    void nombreCambiado(Tarea tarea) {
+    }
+
+    /**
+     * Reubica una tarea urgente propia en el índice de fechas límite si cambió su fecha.
+     * Los demás atributos de las subclases (categoría, responsable...) no están indexados.
+     *
+     * @param tarea Tarea cuyos atributos cambiaron
+     */
+    void atributosCambiados(Tarea tarea) {
+        if (tarea.observador != observador || !(tarea instanceof TareaUrgente)) {
+            return;
+        }
+        TareaUrgente urgente = (TareaUrgente) tarea;
+        if (urgente.getFechaLimiteEpochNanos() != urgente.limiteIndexado) {
+            retirarLimite(urgente);
+            registrarLimite(urgente);
+        }
+    }
+
+    /**
+     * Actualiza los contadores por prioridad cuando una tarea propia cambia de prioridad.
+     *
+     * @param tarea Tarea cuya prioridad cambió
+     * @param anterior Prioridad que tenía la tarea antes del cambio
+     */
+    void prioridadCambiada(Tarea tarea, int anterior) {
+        if (tarea.observador != observador || tarea.getPrioridad() == tarea.prioridadIndexada) {
+            return;
+        }
+        retirarDeCubeta(tarea);
+        agregarACubeta(tarea);
+    }
+
+    // ==================== MÉTODOS DE SOPORTE PARA SUBCLASES ====================
+
+    /**
+     * Obtiene las tareas urgentes con fecha límite anterior a un instante, ordenadas por fecha límite.
+     * Las subclases que no usan las estructuras de este gestor deben redefinirlo.
+     *
+     * @param ahora Instante de referencia, en la escala de {@link TareaUrgente#instanteActual()}
+     * @return Lista con las tareas urgentes vencidas en ese instante
+     */
+    List<Tarea> vencidasAl(long ahora) {
+        return new ArrayList<>(indiceLimites.headSet(cota(ahora, Long.MIN_VALUE), false));
+    }
+
+    /**
+     * Obtiene las tareas urgentes con fecha límite dentro de un intervalo cerrado,
+     * ordenadas por fecha límite. Las subclases que no usan las estructuras de este
+     * gestor deben redefinirlo.
+     *
+     * @param desde Inicio del intervalo, incluido
+     * @param hasta Fin del intervalo, incluido
+     * @return Lista con las tareas urgentes que vencen en el intervalo
+     */
+    List<Tarea> vencenEntre(long desde, long hasta) {
+        if (desde > hasta) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(indiceLimites.subSet(cota(desde, Long.MIN_VALUE), true,
+                                                    cota(hasta, Long.MAX_VALUE), true));
+    }
+
+    /**
+     * Obtiene las primeras tareas urgentes con fecha límite igual o posterior a un instante,
+     * ordenadas por fecha límite. Las subclases que no usan las estructuras de este
+     * gestor deben redefinirlo.
+     *
+     * @param desde Instante de referencia, incluido
+     * @param cantidad Número máximo de tareas (no negativo)
+     * @return Lista con a lo sumo {@code cantidad} tareas urgentes
+     */
+    List<Tarea> proximosVencimientos(long desde, int cantidad) {
+        List<Tarea> proximas = new ArrayList<>(Math.min(cantidad, indiceLimites.size()));
+        Iterator<TareaUrgente> iterador = indiceLimites.tailSet(cota(desde, Long.MIN_VALUE), true).iterator();
+        while (proximas.size() < cantidad && iterador.hasNext()) {
+            proximas.add(iterador.next());
+        }
+        return proximas;
+    }
+
+    /**
+     * Valida los datos y crea una tarea con el siguiente ID disponible,
+     * sin incorporarla todavía al gestor.
+     * No modifica ninguna estructura salvo el contador atómico de IDs.
+     *
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (1: Baja, 2: Media, 3: Alta)
+     * @return La tarea creada
+     * @throws IllegalArgumentException si el nombre es nulo/vacío o la prioridad es inválida
+     */
+    Tarea crearTarea(String nombre, int prioridad) {
+        // Validación de entrada
+        if (nombre == null || nombre.trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre de la tarea no puede estar vacío");
+        }
+
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            throw new IllegalArgumentException("La prioridad debe estar entre 1 y 3");
+        }
+
+        // Crear nueva tarea con ID autoincremental
+        return new Tarea(siguienteId(), nombre.trim(), prioridad);
+    }
+
+    /**
+     * Reserva el siguiente ID automático.
+     *
+     * @return Un ID que no ha sido entregado antes desde el último reinicio del contador
+     */
+    int siguienteId() {
+        return contadorId.getAndIncrement();
+    }
+
+    /**
+     * Consulta, sin reservarlo, el ID que entregaría el contador a continuación.
+     *
+     * @return El próximo ID automático
+     */
+    int consultarSiguienteId() {
+        return contadorId.get();
+    }
+
+    /**
+     * Garantiza que el contador de IDs no vuelva a entregar el ID indicado ni uno menor.
+     *
+     * @param id ID ya utilizado por alguna tarea
+     */
+    void adelantarContador(int id) {
+        contadorId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Valida un lote de altas completo y crea sus tareas con un bloque de IDs
+     * consecutivos, sin incorporarlas todavía al gestor.
+     *
+     * @param nombres Descripciones de las tareas
+     * @param prioridades Prioridad de cada tarea
+     * @return Tareas creadas, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus entradas es inválida
+     */
+    Tarea[] crearTareas(String[] nombres, int[] prioridades) {
+        if (nombres == null || prioridades == null) {
+            throw new IllegalArgumentException("Los arreglos del lote no pueden ser nulos");
+        }
+        if (nombres.length != prioridades.length) {
+            throw new IllegalArgumentException("Debe indicarse una prioridad por cada nombre");
+        }
+        for (int i = 0; i < nombres.length; i++) {
+            if (nombres[i] == null || nombres[i].trim().isEmpty()) {
+                throw new IllegalArgumentException(
+                    "El nombre de la tarea en la posición " + i + " no puede estar vacío");
+            }
+            if (prioridades[i] < PRIORIDAD_BAJA || prioridades[i] > PRIORIDAD_ALTA) {
+                throw new IllegalArgumentException(
+                    "La prioridad de la tarea en la posición " + i + " debe estar entre 1 y 3");
+            }
+        }
+
+        Tarea[] tareas = new Tarea[nombres.length];
+        int primerId = reservarIds(nombres.length);
+        for (int i = 0; i < tareas.length; i++) {
+            tareas[i] = new Tarea(primerId + i, nombres[i].trim(), prioridades[i]);
+        }
+        return tareas;
+    }
+
+    /**
+     * Valida un lote de tareas ya construidas y les asigna un bloque de IDs consecutivos,
+     * sin incorporarlas todavía al gestor.
+     *
+     * @param tareas Tareas del lote
+     * @return Copia del arreglo, con las mismas tareas en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida
+     */
+    Tarea[] prepararLote(Tarea[] tareas) {
+        if (tareas == null) {
+            throw new IllegalArgumentException("El lote de tareas no puede ser nulo");
+        }
+        Tarea[] lote = tareas.clone();
+        for (int i = 0; i < lote.length; i++) {
+            Tarea tarea = lote[i];
+            if (tarea == null) {
+                throw new IllegalArgumentException("La tarea en la posición " + i + " es nula");
+            }
+            if (tarea.getNombre() == null || tarea.getNombre().trim().isEmpty()) {
+                throw new IllegalArgumentException(
+                    "El nombre de la tarea en la posición " + i + " no puede estar vacío");
+            }
+            if (!tarea.esPrioridadValida()) {
+                throw new IllegalArgumentException(
+                    "La prioridad de la tarea en la posición " + i + " debe estar entre 1 y 3");
+            }
+            if (tarea.observador != null) {
+                throw new IllegalArgumentException(
+                    "La tarea en la posición " + i + " ya pertenece a un gestor");
+            }
+        }
+        // Una misma tarea repetida en el lote terminaría indexada dos veces
+        Set<Tarea> distintas = Collections.newSetFromMap(new IdentityHashMap<>(lote.length * 2));
+        for (int i = 0; i < lote.length; i++) {
+            if (!distintas.add(lote[i])) {
+                throw new IllegalArgumentException("La tarea en la posición " + i + " está repetida en el lote");
+            }
+        }
+
+        int primerId = reservarIds(lote.length);
+        for (int i = 0; i < lote.length; i++) {
+            lote[i].id = primerId + i;
+        }
+        return lote;
+    }
+
+    /**
+     * Indica si una tarea pertenece a este gestor.
+     *
+     * @param tarea Tarea a verificar
+     * @return true si la tarea está incorporada a este gestor
+     */
+    boolean esPropia(Tarea tarea) {
+        return tarea.observador == observador;
+    }
+
+    /**
+     * Reserva un bloque de IDs automáticos consecutivos.
+     *
+     * @param cantidad Número de IDs a reservar
+     * @return El primer ID del bloque
+     */
+    int reservarIds(int cantidad) {
+        return contadorId.getAndAdd(cantidad);
+    }
+
+    /**
+     * Incorpora una tarea a la lista, al índice por ID, a su cubeta de prioridad
+     * y a los contadores, y registra el observador del gestor en ella.
+     *
+     * @param tarea Tarea a incorporar (su ID no debe estar en uso)
+     */
+    void indexar(Tarea tarea) {
+        insertar(tarea);
+        registrarModificacion();
+    }
+
+    /**
+     * Incorpora un lote de tareas dimensionando las estructuras una sola vez
+     * e invalidando la instantánea publicada una única vez.
+     *
+     * @param tareas Tareas a incorporar (sus IDs no deben estar en uso)
+     */
+    void indexarLote(Tarea[] tareas) {
+        if (tareas.length == 0) {
+            return;
+        }
+        int[] porPrioridad = new int[PRIORIDAD_ALTA + 1];
+        for (Tarea tarea : tareas) {
+            porPrioridad[tarea.getPrioridad()]++;
+        }
+        listaTareas.ensureCapacity(listaTareas.size() + tareas.length);
+        indicePorId.asegurarCapacidad(listaTareas.size() + tareas.length);
+        for (int prioridad = PRIORIDAD_BAJA; prioridad <= PRIORIDAD_ALTA; prioridad++) {
+            ArrayList<Tarea> cubeta = cubetasPrioridad.get(prioridad);
+            cubeta.ensureCapacity(cubeta.size() + porPrioridad[prioridad]);
+        }
+
+        for (Tarea tarea : tareas) {
+            insertar(tarea);
+        }
+        registrarModificacion();
+    }
+
+    /**
+     * Construye el resultado de un lote de altas, en el que todas las tareas se agregaron.
+     *
+     * @param tareas Tareas agregadas
+     * @return Resultado con los IDs asignados
+     */
+    static ResultadoLote resultadoAlta(Tarea[] tareas) {
+        int[] ids = new int[tareas.length];
+        for (int i = 0; i < tareas.length; i++) {
+            ids[i] = tareas[i].getId();
+        }
+        BitSet exitosos = new BitSet(tareas.length);
+        exitosos.set(0, tareas.length);
+        return new ResultadoLote(ids, exitosos);
+    }
+
+    /**
+     * Verifica que la ventana de una consulta por vencimiento no sea negativa.
+     *
+     * @param horas Ventana en horas
+     * @throws IllegalArgumentException si las horas son negativas
+     */
+    static void validarHoras(int horas) {
+        if (horas < 0) {
+            throw new IllegalArgumentException("Las horas no pueden ser negativas");
+        }
+    }
+
+    /**
+     * Verifica que la cantidad pedida en una consulta no sea negativa.
+     *
+     * @param cantidad Cantidad de tareas
+     * @throws IllegalArgumentException si la cantidad es negativa
+     */
+    static void validarCantidad(int cantidad) {
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("La cantidad no puede ser negativa");
+        }
+    }
+
+    /**
+     * Calcula el final de una ventana de vencimiento, saturando en lugar de desbordar.
+     *
+     * @param ahora Instante de inicio, en la escala de {@link TareaUrgente#instanteActual()}
+     * @param horas Ventana en horas (no negativa)
+     * @return Último instante incluido en la ventana
+     */
+    static long finDeVentana(long ahora, int horas) {
+        try {
+            return Math.addExact(ahora, Math.multiplyExact(horas, NANOS_POR_HORA));
+        } catch (ArithmeticException e) {
+            // Con horas no negativas solo puede desbordar hacia arriba
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Verifica que un lote de IDs no sea nulo.
+     *
+     * @param ids Lote de IDs
+     * @throws IllegalArgumentException si el lote es nulo
+     */
+    static void validarLote(int[] ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("El lote de IDs no puede ser nulo");
+        }
+    }
+
+    /**
+     * Retira la tarea que ocupa la posición indicada de todas las estructuras.
+     * La última tarea de la lista pasa a ocupar la posición liberada.
+     * El ID de la tarea ya debe haberse retirado del índice.
+     *
+     * @param posicion Posición de la tarea en la lista
+     */
+    private void desindexar(int posicion) {
+        Tarea eliminada = listaTareas.get(posicion);
+        int ultima = listaTareas.size() - 1;
+        Tarea movida = listaTareas.remove(ultima);
+        if (posicion != ultima) {
+            listaTareas.set(posicion, movida);
+            indicePorId.poner(movida.idIndexado, posicion);
+        }
+
+        eliminada.observador = null;
+        retirarDeCubeta(eliminada);
+        if (eliminada instanceof TareaUrgente) {
+            retirarLimite((TareaUrgente) eliminada);
+        }
+        if (eliminada.completadaIndexada) {
+            totalCompletadas--;
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Incorpora una tarea a todas las estructuras sin invalidar la instantánea.
+     *
+     * @param tarea Tarea a incorporar (su ID no debe estar en uso)
+     */
+    private void insertar(Tarea tarea) {
+        tarea.idIndexado = tarea.getId();
+        tarea.completadaIndexada = tarea.isCompletado();
+        indicePorId.poner(tarea.idIndexado, listaTareas.size());
+        listaTareas.add(tarea);
+        agregarACubeta(tarea);
+        if (tarea instanceof TareaUrgente) {
+            registrarLimite((TareaUrgente) tarea);
+        }
+        if (tarea.completadaIndexada) {
+            totalCompletadas++;
+        }
+        tarea.observador = observador;
+    }
+
+    /**
+     * Avanza la versión y descarta la instantánea publicada.
+     */
+    private void registrarModificacion() {
+        version++;
+        instantanea = null;
+    }
+
+    /**
+     * Coloca una tarea al final de la cubeta de su prioridad actual.
+     *
+     * @param tarea Tarea a agregar
+     */
+    private void agregarACubeta(Tarea tarea) {
+        tarea.prioridadIndexada = tarea.getPrioridad();
+        List<Tarea> cubeta = cubetasPrioridad.get(tarea.prioridadIndexada);
+        tarea.posicionEnCubeta = cubeta.size();
+        cubeta.add(tarea);
+    }
+
+    /**
+     * Retira una tarea de la cubeta en la que está registrada,
+     * moviendo la última tarea de esa cubeta a su posición.
+     *
+     * @param tarea Tarea a retirar
+     */
+    private void retirarDeCubeta(Tarea tarea) {
+        List<Tarea> cubeta = cubetasPrioridad.get(tarea.prioridadIndexada);
+        int posicion = tarea.posicionEnCubeta;
+        Tarea movida = cubeta.remove(cubeta.size() - 1);
+        if (movida != tarea) {
+            cubeta.set(posicion, movida);
+            movida.posicionEnCubeta = posicion;
+        }
+    }
+
+    /**
+     * Registra una tarea urgente en el índice de fechas límite con su fecha actual.
+     * Las tareas sin fecha límite no se registran.
+     *
+     * @param tarea Tarea urgente a registrar
+     */
+    private void registrarLimite(TareaUrgente tarea) {
+        tarea.limiteIndexado = tarea.getFechaLimiteEpochNanos();
+        if (tarea.limiteIndexado != TareaUrgente.SIN_FECHA) {
+            tarea.ordenLimiteIndexado = secuenciaLimites++;
+            indiceLimites.add(tarea);
+        }
+    }
+
+    /**
+     * Retira una tarea urgente del índice de fechas límite, si figura en él.
+     *
+     * @param tarea Tarea urgente a retirar
+     */
+    private void retirarLimite(TareaUrgente tarea) {
+        if (tarea.limiteIndexado != TareaUrgente.SIN_FECHA) {
+            indiceLimites.remove(tarea);
+            tarea.limiteIndexado = TareaUrgente.SIN_FECHA;
+        }
+    }
+
+    /**
+     * Crea una cota de búsqueda para el índice de fechas límite.
+     *
+     * @param limite Fecha límite de la cota
+     * @param orden Número de orden de la cota (el mínimo o el máximo para incluir toda esa fecha)
+     * @return Tarea urgente que solo se usa para comparar
+     */
+    private static TareaUrgente cota(long limite, long orden) {
+        TareaUrgente cota = new TareaUrgente(0, "", PRIORIDAD_ALTA, null, TareaUrgente.CRITICIDAD_DEFECTO, null);
+        cota.limiteIndexado = limite;
+        cota.ordenLimiteIndexado = orden;
+        return cota;
+    }
+}
@@ -0,0 +1,365 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Fachada asíncrona de {@link GestorTareas} para capas de servicio no bloqueantes:
+ * todas las operaciones devuelven un {@link CompletableFuture}.
+ *
+ * <p><b>Escrituras:</b> se encolan y las aplica un único hilo escritor, el único que
+ * toca el gestor, por lo que no hay bloqueos ni contención entre escritores. El escritor
+ * aplica las escrituras pendientes en lotes y, después de cada lote, publica una nueva
+ * {@link VistaTareas}. El futuro de una escritura se completa después de esa publicación,
+ * de modo que una lectura encadenada a él ya observa su efecto. Los futuros se completan
+ * fuera del hilo escritor, así que las etapas dependientes no lo retrasan.</p>
+ *
+ * <p><b>Lecturas:</b> se responden desde la última vista publicada, con futuros ya
+ * completados: nunca esperan al escritor ni toman bloqueos. Las tareas que devuelven las
+ * lecturas y las altas son copias desvinculadas del gestor: modificarlas no lo afecta, de
+ * modo que el hilo escritor sigue siendo el único que lo modifica.</p>
+ *
+ * <p>El gestor envuelto, y las tareas que se le entregan, solo deben modificarse a través
+ * de esta fachada.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GestorTareasAsincrono implements AutoCloseable {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Máximo de escrituras aplicadas entre dos publicaciones.
+     */
+    private static final int MAXIMO_LOTE = 1024;
+
+    /**
+     * Ejecutor en el que se completan los futuros de las escrituras: el mismo que usa
+     * {@link CompletableFuture} para sus etapas asíncronas.
+     */
+    private static final Executor NOTIFICADOR = new CompletableFuture<Void>().defaultExecutor();
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Gestor envuelto; solo lo usa el hilo escritor.
+     */
+    private final GestorTareas gestor;
+
+    /**
+     * Ejecutor de un solo hilo que aplica las escrituras.
+     */
+    private final ExecutorService escritor;
+
+    /**
+     * Escrituras pendientes de aplicar, en orden de llegada.
+     */
+    private final ConcurrentLinkedQueue<Escritura<?>> pendientes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Indica si ya hay un procesamiento de pendientes programado en el escritor.
+     */
+    private final AtomicBoolean programado = new AtomicBoolean();
+
+    /**
+     * IDs de las tareas que modificó el lote en curso; solo los usa el hilo escritor.
+     */
+    private int[] modificados = new int[16];
+
+    /**
+     * Cantidad de IDs válidos en {@link #modificados}.
+     */
+    private int totalModificados;
+
+    /**
+     * Última vista publicada.
+     */
+    private volatile VistaTareas vista;
+
+    /**
+     * Indica si la fachada dejó de aceptar escrituras.
+     */
+    private volatile boolean cerrado;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea una fachada asíncrona sobre un gestor vacío.
+     */
+    public GestorTareasAsincrono() {
+        this(new GestorTareas());
+    }
+
+    /**
+     * Crea una fachada asíncrona sobre un gestor existente.
+     *
+     * @param gestor Gestor a envolver; a partir de ahora solo debe modificarse mediante la fachada
+     * @throws IllegalArgumentException si el gestor es null
+     */
+    public GestorTareasAsincrono(GestorTareas gestor) {
+        if (gestor == null) {
+            throw new IllegalArgumentException("El gestor no puede ser null");
+        }
+        this.gestor = gestor;
+        this.vista = publicar(null);
+        this.escritor = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "smarttask-escritor");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    // ==================== ESCRITURAS ====================
+
+    /**
+     * Agrega una nueva tarea.
+     *
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (1: Baja, 2: Media, 3: Alta)
+     * @return Futuro con una copia de la tarea creada; falla con IllegalArgumentException si los datos son inválidos
+     */
+    public CompletableFuture<Tarea> agregarTarea(String nombre, int prioridad) {
+        return enviar(g -> {
+            Tarea tarea = g.agregarTarea(nombre, prioridad);
+            modificado(tarea.getId());
+            return tarea.copiar();
+        });
+    }
+
+    /**
+     * Agrega varias tareas ya construidas en una sola operación.
+     *
+     * @param tareas Tareas a agregar; el arreglo se copia al llamar y las tareas pasan a
+     *               pertenecer al gestor, así que no deben modificarse después
+     * @return Futuro con el resultado del lote; falla con IllegalArgumentException si el lote es inválido
+     */
+    public CompletableFuture<ResultadoLote> agregarTareas(Tarea[] tareas) {
+        Tarea[] copia = tareas == null ? null : tareas.clone();
+        return enviar(g -> {
+            ResultadoLote resultado = g.agregarTareas(copia);
+            for (int id : resultado.obtenerIdsExitosos()) {
+                modificado(id);
+            }
+            return resultado;
+        });
+    }
+
+    /**
+     * Marca una tarea como completada.
+     *
+     * @param id Identificador de la tarea
+     * @return Futuro con true si la tarea existía
+     */
+    public CompletableFuture<Boolean> marcarComoCompletada(int id) {
+        return enviar(g -> {
+            modificado(id);
+            return g.marcarComoCompletada(id);
+        });
+    }
+
+    /**
+     * Elimina una tarea.
+     *
+     * @param id Identificador de la tarea
+     * @return Futuro con true si la tarea existía
+     */
+    public CompletableFuture<Boolean> eliminarTarea(int id) {
+        return enviar(g -> {
+            modificado(id);
+            return g.eliminarTarea(id);
+        });
+    }
+
+    // ==================== LECTURAS ====================
+
+    /**
+     * Obtiene la última vista publicada, sin esperar.
+     *
+     * @return Vista más reciente
+     */
+    public VistaTareas obtenerVista() {
+        return vista;
+    }
+
+    /**
+     * Busca una tarea por su ID en la última vista publicada.
+     *
+     * @param id Identificador de la tarea
+     * @return Futuro completado con una copia de la tarea, o con null si no existe
+     */
+    public CompletableFuture<Tarea> buscarTareaPorId(int id) {
+        return CompletableFuture.completedFuture(vista.buscarTareaPorId(id));
+    }
+
+    /**
+     * Lista las tareas de la última vista publicada.
+     *
+     * @return Futuro completado con la lista inmutable de copias de las tareas, ordenadas por ID
+     */
+    public CompletableFuture<List<Tarea>> listarTareas() {
+        return CompletableFuture.completedFuture(vista.listarTareas());
+    }
+
+    /**
+     * Obtiene las estadísticas (totales, completadas, por prioridad) de la última vista publicada.
+     *
+     * @return Futuro completado con la vista
+     */
+    public CompletableFuture<VistaTareas> obtenerEstadisticas() {
+        return CompletableFuture.completedFuture(vista);
+    }
+
+    // ==================== ESCRITOR ====================
+
+    /**
+     * Encola una escritura y se asegura de que el escritor la procese.
+     *
+     * @param operacion Operación sobre el gestor
+     * @return Futuro con el resultado de la operación
+     */
+    private <T> CompletableFuture<T> enviar(Function<GestorTareas, T> operacion) {
+        Escritura<T> escritura = new Escritura<>(operacion);
+        if (cerrado) {
+            escritura.futuro.completeExceptionally(new IllegalStateException("El gestor asíncrono está cerrado"));
+            return escritura.futuro;
+        }
+        pendientes.add(escritura);
+        if (programado.compareAndSet(false, true)) {
+            try {
+                escritor.execute(this::procesar);
+            } catch (RejectedExecutionException e) {
+                // Se cerró entre la comprobación y el encolado: nadie procesará lo que quede
+                Escritura<?> rechazada;
+                while ((rechazada = pendientes.poll()) != null) {
+                    rechazada.futuro.completeExceptionally(new IllegalStateException("El gestor asíncrono está cerrado"));
+                }
+            }
+        }
+        return escritura.futuro;
+    }
+
+    /**
+     * Aplica las escrituras pendientes en lotes, publicando una vista después de cada
+     * lote y completando sus futuros en el notificador. Se ejecuta en el hilo escritor.
+     */
+    private void procesar() {
+        // Se desmarca antes de vaciar: una escritura que llegue ahora se procesa aquí o programa otra pasada
+        programado.set(false);
+        while (true) {
+            List<Escritura<?>> lote = new ArrayList<>();
+            Escritura<?> escritura;
+            while (lote.size() < MAXIMO_LOTE && (escritura = pendientes.poll()) != null) {
+                escritura.aplicar(gestor);
+                lote.add(escritura);
+            }
+            if (lote.isEmpty()) {
+                return;
+            }
+            vista = publicar(vista);
+            NOTIFICADOR.execute(() -> lote.forEach(Escritura::notificar));
+        }
+    }
+
+    /**
+     * Registra que el lote en curso agregó, modificó o eliminó una tarea.
+     * Se ejecuta en el hilo escritor.
+     *
+     * @param id ID de la tarea
+     */
+    private void modificado(int id) {
+        if (totalModificados == modificados.length) {
+            modificados = Arrays.copyOf(modificados, modificados.length * 2);
+        }
+        modificados[totalModificados++] = id;
+    }
+
+    /**
+     * Construye la vista del estado actual del gestor. La primera copia todas las tareas;
+     * las siguientes solo actualizan las que modificó el lote.
+     *
+     * @param anterior Vista publicada antes, o null
+     * @return Nueva vista
+     */
+    private VistaTareas publicar(VistaTareas anterior) {
+        int[] porPrioridad = new int[GestorTareas.PRIORIDAD_ALTA - GestorTareas.PRIORIDAD_BAJA + 1];
+        for (int i = 0; i < porPrioridad.length; i++) {
+            porPrioridad[i] = gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_BAJA + i);
+        }
+        if (anterior == null) {
+            return new VistaTareas(gestor.obtenerVersion(), gestor.listarTareas(),
+                                   gestor.contarTareasCompletadas(), porPrioridad);
+        }
+        VistaTareas nueva = anterior.siguiente(gestor.obtenerVersion(), gestor.contarTareasCompletadas(),
+                                               porPrioridad, modificados, totalModificados,
+                                               gestor::buscarTareaPorId);
+        totalModificados = 0;
+        return nueva;
+    }
+
+    // ==================== CIERRE ====================
+
+    /**
+     * Deja de aceptar escrituras y espera a que se apliquen las ya encoladas.
+     * Las lecturas siguen respondiendo con la última vista.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        escritor.shutdown();
+        boolean interrumpido = false;
+        while (true) {
+            try {
+                if (escritor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrumpido = true;
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== CLASE INTERNA ====================
+
+    /**
+     * Escritura pendiente: la operación, su resultado y el futuro que lo entrega.
+     */
+    private static final class Escritura<T> {
+        private final Function<GestorTareas, T> operacion;
+        private final CompletableFuture<T> futuro = new CompletableFuture<>();
+        private T resultado;
+        private RuntimeException error;
+
+        Escritura(Function<GestorTareas, T> operacion) {
+            this.operacion = operacion;
+        }
+
+        void aplicar(GestorTareas gestor) {
+            try {
+                resultado = operacion.apply(gestor);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+
+        void notificar() {
+            if (error != null) {
+                futuro.completeExceptionally(error);
+            } else {
+                futuro.complete(resultado);
+            }
+        }
+    }
+}
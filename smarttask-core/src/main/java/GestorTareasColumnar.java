@@ -0,0 +1,732 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Variante de {@link GestorTareas} que guarda las tareas por columnas en lugar de como objetos:
+ * un arreglo primitivo por atributo (IDs, prioridades, tipos, criticidades, tiempos estimados y
+ * fechas límite) y un {@link BitSet} para el estado completado y las notificaciones. La tarea
+ * de la posición {@code i} ocupa la posición {@code i} de cada columna; las columnas se mantienen
+ * compactas (al eliminar, la última tarea ocupa el lugar de la eliminada).
+ *
+ * <p>Los filtros y las estadísticas recorren solo la columna que necesitan, de forma secuencial:
+ * contar por prioridad recorre un {@code byte[]}, contar completadas suma los bits del
+ * {@link BitSet}. No se mantienen contadores aparte. Las fechas límite se guardan en la
+ * escala de {@link TareaUrgente#getFechaLimiteEpochNanos()}, sin objetos {@code LocalDateTime},
+ * y las categorías y responsables como sus instancias compartidas de {@link TareaNormal#CATEGORIAS}
+ * y {@link TareaUrgente#RESPONSABLES}, sin una copia del texto por tarea.</p>
+ *
+ * <p>Los objetos {@link Tarea} solo se crean cuando una consulta los devuelve. Son vistas
+ * materializadas de una posición: sus setters escriben el cambio en las columnas, pero cada
+ * consulta entrega una vista nueva, por lo que una vista anterior no refleja los cambios hechos
+ * a través de otra. Cada setter escribe solo el atributo que cambia, así que modificar una vista
+ * anterior tampoco deshace los cambios hechos a través de otra. Una vista de una tarea eliminada, o anterior a {@link #limpiarTodas()},
+ * queda desvinculada del gestor.</p>
+ *
+ * <p>Igual que {@link GestorTareas}, no es seguro para compartir entre hilos.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GestorTareasColumnar extends GestorTareas {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Capacidad inicial de las columnas.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private static final byte TIPO_TAREA = 0;
+    private static final byte TIPO_NORMAL = 1;
+    private static final byte TIPO_URGENTE = 2;
+
+    // ==================== ATRIBUTOS ====================
+
+    private int[] ids;
+    private byte[] prioridades;
+    private byte[] tipos;
+    private byte[] criticidades;
+    private int[] tiemposEstimados;
+
+    /**
+     * Fecha límite de cada tarea urgente, como {@link TareaUrgente#getFechaLimiteEpochNanos()},
+     * o {@link TareaUrgente#SIN_FECHA}.
+     */
+    private long[] limites;
+
+    private String[] nombres;
+
+    /**
+     * Instancia compartida de la categoría de las tareas normales o del responsable de las
+     * urgentes (null en las tareas simples).
+     */
+    private String[] extras;
+
+    private final BitSet completadas = new BitSet();
+    private final BitSet notificaciones = new BitSet();
+
+    /**
+     * Índice que asocia el ID de cada tarea con su posición en las columnas.
+     */
+    private final IndiceEnteros indicePorId = new IndiceEnteros();
+
+    /**
+     * Cantidad de posiciones ocupadas en las columnas.
+     */
+    private int cantidad;
+
+    /**
+     * Número de modificaciones estructurales (altas, bajas y limpiezas) realizadas.
+     */
+    private long version;
+
+    /**
+     * Observador registrado en las vistas entregadas; se reemplaza al limpiar
+     * para desvincular las vistas anteriores.
+     */
+    private ObservadorTarea observador;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un gestor columnar vacío.
+     */
+    public GestorTareasColumnar() {
+        super();
+        ids = new int[CAPACIDAD_INICIAL];
+        prioridades = new byte[CAPACIDAD_INICIAL];
+        tipos = new byte[CAPACIDAD_INICIAL];
+        criticidades = new byte[CAPACIDAD_INICIAL];
+        tiemposEstimados = new int[CAPACIDAD_INICIAL];
+        limites = new long[CAPACIDAD_INICIAL];
+        nombres = new String[CAPACIDAD_INICIAL];
+        extras = new String[CAPACIDAD_INICIAL];
+        observador = crearObservador();
+    }
+
+    // ==================== OPERACIONES CRUD ====================
+
+    @Override
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        Tarea nuevaTarea = crearTarea(nombre, prioridad);
+        asegurarCapacidad(cantidad + 1);
+        anexar(nuevaTarea);
+        version++;
+        return vincular(nuevaTarea);
+    }
+
+    @Override
+    public boolean marcarComoCompletada(int id) {
+        int posicion = indicePorId.obtener(id);
+        if (posicion == IndiceEnteros.AUSENTE) {
+            return false;
+        }
+        completadas.set(posicion);
+        return true;
+    }
+
+    @Override
+    public boolean eliminarTarea(int id) {
+        int posicion = indicePorId.eliminar(id);
+        if (posicion == IndiceEnteros.AUSENTE) {
+            return false;
+        }
+        quitar(posicion);
+        version++;
+        return true;
+    }
+
+    /**
+     * Elimina todas las tareas y reinicia el contador de IDs a 1.
+     * Las columnas conservan su capacidad; las vistas entregadas quedan desvinculadas.
+     */
+    @Override
+    public void limpiarTodas() {
+        super.limpiarTodas();
+        indicePorId.limpiar();
+        Arrays.fill(nombres, 0, cantidad, null);
+        Arrays.fill(extras, 0, cantidad, null);
+        completadas.clear();
+        notificaciones.clear();
+        cantidad = 0;
+        observador = crearObservador();
+        version++;
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    @Override
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        Tarea[] tareas = crearTareas(nombres, prioridades);
+        asegurarCapacidad(cantidad + tareas.length);
+        for (Tarea tarea : tareas) {
+            anexar(tarea);
+        }
+        version++;
+        return resultadoAlta(tareas);
+    }
+
+    /**
+     * Agrega varias tareas ya construidas, de cualquier tipo, copiando sus atributos a las
+     * columnas. Cada tarea recibe un ID nuevo y queda vinculada a su posición, igual que las
+     * devueltas por las consultas.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        Tarea[] lote = prepararLote(tareas);
+        asegurarCapacidad(cantidad + lote.length);
+        for (Tarea tarea : lote) {
+            anexar(tarea);
+            vincular(tarea);
+        }
+        version++;
+        return resultadoAlta(lote);
+    }
+
+    @Override
+    public ResultadoLote completarTareas(int[] ids) {
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.obtener(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                completadas.set(posicion);
+                exitosos.set(i);
+            }
+        }
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    @Override
+    public ResultadoLote eliminarTareas(int[] ids) {
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.eliminar(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                quitar(posicion);
+                exitosos.set(i);
+            }
+        }
+        if (!exitosos.isEmpty()) {
+            version++;
+        }
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene todas las tareas.
+     * Cada llamada materializa una vista nueva de cada tarea, por lo que con muchas
+     * tareas conviene preferir las consultas filtradas y las estadísticas.
+     *
+     * @return Lista inmutable con una vista de cada tarea
+     */
+    @Override
+    public List<Tarea> listarTareas() {
+        List<Tarea> tareas = new ArrayList<>(cantidad);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            tareas.add(materializar(posicion));
+        }
+        return Collections.unmodifiableList(tareas);
+    }
+
+    /**
+     * Recorre las tareas materializando cada vista solo al llegar a su posición, de modo
+     * que el recorrido usa memoria constante. Las bajas y las altas durante el recorrido lo
+     * interrumpen con {@link ConcurrentModificationException}.
+     *
+     * @return Vistas de las tareas, en el orden de {@link #listarTareas()}
+     */
+    @Override
+    Iterable<Tarea> recorrerTareas() {
+        return () -> new Iterator<Tarea>() {
+            private final long versionInicial = version;
+            private int posicion;
+
+            @Override
+            public boolean hasNext() {
+                return posicion < cantidad;
+            }
+
+            @Override
+            public Tarea next() {
+                if (version != versionInicial) {
+                    throw new ConcurrentModificationException();
+                }
+                if (posicion >= cantidad) {
+                    throw new NoSuchElementException();
+                }
+                return materializar(posicion++);
+            }
+        };
+    }
+
+    @Override
+    public long obtenerVersion() {
+        return version;
+    }
+
+    @Override
+    public Tarea buscarTareaPorId(int id) {
+        int posicion = indicePorId.obtener(id);
+        return posicion == IndiceEnteros.AUSENTE ? null : materializar(posicion);
+    }
+
+    /**
+     * Filtra las tareas con una prioridad específica recorriendo solo la columna de prioridades;
+     * únicamente se materializan las que coinciden.
+     *
+     * @param prioridad Nivel de prioridad a filtrar (1: Baja, 2: Media, 3: Alta)
+     * @return Lista inmutable con las tareas que coinciden con la prioridad
+     */
+    @Override
+    public List<Tarea> filtrarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return Collections.emptyList();
+        }
+        List<Tarea> tareas = new ArrayList<>();
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            if (prioridades[posicion] == prioridad) {
+                tareas.add(materializar(posicion));
+            }
+        }
+        return Collections.unmodifiableList(tareas);
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasCompletadas() {
+        List<Tarea> tareas = new ArrayList<>(completadas.cardinality());
+        for (int posicion = completadas.nextSetBit(0); posicion >= 0; posicion = completadas.nextSetBit(posicion + 1)) {
+            tareas.add(materializar(posicion));
+        }
+        return tareas;
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasPendientes() {
+        List<Tarea> tareas = new ArrayList<>(cantidad - completadas.cardinality());
+        for (int posicion = completadas.nextClearBit(0); posicion < cantidad; posicion = completadas.nextClearBit(posicion + 1)) {
+            tareas.add(materializar(posicion));
+        }
+        return tareas;
+    }
+
+    /**
+     * Obtiene las tareas urgentes vencidas recorriendo solo la columna de fechas límite;
+     * únicamente se materializan las que coinciden.
+     *
+     * @param ahora Instante de referencia
+     * @return Lista con las tareas urgentes vencidas, ordenadas por fecha límite
+     */
+    @Override
+    List<Tarea> vencidasAl(long ahora) {
+        // SIN_FECHA es el menor long, así que empezar en el siguiente excluye las tareas sin fecha
+        return limitesEnRango(TareaUrgente.SIN_FECHA + 1, ahora - 1, Integer.MAX_VALUE);
+    }
+
+    @Override
+    List<Tarea> vencenEntre(long desde, long hasta) {
+        return limitesEnRango(desde, hasta, Integer.MAX_VALUE);
+    }
+
+    @Override
+    List<Tarea> proximosVencimientos(long desde, int cantidad) {
+        return limitesEnRango(desde, Long.MAX_VALUE, cantidad);
+    }
+
+    /**
+     * Filtra las tareas normales de una categoría comparando por referencia la columna
+     * de extras; únicamente se materializan las que coinciden.
+     *
+     * @param categoria Categoría a filtrar (null filtra las tareas normales sin categoría)
+     * @return Lista con las tareas normales de esa categoría
+     */
+    @Override
+    public List<Tarea> filtrarPorCategoria(String categoria) {
+        return filtrarPorExtra(TIPO_NORMAL, categoria, TareaNormal.CATEGORIAS.buscar(categoria));
+    }
+
+    /**
+     * Filtra las tareas urgentes de un responsable comparando por referencia la columna
+     * de extras; únicamente se materializan las que coinciden.
+     *
+     * @param responsable Responsable a filtrar (null filtra las tareas urgentes sin responsable)
+     * @return Lista con las tareas urgentes de ese responsable
+     */
+    @Override
+    public List<Tarea> filtrarPorResponsable(String responsable) {
+        return filtrarPorExtra(TIPO_URGENTE, responsable, TareaUrgente.RESPONSABLES.buscar(responsable));
+    }
+
+    // ==================== ESTADÍSTICAS ====================
+
+    @Override
+    public int obtenerTotalTareas() {
+        return cantidad;
+    }
+
+    @Override
+    public int contarTareasCompletadas() {
+        return completadas.cardinality();
+    }
+
+    @Override
+    public int contarTareasPendientes() {
+        return cantidad - completadas.cardinality();
+    }
+
+    /**
+     * Cuenta las tareas con una prioridad específica recorriendo la columna de prioridades.
+     *
+     * @param prioridad Nivel de prioridad a contar
+     * @return Cantidad de tareas con esa prioridad
+     */
+    @Override
+    public int contarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return 0;
+        }
+        byte[] columna = prioridades;
+        int total = 0;
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            total += columna[posicion] == prioridad ? 1 : 0;
+        }
+        return total;
+    }
+
+    /**
+     * Cuenta las tareas urgentes cuyo nivel de criticidad es al menos el indicado,
+     * recorriendo las columnas de tipos y criticidades.
+     *
+     * @param nivelMinimo Nivel de criticidad mínimo (1-10)
+     * @return Cantidad de tareas urgentes con esa criticidad o mayor
+     */
+    public int contarUrgentesPorCriticidad(int nivelMinimo) {
+        byte[] columnaTipos = tipos;
+        byte[] columnaCriticidades = criticidades;
+        int total = 0;
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            total += columnaTipos[posicion] == TIPO_URGENTE && columnaCriticidades[posicion] >= nivelMinimo ? 1 : 0;
+        }
+        return total;
+    }
+
+    @Override
+    public double calcularPorcentajeCompletadas() {
+        return cantidad == 0 ? 0.0 : (completadas.cardinality() * 100.0) / cantidad;
+    }
+
+    @Override
+    public double calcularPorcentajePendientes() {
+        return cantidad == 0 ? 0.0 : ((cantidad - completadas.cardinality()) * 100.0) / cantidad;
+    }
+
+    @Override
+    public boolean estaVacia() {
+        return cantidad == 0;
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Amplía todas las columnas si no alcanzan para la cantidad indicada.
+     *
+     * @param necesaria Cantidad de tareas que deben caber
+     */
+    private void asegurarCapacidad(int necesaria) {
+        indicePorId.asegurarCapacidad(necesaria);
+        if (necesaria <= ids.length) {
+            return;
+        }
+        int capacidad = Math.max(necesaria, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacidad);
+        prioridades = Arrays.copyOf(prioridades, capacidad);
+        tipos = Arrays.copyOf(tipos, capacidad);
+        criticidades = Arrays.copyOf(criticidades, capacidad);
+        tiemposEstimados = Arrays.copyOf(tiemposEstimados, capacidad);
+        limites = Arrays.copyOf(limites, capacidad);
+        nombres = Arrays.copyOf(nombres, capacidad);
+        extras = Arrays.copyOf(extras, capacidad);
+    }
+
+    /**
+     * Copia una tarea a la siguiente posición libre y la agrega al índice.
+     * La capacidad debe haberse asegurado antes.
+     *
+     * @param tarea Tarea a copiar (su ID no debe estar en uso)
+     */
+    private void anexar(Tarea tarea) {
+        int posicion = cantidad++;
+        ids[posicion] = tarea.getId();
+        prioridades[posicion] = (byte) tarea.getPrioridad();
+        nombres[posicion] = tarea.getNombre().trim();
+        tipos[posicion] = tarea instanceof TareaUrgente ? TIPO_URGENTE
+                        : tarea instanceof TareaNormal ? TIPO_NORMAL : TIPO_TAREA;
+        completadas.set(posicion, tarea.isCompletado());
+        copiarAtributos(posicion, tarea);
+        indicePorId.poner(tarea.getId(), posicion);
+    }
+
+    /**
+     * Copia a las columnas los atributos propios de las subclases de una tarea.
+     *
+     * @param posicion Posición de la tarea
+     * @param tarea Tarea de la que se toman los valores
+     */
+    private void copiarAtributos(int posicion, Tarea tarea) {
+        byte criticidad = 0;
+        int tiempo = 0;
+        long limite = TareaUrgente.SIN_FECHA;
+        String extra = null;
+        boolean avisar = false;
+        if (tarea instanceof TareaUrgente) {
+            TareaUrgente urgente = (TareaUrgente) tarea;
+            criticidad = (byte) urgente.getNivelCriticidad();
+            limite = urgente.getFechaLimiteEpochNanos();
+            extra = urgente.getResponsable();
+            avisar = urgente.isNotificacionesActivas();
+        } else if (tarea instanceof TareaNormal) {
+            TareaNormal normal = (TareaNormal) tarea;
+            tiempo = normal.getTiempoEstimado();
+            extra = normal.getCategoria();
+        }
+        criticidades[posicion] = criticidad;
+        tiemposEstimados[posicion] = tiempo;
+        limites[posicion] = limite;
+        extras[posicion] = extra;
+        notificaciones.set(posicion, avisar);
+    }
+
+    /**
+     * Copia a su columna un único atributo de una tarea, para que una vista desactualizada
+     * no pise con sus valores los cambios hechos a través de otra.
+     *
+     * @param posicion Posición de la tarea
+     * @param tarea Tarea de la que se toma el valor
+     * @param atributo Atributo que cambió
+     */
+    private void copiarAtributo(int posicion, Tarea tarea, AtributoTarea atributo) {
+        switch (atributo) {
+            case CATEGORIA:
+                extras[posicion] = ((TareaNormal) tarea).getCategoria();
+                break;
+            case TIEMPO_ESTIMADO:
+                tiemposEstimados[posicion] = ((TareaNormal) tarea).getTiempoEstimado();
+                break;
+            case FECHA_LIMITE:
+                limites[posicion] = ((TareaUrgente) tarea).getFechaLimiteEpochNanos();
+                break;
+            case NOTIFICACIONES:
+                notificaciones.set(posicion, ((TareaUrgente) tarea).isNotificacionesActivas());
+                break;
+            case CRITICIDAD:
+                criticidades[posicion] = (byte) ((TareaUrgente) tarea).getNivelCriticidad();
+                break;
+            case RESPONSABLE:
+                extras[posicion] = ((TareaUrgente) tarea).getResponsable();
+                break;
+        }
+    }
+
+    /**
+     * Retira una tarea (cuyo ID ya se quitó del índice) moviendo la última a su lugar.
+     *
+     * @param posicion Posición de la tarea a retirar
+     */
+    private void quitar(int posicion) {
+        int ultima = --cantidad;
+        if (posicion != ultima) {
+            ids[posicion] = ids[ultima];
+            prioridades[posicion] = prioridades[ultima];
+            tipos[posicion] = tipos[ultima];
+            criticidades[posicion] = criticidades[ultima];
+            tiemposEstimados[posicion] = tiemposEstimados[ultima];
+            limites[posicion] = limites[ultima];
+            nombres[posicion] = nombres[ultima];
+            extras[posicion] = extras[ultima];
+            completadas.set(posicion, completadas.get(ultima));
+            notificaciones.set(posicion, notificaciones.get(ultima));
+            indicePorId.poner(ids[posicion], posicion);
+        }
+        nombres[ultima] = null;
+        extras[ultima] = null;
+        completadas.clear(ultima);
+        notificaciones.clear(ultima);
+    }
+
+    /**
+     * Recorre las columnas de tipos y extras buscando una instancia compartida.
+     *
+     * @param tipo Tipo de tarea al que corresponde el valor
+     * @param valor Valor buscado (puede ser null)
+     * @param compartido Instancia compartida del valor, o null si ninguna tarea lo usa
+     * @return Lista con una vista de cada tarea que coincide
+     */
+    private List<Tarea> filtrarPorExtra(byte tipo, String valor, String compartido) {
+        List<Tarea> tareas = new ArrayList<>();
+        if (valor != null && compartido == null) {
+            return tareas;
+        }
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            if (extras[posicion] == compartido && tipos[posicion] == tipo) {
+                tareas.add(materializar(posicion));
+            }
+        }
+        return tareas;
+    }
+
+    /**
+     * Busca las tareas con fecha límite dentro de un intervalo cerrado recorriendo la columna de fechas límite
+     * (sin índice ordenado) y materializa las primeras en vencer, seleccionadas con {@link SeleccionLimites}.
+     *
+     * @param desde Inicio del intervalo, incluido
+     * @param hasta Fin del intervalo, incluido
+     * @param maximo Número máximo de tareas a materializar
+     * @return Lista ordenada por fecha límite
+     */
+    private List<Tarea> limitesEnRango(long desde, long hasta, int maximo) {
+        SeleccionLimites seleccion = new SeleccionLimites(maximo);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            long limite = limites[posicion];
+            if (limite >= desde && limite <= hasta && limite != TareaUrgente.SIN_FECHA) {
+                seleccion.ofrecer(limite, posicion);
+            }
+        }
+        int[] seleccionadas = seleccion.posicionesOrdenadas();
+        List<Tarea> tareas = new ArrayList<>(seleccionadas.length);
+        for (int posicion : seleccionadas) {
+            tareas.add(materializar(posicion));
+        }
+        return tareas;
+    }
+
+    /**
+     * Crea la vista de una posición.
+     *
+     * @param posicion Posición de la tarea
+     * @return Tarea del tipo guardado, vinculada a su posición
+     */
+    private Tarea materializar(int posicion) {
+        int id = ids[posicion];
+        int prioridad = prioridades[posicion];
+        String nombre = nombres[posicion];
+
+        Tarea tarea;
+        switch (tipos[posicion]) {
+            case TIPO_NORMAL:
+                tarea = new TareaNormal(id, nombre, prioridad,
+                                        extras[posicion],
+                                        tiemposEstimados[posicion]);
+                break;
+            case TIPO_URGENTE: {
+                TareaUrgente urgente = new TareaUrgente(id, nombre, prioridad, null,
+                                                        criticidades[posicion],
+                                                        extras[posicion]);
+                urgente.setFechaLimiteEpochNanos(limites[posicion]);
+                urgente.setNotificacionesActivas(notificaciones.get(posicion));
+                tarea = urgente;
+                break;
+            }
+            default:
+                tarea = new Tarea(id, nombre, prioridad);
+        }
+        tarea.setCompletado(completadas.get(posicion));
+        return vincular(tarea);
+    }
+
+    /**
+     * Vincula una tarea con su posición para que sus setters escriban en las columnas.
+     *
+     * @param tarea Tarea cuyo ID ya figura en el índice
+     * @return La misma tarea
+     */
+    private Tarea vincular(Tarea tarea) {
+        tarea.idIndexado = tarea.getId();
+        tarea.observador = observador;
+        return tarea;
+    }
+
+    /**
+     * Obtiene la posición de una vista.
+     *
+     * @param tarea Vista entregada por este gestor
+     * @return Posición de la tarea, o {@link IndiceEnteros#AUSENTE} si la vista está desvinculada
+     */
+    private int posicionDe(Tarea tarea) {
+        if (tarea.observador != observador) {
+            return IndiceEnteros.AUSENTE;
+        }
+        return indicePorId.obtener(tarea.idIndexado);
+    }
+
+    /**
+     * Crea el observador que traslada a las columnas los cambios hechos con los setters de las vistas.
+     *
+     * @return Observador nuevo
+     */
+    private ObservadorTarea crearObservador() {
+        return new ObservadorTarea() {
+            @Override
+            public void idCambiado(Tarea tarea, int idAnterior) {
+                int posicion = posicionDe(tarea);
+                if (posicion == IndiceEnteros.AUSENTE) {
+                    return;
+                }
+                int id = tarea.getId();
+                if (indicePorId.obtener(id) != IndiceEnteros.AUSENTE) {
+                    throw new IllegalArgumentException("Ya existe una tarea con el ID " + id);
+                }
+                indicePorId.eliminar(tarea.idIndexado);
+                indicePorId.poner(id, posicion);
+                ids[posicion] = id;
+                tarea.idIndexado = id;
+                adelantarContador(id);
+            }
+
+            @Override
+            public void nombreCambiado(Tarea tarea, String nombreAnterior) {
+                int posicion = posicionDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    nombres[posicion] = tarea.getNombre();
+                }
+            }
+
+            @Override
+            public void prioridadCambiada(Tarea tarea, int prioridadAnterior) {
+                int posicion = posicionDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    prioridades[posicion] = (byte) tarea.getPrioridad();
+                }
+            }
+
+            @Override
+            public void estadoCambiado(Tarea tarea) {
+                int posicion = posicionDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    completadas.set(posicion, tarea.isCompletado());
+                }
+            }
+
+            @Override
+            public void atributoCambiado(Tarea tarea, AtributoTarea atributo) {
+                int posicion = posicionDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    copiarAtributo(posicion, tarea, atributo);
+                }
+            }
+        };
+    }
+}
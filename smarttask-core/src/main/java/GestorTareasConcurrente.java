@@ -0,0 +1,455 @@
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Variante de {@link GestorTareas} segura para ser compartida entre hilos.
+ * Conserva la misma API pública, por lo que puede usarse en cualquier lugar
+ * donde se espere un {@link GestorTareas}.
+ *
+ * <p>Estrategia de concurrencia:</p>
+ * <ul>
+ *   <li>Los IDs se reservan con un contador atómico, sin tomar ningún bloqueo</li>
+ *   <li>Las consultas y estadísticas comparten un bloqueo de lectura y no se bloquean entre sí</li>
+ *   <li>Las modificaciones toman el bloqueo de escritura solo para actualizar las estructuras</li>
+ *   <li>Los cambios hechos directamente sobre una tarea (setters) también se aplican
+ *       a los índices bajo el bloqueo de escritura</li>
+ * </ul>
+ *
+ * <p>Las listas devueltas son copias tomadas bajo el bloqueo de lectura, de modo que
+ * pueden recorrerse mientras otros hilos siguen modificando el gestor. Las tareas en
+ * sí no son objetos sincronizados: modificar la misma tarea desde varios hilos
+ * requiere coordinación externa.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see GestorTareas
+ */
+public class GestorTareasConcurrente extends GestorTareas {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Bloqueo de lectura/escritura del gestor.
+     */
+    private final ReentrantReadWriteLock bloqueo;
+
+    /**
+     * Bloqueo de lectura compartido por todas las consultas.
+     */
+    private final Lock lectura;
+
+    /**
+     * Bloqueo de escritura exclusivo para las modificaciones.
+     * Es reentrante porque las notificaciones de las tareas llegan
+     * mientras el propio gestor ya lo tiene tomado.
+     */
+    private final Lock escritura;
+
+    /**
+     * Número de veces que se ha ejecutado {@link #limpiarTodas()}.
+     * Permite detectar tareas creadas antes de un reinicio del contador de IDs.
+     */
+    private volatile int generacion;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Constructor que inicializa un gestor concurrente vacío.
+     */
+    public GestorTareasConcurrente() {
+        super();
+        this.bloqueo = new ReentrantReadWriteLock();
+        this.lectura = bloqueo.readLock();
+        this.escritura = bloqueo.writeLock();
+    }
+
+    // ==================== OPERACIONES CRUD ====================
+
+    /**
+     * Agrega una nueva tarea al sistema.
+     * La validación y la asignación del ID se realizan fuera del bloqueo;
+     * solo la incorporación a los índices es exclusiva.
+     *
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (1: Baja, 2: Media, 3: Alta)
+     * @return La tarea creada
+     * @throws IllegalArgumentException si el nombre es nulo/vacío o la prioridad es inválida
+     */
+    @Override
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        int generacionInicial = generacion;
+        Tarea nuevaTarea = crearTarea(nombre, prioridad);
+
+        escritura.lock();
+        try {
+            if (generacionInicial != generacion) {
+                // El contador se reinició mientras se creaba la tarea: su ID podría repetirse
+                nuevaTarea.id = siguienteId();
+            }
+            indexar(nuevaTarea);
+        } finally {
+            escritura.unlock();
+        }
+
+        return nuevaTarea;
+    }
+
+    @Override
+    public boolean marcarComoCompletada(int id) {
+        escritura.lock();
+        try {
+            return super.marcarComoCompletada(id);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public boolean eliminarTarea(int id) {
+        escritura.lock();
+        try {
+            return super.eliminarTarea(id);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public void limpiarTodas() {
+        escritura.lock();
+        try {
+            super.limpiarTodas();
+            // Se avanza después de reiniciar el contador: quien lea la generación nueva
+            // ya obtiene IDs del contador reiniciado
+            generacion++;
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    /**
+     * Agrega varias tareas tomando el bloqueo de escritura una sola vez.
+     * La validación y la creación de las tareas se realizan fuera del bloqueo.
+     *
+     * @param nombres Descripciones de las tareas
+     * @param prioridades Prioridad de cada tarea, en la misma posición que su nombre
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus entradas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        int generacionInicial = generacion;
+        return incorporarNuevas(crearTareas(nombres, prioridades), generacionInicial);
+    }
+
+    /**
+     * Agrega varias tareas ya construidas tomando el bloqueo de escritura una sola vez.
+     * La validación y la asignación de IDs se realizan fuera del bloqueo.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        int generacionInicial = generacion;
+        return incorporarNuevas(prepararLote(tareas), generacionInicial);
+    }
+
+    @Override
+    public ResultadoLote completarTareas(int[] ids) {
+        escritura.lock();
+        try {
+            return super.completarTareas(ids);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public ResultadoLote eliminarTareas(int[] ids) {
+        escritura.lock();
+        try {
+            return super.eliminarTareas(ids);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Incorpora bajo el bloqueo de escritura un lote de tareas recién creadas.
+     *
+     * @param tareas Tareas con IDs ya reservados
+     * @param generacionInicial Generación del contador antes de reservar los IDs
+     * @return Resultado con los IDs asignados
+     */
+    private ResultadoLote incorporarNuevas(Tarea[] tareas, int generacionInicial) {
+        escritura.lock();
+        try {
+            if (generacionInicial != generacion) {
+                // El contador se reinició mientras se creaban las tareas: se reserva un bloque nuevo
+                int primerId = reservarIds(tareas.length);
+                for (int i = 0; i < tareas.length; i++) {
+                    tareas[i].id = primerId + i;
+                }
+            }
+            indexarLote(tareas);
+        } finally {
+            escritura.unlock();
+        }
+
+        return resultadoAlta(tareas);
+    }
+
+    /**
+     * Incorpora bajo el bloqueo de escritura una tarea ya creada y con ID asignado.
+     *
+     * @param tarea Tarea a incorporar (su ID no debe estar en uso)
+     */
+    void incorporar(Tarea tarea) {
+        escritura.lock();
+        try {
+            indexar(tarea);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // ==================== CONSULTAS ====================
+
+    @Override
+    public List<Tarea> listarTareas() {
+        lectura.lock();
+        try {
+            return super.listarTareas();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public long obtenerVersion() {
+        lectura.lock();
+        try {
+            return super.obtenerVersion();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public Tarea buscarTareaPorId(int id) {
+        lectura.lock();
+        try {
+            return super.buscarTareaPorId(id);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Filtra y obtiene todas las tareas con una prioridad específica.
+     * A diferencia de {@link GestorTareas#filtrarPorPrioridad(int)}, devuelve una copia
+     * inmutable, porque una vista viva no puede recorrerse de forma segura
+     * mientras otros hilos modifican el gestor.
+     *
+     * @param prioridad Nivel de prioridad a filtrar (1: Baja, 2: Media, 3: Alta)
+     * @return Copia inmutable con las tareas que coinciden con la prioridad
+     */
+    @Override
+    public List<Tarea> filtrarPorPrioridad(int prioridad) {
+        lectura.lock();
+        try {
+            return List.copyOf(super.filtrarPorPrioridad(prioridad));
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasCompletadas() {
+        lectura.lock();
+        try {
+            return super.obtenerTareasCompletadas();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasPendientes() {
+        lectura.lock();
+        try {
+            return super.obtenerTareasPendientes();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    List<Tarea> vencidasAl(long ahora) {
+        lectura.lock();
+        try {
+            return super.vencidasAl(ahora);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    List<Tarea> vencenEntre(long desde, long hasta) {
+        lectura.lock();
+        try {
+            return super.vencenEntre(desde, hasta);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    List<Tarea> proximosVencimientos(long desde, int cantidad) {
+        lectura.lock();
+        try {
+            return super.proximosVencimientos(desde, cantidad);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    // ==================== ESTADÍSTICAS ====================
+
+    @Override
+    public int obtenerTotalTareas() {
+        lectura.lock();
+        try {
+            return super.obtenerTotalTareas();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public int contarTareasCompletadas() {
+        lectura.lock();
+        try {
+            return super.contarTareasCompletadas();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public int contarTareasPendientes() {
+        lectura.lock();
+        try {
+            return super.contarTareasPendientes();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public int contarPorPrioridad(int prioridad) {
+        lectura.lock();
+        try {
+            return super.contarPorPrioridad(prioridad);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public double calcularPorcentajeCompletadas() {
+        lectura.lock();
+        try {
+            return super.calcularPorcentajeCompletadas();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public double calcularPorcentajePendientes() {
+        lectura.lock();
+        try {
+            return super.calcularPorcentajePendientes();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    @Override
+    public boolean estaVacia() {
+        lectura.lock();
+        try {
+            return super.estaVacia();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el bloqueo de escritura, para las clases que coordinan varios gestores.
+     *
+     * @return Bloqueo de escritura reentrante de este gestor
+     */
+    Lock bloqueoEscritura() {
+        return escritura;
+    }
+
+    /**
+     * Indica si el hilo actual tiene tomado el bloqueo de escritura, es decir,
+     * si se está ejecutando dentro de una modificación del gestor.
+     *
+     * @return true si el hilo actual tiene el bloqueo de escritura
+     */
+    boolean escrituraTomadaPorHiloActual() {
+        return bloqueo.isWriteLockedByCurrentThread();
+    }
+
+    // ==================== NOTIFICACIONES DE TAREAS ====================
+
+    @Override
+    void idCambiado(Tarea tarea, int idAnterior) {
+        escritura.lock();
+        try {
+            super.idCambiado(tarea, idAnterior);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    void estadoCambiado(Tarea tarea) {
+        escritura.lock();
+        try {
+            super.estadoCambiado(tarea);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    void prioridadCambiada(Tarea tarea, int anterior) {
+        escritura.lock();
+        try {
+            super.prioridadCambiada(tarea, anterior);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    void atributosCambiados(Tarea tarea) {
+        escritura.lock();
+        try {
+            super.atributosCambiados(tarea);
+        } finally {
+            escritura.unlock();
+        }
+    }
+}
@@ -0,0 +1,685 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Variante concurrente de {@link GestorTareas} que reparte las tareas en N particiones
+ * según su ID. Cada partición tiene su propio bloqueo, su propio índice y sus propios
+ * contadores, de modo que las escrituras sobre IDs distintos rara vez compiten por el
+ * mismo bloqueo y el rendimiento de escritura crece con el número de hilos.
+ *
+ * <p>Características:</p>
+ * <ul>
+ *   <li>Los IDs se asignan con el contador atómico global; la partición es {@code id & (N - 1)}</li>
+ *   <li>Las operaciones por ID solo bloquean la partición correspondiente</li>
+ *   <li>Las estadísticas globales se calculan sumando las de cada partición</li>
+ *   <li>Las consultas globales combinan las copias de cada partición, ordenadas por ID</li>
+ *   <li>Las operaciones por lotes agrupan los IDs por partición y bloquean cada una una sola vez</li>
+ * </ul>
+ *
+ * <p>Las estadísticas globales no son una fotografía atómica: cada partición se lee
+ * por separado, por lo que con escrituras simultáneas pueden reflejar estados intermedios.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see GestorTareasConcurrente
+ */
+public class GestorTareasParticionado extends GestorTareas {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Particiones por procesador disponible cuando no se indica la cantidad.
+     */
+    private static final int PARTICIONES_POR_PROCESADOR = 4;
+
+    /**
+     * Orden de las tareas urgentes por fecha límite, para combinar los resultados de las particiones.
+     */
+    private static final Comparator<Tarea> POR_FECHA_LIMITE =
+        Comparator.comparingLong(tarea -> ((TareaUrgente) tarea).getFechaLimiteEpochNanos());
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Particiones del gestor; su cantidad es una potencia de 2.
+     */
+    private final Particion[] particiones;
+
+    /**
+     * Máscara para obtener el número de partición a partir del ID.
+     */
+    private final int mascara;
+
+    /**
+     * Última lista combinada publicada, junto con la versión con la que se construyó.
+     */
+    private volatile ListaVersionada instantanea;
+
+    /**
+     * Número de veces que se ha ejecutado {@link #limpiarTodas()}.
+     * Permite detectar tareas creadas antes de un reinicio del contador de IDs.
+     */
+    private volatile int generacion;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Constructor que crea un gestor con varias particiones por procesador disponible.
+     */
+    public GestorTareasParticionado() {
+        this(Runtime.getRuntime().availableProcessors() * PARTICIONES_POR_PROCESADOR);
+    }
+
+    /**
+     * Constructor que crea un gestor con al menos la cantidad de particiones indicada.
+     * La cantidad se redondea a la siguiente potencia de 2.
+     *
+     * @param cantidadParticiones Número mínimo de particiones
+     * @throws IllegalArgumentException si la cantidad no es positiva
+     */
+    public GestorTareasParticionado(int cantidadParticiones) {
+        super();
+        if (cantidadParticiones <= 0 || cantidadParticiones > (1 << 16)) {
+            throw new IllegalArgumentException("La cantidad de particiones debe estar entre 1 y 65536");
+        }
+        int cantidad = cantidadParticiones == 1 ? 1 : Integer.highestOneBit(cantidadParticiones - 1) << 1;
+        this.particiones = new Particion[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            particiones[i] = new Particion(i);
+        }
+        this.mascara = cantidad - 1;
+    }
+
+    // ==================== OPERACIONES CRUD ====================
+
+    /**
+     * Agrega una nueva tarea al sistema.
+     * Solo se bloquea la partición que corresponde al ID asignado.
+     *
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (1: Baja, 2: Media, 3: Alta)
+     * @return La tarea creada
+     * @throws IllegalArgumentException si el nombre es nulo/vacío o la prioridad es inválida
+     */
+    @Override
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        int generacionInicial = generacion;
+        Tarea nuevaTarea = crearTarea(nombre, prioridad);
+
+        while (!particionDe(nuevaTarea.getId()).incorporar(nuevaTarea, generacionInicial)) {
+            // El contador se reinició mientras se creaba la tarea: se le asigna un ID nuevo
+            generacionInicial = generacion;
+            nuevaTarea.id = siguienteId();
+        }
+
+        return nuevaTarea;
+    }
+
+    @Override
+    public boolean marcarComoCompletada(int id) {
+        return particionDe(id).marcarComoCompletada(id);
+    }
+
+    @Override
+    public boolean eliminarTarea(int id) {
+        return particionDe(id).eliminarTarea(id);
+    }
+
+    /**
+     * Limpia todas las tareas del sistema y reinicia el contador de IDs a 1.
+     * Bloquea todas las particiones en orden para que la operación sea atómica.
+     */
+    @Override
+    public void limpiarTodas() {
+        bloquearTodas();
+        try {
+            for (Particion particion : particiones) {
+                particion.limpiarTodas();
+            }
+            super.limpiarTodas();
+            // Se avanza después de reiniciar el contador: quien lea la generación nueva
+            // ya obtiene IDs del contador reiniciado
+            generacion++;
+        } finally {
+            desbloquearTodas();
+        }
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    /**
+     * Agrega varias tareas en una sola operación.
+     * Las tareas se agrupan por partición y cada partición afectada se bloquea una
+     * sola vez; los bloqueos se toman en orden, por lo que el lote completo aparece
+     * de forma atómica.
+     *
+     * @param nombres Descripciones de las tareas
+     * @param prioridades Prioridad de cada tarea, en la misma posición que su nombre
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus entradas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        int generacionInicial = generacion;
+        return incorporarNuevas(crearTareas(nombres, prioridades), generacionInicial);
+    }
+
+    /**
+     * Agrega varias tareas ya construidas, de cualquier tipo.
+     * Igual que el lote por nombres, bloquea cada partición afectada una sola vez.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        int generacionInicial = generacion;
+        return incorporarNuevas(prepararLote(tareas), generacionInicial);
+    }
+
+    /**
+     * Marca como completadas varias tareas, bloqueando cada partición afectada una sola vez.
+     *
+     * @param ids IDs de las tareas a completar
+     * @return Resultado que indica qué IDs se encontraron
+     * @throws IllegalArgumentException si el arreglo es nulo
+     */
+    @Override
+    public ResultadoLote completarTareas(int[] ids) {
+        return repartirLote(ids, true);
+    }
+
+    /**
+     * Elimina varias tareas, bloqueando cada partición afectada una sola vez.
+     *
+     * @param ids IDs de las tareas a eliminar
+     * @return Resultado que indica qué IDs se eliminaron
+     * @throws IllegalArgumentException si el arreglo es nulo
+     */
+    @Override
+    public ResultadoLote eliminarTareas(int[] ids) {
+        return repartirLote(ids, false);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene una instantánea inmutable con las tareas de todas las particiones,
+     * ordenadas por ID. Se reconstruye solo cuando alguna partición cambió de versión.
+     *
+     * @return Lista inmutable con todas las tareas
+     */
+    @Override
+    public List<Tarea> listarTareas() {
+        long versionActual = obtenerVersion();
+        ListaVersionada actual = instantanea;
+        if (actual != null && actual.version == versionActual) {
+            return actual.tareas;
+        }
+
+        // Las listas se toman después de leer la versión, así que nunca son más antiguas que ella
+        List<Tarea> tareas = new ArrayList<>(obtenerTotalTareas());
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.listarTareas());
+        }
+        tareas.sort(Comparator.comparingInt(Tarea::getId));
+        List<Tarea> inmutable = Collections.unmodifiableList(tareas);
+        instantanea = new ListaVersionada(versionActual, inmutable);
+        return inmutable;
+    }
+
+    /**
+     * Obtiene la versión del gestor como suma de las versiones de las particiones.
+     * Como cada versión solo crece, la suma cambia con cualquier modificación estructural.
+     *
+     * @return Número total de modificaciones estructurales
+     */
+    @Override
+    public long obtenerVersion() {
+        long total = 0;
+        for (Particion particion : particiones) {
+            total += particion.obtenerVersion();
+        }
+        return total;
+    }
+
+    @Override
+    public Tarea buscarTareaPorId(int id) {
+        return particionDe(id).buscarTareaPorId(id);
+    }
+
+    /**
+     * Filtra y obtiene todas las tareas con una prioridad específica.
+     * Combina las cubetas de cada partición en una copia inmutable.
+     *
+     * @param prioridad Nivel de prioridad a filtrar (1: Baja, 2: Media, 3: Alta)
+     * @return Copia inmutable con las tareas que coinciden con la prioridad
+     */
+    @Override
+    public List<Tarea> filtrarPorPrioridad(int prioridad) {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.filtrarPorPrioridad(prioridad));
+        }
+        return Collections.unmodifiableList(tareas);
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasCompletadas() {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.obtenerTareasCompletadas());
+        }
+        return tareas;
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasPendientes() {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.obtenerTareasPendientes());
+        }
+        return tareas;
+    }
+
+    /**
+     * Combina las tareas vencidas de cada partición, todas evaluadas con el mismo instante.
+     *
+     * @param ahora Instante de referencia
+     * @return Lista con las tareas urgentes vencidas, ordenadas por fecha límite
+     */
+    @Override
+    List<Tarea> vencidasAl(long ahora) {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.vencidasAl(ahora));
+        }
+        tareas.sort(POR_FECHA_LIMITE);
+        return tareas;
+    }
+
+    @Override
+    List<Tarea> vencenEntre(long desde, long hasta) {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.vencenEntre(desde, hasta));
+        }
+        tareas.sort(POR_FECHA_LIMITE);
+        return tareas;
+    }
+
+    /**
+     * Toma las primeras tareas de cada partición y se queda con las primeras del conjunto:
+     * las próximas del gestor están necesariamente entre las próximas de su partición.
+     *
+     * @param desde Instante de referencia, incluido
+     * @param cantidad Número máximo de tareas
+     * @return Lista con a lo sumo {@code cantidad} tareas urgentes, ordenadas por fecha límite
+     */
+    @Override
+    List<Tarea> proximosVencimientos(long desde, int cantidad) {
+        List<Tarea> tareas = new ArrayList<>();
+        for (Particion particion : particiones) {
+            tareas.addAll(particion.proximosVencimientos(desde, cantidad));
+        }
+        tareas.sort(POR_FECHA_LIMITE);
+        return tareas.size() > cantidad ? new ArrayList<>(tareas.subList(0, cantidad)) : tareas;
+    }
+
+    // ==================== ESTADÍSTICAS ====================
+
+    @Override
+    public int obtenerTotalTareas() {
+        int total = 0;
+        for (Particion particion : particiones) {
+            total += particion.obtenerTotalTareas();
+        }
+        return total;
+    }
+
+    @Override
+    public int contarTareasCompletadas() {
+        int total = 0;
+        for (Particion particion : particiones) {
+            total += particion.contarTareasCompletadas();
+        }
+        return total;
+    }
+
+    @Override
+    public int contarTareasPendientes() {
+        int total = 0;
+        for (Particion particion : particiones) {
+            total += particion.contarTareasPendientes();
+        }
+        return total;
+    }
+
+    @Override
+    public int contarPorPrioridad(int prioridad) {
+        int total = 0;
+        for (Particion particion : particiones) {
+            total += particion.contarPorPrioridad(prioridad);
+        }
+        return total;
+    }
+
+    @Override
+    public double calcularPorcentajeCompletadas() {
+        int total = 0;
+        int completadas = 0;
+        for (Particion particion : particiones) {
+            total += particion.obtenerTotalTareas();
+            completadas += particion.contarTareasCompletadas();
+        }
+        return total == 0 ? 0.0 : (completadas * 100.0) / total;
+    }
+
+    @Override
+    public double calcularPorcentajePendientes() {
+        int total = 0;
+        int completadas = 0;
+        for (Particion particion : particiones) {
+            total += particion.obtenerTotalTareas();
+            completadas += particion.contarTareasCompletadas();
+        }
+        return total == 0 ? 0.0 : ((total - completadas) * 100.0) / total;
+    }
+
+    @Override
+    public boolean estaVacia() {
+        for (Particion particion : particiones) {
+            if (!particion.estaVacia()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene la cantidad de particiones del gestor.
+     *
+     * @return Número de particiones (potencia de 2)
+     */
+    public int obtenerCantidadParticiones() {
+        return particiones.length;
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Obtiene la partición que almacena el ID indicado.
+     *
+     * @param id ID de la tarea
+     * @return Partición correspondiente
+     */
+    private Particion particionDe(int id) {
+        return particiones[id & mascara];
+    }
+
+    /**
+     * Ordena las posiciones de un lote de IDs agrupándolas por partición (ordenamiento por conteo).
+     *
+     * @param ids IDs del lote
+     * @param inicio Arreglo de tamaño particiones + 1 que recibe, para cada partición,
+     *               dónde empieza su grupo dentro del resultado
+     * @return Posiciones del lote agrupadas por partición
+     */
+    private int[] agruparPorParticion(int[] ids, int[] inicio) {
+        for (int id : ids) {
+            inicio[(id & mascara) + 1]++;
+        }
+        for (int p = 0; p < particiones.length; p++) {
+            inicio[p + 1] += inicio[p];
+        }
+        int[] siguiente = Arrays.copyOf(inicio, particiones.length);
+        int[] orden = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            orden[siguiente[ids[i] & mascara]++] = i;
+        }
+        return orden;
+    }
+
+    /**
+     * Incorpora un lote de tareas recién creadas, reasignando sus IDs si el contador
+     * se reinició mientras se creaban.
+     *
+     * @param tareas Tareas con IDs ya reservados
+     * @param generacionInicial Generación del contador antes de reservar los IDs
+     * @return Resultado con los IDs asignados
+     */
+    private ResultadoLote incorporarNuevas(Tarea[] tareas, int generacionInicial) {
+        while (!incorporarLote(tareas, generacionInicial)) {
+            // El contador se reinició mientras se creaban las tareas: se reserva un bloque nuevo
+            generacionInicial = generacion;
+            int primerId = reservarIds(tareas.length);
+            for (int i = 0; i < tareas.length; i++) {
+                tareas[i].id = primerId + i;
+            }
+        }
+        return resultadoAlta(tareas);
+    }
+
+    /**
+     * Incorpora un lote de tareas con ID asignado si el gestor no se limpió desde que se crearon.
+     * Bloquea en orden creciente todas las particiones afectadas antes de incorporar ninguna tarea.
+     *
+     * @param tareas Tareas a incorporar
+     * @param generacionEsperada Generación leída antes de crear las tareas
+     * @return true si se incorporaron, false si las tareas necesitan IDs nuevos
+     */
+    private boolean incorporarLote(Tarea[] tareas, int generacionEsperada) {
+        int[] ids = new int[tareas.length];
+        for (int i = 0; i < tareas.length; i++) {
+            ids[i] = tareas[i].getId();
+        }
+        int[] inicio = new int[particiones.length + 1];
+        int[] orden = agruparPorParticion(ids, inicio);
+
+        int bloqueadas = 0;
+        try {
+            for (; bloqueadas < particiones.length; bloqueadas++) {
+                if (inicio[bloqueadas + 1] > inicio[bloqueadas]) {
+                    particiones[bloqueadas].bloqueoEscritura().lock();
+                }
+            }
+            if (generacionEsperada != generacion) {
+                return false;
+            }
+            for (int p = 0; p < particiones.length; p++) {
+                Tarea[] grupo = new Tarea[inicio[p + 1] - inicio[p]];
+                for (int j = 0; j < grupo.length; j++) {
+                    grupo[j] = tareas[orden[inicio[p] + j]];
+                }
+                particiones[p].indexarLote(grupo);
+            }
+            return true;
+        } finally {
+            for (int p = bloqueadas - 1; p >= 0; p--) {
+                if (inicio[p + 1] > inicio[p]) {
+                    particiones[p].bloqueoEscritura().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reparte un lote de IDs entre las particiones y combina sus resultados
+     * en el orden de entrada.
+     *
+     * @param ids IDs del lote
+     * @param completar true para completar las tareas, false para eliminarlas
+     * @return Resultado combinado del lote
+     * @throws IllegalArgumentException si el arreglo es nulo
+     */
+    private ResultadoLote repartirLote(int[] ids, boolean completar) {
+        validarLote(ids);
+        int[] inicio = new int[particiones.length + 1];
+        int[] orden = agruparPorParticion(ids, inicio);
+        BitSet exitosos = new BitSet(ids.length);
+
+        for (int p = 0; p < particiones.length; p++) {
+            int[] grupo = new int[inicio[p + 1] - inicio[p]];
+            if (grupo.length == 0) {
+                continue;
+            }
+            for (int j = 0; j < grupo.length; j++) {
+                grupo[j] = ids[orden[inicio[p] + j]];
+            }
+            ResultadoLote parcial = completar
+                ? particiones[p].completarTareas(grupo)
+                : particiones[p].eliminarTareas(grupo);
+            for (int j = 0; j < grupo.length; j++) {
+                if (parcial.fueExitoso(j)) {
+                    exitosos.set(orden[inicio[p] + j]);
+                }
+            }
+        }
+
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    /**
+     * Toma el bloqueo de escritura de todas las particiones en orden creciente.
+     */
+    private void bloquearTodas() {
+        for (Particion particion : particiones) {
+            particion.bloqueoEscritura().lock();
+        }
+    }
+
+    /**
+     * Libera el bloqueo de escritura de todas las particiones en orden inverso.
+     */
+    private void desbloquearTodas() {
+        for (int i = particiones.length - 1; i >= 0; i--) {
+            particiones[i].bloqueoEscritura().unlock();
+        }
+    }
+
+    // ==================== CLASES INTERNAS ====================
+
+    /**
+     * Lista combinada inmutable asociada a la versión con la que se construyó.
+     */
+    private static final class ListaVersionada {
+
+        /**
+         * Suma de versiones de las particiones al construir la lista.
+         */
+        private final long version;
+
+        /**
+         * Tareas de todas las particiones, ordenadas por ID.
+         */
+        private final List<Tarea> tareas;
+
+        /**
+         * Crea una lista versionada.
+         *
+         * @param version Versión del gestor
+         * @param tareas Lista inmutable de tareas
+         */
+        ListaVersionada(long version, List<Tarea> tareas) {
+            this.version = version;
+            this.tareas = tareas;
+        }
+    }
+
+    /**
+     * Partición del gestor: un gestor concurrente con su propio bloqueo y contadores,
+     * que además traslada las tareas a otra partición cuando su ID cambia.
+     */
+    private final class Particion extends GestorTareasConcurrente {
+
+        /**
+         * Posición de la partición, usada para ordenar la toma de bloqueos.
+         */
+        private final int numero;
+
+        /**
+         * Crea una partición vacía.
+         *
+         * @param numero Posición de la partición en el arreglo
+         */
+        Particion(int numero) {
+            this.numero = numero;
+        }
+
+        /**
+         * Incorpora una tarea si el gestor no se limpió desde que se creó.
+         *
+         * @param tarea Tarea a incorporar
+         * @param generacionEsperada Generación leída antes de crear la tarea
+         * @return true si se incorporó, false si la tarea necesita un ID nuevo
+         */
+        boolean incorporar(Tarea tarea, int generacionEsperada) {
+            Lock escritura = bloqueoEscritura();
+            escritura.lock();
+            try {
+                if (generacionEsperada != GestorTareasParticionado.this.generacion) {
+                    return false;
+                }
+                indexar(tarea);
+                return true;
+            } finally {
+                escritura.unlock();
+            }
+        }
+
+        /**
+         * Actualiza los índices cuando una tarea de esta partición cambia de ID.
+         * Si el nuevo ID corresponde a otra partición, la tarea se traslada allí,
+         * bloqueando ambas particiones en orden para evitar interbloqueos.
+         *
+         * @param tarea Tarea cuyo ID cambió
+         * @param idAnterior ID que tenía la tarea antes del cambio
+         * @throws IllegalArgumentException si el nuevo ID ya pertenece a otra tarea
+         */
+        @Override
+        void idCambiado(Tarea tarea, int idAnterior) {
+            int id = tarea.getId();
+            Particion destino = particionDe(id);
+            if (destino == this) {
+                super.idCambiado(tarea, idAnterior);
+                adelantarContadorGlobal(id);
+                return;
+            }
+
+            Particion primera = numero < destino.numero ? this : destino;
+            Particion segunda = primera == this ? destino : this;
+            primera.bloqueoEscritura().lock();
+            segunda.bloqueoEscritura().lock();
+            try {
+                if (buscarTareaPorId(tarea.idIndexado) != tarea || tarea.idIndexado == id) {
+                    return;
+                }
+                if (destino.buscarTareaPorId(id) != null) {
+                    throw new IllegalArgumentException("Ya existe una tarea con el ID " + id);
+                }
+                eliminarTarea(tarea.idIndexado);
+                destino.indexar(tarea);
+                adelantarContadorGlobal(id);
+            } finally {
+                segunda.bloqueoEscritura().unlock();
+                primera.bloqueoEscritura().unlock();
+            }
+        }
+
+        /**
+         * Adelanta el contador de IDs del gestor particionado.
+         *
+         * @param id ID ya utilizado por alguna tarea
+         */
+        private void adelantarContadorGlobal(int id) {
+            GestorTareasParticionado.this.adelantarContador(id);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+import java.util.Arrays;
+
+/**
+ * Tabla hash de claves y valores enteros primitivos con direccionamiento abierto.
+ * Se utiliza como índice secundario de {@link GestorTareas} para resolver
+ * el ID de una tarea a su posición en la lista en tiempo constante.
+ *
+ * <p>Características de la implementación:</p>
+ * <ul>
+ *   <li>Sondeo lineal sobre arreglos {@code int[]}: no se crean objetos por entrada</li>
+ *   <li>Eliminación por desplazamiento hacia atrás, sin marcas de borrado</li>
+ *   <li>La clave 0 se almacena aparte porque se usa como marca de celda vacía</li>
+ * </ul>
+ *
+ * <p>Los valores deben ser no negativos; {@link #AUSENTE} indica que la clave no existe.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndiceEnteros {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Valor devuelto cuando una clave no está en el índice.
+     */
+    static final int AUSENTE = -1;
+
+    /**
+     * Capacidad mínima de la tabla (potencia de 2).
+     */
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Claves almacenadas; 0 representa una celda libre.
+     */
+    private int[] claves;
+
+    /**
+     * Valores asociados a cada clave, en la misma posición.
+     */
+    private int[] valores;
+
+    /**
+     * Máscara para reducir el hash al tamaño de la tabla.
+     */
+    private int mascara;
+
+    /**
+     * Número de entradas almacenadas en la tabla (sin contar la clave 0).
+     */
+    private int ocupadas;
+
+    /**
+     * Cantidad de entradas a partir de la cual la tabla se duplica.
+     */
+    private int umbral;
+
+    /**
+     * Indica si la clave 0 está presente.
+     */
+    private boolean tieneClaveCero;
+
+    /**
+     * Valor asociado a la clave 0.
+     */
+    private int valorClaveCero;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un índice vacío con la capacidad mínima.
+     */
+    IndiceEnteros() {
+        this(CAPACIDAD_MINIMA);
+    }
+
+    /**
+     * Crea un índice vacío dimensionado para la cantidad de entradas indicada.
+     *
+     * @param entradasEsperadas Número de entradas que se espera almacenar
+     */
+    IndiceEnteros(int entradasEsperadas) {
+        asignarTabla(capacidadPara(entradasEsperadas));
+    }
+
+    // ==================== OPERACIONES ====================
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param clave Clave a buscar
+     * @return El valor asociado o {@link #AUSENTE} si la clave no existe
+     */
+    int obtener(int clave) {
+        if (clave == 0) {
+            return tieneClaveCero ? valorClaveCero : AUSENTE;
+        }
+        int i = mezclar(clave) & mascara;
+        int actual;
+        while ((actual = claves[i]) != 0) {
+            if (actual == clave) {
+                return valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return AUSENTE;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el anterior si existía.
+     *
+     * @param clave Clave a insertar
+     * @param valor Valor no negativo a asociar
+     */
+    void poner(int clave, int valor) {
+        if (clave == 0) {
+            tieneClaveCero = true;
+            valorClaveCero = valor;
+            return;
+        }
+        int i = mezclar(clave) & mascara;
+        int actual;
+        while ((actual = claves[i]) != 0) {
+            if (actual == clave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        claves[i] = clave;
+        valores[i] = valor;
+        if (++ocupadas > umbral) {
+            redimensionar(claves.length << 1);
+        }
+    }
+
+    /**
+     * Elimina una clave del índice.
+     * Las entradas posteriores del mismo grupo se desplazan hacia atrás
+     * para que la tabla nunca quede con huecos intermedios.
+     *
+     * @param clave Clave a eliminar
+     * @return El valor que tenía asociado o {@link #AUSENTE} si no existía
+     */
+    int eliminar(int clave) {
+        if (clave == 0) {
+            if (!tieneClaveCero) {
+                return AUSENTE;
+            }
+            tieneClaveCero = false;
+            return valorClaveCero;
+        }
+        int i = mezclar(clave) & mascara;
+        int actual;
+        while ((actual = claves[i]) != 0) {
+            if (actual == clave) {
+                int anterior = valores[i];
+                desplazarHaciaAtras(i);
+                ocupadas--;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        return AUSENTE;
+    }
+
+    /**
+     * Reserva espacio para la cantidad total de entradas indicada,
+     * evitando redimensionamientos sucesivos en cargas masivas.
+     *
+     * @param entradas Número total de entradas esperadas
+     */
+    void asegurarCapacidad(int entradas) {
+        int capacidad = capacidadPara(entradas);
+        if (capacidad > claves.length) {
+            redimensionar(capacidad);
+        }
+    }
+
+    /**
+     * Elimina todas las entradas conservando la capacidad actual.
+     */
+    void limpiar() {
+        Arrays.fill(claves, 0);
+        ocupadas = 0;
+        tieneClaveCero = false;
+    }
+
+    /**
+     * Obtiene la cantidad de entradas del índice.
+     *
+     * @return Número de claves almacenadas
+     */
+    int tamanio() {
+        return ocupadas + (tieneClaveCero ? 1 : 0);
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Cierra el hueco dejado en la posición indicada moviendo hacia atrás
+     * las entradas cuyo sondeo pasaba por ella.
+     *
+     * @param hueco Posición que acaba de quedar libre
+     */
+    private void desplazarHaciaAtras(int hueco) {
+        int i = hueco;
+        while (true) {
+            i = (i + 1) & mascara;
+            int clave = claves[i];
+            if (clave == 0) {
+                break;
+            }
+            int ideal = mezclar(clave) & mascara;
+            // La entrada puede ocupar el hueco si su posición ideal no está entre el hueco y ella
+            if (((i - ideal) & mascara) >= ((i - hueco) & mascara)) {
+                claves[hueco] = clave;
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        claves[hueco] = 0;
+    }
+
+    /**
+     * Reconstruye la tabla con una nueva capacidad.
+     *
+     * @param capacidad Nueva capacidad (potencia de 2)
+     */
+    private void redimensionar(int capacidad) {
+        int[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        asignarTabla(capacidad);
+        for (int j = 0; j < clavesAnteriores.length; j++) {
+            int clave = clavesAnteriores[j];
+            if (clave != 0) {
+                int i = mezclar(clave) & mascara;
+                while (claves[i] != 0) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clave;
+                valores[i] = valoresAnteriores[j];
+            }
+        }
+    }
+
+    /**
+     * Crea arreglos vacíos de la capacidad indicada y recalcula máscara y umbral.
+     * Conserva el número de entradas ocupadas.
+     *
+     * @param capacidad Capacidad de la tabla (potencia de 2)
+     */
+    private void asignarTabla(int capacidad) {
+        claves = new int[capacidad];
+        valores = new int[capacidad];
+        mascara = capacidad - 1;
+        umbral = (int) (capacidad * 0.75f);
+    }
+
+    /**
+     * Calcula la potencia de 2 necesaria para almacenar las entradas
+     * manteniendo un factor de carga máximo de 0,75.
+     *
+     * @param entradas Número de entradas
+     * @return Capacidad de la tabla
+     */
+    private static int capacidadPara(int entradas) {
+        long necesaria = Math.max(CAPACIDAD_MINIMA, (long) Math.ceil(entradas / 0.75));
+        if (necesaria > (1 << 30)) {
+            throw new IllegalStateException("El índice no admite tantas entradas: " + entradas);
+        }
+        return Integer.highestOneBit((int) necesaria - 1) << 1;
+    }
+
+    /**
+     * Dispersa los bits de la clave para evitar agrupamientos con IDs consecutivos.
+     *
+     * @param clave Clave a dispersar
+     * @return Hash mezclado
+     */
+    private static int mezclar(int clave) {
+        int h = clave * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.List;
+
+/**
+ * Informe de un lote ejecutado por {@link EjecutorRoboTrabajo}: cuántas acciones terminaron
+ * en cada estado, cuánto trabajo se robó y cómo se repartió la carga entre los trabajadores.
+ *
+ * <p>La carga se mide con el mismo costo estimado que guía la división del lote. El
+ * desequilibrio es la carga del trabajador más ocupado dividida por la carga media: 1.0
+ * indica un reparto perfecto y {@code n} (el número de trabajadores) que uno solo hizo todo.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class InformeEjecucionParalela {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Cantidad de acciones del lote.
+     */
+    private final int total;
+
+    /**
+     * Acciones por estado, indexadas por {@link EstadoEjecucion#ordinal()}.
+     */
+    private final int[] porEstado;
+
+    /**
+     * Excepciones lanzadas por las acciones fallidas.
+     */
+    private final List<Throwable> errores;
+
+    /**
+     * Tramos hoja en los que se dividió el lote.
+     */
+    private final int tramos;
+
+    /**
+     * Tramos ejecutados por un trabajador distinto del que los bifurcó.
+     */
+    private final long robos;
+
+    /**
+     * Acciones ejecutadas por cada trabajador.
+     */
+    private final int[] accionesPorTrabajador;
+
+    /**
+     * Costo estimado ejecutado por cada trabajador.
+     */
+    private final long[] costoPorTrabajador;
+
+    /**
+     * Nanosegundos que tardó el lote completo.
+     */
+    private final long duracionNanos;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea el informe de un lote. Los arreglos no se copian: el informe pasa a ser su único dueño.
+     *
+     * @param total Cantidad de acciones
+     * @param porEstado Acciones por estado
+     * @param errores Excepciones de las acciones fallidas
+     * @param tramos Tramos hoja
+     * @param robos Tramos robados
+     * @param accionesPorTrabajador Acciones por trabajador
+     * @param costoPorTrabajador Costo por trabajador
+     * @param duracionNanos Duración del lote
+     */
+    InformeEjecucionParalela(int total, int[] porEstado, List<Throwable> errores, int tramos, long robos,
+                             int[] accionesPorTrabajador, long[] costoPorTrabajador, long duracionNanos) {
+        this.total = total;
+        this.porEstado = porEstado;
+        this.errores = errores;
+        this.tramos = tramos;
+        this.robos = robos;
+        this.accionesPorTrabajador = accionesPorTrabajador;
+        this.costoPorTrabajador = costoPorTrabajador;
+        this.duracionNanos = duracionNanos;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene la cantidad de acciones del lote.
+     *
+     * @return Tamaño del lote
+     */
+    public int obtenerTotal() {
+        return total;
+    }
+
+    /**
+     * Cuenta las acciones que terminaron en un estado.
+     *
+     * @param estado Estado a contar
+     * @return Número de acciones en ese estado
+     */
+    public int contar(EstadoEjecucion estado) {
+        return porEstado[estado.ordinal()];
+    }
+
+    /**
+     * Obtiene las excepciones lanzadas por las acciones fallidas.
+     *
+     * @return Lista inmodificable de excepciones
+     */
+    public List<Throwable> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Cuenta los tramos hoja en los que se dividió el lote.
+     *
+     * @return Número de tramos
+     */
+    public int contarTramos() {
+        return tramos;
+    }
+
+    /**
+     * Cuenta los tramos que ejecutó un trabajador distinto del que los bifurcó.
+     *
+     * @return Número de robos de trabajo
+     */
+    public long contarRobos() {
+        return robos;
+    }
+
+    /**
+     * Obtiene las acciones ejecutadas por cada trabajador, incluidos los que no ejecutaron ninguna.
+     *
+     * @return Copia del arreglo de acciones por trabajador
+     */
+    public int[] getAccionesPorTrabajador() {
+        return accionesPorTrabajador.clone();
+    }
+
+    /**
+     * Obtiene el costo estimado ejecutado por cada trabajador, en el mismo orden que
+     * {@link #getAccionesPorTrabajador()}.
+     *
+     * @return Copia del arreglo de costos por trabajador
+     */
+    public long[] getCostoPorTrabajador() {
+        return costoPorTrabajador.clone();
+    }
+
+    /**
+     * Calcula el desequilibrio de la carga: costo máximo de un trabajador sobre el costo medio.
+     *
+     * @return 1.0 si el reparto es perfecto (o el lote está vacío); mayor cuanto más desigual
+     */
+    public double calcularDesequilibrio() {
+        long maximo = 0;
+        long suma = 0;
+        for (long costo : costoPorTrabajador) {
+            maximo = Math.max(maximo, costo);
+            suma += costo;
+        }
+        if (suma == 0) {
+            return 1.0;
+        }
+        return (double) maximo * costoPorTrabajador.length / suma;
+    }
+
+    /**
+     * Obtiene el tiempo que tardó el lote completo.
+     *
+     * @return Nanosegundos de ejecución
+     */
+    public long getDuracionNanos() {
+        return duracionNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InformeEjecucionParalela{total=%d, completadas=%d, rechazadas=%d, fallidas=%d, "
+                             + "tramos=%d, robos=%d, desequilibrio=%.2f}",
+                             total, contar(EstadoEjecucion.COMPLETADA), contar(EstadoEjecucion.RECHAZADA),
+                             contar(EstadoEjecucion.FALLIDA), tramos, robos, calcularDesequilibrio());
+    }
+}
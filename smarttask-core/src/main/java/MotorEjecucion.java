@@ -0,0 +1,230 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Motor que ejecuta acciones {@link Accionable} en paralelo sobre hilos virtuales,
+ * con un límite de acciones en ejecución simultánea y un tiempo límite por acción.
+ *
+ * <p>Cada acción enviada recibe un hilo virtual coordinador que:</p>
+ * <ol>
+ *   <li>Invoca {@link Accionable#validar()}; si devuelve false, la acción queda
+ *       {@link EstadoEjecucion#RECHAZADA} sin ejecutarse.</li>
+ *   <li>Espera un cupo de concurrencia.</li>
+ *   <li>Ejecuta {@link Accionable#ejecutar()} en otro hilo virtual y espera su fin hasta
+ *       el tiempo límite. Si lo supera, interrumpe ese hilo, invoca
+ *       {@link Accionable#cancelar()} y la acción queda {@link EstadoEjecucion#VENCIDA}.</li>
+ * </ol>
+ *
+ * <p>Como los hilos virtuales liberan su hilo de plataforma al bloquearse en E/S,
+ * el rendimiento con acciones que esperan (red, disco, {@code sleep}) crece con el
+ * límite de concurrencia y no con el número de núcleos. El cupo de una acción vencida
+ * se libera cuando su {@code ejecutar()} termina de verdad: si la acción ignora la
+ * interrupción, sigue ocupando su cupo, de modo que el límite nunca se excede.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MotorEjecucion implements AutoCloseable {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Número máximo de acciones ejecutándose a la vez.
+     */
+    private final int concurrenciaMaxima;
+
+    /**
+     * Tiempo límite de ejecución de cada acción.
+     */
+    private final Duration limitePorTarea;
+
+    /**
+     * Cupos de ejecución disponibles.
+     */
+    private final Semaphore cupos;
+
+    /**
+     * Ejecutor de los hilos coordinadores: un hilo virtual por acción.
+     */
+    private final ExecutorService coordinadores;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un motor de ejecución.
+     *
+     * @param concurrenciaMaxima Número máximo de acciones ejecutándose a la vez
+     * @param limitePorTarea Tiempo límite de ejecución de cada acción
+     * @throws IllegalArgumentException si la concurrencia es menor que 1 o el límite no es positivo
+     */
+    public MotorEjecucion(int concurrenciaMaxima, Duration limitePorTarea) {
+        if (concurrenciaMaxima < 1) {
+            throw new IllegalArgumentException("La concurrencia máxima debe ser al menos 1");
+        }
+        if (limitePorTarea == null || limitePorTarea.isZero() || limitePorTarea.isNegative()) {
+            throw new IllegalArgumentException("El límite por tarea debe ser positivo");
+        }
+        this.concurrenciaMaxima = concurrenciaMaxima;
+        this.limitePorTarea = limitePorTarea;
+        this.cupos = new Semaphore(concurrenciaMaxima);
+        this.coordinadores = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    /**
+     * Envía una acción al motor sin esperar su resultado.
+     *
+     * @param accion Acción a ejecutar
+     * @return Futuro con el resultado de la acción
+     * @throws IllegalArgumentException si la acción es null
+     * @throws java.util.concurrent.RejectedExecutionException si el motor está cerrado
+     */
+    public Future<ResultadoEjecucion> enviar(Accionable accion) {
+        if (accion == null) {
+            throw new IllegalArgumentException("La acción no puede ser null");
+        }
+        long enviada = System.nanoTime();
+        return coordinadores.submit(() -> coordinar(accion, enviada));
+    }
+
+    /**
+     * Ejecuta todas las acciones y espera sus resultados.
+     *
+     * @param acciones Acciones a ejecutar
+     * @return Resultados en el mismo orden que las acciones
+     * @throws IllegalArgumentException si la lista o alguna acción es null
+     * @throws InterruptedException si el hilo se interrumpe mientras espera
+     */
+    public List<ResultadoEjecucion> ejecutarTodas(List<? extends Accionable> acciones) throws InterruptedException {
+        if (acciones == null) {
+            throw new IllegalArgumentException("La lista de acciones no puede ser null");
+        }
+        for (Accionable accion : acciones) {
+            if (accion == null) {
+                throw new IllegalArgumentException("Las acciones no pueden ser null");
+            }
+        }
+        List<Future<ResultadoEjecucion>> pendientes = new ArrayList<>(acciones.size());
+        for (Accionable accion : acciones) {
+            pendientes.add(enviar(accion));
+        }
+        List<ResultadoEjecucion> resultados = new ArrayList<>(acciones.size());
+        try {
+            for (Future<ResultadoEjecucion> pendiente : pendientes) {
+                resultados.add(pendiente.get());
+            }
+        } catch (ExecutionException e) {
+            // coordinar() captura los errores de la acción; sólo puede fallar si su hilo se interrumpe
+            throw new IllegalStateException("Se interrumpió la coordinación de una acción", e.getCause());
+        } catch (InterruptedException e) {
+            for (Future<ResultadoEjecucion> pendiente : pendientes) {
+                pendiente.cancel(true);
+            }
+            throw e;
+        }
+        return resultados;
+    }
+
+    /**
+     * Valida, espera un cupo y ejecuta una acción con tiempo límite.
+     *
+     * @param accion Acción a ejecutar
+     * @param enviada Instante de envío en nanosegundos de {@link System#nanoTime()}
+     * @return Resultado de la acción
+     * @throws InterruptedException si el coordinador se interrumpe
+     */
+    private ResultadoEjecucion coordinar(Accionable accion, long enviada) throws InterruptedException {
+        try {
+            if (!accion.validar()) {
+                return new ResultadoEjecucion(accion, EstadoEjecucion.RECHAZADA, System.nanoTime() - enviada, 0, null);
+            }
+        } catch (RuntimeException e) {
+            return new ResultadoEjecucion(accion, EstadoEjecucion.FALLIDA, System.nanoTime() - enviada, 0, e);
+        }
+
+        cupos.acquire();
+        long inicio = System.nanoTime();
+        Throwable[] fallo = new Throwable[1];
+        // Un hilo iniciado siempre ejecuta su finally, así que el cupo no se pierde
+        Thread ejecucion = Thread.ofVirtual().start(() -> {
+            try {
+                accion.ejecutar();
+            } catch (Throwable e) {
+                fallo[0] = e;
+            } finally {
+                cupos.release();
+            }
+        });
+
+        boolean terminada;
+        try {
+            terminada = ejecucion.join(limitePorTarea);
+        } catch (InterruptedException e) {
+            ejecucion.interrupt();
+            throw e;
+        }
+        if (!terminada) {
+            ejecucion.interrupt();
+            Throwable errorCancelacion = null;
+            try {
+                accion.cancelar();
+            } catch (RuntimeException e) {
+                errorCancelacion = e;
+            }
+            return new ResultadoEjecucion(accion, EstadoEjecucion.VENCIDA, inicio - enviada,
+                                          System.nanoTime() - inicio, errorCancelacion);
+        }
+        long duracion = System.nanoTime() - inicio;
+        // join() establece happens-before con todo lo escrito por el hilo de ejecución
+        EstadoEjecucion estado = fallo[0] == null ? EstadoEjecucion.COMPLETADA : EstadoEjecucion.FALLIDA;
+        return new ResultadoEjecucion(accion, estado, inicio - enviada, duracion, fallo[0]);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene el número máximo de acciones ejecutándose a la vez.
+     *
+     * @return Concurrencia máxima
+     */
+    public int getConcurrenciaMaxima() {
+        return concurrenciaMaxima;
+    }
+
+    /**
+     * Obtiene el tiempo límite de ejecución de cada acción.
+     *
+     * @return Límite por tarea
+     */
+    public Duration getLimitePorTarea() {
+        return limitePorTarea;
+    }
+
+    /**
+     * Cuenta las acciones cuyo {@code ejecutar()} está en curso en este momento,
+     * incluidas las vencidas que aún no terminaron.
+     *
+     * @return Número de cupos ocupados
+     */
+    public int contarEnEjecucion() {
+        return concurrenciaMaxima - cupos.availablePermits();
+    }
+
+    // ==================== CIERRE ====================
+
+    /**
+     * Deja de aceptar acciones y espera a que terminen las ya enviadas.
+     */
+    @Override
+    public void close() {
+        coordinadores.close();
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Interfaz que recibe los cambios realizados sobre una {@link Tarea}.
+ * Permite que el gestor propietario de la tarea mantenga al día sus índices
+ * y contadores sin tener que reconstruirlos periódicamente.
+ *
+ * <p>Cada tarea admite un único observador, que el gestor registra al agregarla
+ * y retira al eliminarla. Las notificaciones se realizan con llamadas directas,
+ * sin crear objetos de evento, y solo cuando el valor realmente cambia.
+ * Todos los métodos tienen una implementación vacía por defecto.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see Tarea
+ * @see GestorTareas
+ */
+public interface ObservadorTarea {
+
+    /**
+     * Se invoca después de cambiar el ID de la tarea.
+     * El observador puede lanzar una excepción para rechazar el cambio;
+     * en ese caso la tarea recupera su ID anterior.
+     *
+     * @param tarea Tarea modificada (ya con el nuevo ID)
+     * @param idAnterior ID que tenía la tarea antes del cambio
+     * @throws IllegalArgumentException si el nuevo ID no es aceptable para el observador
+     */
+    default void idCambiado(Tarea tarea, int idAnterior) {
+    }
+
+    /**
+     * Se invoca después de cambiar el nombre de la tarea.
+     *
+     * @param tarea Tarea modificada
+     * @param nombreAnterior Nombre que tenía la tarea antes del cambio
+     */
+    default void nombreCambiado(Tarea tarea, String nombreAnterior) {
+    }
+
+    /**
+     * Se invoca después de cambiar la prioridad de la tarea.
+     *
+     * @param tarea Tarea modificada
+     * @param prioridadAnterior Prioridad que tenía la tarea antes del cambio
+     */
+    default void prioridadCambiada(Tarea tarea, int prioridadAnterior) {
+    }
+
+    /**
+     * Se invoca después de que la tarea pasa de pendiente a completada o viceversa.
+     *
+     * @param tarea Tarea modificada
+     */
+    default void estadoCambiado(Tarea tarea) {
+    }
+
+    /**
+     * Se invoca después de cambiar un atributo propio de una subclase
+     * (categoría, tiempo estimado, fecha límite, criticidad, responsable, etc.).
+     *
+     * @param tarea Tarea modificada
+     * @param atributo Atributo que cambió
+     */
+    default void atributoCambiado(Tarea tarea, AtributoTarea atributo) {
+    }
+}
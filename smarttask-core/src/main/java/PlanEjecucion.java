@@ -0,0 +1,247 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan de ejecución construido por {@link PlanificadorEjecucion}: a qué trabajador se asigna
+ * cada tarea y en qué minuto comienza, suponiendo que cada trabajador ejecuta sus tareas
+ * una tras otra desde el minuto 0.
+ *
+ * <p>Las tareas se consultan por posición en el orden de despacho (el orden del criterio).
+ * Los tiempos están en minutos, la misma unidad que {@link TareaNormal#getTiempoEstimado()}.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PlanEjecucion {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Criterio con el que se ordenaron las tareas.
+     */
+    private final PlanificadorEjecucion.Criterio criterio;
+
+    /**
+     * Tareas en orden de despacho.
+     */
+    private final Tarea[] tareas;
+
+    /**
+     * Duración estimada de cada tarea, por posición.
+     */
+    private final int[] duraciones;
+
+    /**
+     * Trabajador asignado a cada tarea, por posición.
+     */
+    private final int[] asignaciones;
+
+    /**
+     * Minuto de inicio de cada tarea, por posición.
+     */
+    private final long[] inicios;
+
+    /**
+     * Minutos de trabajo asignados a cada trabajador.
+     */
+    private final long[] cargas;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un plan. Los arreglos no se copian: el plan pasa a ser su único dueño.
+     *
+     * @param criterio Criterio de orden
+     * @param tareas Tareas en orden de despacho
+     * @param duraciones Duración de cada tarea
+     * @param asignaciones Trabajador de cada tarea
+     * @param inicios Minuto de inicio de cada tarea
+     * @param cargas Carga de cada trabajador
+     */
+    PlanEjecucion(PlanificadorEjecucion.Criterio criterio, Tarea[] tareas, int[] duraciones,
+                  int[] asignaciones, long[] inicios, long[] cargas) {
+        this.criterio = criterio;
+        this.tareas = tareas;
+        this.duraciones = duraciones;
+        this.asignaciones = asignaciones;
+        this.inicios = inicios;
+        this.cargas = cargas;
+    }
+
+    // ==================== CONSULTAS POR TAREA ====================
+
+    /**
+     * Obtiene la cantidad de tareas planificadas.
+     *
+     * @return Número de tareas
+     */
+    public int obtenerTotal() {
+        return tareas.length;
+    }
+
+    /**
+     * Obtiene la tarea en una posición del orden de despacho.
+     *
+     * @param posicion Posición, de 0 a {@code obtenerTotal() - 1}
+     * @return Tarea en esa posición
+     * @throws IllegalArgumentException si la posición está fuera de rango
+     */
+    public Tarea obtenerTarea(int posicion) {
+        return tareas[validarPosicion(posicion)];
+    }
+
+    /**
+     * Obtiene el trabajador asignado a la tarea en una posición.
+     *
+     * @param posicion Posición en el orden de despacho
+     * @return Índice del trabajador, de 0 a {@code getTrabajadores() - 1}
+     * @throws IllegalArgumentException si la posición está fuera de rango
+     */
+    public int obtenerTrabajador(int posicion) {
+        return asignaciones[validarPosicion(posicion)];
+    }
+
+    /**
+     * Obtiene el minuto en que comienza la tarea en una posición.
+     *
+     * @param posicion Posición en el orden de despacho
+     * @return Minuto de inicio
+     * @throws IllegalArgumentException si la posición está fuera de rango
+     */
+    public long obtenerInicio(int posicion) {
+        return inicios[validarPosicion(posicion)];
+    }
+
+    /**
+     * Obtiene el minuto en que termina la tarea en una posición.
+     *
+     * @param posicion Posición en el orden de despacho
+     * @return Minuto de fin
+     * @throws IllegalArgumentException si la posición está fuera de rango
+     */
+    public long obtenerFin(int posicion) {
+        int i = validarPosicion(posicion);
+        return inicios[i] + duraciones[i];
+    }
+
+    // ==================== CONSULTAS POR TRABAJADOR ====================
+
+    /**
+     * Obtiene el número de trabajadores del plan.
+     *
+     * @return Número de trabajadores
+     */
+    public int getTrabajadores() {
+        return cargas.length;
+    }
+
+    /**
+     * Obtiene las tareas de un trabajador en el orden en que debe ejecutarlas.
+     *
+     * @param trabajador Índice del trabajador
+     * @return Lista de tareas del trabajador
+     * @throws IllegalArgumentException si el trabajador está fuera de rango
+     */
+    public List<Tarea> obtenerSecuencia(int trabajador) {
+        validarTrabajador(trabajador);
+        List<Tarea> secuencia = new ArrayList<>();
+        for (int i = 0; i < tareas.length; i++) {
+            if (asignaciones[i] == trabajador) {
+                secuencia.add(tareas[i]);
+            }
+        }
+        return secuencia;
+    }
+
+    /**
+     * Obtiene los minutos de trabajo asignados a un trabajador.
+     *
+     * @param trabajador Índice del trabajador
+     * @return Carga del trabajador
+     * @throws IllegalArgumentException si el trabajador está fuera de rango
+     */
+    public long obtenerCarga(int trabajador) {
+        return cargas[validarTrabajador(trabajador)];
+    }
+
+    // ==================== MÉTRICAS ====================
+
+    /**
+     * Obtiene el criterio con el que se ordenaron las tareas.
+     *
+     * @return Criterio del plan
+     */
+    public PlanificadorEjecucion.Criterio getCriterio() {
+        return criterio;
+    }
+
+    /**
+     * Obtiene el tiempo total del plan (makespan): el minuto en que termina el último trabajador.
+     *
+     * @return Makespan en minutos
+     */
+    public long obtenerMakespan() {
+        long maximo = 0;
+        for (long carga : cargas) {
+            maximo = Math.max(maximo, carga);
+        }
+        return maximo;
+    }
+
+    /**
+     * Calcula una cota inferior del makespan óptimo: el mayor entre el reparto perfecto
+     * del trabajo total y la tarea más larga.
+     *
+     * @return Cota inferior en minutos
+     */
+    public long calcularCotaInferior() {
+        long total = 0;
+        long masLarga = 0;
+        for (int duracion : duraciones) {
+            total += duracion;
+            masLarga = Math.max(masLarga, duracion);
+        }
+        return Math.max(Math.ceilDiv(total, cargas.length), masLarga);
+    }
+
+    /**
+     * Calcula la suma de los minutos de finalización de las tareas ponderados por su
+     * importancia, la métrica que minimiza {@link PlanificadorEjecucion.Criterio#MAS_VALIOSA_PRIMERO}.
+     *
+     * @return Suma ponderada de los tiempos de finalización
+     */
+    public long calcularFinalizacionPonderada() {
+        long suma = 0;
+        for (int i = 0; i < tareas.length; i++) {
+            suma += PlanificadorEjecucion.peso(tareas[i]) * (inicios[i] + duraciones[i]);
+        }
+        return suma;
+    }
+
+    /**
+     * Verifica que una posición exista en el plan.
+     */
+    private int validarPosicion(int posicion) {
+        if (posicion < 0 || posicion >= tareas.length) {
+            throw new IllegalArgumentException("Posición fuera de rango: " + posicion);
+        }
+        return posicion;
+    }
+
+    /**
+     * Verifica que un trabajador exista en el plan.
+     */
+    private int validarTrabajador(int trabajador) {
+        if (trabajador < 0 || trabajador >= cargas.length) {
+            throw new IllegalArgumentException("Trabajador fuera de rango: " + trabajador);
+        }
+        return trabajador;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanEjecucion{" + criterio + ", tareas=" + tareas.length + ", trabajadores=" + cargas.length
+               + ", makespan=" + obtenerMakespan() + " min}";
+    }
+}
@@ -0,0 +1,223 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Construye planes de ejecución que reparten tareas pendientes entre N trabajadores
+ * usando su duración estimada.
+ *
+ * <p>La duración de una tarea es su costo en {@link EjecutorRoboTrabajo#costo(Accionable)}:
+ * el {@link TareaNormal#getTiempoEstimado() tiempo estimado} en minutos de una tarea normal
+ * (al menos 1) o {@link EjecutorRoboTrabajo#COSTO_DEFECTO} para las demás. Según el
+ * {@link Criterio} se ordenan las tareas y luego cada una se asigna, en ese orden, al
+ * trabajador que queda libre primero.</p>
+ *
+ * <p>El orden se obtiene ordenando un arreglo de claves {@code long} que empaquetan la
+ * clave de orden y la posición de la tarea, y el trabajador libre se busca en un montículo
+ * de enteros: planificar n tareas cuesta O(n log n) sin crear objetos por tarea, lo que
+ * permite planificar cientos de miles de tareas en milisegundos.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PlanificadorEjecucion {
+
+    // ==================== CRITERIOS ====================
+
+    /**
+     * Criterio con el que se ordenan las tareas antes de asignarlas.
+     */
+    public enum Criterio {
+
+        /**
+         * Primero la tarea más larga (<i>longest processing time first</i>). Minimiza el
+         * tiempo total del plan (makespan): nunca supera 4/3 del óptimo.
+         */
+        MAS_LARGA_PRIMERO,
+
+        /**
+         * Primero la de mayor importancia por minuto (<i>weighted shortest job first</i>):
+         * ordena por {@link Accionable#obtenerNivelImportancia() importancia} dividida por
+         * duración, lo que minimiza la suma de los tiempos de finalización ponderados por importancia.
+         */
+        MAS_VALIOSA_PRIMERO
+    }
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Número de trabajadores entre los que se reparten las tareas.
+     */
+    private final int trabajadores;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un planificador para un número dado de trabajadores.
+     *
+     * @param trabajadores Número de trabajadores
+     * @throws IllegalArgumentException si hay menos de un trabajador
+     */
+    public PlanificadorEjecucion(int trabajadores) {
+        if (trabajadores < 1) {
+            throw new IllegalArgumentException("Debe haber al menos un trabajador");
+        }
+        this.trabajadores = trabajadores;
+    }
+
+    // ==================== PLANIFICACIÓN ====================
+
+    /**
+     * Planifica las tareas pendientes de un gestor.
+     *
+     * @param gestor Gestor del que se toman las tareas pendientes
+     * @param criterio Criterio de orden
+     * @return Plan de ejecución
+     * @throws IllegalArgumentException si el gestor o el criterio es null
+     */
+    public PlanEjecucion planificar(GestorTareas gestor, Criterio criterio) {
+        if (gestor == null) {
+            throw new IllegalArgumentException("El gestor no puede ser null");
+        }
+        return planificar(gestor.obtenerTareasPendientes(), criterio);
+    }
+
+    /**
+     * Planifica una lista de tareas.
+     *
+     * @param tareas Tareas a planificar
+     * @param criterio Criterio de orden
+     * @return Plan de ejecución
+     * @throws IllegalArgumentException si la lista, alguna tarea o el criterio es null
+     */
+    public PlanEjecucion planificar(List<? extends Tarea> tareas, Criterio criterio) {
+        if (tareas == null) {
+            throw new IllegalArgumentException("La lista de tareas no puede ser null");
+        }
+        if (criterio == null) {
+            throw new IllegalArgumentException("El criterio no puede ser null");
+        }
+        int n = tareas.size();
+        Tarea[] entrada = tareas.toArray(new Tarea[0]);
+        int[] duraciones = new int[n];
+        long[] claves = new long[n];
+        for (int i = 0; i < n; i++) {
+            Tarea tarea = entrada[i];
+            if (tarea == null) {
+                throw new IllegalArgumentException("Las tareas no pueden ser null");
+            }
+            duraciones[i] = duracion(tarea);
+            claves[i] = ((long) claveOrden(tarea, duraciones[i], criterio) << 32) | i;
+        }
+        // Orden ascendente por clave y, a igualdad, por posición de entrada
+        Arrays.sort(claves);
+
+        Tarea[] orden = new Tarea[n];
+        int[] duracionEnOrden = new int[n];
+        int[] trabajadorEnOrden = new int[n];
+        long[] inicioEnOrden = new long[n];
+        long[] cargas = new long[trabajadores];
+        int[] monticulo = new int[trabajadores];
+        for (int t = 0; t < trabajadores; t++) {
+            monticulo[t] = t;
+        }
+        for (int k = 0; k < n; k++) {
+            int i = (int) claves[k];
+            int libre = monticulo[0];
+            orden[k] = entrada[i];
+            duracionEnOrden[k] = duraciones[i];
+            trabajadorEnOrden[k] = libre;
+            inicioEnOrden[k] = cargas[libre];
+            cargas[libre] += duraciones[i];
+            hundir(monticulo, cargas);
+        }
+        return new PlanEjecucion(criterio, orden, duracionEnOrden, trabajadorEnOrden, inicioEnOrden, cargas);
+    }
+
+    /**
+     * Obtiene el número de trabajadores del planificador.
+     *
+     * @return Número de trabajadores
+     */
+    public int getTrabajadores() {
+        return trabajadores;
+    }
+
+    // ==================== AUXILIARES ====================
+
+    /**
+     * Estima la duración de una tarea en minutos.
+     *
+     * @param tarea Tarea a estimar
+     * @return Duración estimada, al menos 1
+     */
+    static int duracion(Tarea tarea) {
+        long costo = tarea instanceof Accionable accion
+            ? EjecutorRoboTrabajo.costo(accion)
+            : EjecutorRoboTrabajo.COSTO_DEFECTO;
+        return (int) Math.min(costo, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtiene la importancia de una tarea, usada como peso por {@link Criterio#MAS_VALIOSA_PRIMERO}.
+     *
+     * @param tarea Tarea a evaluar
+     * @return Nivel de importancia si la tarea es accionable o su prioridad si no; al menos 1
+     */
+    static int peso(Tarea tarea) {
+        int peso = tarea instanceof Accionable accion ? accion.obtenerNivelImportancia() : tarea.getPrioridad();
+        return Math.max(1, peso);
+    }
+
+    /**
+     * Calcula la clave de orden de 31 bits de una tarea: menor clave, antes en el plan.
+     *
+     * @param tarea Tarea a ordenar
+     * @param duracion Duración estimada de la tarea
+     * @param criterio Criterio de orden
+     * @return Clave no negativa
+     */
+    private static int claveOrden(Tarea tarea, int duracion, Criterio criterio) {
+        if (criterio == Criterio.MAS_LARGA_PRIMERO) {
+            return Integer.MAX_VALUE - duracion;
+        }
+        // Los bits de un float positivo conservan su orden como enteros
+        float valorPorMinuto = (float) peso(tarea) / duracion;
+        return Integer.MAX_VALUE - Float.floatToIntBits(valorPorMinuto);
+    }
+
+    /**
+     * Restaura el montículo de trabajadores después de que creció la carga de la raíz.
+     * Ordena por carga y, a igualdad, por índice de trabajador.
+     *
+     * @param monticulo Montículo de índices de trabajadores
+     * @param cargas Carga acumulada de cada trabajador
+     */
+    private static void hundir(int[] monticulo, long[] cargas) {
+        int n = monticulo.length;
+        int posicion = 0;
+        int trabajador = monticulo[0];
+        while (true) {
+            int hijo = 2 * posicion + 1;
+            if (hijo >= n) {
+                break;
+            }
+            if (hijo + 1 < n && antes(monticulo[hijo + 1], monticulo[hijo], cargas)) {
+                hijo++;
+            }
+            if (!antes(monticulo[hijo], trabajador, cargas)) {
+                break;
+            }
+            monticulo[posicion] = monticulo[hijo];
+            posicion = hijo;
+        }
+        monticulo[posicion] = trabajador;
+    }
+
+    /**
+     * Indica si un trabajador queda libre antes que otro.
+     */
+    private static boolean antes(int a, int b, long[] cargas) {
+        return cargas[a] < cargas[b] || (cargas[a] == cargas[b] && a < b);
+    }
+}
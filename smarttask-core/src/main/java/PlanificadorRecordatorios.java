@@ -0,0 +1,501 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Planificador de recordatorios para tareas urgentes basado en una rueda de tiempo jerárquica.
+ * Cada tarea con notificaciones activas y fecha límite recibe un recordatorio que vence una
+ * anticipación fija antes de su fecha límite; al vencer se ejecuta la acción configurada
+ * (por defecto {@link TareaUrgente#enviarNotificacion()}).
+ *
+ * <p>Características de la implementación:</p>
+ * <ul>
+ *   <li>El tiempo avanza en pasos de una resolución fija. La rueda tiene {@value #NIVELES}
+ *       niveles de {@value #RANURAS} ranuras: el nivel {@code n} agrupa los recordatorios que
+ *       vencen dentro de {@code 256^(n+1)} pasos, y al completar una vuelta de un nivel su
+ *       siguiente ranura del nivel superior se redistribuye en los inferiores</li>
+ *   <li>Programar y cancelar son de tiempo constante: cada recordatorio es un nodo de una
+ *       lista doblemente enlazada por ranura, y la tarea guarda la posición de su nodo</li>
+ *   <li>Los nodos viven en arreglos primitivos paralelos con una lista de nodos libres, sin
+ *       un objeto por recordatorio, para sostener millones de recordatorios con poca memoria</li>
+ *   <li>Un recordatorio más lejano que el alcance de la rueda se ubica en la última ranura
+ *       alcanzable y se vuelve a ubicar cada vez que esa ranura se redistribuye</li>
+ * </ul>
+ *
+ * <p>El planificador no tiene hilos propios: {@link #avanzar()} procesa los pasos transcurridos
+ * y debe invocarse periódicamente (por ejemplo, desde un {@code ScheduledExecutorService}).
+ * Las acciones se ejecutan en el hilo que avanza, fuera del bloqueo, por lo que pueden volver
+ * a programar tareas. Cancelar la tarea ({@link TareaUrgente#cancelar()}), desactivar sus
+ * notificaciones o cambiar su fecha límite actualiza su recordatorio automáticamente.</p>
+ *
+ * <p>Es seguro para compartir entre hilos. Una tarea solo puede estar programada en un
+ * planificador a la vez.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TareaUrgente
+ */
+public class PlanificadorRecordatorios {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Cantidad de niveles de la rueda.
+     */
+    static final int NIVELES = 4;
+
+    /**
+     * Bits del número de paso que corresponden a cada nivel.
+     */
+    private static final int BITS_POR_NIVEL = 8;
+
+    /**
+     * Ranuras de cada nivel.
+     */
+    static final int RANURAS = 1 << BITS_POR_NIVEL;
+
+    private static final int MASCARA = RANURAS - 1;
+
+    /**
+     * Cantidad de pasos que abarca la rueda completa.
+     */
+    private static final long ALCANCE = 1L << (BITS_POR_NIVEL * NIVELES);
+
+    /**
+     * Marca de ausencia de nodo en los enlaces.
+     */
+    static final int SIN_NODO = -1;
+
+    /**
+     * Capacidad inicial de los arreglos de nodos.
+     */
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    /**
+     * Resolución por defecto: un segundo.
+     */
+    private static final Duration RESOLUCION_DEFECTO = Duration.ofSeconds(1);
+
+    /**
+     * Anticipación por defecto del recordatorio respecto de la fecha límite: una hora.
+     */
+    private static final Duration ANTICIPACION_DEFECTO = Duration.ofHours(1);
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Duración de un paso, en nanosegundos.
+     */
+    private final long resolucion;
+
+    /**
+     * Anticipación del recordatorio respecto de la fecha límite, en nanosegundos.
+     */
+    private final long anticipacion;
+
+    /**
+     * Acción que se ejecuta al vencer cada recordatorio.
+     */
+    private final Consumer<TareaUrgente> accion;
+
+    /**
+     * Primer nodo de cada ranura ({@code nivel * RANURAS + ranura}), o {@link #SIN_NODO}.
+     */
+    private final int[] cabezas = new int[NIVELES * RANURAS];
+
+    // Nodos: la posición i de cada arreglo describe el nodo i
+
+    /**
+     * Paso en el que vence cada recordatorio.
+     */
+    private long[] vencimientos;
+
+    /**
+     * Siguiente nodo de la misma ranura, o siguiente nodo libre.
+     */
+    private int[] siguientes;
+
+    /**
+     * Nodo anterior de la misma ranura.
+     */
+    private int[] anteriores;
+
+    /**
+     * Ranura en la que está enlazado cada nodo.
+     */
+    private int[] ranuras;
+
+    /**
+     * Tarea de cada nodo; null en los nodos libres.
+     */
+    private TareaUrgente[] tareas;
+
+    /**
+     * Primer nodo libre, o {@link #SIN_NODO}.
+     */
+    private int libre = SIN_NODO;
+
+    /**
+     * Cantidad de nodos usados alguna vez (los siguientes nunca se asignaron).
+     */
+    private int usados;
+
+    /**
+     * Cantidad de recordatorios programados.
+     */
+    private int programados;
+
+    /**
+     * Último paso procesado.
+     */
+    private long pasoActual;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un planificador con resolución de un segundo que envía la notificación
+     * de cada tarea una hora antes de su fecha límite.
+     */
+    public PlanificadorRecordatorios() {
+        this(RESOLUCION_DEFECTO, ANTICIPACION_DEFECTO, TareaUrgente::enviarNotificacion);
+    }
+
+    /**
+     * Crea un planificador que comienza en el instante actual.
+     *
+     * @param resolucion Duración de cada paso de la rueda
+     * @param anticipacion Cuánto antes de la fecha límite vence el recordatorio
+     * @param accion Acción que se ejecuta al vencer cada recordatorio
+     * @throws IllegalArgumentException si la resolución no es positiva, la anticipación
+     *         es negativa o la acción es nula
+     */
+    public PlanificadorRecordatorios(Duration resolucion, Duration anticipacion, Consumer<TareaUrgente> accion) {
+        this(nanos(resolucion, "La resolución"), nanos(anticipacion, "La anticipación"),
+             TareaUrgente.instanteActual(), accion);
+    }
+
+    /**
+     * Crea un planificador que comienza en un instante dado.
+     *
+     * @param resolucion Duración de cada paso, en nanosegundos
+     * @param anticipacion Anticipación del recordatorio, en nanosegundos
+     * @param inicio Instante inicial, en la escala de {@link TareaUrgente#instanteActual()}
+     * @param accion Acción que se ejecuta al vencer cada recordatorio
+     * @throws IllegalArgumentException si algún parámetro es inválido
+     */
+    PlanificadorRecordatorios(long resolucion, long anticipacion, long inicio, Consumer<TareaUrgente> accion) {
+        if (resolucion <= 0) {
+            throw new IllegalArgumentException("La resolución debe ser positiva");
+        }
+        if (anticipacion < 0) {
+            throw new IllegalArgumentException("La anticipación no puede ser negativa");
+        }
+        if (accion == null) {
+            throw new IllegalArgumentException("La acción no puede ser nula");
+        }
+        this.resolucion = resolucion;
+        this.anticipacion = anticipacion;
+        this.accion = accion;
+        this.pasoActual = Math.floorDiv(inicio, resolucion);
+        Arrays.fill(cabezas, SIN_NODO);
+        vencimientos = new long[CAPACIDAD_INICIAL];
+        siguientes = new int[CAPACIDAD_INICIAL];
+        anteriores = new int[CAPACIDAD_INICIAL];
+        ranuras = new int[CAPACIDAD_INICIAL];
+        tareas = new TareaUrgente[CAPACIDAD_INICIAL];
+    }
+
+    // ==================== OPERACIONES ====================
+
+    /**
+     * Programa (o reprograma) el recordatorio de una tarea a partir de su fecha límite actual.
+     * Si la tarea no tiene notificaciones activas o no tiene fecha límite, se cancela el
+     * recordatorio que tuviera. Un recordatorio cuyo momento ya pasó vence en el siguiente paso.
+     *
+     * @param tarea Tarea urgente
+     * @return true si la tarea quedó programada
+     * @throws IllegalArgumentException si la tarea es nula o está programada en otro planificador
+     */
+    public synchronized boolean programar(TareaUrgente tarea) {
+        if (tarea == null) {
+            throw new IllegalArgumentException("La tarea no puede ser nula");
+        }
+        if (tarea.planificador != null && tarea.planificador != this) {
+            throw new IllegalArgumentException("La tarea ya está programada en otro planificador");
+        }
+        long limite = tarea.getFechaLimiteEpochNanos();
+        if (!tarea.isNotificacionesActivas() || limite == TareaUrgente.SIN_FECHA) {
+            cancelar(tarea);
+            return false;
+        }
+
+        int nodo;
+        if (tarea.planificador == this) {
+            nodo = tarea.recordatorio;
+            desenlazar(nodo);
+        } else {
+            nodo = reservarNodo();
+            tareas[nodo] = tarea;
+            tarea.planificador = this;
+            tarea.recordatorio = nodo;
+            programados++;
+        }
+        vencimientos[nodo] = Math.max(pasoDeRecordatorio(limite), pasoActual + 1);
+        ubicar(nodo);
+        return true;
+    }
+
+    /**
+     * Cancela el recordatorio pendiente de una tarea.
+     *
+     * @param tarea Tarea urgente
+     * @return true si la tarea tenía un recordatorio en este planificador
+     */
+    public synchronized boolean cancelar(TareaUrgente tarea) {
+        if (tarea == null || tarea.planificador != this) {
+            return false;
+        }
+        int nodo = tarea.recordatorio;
+        desenlazar(nodo);
+        liberarNodo(nodo);
+        return true;
+    }
+
+    /**
+     * Vuelve a programar una tarea tras un cambio en sus atributos, solo si sigue
+     * programada en este planificador (su recordatorio pudo vencer entretanto).
+     *
+     * @param tarea Tarea urgente modificada
+     */
+    synchronized void reprogramar(TareaUrgente tarea) {
+        if (tarea.planificador == this) {
+            programar(tarea);
+        }
+    }
+
+    /**
+     * Indica si una tarea tiene un recordatorio pendiente en este planificador.
+     *
+     * @param tarea Tarea urgente
+     * @return true si la tarea está programada aquí
+     */
+    public synchronized boolean estaProgramada(TareaUrgente tarea) {
+        return tarea != null && tarea.planificador == this;
+    }
+
+    /**
+     * Obtiene la cantidad de recordatorios pendientes.
+     *
+     * @return Recordatorios programados
+     */
+    public synchronized int contarProgramados() {
+        return programados;
+    }
+
+    /**
+     * Procesa los pasos transcurridos hasta el instante actual y ejecuta los recordatorios vencidos.
+     *
+     * @return Cantidad de recordatorios ejecutados
+     */
+    public int avanzar() {
+        return avanzarHasta(TareaUrgente.instanteActual());
+    }
+
+    /**
+     * Procesa los pasos transcurridos hasta un instante y ejecuta los recordatorios vencidos,
+     * en orden de vencimiento. Las acciones se ejecutan fuera del bloqueo del planificador.
+     *
+     * @param instante Instante, en la escala de {@link TareaUrgente#instanteActual()}
+     * @return Cantidad de recordatorios ejecutados
+     */
+    public int avanzarHasta(long instante) {
+        List<TareaUrgente> vencidas = new ArrayList<>();
+        synchronized (this) {
+            long objetivo = Math.floorDiv(instante, resolucion);
+            while (pasoActual < objetivo) {
+                if (programados == 0) {
+                    // Sin recordatorios no hay nada que redistribuir: se salta directamente
+                    pasoActual = objetivo;
+                    break;
+                }
+                pasoActual++;
+                redistribuir(pasoActual);
+                vaciarRanura((int) (pasoActual & MASCARA), vencidas);
+            }
+        }
+        for (TareaUrgente tarea : vencidas) {
+            accion.accept(tarea);
+        }
+        return vencidas.size();
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Convierte el instante de un recordatorio en el primer paso que no es anterior a él.
+     *
+     * @param limite Fecha límite de la tarea
+     * @return Paso en el que vence el recordatorio
+     */
+    private long pasoDeRecordatorio(long limite) {
+        // Saturar en lugar de desbordar si la fecha está cerca del mínimo representable
+        long instante = limite < Long.MIN_VALUE + anticipacion ? Long.MIN_VALUE : limite - anticipacion;
+        return Math.ceilDiv(instante, resolucion);
+    }
+
+    /**
+     * Enlaza un nodo en la ranura que le corresponde según la distancia entre su
+     * vencimiento y el paso actual (que no debe ser posterior al vencimiento).
+     *
+     * @param nodo Nodo a ubicar
+     */
+    private void ubicar(int nodo) {
+        long vencimiento = vencimientos[nodo];
+        long distancia = vencimiento - pasoActual;
+        long ubicacion = distancia < ALCANCE ? vencimiento : pasoActual + ALCANCE - 1;
+        distancia = ubicacion - pasoActual;
+
+        int nivel = 0;
+        while (nivel < NIVELES - 1 && distancia >= 1L << (BITS_POR_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        int ranura = nivel * RANURAS + (int) ((ubicacion >> (BITS_POR_NIVEL * nivel)) & MASCARA);
+        enlazar(ranura, nodo);
+    }
+
+    /**
+     * Al comenzar un paso, redistribuye en los niveles inferiores las ranuras de los
+     * niveles que completaron una vuelta.
+     *
+     * @param paso Paso que comienza
+     */
+    private void redistribuir(long paso) {
+        for (int nivel = 1; nivel < NIVELES; nivel++) {
+            if ((paso & ((1L << (BITS_POR_NIVEL * nivel)) - 1)) != 0) {
+                return;
+            }
+            int ranura = nivel * RANURAS + (int) ((paso >> (BITS_POR_NIVEL * nivel)) & MASCARA);
+            int nodo = cabezas[ranura];
+            cabezas[ranura] = SIN_NODO;
+            while (nodo != SIN_NODO) {
+                int siguiente = siguientes[nodo];
+                ubicar(nodo);
+                nodo = siguiente;
+            }
+        }
+    }
+
+    /**
+     * Retira todos los recordatorios de una ranura del primer nivel, que vencen en el paso actual.
+     *
+     * @param ranura Ranura del primer nivel
+     * @param vencidas Lista en la que se agregan las tareas cuyo recordatorio venció
+     */
+    private void vaciarRanura(int ranura, List<TareaUrgente> vencidas) {
+        int nodo = cabezas[ranura];
+        cabezas[ranura] = SIN_NODO;
+        while (nodo != SIN_NODO) {
+            int siguiente = siguientes[nodo];
+            TareaUrgente tarea = tareas[nodo];
+            liberarNodo(nodo);
+            if (tarea.isNotificacionesActivas()) {
+                vencidas.add(tarea);
+            }
+            nodo = siguiente;
+        }
+    }
+
+    /**
+     * Enlaza un nodo al principio de una ranura.
+     *
+     * @param ranura Ranura ({@code nivel * RANURAS + ranura})
+     * @param nodo Nodo desenlazado
+     */
+    private void enlazar(int ranura, int nodo) {
+        int cabeza = cabezas[ranura];
+        siguientes[nodo] = cabeza;
+        anteriores[nodo] = SIN_NODO;
+        if (cabeza != SIN_NODO) {
+            anteriores[cabeza] = nodo;
+        }
+        cabezas[ranura] = nodo;
+        ranuras[nodo] = ranura;
+    }
+
+    /**
+     * Quita un nodo de la ranura en la que está enlazado.
+     *
+     * @param nodo Nodo enlazado
+     */
+    private void desenlazar(int nodo) {
+        int anterior = anteriores[nodo];
+        int siguiente = siguientes[nodo];
+        if (anterior != SIN_NODO) {
+            siguientes[anterior] = siguiente;
+        } else {
+            cabezas[ranuras[nodo]] = siguiente;
+        }
+        if (siguiente != SIN_NODO) {
+            anteriores[siguiente] = anterior;
+        }
+    }
+
+    /**
+     * Obtiene un nodo libre, ampliando los arreglos si hace falta.
+     *
+     * @return Nodo sin usar
+     */
+    private int reservarNodo() {
+        if (libre != SIN_NODO) {
+            int nodo = libre;
+            libre = siguientes[nodo];
+            return nodo;
+        }
+        if (usados == tareas.length) {
+            int capacidad = tareas.length * 2;
+            vencimientos = Arrays.copyOf(vencimientos, capacidad);
+            siguientes = Arrays.copyOf(siguientes, capacidad);
+            anteriores = Arrays.copyOf(anteriores, capacidad);
+            ranuras = Arrays.copyOf(ranuras, capacidad);
+            tareas = Arrays.copyOf(tareas, capacidad);
+        }
+        return usados++;
+    }
+
+    /**
+     * Desvincula la tarea de un nodo ya desenlazado y lo devuelve a la lista de libres.
+     *
+     * @param nodo Nodo a liberar
+     */
+    private void liberarNodo(int nodo) {
+        TareaUrgente tarea = tareas[nodo];
+        tarea.planificador = null;
+        tarea.recordatorio = SIN_NODO;
+        tareas[nodo] = null;
+        siguientes[nodo] = libre;
+        libre = nodo;
+        programados--;
+    }
+
+    /**
+     * Convierte una duración a nanosegundos.
+     *
+     * @param duracion Duración
+     * @param nombre Nombre del parámetro, para el mensaje de error
+     * @return Nanosegundos de la duración
+     * @throws IllegalArgumentException si la duración es nula o no cabe en un long
+     */
+    private static long nanos(Duration duracion, String nombre) {
+        if (duracion == null) {
+            throw new IllegalArgumentException(nombre + " no puede ser nula");
+        }
+        try {
+            return duracion.toNanos();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(nombre + " es demasiado grande", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Resultado de una acción ejecutada por {@link MotorEjecucion}: su estado final
+ * y las latencias medidas.
+ *
+ * <p>La espera es el tiempo entre el envío de la acción y el comienzo de su ejecución
+ * (validación y espera de un cupo de concurrencia); la duración es el tiempo de
+ * {@link Accionable#ejecutar()}, hasta que terminó o venció. La latencia total es su suma.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ResultadoEjecucion {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Acción ejecutada.
+     */
+    private final Accionable accion;
+
+    /**
+     * Estado final de la acción.
+     */
+    private final EstadoEjecucion estado;
+
+    /**
+     * Nanosegundos desde el envío hasta el comienzo de la ejecución.
+     */
+    private final long esperaNanos;
+
+    /**
+     * Nanosegundos de ejecución.
+     */
+    private final long duracionNanos;
+
+    /**
+     * Excepción lanzada por la acción, o null.
+     */
+    private final Throwable error;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea el resultado de una acción.
+     *
+     * @param accion Acción ejecutada
+     * @param estado Estado final
+     * @param esperaNanos Nanosegundos de espera
+     * @param duracionNanos Nanosegundos de ejecución
+     * @param error Excepción lanzada, o null
+     */
+    ResultadoEjecucion(Accionable accion, EstadoEjecucion estado, long esperaNanos, long duracionNanos, Throwable error) {
+        this.accion = accion;
+        this.estado = estado;
+        this.esperaNanos = esperaNanos;
+        this.duracionNanos = duracionNanos;
+        this.error = error;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene la acción ejecutada.
+     *
+     * @return La acción
+     */
+    public Accionable getAccion() {
+        return accion;
+    }
+
+    /**
+     * Obtiene el estado final de la acción.
+     *
+     * @return Estado de la ejecución
+     */
+    public EstadoEjecucion getEstado() {
+        return estado;
+    }
+
+    /**
+     * Indica si la acción se ejecutó por completo.
+     *
+     * @return true si el estado es {@link EstadoEjecucion#COMPLETADA}
+     */
+    public boolean esExitosa() {
+        return estado == EstadoEjecucion.COMPLETADA;
+    }
+
+    /**
+     * Obtiene el tiempo entre el envío y el comienzo de la ejecución.
+     *
+     * @return Nanosegundos de espera
+     */
+    public long getEsperaNanos() {
+        return esperaNanos;
+    }
+
+    /**
+     * Obtiene el tiempo de ejecución (0 si la acción no llegó a ejecutarse).
+     *
+     * @return Nanosegundos de ejecución
+     */
+    public long getDuracionNanos() {
+        return duracionNanos;
+    }
+
+    /**
+     * Obtiene la latencia total de la acción: espera más ejecución.
+     *
+     * @return Nanosegundos desde el envío hasta el resultado
+     */
+    public long getLatenciaNanos() {
+        return esperaNanos + duracionNanos;
+    }
+
+    /**
+     * Obtiene la excepción lanzada por la acción.
+     *
+     * @return La excepción de la acción si el estado es {@link EstadoEjecucion#FALLIDA},
+     *         la de {@link Accionable#cancelar()} si falló al vencer, o null
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoEjecucion{" + estado +
+               ", espera=" + esperaNanos / 1_000 + "µs" +
+               ", duración=" + duracionNanos / 1_000 + "µs" +
+               (error != null ? ", error=" + error : "") + "}";
+    }
+}
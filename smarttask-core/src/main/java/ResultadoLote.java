@@ -0,0 +1,148 @@
+import java.util.BitSet;
+
+/**
+ * Resultado compacto de una operación por lotes de {@link GestorTareas}.
+ * Conserva los IDs en el mismo orden en que se recibieron (o se asignaron)
+ * y un {@link BitSet} que indica cuáles se procesaron con éxito.
+ *
+ * <p>Ocupa un entero y un bit por elemento del lote, sin crear un objeto por tarea.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ResultadoLote {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * IDs del lote, en el orden de entrada.
+     */
+    private final int[] ids;
+
+    /**
+     * Bit encendido en la posición de cada ID procesado con éxito.
+     */
+    private final BitSet exitosos;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un resultado a partir de los IDs del lote y sus marcas de éxito.
+     * Los arreglos no se copian: el resultado pasa a ser su único dueño.
+     *
+     * @param ids IDs del lote, en el orden de entrada
+     * @param exitosos Marcas de éxito por posición
+     */
+    ResultadoLote(int[] ids, BitSet exitosos) {
+        this.ids = ids;
+        this.exitosos = exitosos;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene la cantidad de elementos del lote.
+     *
+     * @return Tamaño del lote
+     */
+    public int obtenerTotal() {
+        return ids.length;
+    }
+
+    /**
+     * Obtiene la cantidad de elementos procesados con éxito.
+     *
+     * @return Número de éxitos
+     */
+    public int contarExitosos() {
+        return exitosos.cardinality();
+    }
+
+    /**
+     * Obtiene la cantidad de elementos que no pudieron procesarse.
+     *
+     * @return Número de fallos
+     */
+    public int contarFallidos() {
+        return ids.length - exitosos.cardinality();
+    }
+
+    /**
+     * Indica si todos los elementos del lote se procesaron con éxito.
+     *
+     * @return true si no hubo ningún fallo
+     */
+    public boolean todosExitosos() {
+        return exitosos.cardinality() == ids.length;
+    }
+
+    /**
+     * Obtiene el ID que ocupa una posición del lote.
+     *
+     * @param posicion Posición en el lote (0 a total - 1)
+     * @return El ID en esa posición
+     */
+    public int obtenerId(int posicion) {
+        return ids[posicion];
+    }
+
+    /**
+     * Indica si el elemento de una posición del lote se procesó con éxito.
+     *
+     * @param posicion Posición en el lote (0 a total - 1)
+     * @return true si se procesó con éxito
+     */
+    public boolean fueExitoso(int posicion) {
+        return exitosos.get(posicion);
+    }
+
+    /**
+     * Obtiene los IDs procesados con éxito, en el orden del lote.
+     *
+     * @return Arreglo nuevo con los IDs exitosos
+     */
+    public int[] obtenerIdsExitosos() {
+        return seleccionar(true);
+    }
+
+    /**
+     * Obtiene los IDs que no pudieron procesarse, en el orden del lote.
+     *
+     * @return Arreglo nuevo con los IDs fallidos
+     */
+    public int[] obtenerIdsFallidos() {
+        return seleccionar(false);
+    }
+
+    /**
+     * Representación en cadena del resultado.
+     *
+     * @return Resumen con el total de éxitos y fallos
+     */
+    @Override
+    public String toString() {
+        return "ResultadoLote | Total: " + ids.length +
+               " | Exitosos: " + contarExitosos() +
+               " | Fallidos: " + contarFallidos();
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Copia los IDs cuyo estado de éxito coincide con el indicado.
+     *
+     * @param exito Estado buscado
+     * @return Arreglo con los IDs seleccionados
+     */
+    private int[] seleccionar(boolean exito) {
+        int[] seleccion = new int[exito ? contarExitosos() : contarFallidos()];
+        int j = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (exitosos.get(i) == exito) {
+                seleccion[j++] = ids[i];
+            }
+        }
+        return seleccion;
+    }
+}
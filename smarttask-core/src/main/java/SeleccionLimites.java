@@ -0,0 +1,144 @@
+import java.util.Arrays;
+
+/**
+ * Selecciona, entre las posiciones que se le ofrecen, las de fecha límite más temprana,
+ * para los gestores sin índice ordenado de fechas límite ({@link GestorTareasColumnar}
+ * y {@code GestorTareasMapeado}), que recorren todas sus posiciones.
+ *
+ * <p>Las candidatas se guardan en arreglos primitivos paralelos organizados como un
+ * montículo de máximos de a lo sumo {@code maximo} elementos: cuando está lleno, una
+ * candidata nueva solo entra si vence antes que la peor guardada, que sale. Así, pedir
+ * las cinco próximas entre un millón de fechas guarda cinco candidatas, no un millón, y
+ * no crea ningún objeto por candidata. A igual fecha límite se prefiere la posición menor.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SeleccionLimites {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Máximo de candidatas que se conservan.
+     */
+    private final int maximo;
+
+    /**
+     * Fecha límite de cada candidata, en orden de montículo.
+     */
+    private long[] limites;
+
+    /**
+     * Posición de cada candidata, paralela a {@link #limites}.
+     */
+    private int[] posiciones;
+
+    /**
+     * Cantidad de candidatas guardadas.
+     */
+    private int cantidad;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea una selección vacía.
+     *
+     * @param maximo Máximo de posiciones a seleccionar (no negativo)
+     */
+    SeleccionLimites(int maximo) {
+        this.maximo = maximo;
+        int inicial = Math.min(maximo, 16);
+        this.limites = new long[inicial];
+        this.posiciones = new int[inicial];
+    }
+
+    // ==================== OPERACIONES ====================
+
+    /**
+     * Ofrece una posición como candidata.
+     *
+     * @param limite Fecha límite de la posición
+     * @param posicion Posición, creciente entre llamadas sucesivas
+     */
+    void ofrecer(long limite, int posicion) {
+        if (cantidad < maximo) {
+            if (cantidad == limites.length) {
+                int capacidad = (int) Math.min(maximo, cantidad * 2L);
+                limites = Arrays.copyOf(limites, capacidad);
+                posiciones = Arrays.copyOf(posiciones, capacidad);
+            }
+            subir(cantidad++, limite, posicion);
+        } else if (cantidad > 0 && antes(limite, posicion, limites[0], posiciones[0])) {
+            bajar(0, cantidad, limite, posicion);
+        }
+    }
+
+    /**
+     * Obtiene las posiciones seleccionadas, de la fecha límite más temprana a la más tardía.
+     * Ordena en el lugar, así que la selección no debe usarse después.
+     *
+     * @return Posiciones seleccionadas, en orden
+     */
+    int[] posicionesOrdenadas() {
+        // Ordenamiento por montículo: la peor candidata restante pasa al final
+        for (int fin = cantidad - 1; fin > 0; fin--) {
+            long limite = limites[fin];
+            int posicion = posiciones[fin];
+            limites[fin] = limites[0];
+            posiciones[fin] = posiciones[0];
+            bajar(0, fin, limite, posicion);
+        }
+        return Arrays.copyOf(posiciones, cantidad);
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Indica si una candidata va antes que otra: vence antes o, a igual fecha, tiene menor posición.
+     */
+    private static boolean antes(long limite, int posicion, long otroLimite, int otraPosicion) {
+        return limite < otroLimite || (limite == otroLimite && posicion < otraPosicion);
+    }
+
+    /**
+     * Coloca una candidata en un hueco y la sube mientras vaya después que su padre.
+     */
+    private void subir(int hueco, long limite, int posicion) {
+        while (hueco > 0) {
+            int padre = (hueco - 1) >>> 1;
+            if (!antes(limites[padre], posiciones[padre], limite, posicion)) {
+                break;
+            }
+            limites[hueco] = limites[padre];
+            posiciones[hueco] = posiciones[padre];
+            hueco = padre;
+        }
+        limites[hueco] = limite;
+        posiciones[hueco] = posicion;
+    }
+
+    /**
+     * Coloca una candidata en un hueco y la baja mientras algún hijo vaya después que ella,
+     * considerando solo las primeras {@code tamanio} candidatas.
+     */
+    private void bajar(int hueco, int tamanio, long limite, int posicion) {
+        while (true) {
+            int hijo = 2 * hueco + 1;
+            if (hijo >= tamanio) {
+                break;
+            }
+            if (hijo + 1 < tamanio && antes(limites[hijo], posiciones[hijo], limites[hijo + 1], posiciones[hijo + 1])) {
+                hijo++;
+            }
+            if (!antes(limite, posicion, limites[hijo], posiciones[hijo])) {
+                break;
+            }
+            limites[hueco] = limites[hijo];
+            posiciones[hueco] = posiciones[hijo];
+            hueco = hijo;
+        }
+        limites[hueco] = limite;
+        posiciones[hueco] = posicion;
+    }
+}
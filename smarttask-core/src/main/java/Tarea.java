@@ -37,6 +37,36 @@ public class Tarea {
      */
     protected boolean completado;
     
+    /**
+     * Observador registrado por el gestor que contiene esta tarea,
+     * o null si la tarea no pertenece a ninguno.
+     */
+    ObservadorTarea observador;
+    
+    // Datos con los que el gestor propietario tiene registrada la tarea. Pueden diferir
+    // momentáneamente de los atributos si otro hilo modificó la tarea y la notificación
+    // aún no se ha procesado; el gestor siempre actualiza sus índices a partir de ellos.
+
+    /**
+     * ID con el que la tarea figura en el índice del gestor propietario.
+     */
+    int idIndexado;
+    
+    /**
+     * Prioridad de la cubeta del gestor propietario en la que se encuentra la tarea.
+     */
+    int prioridadIndexada;
+    
+    /**
+     * Posición de la tarea dentro de la cubeta de su prioridad en el gestor propietario.
+     */
+    int posicionEnCubeta;
+    
+    /**
+     * Indica si el gestor propietario cuenta la tarea entre las completadas.
+     */
+    boolean completadaIndexada;
+    
     // ==================== CONSTRUCTORES ====================
     
     /**
@@ -94,11 +124,23 @@ public class Tarea {
     
     /**
      * Establece el ID de la tarea.
+     * Si la tarea pertenece a un gestor y este rechaza el nuevo ID
+     * (por ejemplo, porque ya está en uso), se conserva el ID anterior.
      * 
      * @param id El nuevo identificador de la tarea
+     * @throws IllegalArgumentException si el gestor propietario rechaza el ID
      */
     public void setId(int id) {
+        int anterior = this.id;
         this.id = id;
+        if (observador != null && anterior != id) {
+            try {
+                observador.idCambiado(this, anterior);
+            } catch (RuntimeException e) {
+                this.id = anterior;
+                throw e;
+            }
+        }
     }
     
     /**
@@ -121,7 +163,11 @@ public class Tarea {
         if (nombre == null || nombre.trim().isEmpty()) {
             throw new IllegalArgumentException("El nombre de la tarea no puede estar vacío");
         }
+        String anterior = this.nombre;
         this.nombre = nombre.trim();
+        if (observador != null && !this.nombre.equals(anterior)) {
+            observador.nombreCambiado(this, anterior);
+        }
     }
     
     /**
@@ -144,7 +190,11 @@ public class Tarea {
         if (prioridad < 1 || prioridad > 3) {
             throw new IllegalArgumentException("La prioridad debe estar entre 1 y 3");
         }
+        int anterior = this.prioridad;
         this.prioridad = prioridad;
+        if (observador != null && anterior != prioridad) {
+            observador.prioridadCambiada(this, anterior);
+        }
     }
     
     /**
@@ -162,17 +212,44 @@ public class Tarea {
      * @param completado El nuevo estado de la tarea
      */
     public void setCompletado(boolean completado) {
+        boolean anterior = this.completado;
         this.completado = completado;
+        if (observador != null && anterior != completado) {
+            observador.estadoCambiado(this);
+        }
     }
     
     // ==================== MÉTODOS ADICIONALES ====================
     
+    /**
+     * Crea una copia de la tarea con sus atributos y su estado, sin vincularla a ningún
+     * gestor: modificar la copia no afecta a la tarea original ni a su gestor.
+     * Las subclases la sobrescriben para copiar también sus atributos propios.
+     *
+     * @return Copia desvinculada de la tarea
+     */
+    Tarea copiar() {
+        return new Tarea(id, nombre, prioridad, completado);
+    }
+    
+    /**
+     * Informa al observador que cambió un atributo propio de una subclase.
+     * Las subclases deben invocarlo desde sus setters.
+     *
+     * @param atributo Atributo que cambió
+     */
+    protected void notificarCambioAtributo(AtributoTarea atributo) {
+        if (observador != null) {
+            observador.atributoCambiado(this, atributo);
+        }
+    }
+    
     /**
      * Marca la tarea como completada.
      * Cambia el estado de completado a true.
      */
     public void marcarCompletada() {
-        this.completado = true;
+        setCompletado(true);
     }
     
     /**
@@ -180,7 +257,7 @@ public class Tarea {
      * Cambia el estado de completado a false.
      */
     public void marcarPendiente() {
-        this.completado = false;
+        setCompletado(false);
     }
     
     /**
@@ -7,6 +7,10 @@
  * 
  * <p>Esta clase demuestra el uso de <strong>Herencia</strong> y <strong>Polimorfismo</strong>
  * en el paradigma de Orientación a Objetos.</p>
+ *
+ * <p>La categoría se guarda como la instancia compartida del diccionario {@link #CATEGORIAS}:
+ * las tareas con la misma categoría comparten una sola cadena, y filtrar por categoría
+ * compara referencias.</p>
  * 
  * @author Yulieta (Melek) Eyzaguirre
  * @version 1.0
@@ -16,10 +20,18 @@
  */
 public class TareaNormal extends Tarea implements Accionable {
     
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Diccionario de las categorías de las tareas normales; conserva solo las que siguen en uso.
+     */
+    static final DiccionarioCadenas CATEGORIAS = new DiccionarioCadenas();
+
     // ==================== ATRIBUTOS ADICIONALES ====================
     
     /**
-     * Categoría de la tarea normal (ej: "Personal", "Trabajo", "Estudio").
+     * Categoría de la tarea normal (ej: "Personal", "Trabajo", "Estudio"),
+     * como instancia compartida de {@link #CATEGORIAS}.
      */
     private String categoria;
     
@@ -36,7 +48,7 @@ public class TareaNormal extends Tarea implements Accionable {
      */
     public TareaNormal() {
         super();
-        this.categoria = "General";
+        this.categoria = CATEGORIAS.compartir("General");
         this.tiempoEstimado = 30; // 30 minutos por defecto
     }
     
@@ -49,7 +61,7 @@ public class TareaNormal extends Tarea implements Accionable {
      */
     public TareaNormal(int id, String nombre, int prioridad) {
         super(id, nombre, prioridad);
-        this.categoria = "General";
+        this.categoria = CATEGORIAS.compartir("General");
         this.tiempoEstimado = 30;
     }
     
@@ -64,7 +76,7 @@ public class TareaNormal extends Tarea implements Accionable {
      */
     public TareaNormal(int id, String nombre, int prioridad, String categoria, int tiempoEstimado) {
         super(id, nombre, prioridad);
-        this.categoria = categoria;
+        this.categoria = CATEGORIAS.compartir(categoria);
         this.tiempoEstimado = tiempoEstimado;
     }
     
@@ -85,7 +97,8 @@ public class TareaNormal extends Tarea implements Accionable {
      * @param categoria La nueva categoría
      */
     public void setCategoria(String categoria) {
-        this.categoria = categoria;
+        this.categoria = CATEGORIAS.compartir(categoria);
+        notificarCambioAtributo(AtributoTarea.CATEGORIA);
     }
     
     /**
@@ -108,6 +121,7 @@ public class TareaNormal extends Tarea implements Accionable {
             throw new IllegalArgumentException("El tiempo estimado debe ser mayor a 0");
         }
         this.tiempoEstimado = tiempoEstimado;
+        notificarCambioAtributo(AtributoTarea.TIEMPO_ESTIMADO);
     }
     
     // ==================== IMPLEMENTACIÓN DE ACCIONABLE ====================
@@ -119,7 +133,7 @@ public class TareaNormal extends Tarea implements Accionable {
     @Override
     public void ejecutar() {
         System.out.println("📋 Ejecutando tarea normal: " + this.nombre);
-        System.out.println("   Categoría: " + this.categoria);
+        System.out.println("   Categoría: " + getCategoria());
         System.out.println("   Tiempo estimado: " + this.tiempoEstimado + " minutos");
         System.out.println("   Prioridad: " + obtenerTextoPrioridad());
     }
@@ -165,12 +179,24 @@ public class TareaNormal extends Tarea implements Accionable {
     @Override
     public String obtenerDescripcionAccion() {
         return "Tarea Normal - " + this.nombre + 
-               " [" + this.categoria + "] - " + 
+               " [" + getCategoria() + "] - " + 
                this.tiempoEstimado + " min";
     }
     
     // ==================== MÉTODOS SOBRESCRITOS ====================
     
+    /**
+     * Crea una copia desvinculada que conserva también la categoría y el tiempo estimado.
+     *
+     * @return Copia desvinculada de la tarea normal
+     */
+    @Override
+    TareaNormal copiar() {
+        TareaNormal copia = new TareaNormal(id, nombre, prioridad, categoria, tiempoEstimado);
+        copia.completado = completado;
+        return copia;
+    }
+    
     /**
      * Representación en cadena de la tarea normal.
      * Sobrescribe el método toString() de la clase padre para incluir información adicional.
@@ -181,7 +207,7 @@ public class TareaNormal extends Tarea implements Accionable {
     @Override
     public String toString() {
         return super.toString() + 
-               " | Categoría: " + this.categoria + 
+               " | Categoría: " + getCategoria() + 
                " | Tiempo: " + this.tiempoEstimado + " min" +
                " | Tipo: NORMAL";
     }
@@ -0,0 +1,529 @@
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Clase que representa una Tarea Urgente en el sistema SmartTask.
+ * Extiende de {@link Tarea} e implementa la interfaz {@link Accionable}.
+ * 
+ * <p>Las tareas urgentes requieren atención inmediata y tienen características
+ * especiales como fecha límite y notificaciones automáticas.</p>
+ * 
+ * <p>Esta clase demuestra el uso de <strong>Herencia</strong>, <strong>Polimorfismo</strong>
+ * y <strong>Sobrescritura de métodos</strong> en el paradigma de Orientación a Objetos.</p>
+ *
+ * <p>La fecha límite se guarda como un único {@code long}: los nanosegundos desde la época
+ * de la fecha y hora local, contada como si fuera UTC (rango admitido: años 1678 a 2261).
+ * {@link #getFechaLimite()} y {@link #setFechaLimite(LocalDateTime)} convierten desde y hacia
+ * {@link LocalDateTime}. Para revisar muchas tareas con una sola lectura del reloj se obtiene
+ * {@link #instanteActual()} una vez y se usa {@link #esVencida(long)} y {@link #horasRestantes(long)}.</p>
+ *
+ * <p>El responsable se guarda como la instancia compartida del diccionario {@link #RESPONSABLES},
+ * de modo que las tareas con el mismo responsable comparten una sola cadena.</p>
+ *
+ * <p>Los recordatorios automáticos se programan con {@link PlanificadorRecordatorios}.</p>
+ * 
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-02-23
+ * @see Tarea
+ * @see Accionable
+ */
+public class TareaUrgente extends Tarea implements Accionable {
+    
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Nivel mínimo de criticidad permitido.
+     */
+    public static final int CRITICIDAD_MINIMA = 1;
+
+    /**
+     * Nivel máximo de criticidad permitido.
+     */
+    public static final int CRITICIDAD_MAXIMA = 10;
+
+    /**
+     * Nivel de criticidad por defecto.
+     */
+    public static final int CRITICIDAD_DEFECTO = 8;
+
+    /**
+     * Valor de {@link #getFechaLimiteEpochNanos()} cuando la tarea no tiene fecha límite.
+     */
+    public static final long SIN_FECHA = Long.MIN_VALUE;
+
+    /**
+     * Diccionario de los responsables de las tareas urgentes; conserva solo los que siguen en uso.
+     */
+    static final DiccionarioCadenas RESPONSABLES = new DiccionarioCadenas();
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+    private static final long SEGUNDOS_POR_HORA = 3_600L;
+    private static final long NANOS_POR_DIA = 24 * SEGUNDOS_POR_HORA * NANOS_POR_SEGUNDO;
+
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    // ==================== ATRIBUTOS ADICIONALES ====================
+    
+    /**
+     * Fecha y hora límite para completar la tarea urgente, en nanosegundos desde la época
+     * (hora local contada como UTC), o {@link #SIN_FECHA}.
+     */
+    private long limiteNanos;
+    
+    /**
+     * Indica si se deben enviar notificaciones para esta tarea.
+     */
+    private boolean notificacionesActivas;
+    
+    /**
+     * Nivel de criticidad adicional (escala 1-10).
+     */
+    private int nivelCriticidad;
+    
+    /**
+     * Persona o departamento responsable de la tarea urgente, como instancia compartida de {@link #RESPONSABLES}.
+     */
+    private String responsable;
+    
+    // Datos con los que el gestor propietario tiene registrada la tarea en su índice de fechas
+    // límite; se actualizan al procesar la notificación de cambio de atributos.
+
+    /**
+     * Fecha límite con la que la tarea figura en el índice del gestor propietario,
+     * o {@link #SIN_FECHA} si no figura.
+     */
+    long limiteIndexado = SIN_FECHA;
+
+    /**
+     * Orden de registro en el índice de fechas límite, para desempatar fechas iguales.
+     */
+    long ordenLimiteIndexado;
+
+    /**
+     * Planificador en el que la tarea tiene un recordatorio pendiente, o null.
+     * Lo asigna y lo retira el propio planificador, bajo su bloqueo.
+     */
+    volatile PlanificadorRecordatorios planificador;
+
+    /**
+     * Nodo del recordatorio dentro del planificador.
+     */
+    int recordatorio = PlanificadorRecordatorios.SIN_NODO;
+    
+    // ==================== CONSTRUCTORES ====================
+    
+    /**
+     * Constructor por defecto.
+     * Llama al constructor padre e inicializa valores específicos de TareaUrgente.
+     */
+    public TareaUrgente() {
+        super();
+        this.prioridad = 3; // Las tareas urgentes tienen prioridad Alta por defecto
+        this.limiteNanos = instanteActual() + NANOS_POR_DIA;
+        this.notificacionesActivas = true;
+        this.nivelCriticidad = CRITICIDAD_DEFECTO;
+        this.responsable = RESPONSABLES.compartir("Sin asignar");
+    }
+    
+    /**
+     * Constructor con parámetros básicos.
+     * 
+     * @param id Identificador único de la tarea
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad (generalmente 3 para urgentes)
+     */
+    public TareaUrgente(int id, String nombre, int prioridad) {
+        super(id, nombre, prioridad);
+        this.limiteNanos = instanteActual() + NANOS_POR_DIA;
+        this.notificacionesActivas = true;
+        this.nivelCriticidad = CRITICIDAD_DEFECTO;
+        this.responsable = RESPONSABLES.compartir("Sin asignar");
+    }
+    
+    /**
+     * Constructor completo con todos los parámetros.
+     * 
+     * @param id Identificador único de la tarea
+     * @param nombre Descripción de la tarea
+     * @param prioridad Nivel de prioridad
+     * @param fechaLimite Fecha y hora límite
+     * @param nivelCriticidad Nivel de criticidad (1-10)
+     * @param responsable Persona responsable
+     */
+    public TareaUrgente(int id, String nombre, int prioridad, 
+                       LocalDateTime fechaLimite, int nivelCriticidad, String responsable) {
+        super(id, nombre, prioridad);
+        this.limiteNanos = aEpochNanos(fechaLimite);
+        this.notificacionesActivas = true;
+        this.nivelCriticidad = nivelCriticidad;
+        this.responsable = RESPONSABLES.compartir(responsable);
+    }
+    
+    // ==================== GETTERS Y SETTERS ====================
+    
+    /**
+     * Obtiene la fecha límite de la tarea.
+     * Cada llamada crea el {@link LocalDateTime} a partir del valor guardado.
+     * 
+     * @return La fecha y hora límite, o null si no tiene
+     */
+    public LocalDateTime getFechaLimite() {
+        return deEpochNanos(limiteNanos);
+    }
+    
+    /**
+     * Establece la fecha límite de la tarea.
+     * 
+     * @param fechaLimite La nueva fecha límite (null para quitarla)
+     * @throws IllegalArgumentException si la fecha está fuera del rango admitido
+     */
+    public void setFechaLimite(LocalDateTime fechaLimite) {
+        this.limiteNanos = aEpochNanos(fechaLimite);
+        notificarCambioAtributo(AtributoTarea.FECHA_LIMITE);
+        actualizarRecordatorio();
+    }
+
+    /**
+     * Obtiene la fecha límite como nanosegundos desde la época (hora local contada como UTC),
+     * sin crear objetos.
+     *
+     * @return Nanosegundos, o {@link #SIN_FECHA} si no tiene fecha límite
+     */
+    public long getFechaLimiteEpochNanos() {
+        return limiteNanos;
+    }
+
+    /**
+     * Establece la fecha límite como nanosegundos desde la época (hora local contada como UTC).
+     *
+     * @param limiteNanos Nanosegundos, o {@link #SIN_FECHA} para quitarla
+     */
+    public void setFechaLimiteEpochNanos(long limiteNanos) {
+        this.limiteNanos = limiteNanos;
+        notificarCambioAtributo(AtributoTarea.FECHA_LIMITE);
+        actualizarRecordatorio();
+    }
+
+    /**
+     * Indica si la tarea tiene fecha límite.
+     *
+     * @return true si tiene fecha límite
+     */
+    public boolean tieneFechaLimite() {
+        return limiteNanos != SIN_FECHA;
+    }
+    
+    /**
+     * Verifica si las notificaciones están activas.
+     * 
+     * @return true si las notificaciones están activas
+     */
+    public boolean isNotificacionesActivas() {
+        return notificacionesActivas;
+    }
+    
+    /**
+     * Activa o desactiva las notificaciones.
+     * 
+     * @param notificacionesActivas El nuevo estado de notificaciones
+     */
+    public void setNotificacionesActivas(boolean notificacionesActivas) {
+        this.notificacionesActivas = notificacionesActivas;
+        notificarCambioAtributo(AtributoTarea.NOTIFICACIONES);
+        actualizarRecordatorio();
+    }
+    
+    /**
+     * Obtiene el nivel de criticidad.
+     * 
+     * @return El nivel de criticidad (1-10)
+     */
+    public int getNivelCriticidad() {
+        return nivelCriticidad;
+    }
+    
+    /**
+     * Establece el nivel de criticidad.
+     * 
+     * @param nivelCriticidad El nuevo nivel de criticidad (1-10)
+     * @throws IllegalArgumentException si el nivel no está entre CRITICIDAD_MINIMA y CRITICIDAD_MAXIMA
+     */
+    public void setNivelCriticidad(int nivelCriticidad) {
+        if (nivelCriticidad < CRITICIDAD_MINIMA || nivelCriticidad > CRITICIDAD_MAXIMA) {
+            throw new IllegalArgumentException(
+                "El nivel de criticidad debe estar entre " + CRITICIDAD_MINIMA + " y " + CRITICIDAD_MAXIMA
+            );
+        }
+        this.nivelCriticidad = nivelCriticidad;
+        notificarCambioAtributo(AtributoTarea.CRITICIDAD);
+    }
+    
+    /**
+     * Obtiene el responsable de la tarea.
+     * 
+     * @return El nombre del responsable
+     */
+    public String getResponsable() {
+        return responsable;
+    }
+    
+    /**
+     * Establece el responsable de la tarea.
+     * 
+     * @param responsable El nuevo responsable
+     */
+    public void setResponsable(String responsable) {
+        this.responsable = RESPONSABLES.compartir(responsable);
+        notificarCambioAtributo(AtributoTarea.RESPONSABLE);
+    }
+    
+    // ==================== IMPLEMENTACIÓN DE ACCIONABLE ====================
+    
+    /**
+     * Ejecuta la tarea urgente con notificaciones especiales.
+     * Demuestra polimorfismo mediante implementación de interfaz.
+     */
+    @Override
+    public void ejecutar() {
+        System.out.println("🚨 EJECUTANDO TAREA URGENTE: " + this.nombre);
+        System.out.println("   ⚠️  Nivel de Criticidad: " + this.nivelCriticidad + "/10");
+        System.out.println("   👤 Responsable: " + getResponsable());
+        System.out.println("   ⏰ Fecha Límite: " + formatearFecha());
+        System.out.println("   🔔 Notificaciones: " + (this.notificacionesActivas ? "ACTIVAS" : "Desactivadas"));
+        
+        if (esVencida()) {
+            System.out.println("   ❗ ALERTA: Esta tarea está VENCIDA");
+        }
+    }
+    
+    /**
+     * Cancela la tarea urgente con registro en log.
+     * Desactiva las notificaciones, por lo que también se cancela su recordatorio
+     * pendiente en {@link PlanificadorRecordatorios}, si lo tiene.
+     */
+    @Override
+    public void cancelar() {
+        System.out.println("🚫 CANCELANDO TAREA URGENTE: " + this.nombre);
+        System.out.println("   Registrando cancelación en el sistema...");
+        this.marcarPendiente();
+        this.notificacionesActivas = false;
+        notificarCambioAtributo(AtributoTarea.NOTIFICACIONES);
+        actualizarRecordatorio();
+    }
+    
+    /**
+     * Valida si la tarea urgente cumple con todos los requisitos.
+     * 
+     * @return true si la tarea es válida y tiene todos los datos necesarios
+     */
+    @Override
+    public boolean validar() {
+        boolean validacionBasica = this.nombre != null && 
+                                  !this.nombre.trim().isEmpty() && 
+                                  this.esPrioridadValida();
+        
+        boolean validacionUrgente = this.limiteNanos != SIN_FECHA && 
+                                   this.nivelCriticidad >= CRITICIDAD_MINIMA &&
+                                   this.nivelCriticidad <= CRITICIDAD_MAXIMA;
+
+        return validacionBasica && validacionUrgente;
+    }
+    
+    /**
+     * Obtiene el nivel de importancia de la tarea urgente.
+     * Las tareas urgentes tienen mayor importancia (escala 7-10).
+     * 
+     * @return Nivel de importancia de 7 a 10
+     */
+    @Override
+    public int obtenerNivelImportancia() {
+        // Las tareas urgentes tienen mayor importancia
+        // Se mapea el nivel de criticidad (1-10) a importancia (7-10)
+        return 6 + (this.nivelCriticidad / 3);
+    }
+    
+    /**
+     * Genera una descripción detallada de la acción urgente.
+     * 
+     * @return Descripción de la acción con indicadores de urgencia
+     */
+    @Override
+    public String obtenerDescripcionAccion() {
+        return "🚨 TAREA URGENTE - " + this.nombre + 
+               " | Criticidad: " + this.nivelCriticidad + "/10" +
+               " | Responsable: " + getResponsable() +
+               " | Vence: " + formatearFecha();
+    }
+    
+    // ==================== MÉTODOS ADICIONALES ====================
+    
+    /**
+     * Verifica si la tarea ha superado su fecha límite.
+     * 
+     * @return true si la tarea está vencida (false si no tiene fecha límite)
+     */
+    public boolean esVencida() {
+        return esVencida(instanteActual());
+    }
+
+    /**
+     * Verifica si la tarea ha superado su fecha límite en un instante dado,
+     * para revisar muchas tareas con una sola lectura del reloj.
+     *
+     * @param ahora Instante de referencia, obtenido con {@link #instanteActual()}
+     * @return true si la tarea está vencida en ese instante (false si no tiene fecha límite)
+     */
+    public boolean esVencida(long ahora) {
+        return limiteNanos != SIN_FECHA && ahora > limiteNanos;
+    }
+    
+    /**
+     * Calcula las horas restantes hasta la fecha límite.
+     * 
+     * @return Cantidad de horas restantes (puede ser negativo si está vencida)
+     * @throws IllegalStateException si la tarea no tiene fecha límite
+     */
+    public long horasRestantes() {
+        return horasRestantes(instanteActual());
+    }
+
+    /**
+     * Calcula las horas completas que faltan, desde un instante dado, hasta la fecha límite.
+     *
+     * @param ahora Instante de referencia, obtenido con {@link #instanteActual()}
+     * @return Cantidad de horas restantes (puede ser negativo si está vencida)
+     * @throws IllegalStateException si la tarea no tiene fecha límite
+     */
+    public long horasRestantes(long ahora) {
+        if (limiteNanos == SIN_FECHA) {
+            throw new IllegalStateException("La tarea no tiene fecha límite");
+        }
+        // Igual que Duration.between(ahora, limite).toHours(), sin desbordar con fechas lejanas
+        long segundos = Math.floorDiv(limiteNanos, NANOS_POR_SEGUNDO) - Math.floorDiv(ahora, NANOS_POR_SEGUNDO);
+        if (Math.floorMod(limiteNanos, NANOS_POR_SEGUNDO) < Math.floorMod(ahora, NANOS_POR_SEGUNDO)) {
+            segundos--;
+        }
+        return segundos / SEGUNDOS_POR_HORA;
+    }
+
+    /**
+     * Lee el reloj una vez y devuelve la fecha y hora local actual en la misma escala que
+     * {@link #getFechaLimiteEpochNanos()}, para usarla con {@link #esVencida(long)} y
+     * {@link #horasRestantes(long)} sobre muchas tareas.
+     *
+     * @return Nanosegundos desde la época de la hora local actual, contada como UTC
+     */
+    public static long instanteActual() {
+        Instant ahora = Instant.now();
+        long segundos = ahora.getEpochSecond() + ZoneId.systemDefault().getRules().getOffset(ahora).getTotalSeconds();
+        return segundos * NANOS_POR_SEGUNDO + ahora.getNano();
+    }
+
+    /**
+     * Convierte una fecha y hora local en nanosegundos desde la época, contándola como UTC.
+     *
+     * @param fecha Fecha a convertir (puede ser null)
+     * @return Nanosegundos, o {@link #SIN_FECHA} si es null
+     * @throws IllegalArgumentException si la fecha está fuera del rango admitido
+     */
+    static long aEpochNanos(LocalDateTime fecha) {
+        if (fecha == null) {
+            return SIN_FECHA;
+        }
+        try {
+            long nanos = Math.addExact(Math.multiplyExact(fecha.toEpochSecond(ZoneOffset.UTC), NANOS_POR_SEGUNDO),
+                                       fecha.getNano());
+            if (nanos == SIN_FECHA) {
+                throw new ArithmeticException();
+            }
+            return nanos;
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("La fecha límite está fuera del rango admitido: " + fecha);
+        }
+    }
+
+    /**
+     * Convierte nanosegundos desde la época (hora local contada como UTC) en una fecha y hora local.
+     *
+     * @param nanos Nanosegundos, o {@link #SIN_FECHA}
+     * @return La fecha, o null si es {@link #SIN_FECHA}
+     */
+    static LocalDateTime deEpochNanos(long nanos) {
+        if (nanos == SIN_FECHA) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_POR_SEGUNDO),
+                                           (int) Math.floorMod(nanos, NANOS_POR_SEGUNDO), ZoneOffset.UTC);
+    }
+    
+    /**
+     * Formatea la fecha límite en un formato legible.
+     * 
+     * @return Fecha formateada como String
+     */
+    private String formatearFecha() {
+        return limiteNanos == SIN_FECHA ? "Sin fecha límite" : getFechaLimite().format(FORMATO_FECHA);
+    }
+
+    /**
+     * Traslada al planificador de recordatorios, si la tarea tiene uno pendiente,
+     * un cambio en la fecha límite o en las notificaciones.
+     */
+    private void actualizarRecordatorio() {
+        PlanificadorRecordatorios actual = planificador;
+        if (actual != null) {
+            actual.reprogramar(this);
+        }
+    }
+    
+    /**
+     * Envía una notificación de recordatorio.
+     */
+    public void enviarNotificacion() {
+        if (notificacionesActivas) {
+            System.out.println("🔔 NOTIFICACIÓN: Tarea urgente '" + this.nombre + "' requiere atención");
+            if (limiteNanos != SIN_FECHA) {
+                System.out.println("   Tiempo restante: " + horasRestantes() + " horas");
+            }
+        }
+    }
+    
+    // ==================== MÉTODOS SOBRESCRITOS ====================
+    
+    /**
+     * Crea una copia desvinculada que conserva también la fecha límite, las notificaciones,
+     * la criticidad y el responsable. La copia no tiene recordatorio programado.
+     *
+     * @return Copia desvinculada de la tarea urgente
+     */
+    @Override
+    TareaUrgente copiar() {
+        TareaUrgente copia = new TareaUrgente(id, nombre, prioridad, null, nivelCriticidad, responsable);
+        copia.completado = completado;
+        copia.limiteNanos = limiteNanos;
+        copia.notificacionesActivas = notificacionesActivas;
+        return copia;
+    }
+    
+    /**
+     * Representación en cadena de la tarea urgente.
+     * Sobrescribe el método toString() de la clase padre.
+     * Demuestra polimorfismo mediante sobrescritura (override).
+     * 
+     * @return Representación en String de la tarea urgente
+     */
+    @Override
+    public String toString() {
+        String estado = esVencida() ? "⚠️ VENCIDA" : "✅ VIGENTE";
+        return super.toString() + 
+               " | Criticidad: " + this.nivelCriticidad + "/10" +
+               " | Responsable: " + getResponsable() +
+               " | Vence: " + formatearFecha() +
+               " | Estado: " + estado +
+               " | Tipo: URGENTE 🚨";
+    }
+}
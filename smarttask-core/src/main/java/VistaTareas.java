@@ -0,0 +1,333 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Vista inmutable del estado de un gestor publicada por {@link GestorTareasAsincrono}
+ * después de cada lote de escrituras.
+ *
+ * <p>El conjunto de tareas y los contadores corresponden al momento de la publicación:
+ * las escrituras posteriores no los modifican. La vista no guarda las tareas del gestor
+ * sino copias desvinculadas tomadas por el hilo escritor al publicar, y cada lectura
+ * entrega copias nuevas de ellas: modificar una tarea leída no afecta al gestor, a la
+ * vista ni a otros lectores.</p>
+ *
+ * <p>Las copias se guardan en un árbol de búsqueda por ID persistente (un treap cuyo
+ * peso se deriva del ID). Cada vista comparte con la anterior todo lo que no cambió: al
+ * publicar, el escritor solo copia las ramas de las tareas que modificó el lote, así que
+ * publicar cuesta un tiempo logarítmico por tarea modificada en lugar de recorrer todas
+ * las tareas.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class VistaTareas {
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Versión del gestor al publicar la vista.
+     */
+    private final long version;
+
+    /**
+     * Raíz del árbol de copias por ID, o null si no hay tareas.
+     */
+    private final Nodo raiz;
+
+    /**
+     * Tareas completadas al publicar la vista.
+     */
+    private final int completadas;
+
+    /**
+     * Tareas por prioridad; la posición es la prioridad menos {@link GestorTareas#PRIORIDAD_BAJA}.
+     */
+    private final int[] porPrioridad;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea la primera vista de un gestor, copiando todas sus tareas.
+     *
+     * @param version Versión del gestor
+     * @param tareas Tareas del gestor
+     * @param completadas Tareas completadas
+     * @param porPrioridad Tareas por prioridad
+     */
+    VistaTareas(long version, List<Tarea> tareas, int completadas, int[] porPrioridad) {
+        Nodo arbol = null;
+        for (Tarea tarea : tareas) {
+            arbol = poner(arbol, tarea.getId(), tarea.copiar(), peso(tarea.getId()));
+        }
+        this.version = version;
+        this.raiz = arbol;
+        this.completadas = completadas;
+        this.porPrioridad = porPrioridad;
+    }
+
+    /**
+     * Crea una vista a partir del árbol ya actualizado.
+     */
+    private VistaTareas(long version, Nodo raiz, int completadas, int[] porPrioridad) {
+        this.version = version;
+        this.raiz = raiz;
+        this.completadas = completadas;
+        this.porPrioridad = porPrioridad;
+    }
+
+    /**
+     * Crea la vista siguiente a esta actualizando solo las tareas modificadas. Se ejecuta
+     * en el hilo escritor, que es el único que puede consultar el gestor.
+     *
+     * @param version Versión del gestor
+     * @param completadas Tareas completadas
+     * @param porPrioridad Tareas por prioridad
+     * @param ids IDs de las tareas agregadas, modificadas o eliminadas (puede haber repetidos)
+     * @param cantidad Cantidad de IDs válidos en el arreglo
+     * @param buscar Búsqueda en el gestor; devuelve null si la tarea ya no existe
+     * @return Nueva vista; la actual no cambia
+     */
+    VistaTareas siguiente(long version, int completadas, int[] porPrioridad,
+                          int[] ids, int cantidad, IntFunction<Tarea> buscar) {
+        Nodo arbol = raiz;
+        for (int i = 0; i < cantidad; i++) {
+            int id = ids[i];
+            Tarea actual = buscar.apply(id);
+            arbol = actual == null ? quitar(arbol, id) : poner(arbol, id, actual.copiar(), peso(id));
+        }
+        return new VistaTareas(version, arbol, completadas, porPrioridad);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene la versión del gestor al publicar la vista.
+     *
+     * @return Versión del gestor
+     */
+    public long obtenerVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene copias de las tareas de la vista, ordenadas por ID.
+     *
+     * @return Lista inmutable de copias nuevas, propias de quien llama
+     */
+    public List<Tarea> listarTareas() {
+        Tarea[] tareas = new Tarea[tamanio(raiz)];
+        recorrer(raiz, tareas, 0);
+        return Collections.unmodifiableList(Arrays.asList(tareas));
+    }
+
+    /**
+     * Busca una tarea por su ID.
+     *
+     * @param id Identificador de la tarea
+     * @return Copia nueva de la tarea, o null si no estaba en el gestor al publicar la vista
+     */
+    public Tarea buscarTareaPorId(int id) {
+        Nodo nodo = raiz;
+        while (nodo != null) {
+            if (id == nodo.id) {
+                return nodo.tarea.copiar();
+            }
+            nodo = id < nodo.id ? nodo.izquierdo : nodo.derecho;
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene el total de tareas.
+     *
+     * @return Número de tareas
+     */
+    public int obtenerTotalTareas() {
+        return tamanio(raiz);
+    }
+
+    /**
+     * Obtiene el número de tareas completadas.
+     *
+     * @return Cantidad de tareas completadas
+     */
+    public int contarTareasCompletadas() {
+        return completadas;
+    }
+
+    /**
+     * Obtiene el número de tareas pendientes.
+     *
+     * @return Cantidad de tareas pendientes
+     */
+    public int contarTareasPendientes() {
+        return tamanio(raiz) - completadas;
+    }
+
+    /**
+     * Cuenta las tareas de un nivel de prioridad.
+     *
+     * @param prioridad Nivel de prioridad
+     * @return Cantidad de tareas con esa prioridad (0 si la prioridad no es válida)
+     */
+    public int contarPorPrioridad(int prioridad) {
+        if (prioridad < GestorTareas.PRIORIDAD_BAJA || prioridad > GestorTareas.PRIORIDAD_ALTA) {
+            return 0;
+        }
+        return porPrioridad[prioridad - GestorTareas.PRIORIDAD_BAJA];
+    }
+
+    /**
+     * Calcula el porcentaje de tareas completadas.
+     *
+     * @return Porcentaje de completitud (0.0 a 100.0)
+     */
+    public double calcularPorcentajeCompletadas() {
+        int total = tamanio(raiz);
+        if (total == 0) {
+            return 0.0;
+        }
+        return (completadas * 100.0) / total;
+    }
+
+    @Override
+    public String toString() {
+        return "VistaTareas{version=" + version + ", total=" + tamanio(raiz)
+               + ", completadas=" + completadas + "}";
+    }
+
+    // ==================== ÁRBOL PERSISTENTE ====================
+
+    /**
+     * Peso de un ID en el treap: un valor pseudoaleatorio fijo por ID, de modo que la forma
+     * del árbol no depende del orden de las altas (los IDs suelen llegar crecientes).
+     *
+     * @param id Identificador de la tarea
+     * @return Peso del nodo
+     */
+    private static int peso(int id) {
+        int h = id * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private static int tamanio(Nodo nodo) {
+        return nodo == null ? 0 : nodo.tamanio;
+    }
+
+    /**
+     * Devuelve un árbol con la tarea puesta en su ID, copiando solo el camino hasta ella.
+     * Como el peso depende solo del ID, un ID ya presente se encuentra antes de llegar a
+     * un nodo más liviano, y al dividir por el ID nunca está en el subárbol dividido.
+     */
+    private static Nodo poner(Nodo nodo, int id, Tarea tarea, int peso) {
+        if (nodo == null) {
+            return new Nodo(id, tarea, peso, null, null);
+        }
+        if (id == nodo.id) {
+            return new Nodo(id, tarea, nodo.peso, nodo.izquierdo, nodo.derecho);
+        }
+        if (peso > nodo.peso) {
+            Nodo[] partes = new Nodo[2];
+            dividir(nodo, id, partes);
+            return new Nodo(id, tarea, peso, partes[0], partes[1]);
+        }
+        if (id < nodo.id) {
+            return new Nodo(nodo.id, nodo.tarea, nodo.peso, poner(nodo.izquierdo, id, tarea, peso), nodo.derecho);
+        }
+        return new Nodo(nodo.id, nodo.tarea, nodo.peso, nodo.izquierdo, poner(nodo.derecho, id, tarea, peso));
+    }
+
+    /**
+     * Divide un árbol sin el ID dado en los nodos menores (partes[0]) y mayores (partes[1]).
+     */
+    private static void dividir(Nodo nodo, int id, Nodo[] partes) {
+        if (nodo == null) {
+            partes[0] = null;
+            partes[1] = null;
+        } else if (nodo.id < id) {
+            dividir(nodo.derecho, id, partes);
+            partes[0] = new Nodo(nodo.id, nodo.tarea, nodo.peso, nodo.izquierdo, partes[0]);
+        } else {
+            dividir(nodo.izquierdo, id, partes);
+            partes[1] = new Nodo(nodo.id, nodo.tarea, nodo.peso, partes[1], nodo.derecho);
+        }
+    }
+
+    /**
+     * Devuelve un árbol sin el ID dado, copiando solo el camino hasta él.
+     */
+    private static Nodo quitar(Nodo nodo, int id) {
+        if (nodo == null) {
+            return null;
+        }
+        if (id == nodo.id) {
+            return unir(nodo.izquierdo, nodo.derecho);
+        }
+        if (id < nodo.id) {
+            Nodo izquierdo = quitar(nodo.izquierdo, id);
+            return izquierdo == nodo.izquierdo ? nodo
+                 : new Nodo(nodo.id, nodo.tarea, nodo.peso, izquierdo, nodo.derecho);
+        }
+        Nodo derecho = quitar(nodo.derecho, id);
+        return derecho == nodo.derecho ? nodo
+             : new Nodo(nodo.id, nodo.tarea, nodo.peso, nodo.izquierdo, derecho);
+    }
+
+    /**
+     * Une dos árboles en los que todos los IDs del primero son menores que los del segundo.
+     */
+    private static Nodo unir(Nodo menores, Nodo mayores) {
+        if (menores == null) {
+            return mayores;
+        }
+        if (mayores == null) {
+            return menores;
+        }
+        if (menores.peso > mayores.peso) {
+            return new Nodo(menores.id, menores.tarea, menores.peso, menores.izquierdo, unir(menores.derecho, mayores));
+        }
+        return new Nodo(mayores.id, mayores.tarea, mayores.peso, unir(menores, mayores.izquierdo), mayores.derecho);
+    }
+
+    /**
+     * Copia las tareas del árbol en orden de ID a partir de una posición.
+     *
+     * @return Posición siguiente a la última copiada
+     */
+    private static int recorrer(Nodo nodo, Tarea[] destino, int posicion) {
+        while (nodo != null) {
+            posicion = recorrer(nodo.izquierdo, destino, posicion);
+            destino[posicion++] = nodo.tarea.copiar();
+            nodo = nodo.derecho;
+        }
+        return posicion;
+    }
+
+    // ==================== CLASE INTERNA ====================
+
+    /**
+     * Nodo inmutable del árbol: una copia desvinculada que nunca se entrega a los lectores.
+     */
+    private static final class Nodo {
+        private final int id;
+        private final Tarea tarea;
+        private final int peso;
+        private final int tamanio;
+        private final Nodo izquierdo;
+        private final Nodo derecho;
+
+        Nodo(int id, Tarea tarea, int peso, Nodo izquierdo, Nodo derecho) {
+            this.id = id;
+            this.tarea = tarea;
+            this.peso = peso;
+            this.izquierdo = izquierdo;
+            this.derecho = derecho;
+            this.tamanio = 1 + tamanio(izquierdo) + tamanio(derecho);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite de pruebas unitarias para la clase DespachadorImportancia.
+ * Verifica el orden por importancia, el envejecimiento de las tareas que esperan,
+ * el uso con muchos productores y consumidores y la espera de los consumidores.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: DespachadorImportancia")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DespachadorImportanciaTest {
+
+    /**
+     * Un segundo en nanosegundos, intervalo de envejecimiento de las pruebas.
+     */
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    private DespachadorImportancia despachador;
+
+    @BeforeEach
+    void setUp() {
+        despachador = new DespachadorImportancia(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Se entrega primero la mayor importancia y, dentro de un nivel, en orden de llegada")
+    void testOrdenPorImportancia() {
+        TareaNormal baja = new TareaNormal(1, "Baja", 1);
+        TareaNormal alta = new TareaNormal(2, "Alta", 3);
+        TareaUrgente critica = new TareaUrgente(3, "Crítica", 3, null, 9, "Equipo");
+        TareaNormal altaSegunda = new TareaNormal(4, "Alta segunda", 3);
+        TareaUrgente moderada = new TareaUrgente(5, "Moderada", 3, null, 3, "Equipo");
+        for (Accionable accion : List.<Accionable>of(baja, alta, critica, altaSegunda, moderada)) {
+            despachador.ofrecer(accion, 0);
+        }
+        assertEquals(5, despachador.contarPendientes());
+        assertEquals(2, despachador.contarPendientes(3));
+
+        assertSame(critica, despachador.sondear(0));
+        assertSame(moderada, despachador.sondear(0));
+        assertSame(alta, despachador.sondear(0));
+        assertSame(altaSegunda, despachador.sondear(0));
+        assertSame(baja, despachador.sondear(0));
+        assertNull(despachador.sondear(0));
+        assertTrue(despachador.estaVacio());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Las tareas que esperan ganan importancia y no quedan postergadas indefinidamente")
+    void testEnvejecimiento() {
+        TareaNormal antigua = new TareaNormal(1, "Antigua", 1);
+        despachador.ofrecer(antigua, 0);
+
+        // A los 7 s la normal vale 8: pierde contra una urgente de importancia 9
+        TareaUrgente urgente = new TareaUrgente(2, "Urgente", 3, null, 9, "Equipo");
+        despachador.ofrecer(urgente, 7 * SEGUNDO);
+        assertSame(urgente, despachador.sondear(7 * SEGUNDO));
+
+        // A los 8 s empata en 9 y gana por antigüedad
+        despachador.ofrecer(urgente, 8 * SEGUNDO);
+        assertSame(antigua, despachador.sondear(8 * SEGUNDO));
+        assertSame(urgente, despachador.sondear(8 * SEGUNDO));
+
+        // Un flujo constante de urgentes no posterga para siempre a una normal
+        TareaNormal paciente = new TareaNormal(3, "Paciente", 1);
+        despachador.ofrecer(paciente, 100 * SEGUNDO);
+        int entregadasAntes = 0;
+        for (long t = 100; ; t++) {
+            despachador.ofrecer(new TareaUrgente(4, "Flujo " + t, 3, null, 9, "Equipo"), t * SEGUNDO);
+            if (despachador.sondear(t * SEGUNDO) == paciente) {
+                break;
+            }
+            entregadasAntes++;
+        }
+        assertEquals(8, entregadasAntes);
+
+        TareaNormal fuera = new TareaNormal(5, "Fuera de rango", 1) {
+            @Override
+            public int obtenerNivelImportancia() {
+                return 42;
+            }
+        };
+        despachador.ofrecer(fuera, 200 * SEGUNDO);
+        assertEquals(1, despachador.contarPendientes(DespachadorImportancia.IMPORTANCIA_MAXIMA));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Con muchos productores y consumidores cada acción se entrega exactamente una vez")
+    void testProductoresYConsumidores() throws Exception {
+        int productores = 8;
+        int consumidores = 8;
+        int porProductor = 10_000;
+        int total = productores * porProductor;
+        Set<Accionable> entregadas = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicadas = new AtomicInteger();
+
+        ExecutorService hilos = Executors.newFixedThreadPool(productores + consumidores);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int p = 0; p < productores; p++) {
+                int base = p * porProductor;
+                tareas.add(hilos.submit(() -> {
+                    for (int i = 0; i < porProductor; i++) {
+                        int id = base + i;
+                        despachador.ofrecer(id % 4 == 0
+                            ? new TareaUrgente(id, "U" + id, 3, null, 1 + id % 10, "Equipo")
+                            : new TareaNormal(id, "N" + id, 1 + id % 3));
+                    }
+                }));
+            }
+            AtomicInteger restantes = new AtomicInteger(total);
+            for (int c = 0; c < consumidores; c++) {
+                tareas.add(hilos.submit(() -> {
+                    while (restantes.getAndDecrement() > 0) {
+                        Accionable accion = despachador.tomar();
+                        if (!entregadas.add(accion)) {
+                            duplicadas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            hilos.shutdownNow();
+        }
+
+        assertEquals(0, duplicadas.get());
+        assertEquals(total, entregadas.size());
+        assertTrue(despachador.estaVacio());
+        assertNull(despachador.sondear());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Los consumidores esperan hasta que llega una acción o vence su espera")
+    void testEsperaDeConsumidores() throws Exception {
+        assertNull(despachador.tomar(Duration.ofMillis(50)));
+
+        TareaNormal tarea = new TareaNormal(1, "Llega tarde", 2);
+        ExecutorService hilo = Executors.newSingleThreadExecutor();
+        try {
+            Future<Accionable> consumidor = hilo.submit(() -> despachador.tomar());
+            Thread.sleep(50);
+            assertFalse(consumidor.isDone(), "El consumidor espera mientras no hay acciones");
+            despachador.ofrecer(tarea);
+            assertSame(tarea, consumidor.get());
+        } finally {
+            hilo.shutdownNow();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> despachador.ofrecer(null));
+        assertThrows(IllegalArgumentException.class, () -> despachador.tomar(null));
+        assertThrows(IllegalArgumentException.class, () -> despachador.contarPendientes(0));
+        assertThrows(IllegalArgumentException.class, () -> new DespachadorImportancia(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new DespachadorImportancia(null));
+    }
+}
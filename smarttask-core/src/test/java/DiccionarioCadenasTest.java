@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Suite de pruebas unitarias para la clase DiccionarioCadenas.
+ * Verifica que las cadenas iguales compartan instancia, el tratamiento de null,
+ * el descarte de las cadenas que ya no se usan y el registro concurrente.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: DiccionarioCadenas")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DiccionarioCadenasTest {
+
+    private DiccionarioCadenas diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new DiccionarioCadenas();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Cadenas iguales comparten la primera instancia registrada y buscar no registra")
+    void testCompartirYBuscar() {
+        String general = "General";
+        assertSame(general, diccionario.compartir(general));
+        assertSame(general, diccionario.compartir(new String("General")), "Cadenas iguales comparten instancia");
+        String trabajo = diccionario.compartir(new String("Trabajo"));
+        assertEquals(2, diccionario.tamanio());
+
+        assertSame(trabajo, diccionario.buscar("Trabajo"));
+        assertNull(diccionario.buscar("Estudio"));
+        assertEquals(2, diccionario.tamanio(), "Buscar no registra cadenas");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: null no ocupa lugar y las cadenas que ya nadie usa se descartan")
+    void testNuloYDescarte() throws InterruptedException {
+        assertNull(diccionario.compartir(null));
+        assertNull(diccionario.buscar(null));
+        assertEquals(0, diccionario.tamanio());
+
+        List<String> enUso = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String compartida = diccionario.compartir("Equipo " + i);
+            if (i % 100 == 0) {
+                enUso.add(compartida);
+            }
+        }
+        for (int intento = 0; intento < 50 && diccionario.tamanio() > enUso.size(); intento++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(enUso.size(), diccionario.tamanio(), "Solo quedan las cadenas en uso");
+        for (String compartida : enUso) {
+            assertSame(compartida, diccionario.buscar(new String(compartida)));
+        }
+        assertNull(diccionario.buscar("Equipo 1"));
+        String nueva = diccionario.compartir(new String("Equipo 1"));
+        assertSame(nueva, diccionario.compartir("Equipo 1"), "Un valor descartado se vuelve a registrar");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Hilos que comparten las mismas cadenas obtienen las mismas instancias")
+    void testCompartirConcurrente() throws InterruptedException {
+        int hilos = 8;
+        int valores = 200;
+        CountDownLatch inicio = new CountDownLatch(1);
+        String[][] obtenidas = new String[hilos][valores];
+        List<Thread> trabajadores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            String[] propias = obtenidas[h];
+            Thread trabajador = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < valores; i++) {
+                    propias[i] = diccionario.compartir(new String("Valor " + i));
+                }
+            });
+            trabajadores.add(trabajador);
+            trabajador.start();
+        }
+        inicio.countDown();
+        for (Thread trabajador : trabajadores) {
+            trabajador.join();
+        }
+
+        assertEquals(valores, diccionario.tamanio());
+        for (int i = 0; i < valores; i++) {
+            assertEquals("Valor " + i, obtenidas[0][i]);
+            for (int h = 1; h < hilos; h++) {
+                assertSame(obtenidas[0][i], obtenidas[h][i], "Cada valor tiene una única instancia en todos los hilos");
+            }
+            assertSame(obtenidas[0][i], diccionario.buscar("Valor " + i));
+        }
+    }
+}
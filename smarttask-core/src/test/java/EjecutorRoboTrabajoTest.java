@@ -0,0 +1,133 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite de pruebas unitarias para la clase EjecutorRoboTrabajo.
+ * Verifica la división del lote por costo estimado, el reparto del trabajo entre
+ * trabajadores con robo y el registro de acciones rechazadas y fallidas.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: EjecutorRoboTrabajo")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class EjecutorRoboTrabajoTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: El lote se divide por costo estimado y una tarea larga queda sola en su tramo")
+    void testDivisionPorCosto() {
+        assertEquals(45, EjecutorRoboTrabajo.costo(new TareaNormal(1, "Informe", 2, "Trabajo", 45)));
+        assertEquals(1, EjecutorRoboTrabajo.costo(new TareaNormal(2, "Sin estimación", 2, "Trabajo", 0)));
+        assertEquals(EjecutorRoboTrabajo.COSTO_DEFECTO,
+                     EjecutorRoboTrabajo.costo(new TareaUrgente(3, "Urgente", 3, null, 5, "Equipo")));
+
+        // Costos 1, 1, 1, 100, 1, 1
+        long[] prefijos = {0, 1, 2, 3, 103, 104, 105};
+        int corte = EjecutorRoboTrabajo.dividir(prefijos, 0, 6);
+        assertEquals(4, corte, "La mitad de costo cae después de la tarea larga");
+        assertEquals(3, EjecutorRoboTrabajo.dividir(prefijos, 0, corte), "La tarea larga queda sola");
+        assertEquals(5, EjecutorRoboTrabajo.dividir(prefijos, 4, 6));
+        assertEquals(1, EjecutorRoboTrabajo.dividir(new long[] {0, 500, 501}, 0, 2), "Siempre quedan dos mitades");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Los trabajadores se roban tramos y la carga queda repartida")
+    void testRoboYEquilibrio() {
+        int paralelismo = 4;
+        List<TareaMedida> tareas = new ArrayList<>();
+        tareas.add(new TareaMedida(0, 200));
+        for (int i = 1; i < 64; i++) {
+            tareas.add(new TareaMedida(i, 5));
+        }
+        long costoTotal = 200 + 63 * 5;
+
+        InformeEjecucionParalela informe;
+        try (EjecutorRoboTrabajo ejecutor = new EjecutorRoboTrabajo(paralelismo)) {
+            informe = ejecutor.ejecutar(tareas);
+        }
+
+        assertEquals(64, informe.obtenerTotal());
+        assertEquals(64, informe.contar(EstadoEjecucion.COMPLETADA));
+        for (TareaMedida tarea : tareas) {
+            assertEquals(1, tarea.ejecuciones.get(), "Cada tarea se ejecuta una sola vez");
+        }
+        assertTrue(informe.contarTramos() >= paralelismo, "Tramos: " + informe.contarTramos());
+        assertTrue(informe.contarRobos() > 0, "Los trabajadores ociosos roban tramos");
+        assertTrue(informe.contarRobos() < informe.contarTramos());
+        assertEquals(64, Arrays.stream(informe.getAccionesPorTrabajador()).sum());
+        assertEquals(costoTotal, Arrays.stream(informe.getCostoPorTrabajador()).sum());
+        assertTrue(informe.getAccionesPorTrabajador().length >= paralelismo);
+        double desequilibrio = informe.calcularDesequilibrio();
+        assertTrue(desequilibrio >= 1.0 && desequilibrio < paralelismo, "Desequilibrio: " + desequilibrio);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Las acciones inválidas se rechazan y los fallos no detienen el lote")
+    void testRechazosYFallos() {
+        IllegalStateException error = new IllegalStateException("Fallo de prueba");
+        List<Accionable> lote = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            TareaMedida tarea = new TareaMedida(i, 1);
+            if (i % 3 == 1) {
+                tarea.setNombre("Fallida " + i);
+                tarea.fallo = error;
+            }
+            lote.add(tarea);
+        }
+        lote.add(new TareaNormal(30, " ", 2, "Trabajo", 10));
+
+        try (EjecutorRoboTrabajo ejecutor = new EjecutorRoboTrabajo(2)) {
+            InformeEjecucionParalela informe = ejecutor.ejecutar(lote);
+            assertEquals(20, informe.contar(EstadoEjecucion.COMPLETADA));
+            assertEquals(10, informe.contar(EstadoEjecucion.FALLIDA));
+            assertEquals(1, informe.contar(EstadoEjecucion.RECHAZADA));
+            assertEquals(0, informe.contar(EstadoEjecucion.VENCIDA));
+            assertEquals(10, informe.getErrores().size());
+            assertSame(error, informe.getErrores().get(0));
+
+            InformeEjecucionParalela vacio = ejecutor.ejecutar(List.of());
+            assertEquals(0, vacio.obtenerTotal());
+            assertEquals(0, vacio.contarTramos());
+            assertEquals(1.0, vacio.calcularDesequilibrio());
+
+            assertThrows(IllegalArgumentException.class, () -> ejecutor.ejecutar(null));
+            assertThrows(IllegalArgumentException.class, () -> ejecutor.ejecutar(Arrays.asList(lote.get(0), null)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EjecutorRoboTrabajo(0));
+    }
+
+    /**
+     * Tarea normal cuya ejecución espera tantos milisegundos como su tiempo estimado
+     * y cuenta cuántas veces se ejecutó.
+     */
+    private static class TareaMedida extends TareaNormal {
+        private final AtomicInteger ejecuciones = new AtomicInteger();
+        private RuntimeException fallo;
+
+        TareaMedida(int id, int tiempoEstimado) {
+            super(id, "Medida " + id, 2, "Trabajo", tiempoEstimado);
+        }
+
+        @Override
+        public void ejecutar() {
+            ejecuciones.incrementAndGet();
+            if (fallo != null) {
+                throw fallo;
+            }
+            try {
+                Thread.sleep(getTiempoEstimado());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
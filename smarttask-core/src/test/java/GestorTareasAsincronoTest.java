@@ -0,0 +1,260 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Suite de pruebas unitarias para las clases GestorTareasAsincrono y VistaTareas.
+ * Verifica que las escrituras se vean en las lecturas encadenadas, el uso desde muchos
+ * hilos a la vez, que los futuros no se completen en el hilo escritor y el cierre.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasAsincrono")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasAsincronoTest {
+
+    private GestorTareasAsincrono gestor;
+
+    @BeforeEach
+    void setUp() {
+        gestor = new GestorTareasAsincrono();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gestor.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Una lectura encadenada a una escritura ya observa su efecto")
+    void testLecturaDespuesDeEscritura() {
+        Tarea tarea = gestor.agregarTarea("Preparar informe", 3).join();
+        Tarea leida = gestor.agregarTarea("Revisar correo", 1)
+            .thenCompose(otra -> gestor.buscarTareaPorId(tarea.getId())).join();
+        assertEquals(tarea.getId(), leida.getId());
+        assertEquals("Preparar informe", leida.getNombre());
+
+        VistaTareas vista = gestor.marcarComoCompletada(tarea.getId())
+            .thenCompose(completada -> gestor.obtenerEstadisticas()).join();
+        assertEquals(2, vista.obtenerTotalTareas());
+        assertEquals(1, vista.contarTareasCompletadas());
+        assertEquals(1, vista.contarTareasPendientes());
+        assertEquals(1, vista.contarPorPrioridad(3));
+        assertEquals(50.0, vista.calcularPorcentajeCompletadas(), 0.001);
+
+        assertTrue(gestor.eliminarTarea(tarea.getId()).join());
+        assertNull(gestor.buscarTareaPorId(tarea.getId()).join());
+        assertFalse(gestor.eliminarTarea(tarea.getId()).join());
+        assertEquals(1, gestor.listarTareas().join().size());
+        assertEquals(2, vista.obtenerTotalTareas(), "Una vista ya entregada no cambia");
+
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> gestor.agregarTarea(" ", 2).join());
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+
+        Tarea[] lote = {new TareaNormal(0, "Lote A", 2), new TareaUrgente(0, "Lote B", 3)};
+        ResultadoLote resultado = gestor.agregarTareas(lote).join();
+        assertEquals(2, resultado.contarExitosos());
+        assertEquals(3, gestor.obtenerVista().obtenerTotalTareas());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Muchos escritores y lectores a la vez sin perder escrituras ni ver vistas inconsistentes")
+    void testEscritoresYLectoresConcurrentes() throws Exception {
+        int escritores = 8;
+        int porEscritor = 2_000;
+        AtomicBoolean terminado = new AtomicBoolean();
+        ExecutorService hilos = Executors.newFixedThreadPool(escritores + 2);
+        try {
+            List<Future<List<CompletableFuture<Tarea>>>> envios = new ArrayList<>();
+            for (int e = 0; e < escritores; e++) {
+                int escritor = e;
+                envios.add(hilos.submit(() -> {
+                    List<CompletableFuture<Tarea>> futuros = new ArrayList<>();
+                    for (int i = 0; i < porEscritor; i++) {
+                        futuros.add(gestor.agregarTarea("E" + escritor + "-" + i, 1 + i % 3));
+                    }
+                    return futuros;
+                }));
+            }
+            List<Future<Integer>> lectores = new ArrayList<>();
+            for (int l = 0; l < 2; l++) {
+                lectores.add(hilos.submit(() -> {
+                    int lecturas = 0;
+                    long versionAnterior = -1;
+                    while (!terminado.get()) {
+                        VistaTareas vista = gestor.obtenerVista();
+                        assertTrue(vista.obtenerVersion() >= versionAnterior, "Las vistas no retroceden");
+                        versionAnterior = vista.obtenerVersion();
+                        int suma = 0;
+                        for (int p = 1; p <= 3; p++) {
+                            suma += vista.contarPorPrioridad(p);
+                        }
+                        assertEquals(vista.obtenerTotalTareas(), suma);
+                        assertEquals(vista.obtenerTotalTareas(), vista.listarTareas().size());
+                        lecturas++;
+                    }
+                    return lecturas;
+                }));
+            }
+
+            Set<Integer> ids = new HashSet<>();
+            for (Future<List<CompletableFuture<Tarea>>> envio : envios) {
+                for (CompletableFuture<Tarea> futuro : envio.get()) {
+                    assertTrue(ids.add(futuro.join().getId()), "Cada alta recibe un ID propio");
+                }
+            }
+            terminado.set(true);
+            for (Future<Integer> lector : lectores) {
+                assertTrue(lector.get() > 0);
+            }
+            assertEquals(escritores * porEscritor, ids.size());
+            assertEquals(escritores * porEscritor, gestor.obtenerVista().obtenerTotalTareas());
+        } finally {
+            terminado.set(true);
+            hilos.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Las etapas dependientes no se ejecutan en el hilo escritor")
+    void testEtapasFueraDelEscritor() {
+        List<CompletableFuture<String>> hilos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            hilos.add(gestor.agregarTarea("Tarea " + i, 2).thenApply(tarea -> Thread.currentThread().getName()));
+        }
+        for (CompletableFuture<String> hilo : hilos) {
+            assertNotEquals("smarttask-escritor", hilo.join());
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Al cerrar se aplican las escrituras encoladas y se rechazan las nuevas")
+    void testCierre() {
+        GestorTareas existente = new GestorTareas();
+        existente.agregarTarea("Existente", 2);
+        GestorTareasAsincrono envoltorio = new GestorTareasAsincrono(existente);
+        assertEquals(1, envoltorio.obtenerVista().obtenerTotalTareas(), "Las tareas existentes se ven de inmediato");
+
+        List<CompletableFuture<Tarea>> encoladas = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            encoladas.add(envoltorio.agregarTarea("Encolada " + i, 1));
+        }
+        envoltorio.close();
+        for (CompletableFuture<Tarea> futuro : encoladas) {
+            assertNotNull(futuro.join());
+        }
+        assertEquals(501, envoltorio.obtenerVista().obtenerTotalTareas());
+
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> envoltorio.agregarTarea("Tarde", 1).join());
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertNotNull(envoltorio.buscarTareaPorId(1).join(), "Las lecturas siguen funcionando");
+
+        assertThrows(IllegalArgumentException.class, () -> new GestorTareasAsincrono(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Cada vista conserva sus tareas por ID tras bajas y cambios posteriores")
+    void testBusquedaPorIdTrasBajas() {
+        List<Tarea> altas = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            altas.add(gestor.agregarTarea("Tarea " + i, 1 + i % 3).join());
+        }
+        VistaTareas antes = gestor.obtenerVista();
+        for (Tarea tarea : altas) {
+            assertEquals(tarea.getNombre(), antes.buscarTareaPorId(tarea.getId()).getNombre());
+        }
+
+        // Las bajas desordenan la lista del gestor: la última tarea ocupa el lugar de la eliminada
+        for (int i = 0; i < altas.size(); i += 3) {
+            assertTrue(gestor.eliminarTarea(altas.get(i).getId()).join());
+        }
+        VistaTareas despues = gestor.marcarComoCompletada(altas.get(1).getId())
+            .thenApply(completada -> gestor.obtenerVista()).join();
+        for (int i = 0; i < altas.size(); i++) {
+            Tarea tarea = altas.get(i);
+            Tarea enAntes = antes.buscarTareaPorId(tarea.getId());
+            assertEquals(tarea.getNombre(), enAntes.getNombre(), "Una vista ya entregada no cambia");
+            assertFalse(enAntes.isCompletado(), "Una vista ya entregada no ve escrituras posteriores");
+            if (i % 3 == 0) {
+                assertNull(despues.buscarTareaPorId(tarea.getId()));
+            } else {
+                assertEquals(tarea.getNombre(), despues.buscarTareaPorId(tarea.getId()).getNombre());
+                assertEquals(i == 1, despues.buscarTareaPorId(tarea.getId()).isCompletado());
+            }
+        }
+        List<Tarea> listadas = despues.listarTareas();
+        assertEquals(200, listadas.size());
+        for (int i = 1; i < listadas.size(); i++) {
+            assertTrue(listadas.get(i - 1).getId() < listadas.get(i).getId(), "Las tareas se listan por ID");
+        }
+        assertEquals(300, antes.listarTareas().size());
+        assertNull(despues.buscarTareaPorId(0));
+        assertNull(despues.buscarTareaPorId(-1));
+        assertNull(despues.buscarTareaPorId(Integer.MAX_VALUE));
+        assertEquals(200, despues.obtenerTotalTareas());
+        assertEquals(1, despues.contarTareasCompletadas());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Modificar una tarea leída no afecta al gestor ni a la vista")
+    void testLecturasDesvinculadas() {
+        GestorTareas envuelto = new GestorTareas();
+        try (GestorTareasAsincrono fachada = new GestorTareasAsincrono(envuelto)) {
+            Tarea creada = fachada.agregarTarea("Original", 1).join();
+            fachada.agregarTareas(new Tarea[] {new TareaNormal(0, "Normal", 2, "Trabajo", 45),
+                                               new TareaUrgente(0, "Urgente", 3)}).join();
+
+            creada.setPrioridad(3);
+            creada.setNombre("Cambiada por la respuesta");
+            Tarea leida = fachada.buscarTareaPorId(creada.getId()).join();
+            leida.setPrioridad(2);
+            leida.marcarCompletada();
+            for (Tarea tarea : fachada.listarTareas().join()) {
+                tarea.setPrioridad(1);
+                tarea.marcarCompletada();
+            }
+            TareaNormal normal = (TareaNormal) fachada.listarTareas().join().get(1);
+            assertEquals("Trabajo", normal.getCategoria());
+            assertEquals(45, normal.getTiempoEstimado());
+            normal.setCategoria("Otra");
+            assertInstanceOf(TareaUrgente.class, fachada.listarTareas().join().get(2));
+
+            Tarea enGestor = envuelto.buscarTareaPorId(creada.getId());
+            assertEquals("Original", enGestor.getNombre());
+            assertEquals(1, enGestor.getPrioridad());
+            assertFalse(enGestor.isCompletado());
+            assertEquals(0, envuelto.contarTareasCompletadas());
+            assertEquals(1, envuelto.contarPorPrioridad(1));
+            assertEquals(1, envuelto.contarPorPrioridad(3));
+            assertEquals("Trabajo", ((TareaNormal) envuelto.buscarTareaPorId(normal.getId())).getCategoria());
+
+            VistaTareas vista = fachada.obtenerVista();
+            Tarea enVista = vista.buscarTareaPorId(creada.getId());
+            assertEquals("Original", enVista.getNombre());
+            assertEquals(1, enVista.getPrioridad());
+            assertFalse(enVista.isCompletado());
+            assertEquals(0, vista.contarTareasCompletadas());
+            assertNotSame(enVista, vista.buscarTareaPorId(creada.getId()), "Cada lectura recibe su propia copia");
+        }
+    }
+}
@@ -0,0 +1,326 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Suite de pruebas para la clase GestorTareasColumnar.
+ * Verifica las operaciones del gestor sobre las columnas, la conservación de los atributos
+ * de cada tipo de tarea, la escritura de los setters de las vistas en las columnas y que
+ * los resultados coincidan con los de {@link GestorTareas}.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasColumnar")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasColumnarTest {
+
+    private GestorTareasColumnar gestor;
+
+    @BeforeEach
+    void setUp() {
+        gestor = new GestorTareasColumnar();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Altas, bajas, consultas y estadísticas sobre las columnas")
+    void testOperacionesBasicas() {
+        assertTrue(gestor.estaVacia());
+        Tarea primera = gestor.agregarTarea("  Primera  ", GestorTareas.PRIORIDAD_ALTA);
+        gestor.agregarTarea("Segunda", GestorTareas.PRIORIDAD_BAJA);
+        gestor.agregarTarea("Tercera", GestorTareas.PRIORIDAD_ALTA);
+
+        assertEquals(1, primera.getId());
+        assertEquals("Primera", gestor.buscarTareaPorId(1).getNombre());
+        assertTrue(gestor.marcarComoCompletada(3));
+        assertFalse(gestor.marcarComoCompletada(99));
+
+        assertEquals(3, gestor.obtenerTotalTareas());
+        assertEquals(1, gestor.contarTareasCompletadas());
+        assertEquals(2, gestor.contarTareasPendientes());
+        assertEquals(2, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+        assertEquals(0, gestor.contarPorPrioridad(7));
+        assertEquals(List.of(1, 3), ids(gestor.filtrarPorPrioridad(GestorTareas.PRIORIDAD_ALTA)));
+        assertEquals(List.of(3), ids(gestor.obtenerTareasCompletadas()));
+        assertEquals(List.of(1, 2), ids(gestor.obtenerTareasPendientes()));
+        assertEquals(100.0 / 3, gestor.calcularPorcentajeCompletadas(), 0.001);
+
+        long version = gestor.obtenerVersion();
+        assertTrue(gestor.eliminarTarea(1));
+        assertFalse(gestor.eliminarTarea(1));
+        assertTrue(gestor.obtenerVersion() > version);
+        assertNull(gestor.buscarTareaPorId(1));
+        assertEquals(1, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+        // La última tarea ocupa el lugar de la eliminada, con su estado
+        assertEquals(List.of(3, 2), ids(gestor.listarTareas()));
+        assertTrue(gestor.buscarTareaPorId(3).isCompletado());
+        assertEquals(List.of(2), ids(gestor.obtenerTareasPendientes()));
+
+        assertThrows(IllegalArgumentException.class, () -> gestor.agregarTarea(" ", 1));
+        assertThrows(IllegalArgumentException.class, () -> gestor.agregarTarea("Tarea", 4));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Las tareas de cada tipo conservan sus atributos")
+    void testAtributosDeCadaTipo() {
+        LocalDateTime limite = LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_789);
+        TareaUrgente urgente = new TareaUrgente(0, "Urgente", GestorTareas.PRIORIDAD_ALTA, limite, 9, "Melek");
+        urgente.setNotificacionesActivas(false);
+        ResultadoLote resultado = gestor.agregarTareas(new Tarea[] {
+            new TareaNormal(0, "Normal", GestorTareas.PRIORIDAD_MEDIA, "Estudio", 45),
+            urgente,
+            new TareaUrgente(0, "Sin fecha", GestorTareas.PRIORIDAD_BAJA, null, 3, null)
+        });
+        assertEquals(3, resultado.contarExitosos());
+
+        TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(1);
+        assertEquals("Estudio", normal.getCategoria());
+        assertEquals(45, normal.getTiempoEstimado());
+
+        TareaUrgente leida = (TareaUrgente) gestor.buscarTareaPorId(2);
+        assertNotSame(urgente, leida, "Cada consulta crea una vista nueva");
+        assertEquals(limite, leida.getFechaLimite());
+        assertEquals(9, leida.getNivelCriticidad());
+        assertEquals("Melek", leida.getResponsable());
+        assertFalse(leida.isNotificacionesActivas());
+        assertNull(((TareaUrgente) gestor.buscarTareaPorId(3)).getFechaLimite());
+
+        assertEquals(2, gestor.contarUrgentesPorCriticidad(3));
+        assertEquals(1, gestor.contarUrgentesPorCriticidad(5));
+        assertEquals(0, gestor.contarUrgentesPorCriticidad(10));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Los setters de las vistas y de las tareas agregadas escriben en las columnas")
+    void testSettersEscribenEnColumnas() {
+        gestor.agregarTarea("Original", GestorTareas.PRIORIDAD_BAJA);
+        gestor.agregarTarea("Otra", GestorTareas.PRIORIDAD_BAJA);
+        TareaUrgente agregada = new TareaUrgente(0, "Urgente", GestorTareas.PRIORIDAD_MEDIA, null, 4, "Ana");
+        gestor.agregarTareas(new Tarea[] {agregada});
+
+        Tarea tarea = gestor.buscarTareaPorId(1);
+        tarea.setNombre("Renombrada");
+        tarea.setPrioridad(GestorTareas.PRIORIDAD_ALTA);
+        tarea.setCompletado(true);
+        tarea.setId(40);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setId(2));
+        assertEquals(40, tarea.getId());
+
+        agregada.setNivelCriticidad(10);
+        agregada.setResponsable("Luis");
+
+        assertNull(gestor.buscarTareaPorId(1));
+        Tarea leida = gestor.buscarTareaPorId(40);
+        assertEquals("Renombrada", leida.getNombre());
+        assertEquals(GestorTareas.PRIORIDAD_ALTA, leida.getPrioridad());
+        assertTrue(leida.isCompletado());
+        assertEquals(1, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+        assertEquals(1, gestor.contarTareasCompletadas());
+        assertEquals("Luis", ((TareaUrgente) gestor.buscarTareaPorId(3)).getResponsable());
+        assertEquals(1, gestor.contarUrgentesPorCriticidad(10));
+        assertEquals(41, gestor.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+
+        // Una vista de una tarea eliminada queda desvinculada
+        Tarea eliminada = gestor.buscarTareaPorId(2);
+        gestor.eliminarTarea(2);
+        eliminada.setCompletado(true);
+        assertEquals(1, gestor.contarTareasCompletadas());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: limpiarTodas reinicia las columnas y desvincula las vistas entregadas")
+    void testLimpiarTodas() {
+        Tarea vista = gestor.agregarTarea("Antes", GestorTareas.PRIORIDAD_MEDIA);
+        gestor.limpiarTodas();
+        assertTrue(gestor.estaVacia());
+        assertEquals(0, gestor.contarTareasCompletadas());
+
+        Tarea nueva = gestor.agregarTarea("Después", GestorTareas.PRIORIDAD_BAJA);
+        assertEquals(1, nueva.getId());
+        vista.setPrioridad(GestorTareas.PRIORIDAD_ALTA);
+        vista.setCompletado(true);
+        assertEquals(0, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+        assertEquals(0, gestor.contarTareasCompletadas());
+        assertEquals("Después", gestor.buscarTareaPorId(1).getNombre());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Con muchas altas y bajas los resultados coinciden con GestorTareas")
+    void testCoincideConGestorTareas() {
+        GestorTareas referencia = new GestorTareas();
+        String[] nombres = new String[500];
+        int[] prioridades = new int[500];
+        for (int i = 0; i < nombres.length; i++) {
+            nombres[i] = "Tarea " + i;
+            prioridades[i] = i % 3 + 1;
+        }
+        for (GestorTareas destino : List.of(referencia, gestor)) {
+            destino.agregarTareas(nombres, prioridades);
+            int[] pares = new int[250];
+            int[] multiplosDeTres = new int[166];
+            for (int i = 0; i < pares.length; i++) {
+                pares[i] = (i + 1) * 2;
+            }
+            for (int i = 0; i < multiplosDeTres.length; i++) {
+                multiplosDeTres[i] = (i + 1) * 3;
+            }
+            assertEquals(250, destino.completarTareas(pares).contarExitosos());
+            assertEquals(166, destino.eliminarTareas(multiplosDeTres).contarExitosos());
+            destino.agregarTarea("Final", GestorTareas.PRIORIDAD_ALTA);
+        }
+
+        assertEquals(resumen(referencia.listarTareas()), resumen(gestor.listarTareas()));
+        assertEquals(resumen(referencia.obtenerTareasCompletadas()), resumen(gestor.obtenerTareasCompletadas()));
+        assertEquals(resumen(referencia.obtenerTareasPendientes()), resumen(gestor.obtenerTareasPendientes()));
+        for (int prioridad = GestorTareas.PRIORIDAD_BAJA; prioridad <= GestorTareas.PRIORIDAD_ALTA; prioridad++) {
+            assertEquals(referencia.contarPorPrioridad(prioridad), gestor.contarPorPrioridad(prioridad));
+            assertEquals(resumen(referencia.filtrarPorPrioridad(prioridad)), resumen(gestor.filtrarPorPrioridad(prioridad)));
+        }
+        assertEquals(referencia.contarTareasCompletadas(), gestor.contarTareasCompletadas());
+        assertEquals(referencia.calcularPorcentajePendientes(), gestor.calcularPorcentajePendientes(), 1e-9);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: obtenerTareasVencidas recorre la columna de fechas límite")
+    void testObtenerTareasVencidas() {
+        LocalDateTime ahora = LocalDateTime.now();
+        gestor.agregarTarea("Común", GestorTareas.PRIORIDAD_BAJA);
+        gestor.agregarTareas(new Tarea[] {
+            new TareaUrgente(0, "Vencida", 3, ahora.minusHours(2), 9, "Ana"),
+            new TareaUrgente(0, "Vigente", 3, ahora.plusHours(2), 9, "Ana"),
+            new TareaUrgente(0, "Sin fecha", 3, null, 9, "Ana"),
+            new TareaNormal(0, "Normal", 2, "Estudio", 30)
+        });
+        assertEquals(List.of(2), ids(gestor.obtenerTareasVencidas()));
+
+        ((TareaUrgente) gestor.buscarTareaPorId(3)).setFechaLimite(ahora.minusMinutes(1));
+        gestor.eliminarTarea(1);
+        assertEquals(List.of(2, 3), ids(gestor.obtenerTareasVencidas()).stream().sorted().toList());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: La columna de extras guarda códigos y los filtros coinciden con GestorTareas")
+    void testFiltrarPorCategoriaYResponsable() {
+        GestorTareas referencia = new GestorTareas();
+        for (GestorTareas destino : List.of(referencia, gestor)) {
+            destino.agregarTarea("Común", GestorTareas.PRIORIDAD_BAJA);
+            destino.agregarTareas(new Tarea[] {
+                new TareaNormal(0, "Leer", 1, "Estudio", 30),
+                new TareaUrgente(0, "Estudio urgente", 3, null, 9, "Estudio"),
+                new TareaNormal(0, "Informe", 2, "Trabajo", 60),
+                new TareaUrgente(0, "Servidor", 3, null, 9, "Ana"),
+                new TareaNormal(0, "Repasar", 2, "Estudio", 45)
+            });
+            destino.eliminarTarea(2);
+            ((TareaNormal) destino.buscarTareaPorId(4)).setCategoria("Estudio");
+        }
+
+        assertEquals(ids(referencia.filtrarPorCategoria("Estudio")).stream().sorted().toList(),
+                     ids(gestor.filtrarPorCategoria("Estudio")).stream().sorted().toList());
+        assertEquals(List.of(4, 6), ids(gestor.filtrarPorCategoria("Estudio")).stream().sorted().toList());
+        assertEquals(List.of(3), ids(gestor.filtrarPorResponsable("Estudio")));
+        assertEquals(List.of(5), ids(gestor.filtrarPorResponsable("Ana")));
+        assertTrue(gestor.filtrarPorCategoria("Trabajo").isEmpty());
+        assertEquals("Estudio", ((TareaNormal) gestor.buscarTareaPorId(6)).getCategoria());
+        assertEquals("Ana", ((TareaUrgente) gestor.buscarTareaPorId(5)).getResponsable());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Las consultas por fecha límite recorren la columna y coinciden con GestorTareas")
+    void testConsultasPorFechaLimite() {
+        GestorTareas referencia = new GestorTareas();
+        LocalDateTime ahora = LocalDateTime.now();
+        for (GestorTareas destino : List.of(referencia, gestor)) {
+            Tarea[] tareas = new Tarea[40];
+            for (int i = 0; i < tareas.length; i++) {
+                // Fechas distintas entre 10 horas atrás y 29 horas adelante, en desorden
+                LocalDateTime limite = i % 8 == 0 ? null : ahora.plusHours((i * 17) % 40 - 10).plusMinutes(1);
+                tareas[i] = new TareaUrgente(0, "Urgente " + i, 3, limite, 5, "Equipo");
+            }
+            destino.agregarTareas(tareas);
+            destino.agregarTarea("Común", 1);
+            destino.eliminarTarea(5);
+            ((TareaUrgente) destino.buscarTareaPorId(9)).setFechaLimite(ahora.plusSeconds(30));
+        }
+
+        assertEquals(nombres(referencia.obtenerTareasVencidas()), nombres(gestor.obtenerTareasVencidas()));
+        assertEquals(nombres(referencia.obtenerTareasPorVencer(12)), nombres(gestor.obtenerTareasPorVencer(12)));
+        assertEquals(nombres(referencia.obtenerProximosVencimientos(7)), nombres(gestor.obtenerProximosVencimientos(7)));
+        assertEquals("Urgente 8", gestor.obtenerProximosVencimientos(1).get(0).getNombre());
+        assertFalse(gestor.obtenerTareasVencidas().isEmpty());
+    }
+
+
+    @Test
+    @Order(9)
+    @DisplayName("Test 009: Un setter sobre una vista anterior no pisa los cambios hechos a través de otra")
+    void testVistasNoSePisan() {
+        gestor.agregarTareas(new Tarea[] {
+            new TareaUrgente(0, "Urgente", 3, null, 5, "Ana"),
+            new TareaNormal(0, "Normal", 2, "Trabajo", 30)
+        });
+        TareaUrgente v1 = (TareaUrgente) gestor.buscarTareaPorId(1);
+        TareaUrgente v2 = (TareaUrgente) gestor.buscarTareaPorId(1);
+        v1.setNivelCriticidad(9);
+        v2.setResponsable("Luis");
+        v1.setNotificacionesActivas(false);
+        v2.setNivelCriticidad(7);
+
+        TareaUrgente urgente = (TareaUrgente) gestor.buscarTareaPorId(1);
+        assertEquals(7, urgente.getNivelCriticidad());
+        assertEquals("Luis", urgente.getResponsable());
+        assertFalse(urgente.isNotificacionesActivas());
+
+        TareaNormal n1 = (TareaNormal) gestor.buscarTareaPorId(2);
+        TareaNormal n2 = (TareaNormal) gestor.buscarTareaPorId(2);
+        n1.setCategoria("Hogar");
+        n2.setTiempoEstimado(45);
+        TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(2);
+        assertEquals("Hogar", normal.getCategoria());
+        assertEquals(45, normal.getTiempoEstimado());
+    }
+    /**
+     * Obtiene los nombres de una lista de tareas, en orden.
+     *
+     * @param tareas Tareas
+     * @return Nombres de las tareas
+     */
+    private static List<String> nombres(List<Tarea> tareas) {
+        return tareas.stream().map(Tarea::getNombre).collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene los IDs de una lista de tareas, en orden.
+     *
+     * @param tareas Tareas
+     * @return IDs de las tareas
+     */
+    private static List<Integer> ids(List<Tarea> tareas) {
+        return tareas.stream().map(Tarea::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Resume un conjunto de tareas sin depender de su orden.
+     *
+     * @param tareas Tareas a resumir
+     * @return Una línea por tarea, ordenadas por ID
+     */
+    private static String resumen(List<Tarea> tareas) {
+        return tareas.stream()
+            .sorted((a, b) -> Integer.compare(a.getId(), b.getId()))
+            .map(t -> t.getId() + "|" + t.getNombre() + "|" + t.getPrioridad() + "|" + t.isCompletado())
+            .collect(Collectors.joining("\n"));
+    }
+}
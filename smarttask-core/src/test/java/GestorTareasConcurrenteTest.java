@@ -0,0 +1,279 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite de pruebas de estrés para la clase GestorTareasConcurrente.
+ * Varios hilos agregan, completan, eliminan y consultan tareas sobre la misma
+ * instancia y se verifican la unicidad de IDs y los invariantes de los contadores.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasConcurrente")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasConcurrenteTest {
+
+    private static final int HILOS = 8;
+    private static final int TAREAS_POR_HILO = 5_000;
+
+    private GestorTareasConcurrente gestor;
+    private ExecutorService ejecutor;
+
+    @BeforeEach
+    @DisplayName("Setup: Inicializar gestor concurrente y pool de hilos")
+    void setUp() {
+        gestor = new GestorTareasConcurrente();
+        ejecutor = Executors.newFixedThreadPool(HILOS);
+    }
+
+    @AfterEach
+    @DisplayName("Teardown: Detener pool de hilos")
+    void tearDown() throws InterruptedException {
+        ejecutor.shutdownNow();
+        assertTrue(ejecutor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Se comporta como GestorTareas en un solo hilo")
+    void testCompatibilidadUnSoloHilo() {
+        GestorTareas comoBase = gestor;
+        Tarea tarea = comoBase.agregarTarea("Tarea", 2);
+
+        assertEquals(1, tarea.getId());
+        assertTrue(comoBase.marcarComoCompletada(1));
+        assertEquals(1, comoBase.contarTareasCompletadas());
+        assertEquals(List.of(tarea), comoBase.filtrarPorPrioridad(2));
+        assertTrue(comoBase.eliminarTarea(1));
+        assertTrue(comoBase.estaVacia());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Agregado concurrente genera IDs únicos")
+    void testIdsUnicosConcurrentes() throws Exception {
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+
+        for (int h = 0; h < HILOS; h++) {
+            resultados.add(ejecutor.submit(() -> {
+                salida.await();
+                for (int i = 0; i < TAREAS_POR_HILO; i++) {
+                    Tarea tarea = gestor.agregarTarea("Tarea " + i, (i % 3) + 1);
+                    assertTrue(ids.add(tarea.getId()), "ID duplicado: " + tarea.getId());
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+
+        int total = HILOS * TAREAS_POR_HILO;
+        assertEquals(total, ids.size(), "Todos los IDs deben ser distintos");
+        assertEquals(total, gestor.obtenerTotalTareas(), "No debe perderse ninguna tarea");
+        for (int id = 1; id <= total; id++) {
+            assertNotNull(gestor.buscarTareaPorId(id), "La tarea " + id + " debe poder encontrarse");
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Operaciones mixtas mantienen los invariantes de contadores")
+    void testInvariantesConOperacionesMixtas() throws Exception {
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+
+        for (int h = 0; h < HILOS; h++) {
+            resultados.add(ejecutor.submit(() -> {
+                salida.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TAREAS_POR_HILO; i++) {
+                    Tarea tarea = gestor.agregarTarea("Tarea " + i, random.nextInt(1, 4));
+                    int otroId = random.nextInt(1, tarea.getId() + 1);
+                    switch (random.nextInt(5)) {
+                        case 0:
+                            gestor.marcarComoCompletada(otroId);
+                            break;
+                        case 1:
+                            gestor.eliminarTarea(otroId);
+                            break;
+                        case 2:
+                            tarea.setPrioridad(random.nextInt(1, 4));
+                            break;
+                        case 3:
+                            gestor.filtrarPorPrioridad(random.nextInt(1, 4)).size();
+                            break;
+                        default:
+                            verificarInvariantes(gestor.listarTareas());
+                    }
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+
+        List<Tarea> tareas = gestor.listarTareas();
+        verificarInvariantes(tareas);
+
+        assertEquals(tareas.size(), gestor.obtenerTotalTareas());
+        assertEquals(tareas.stream().filter(Tarea::isCompletado).count(), gestor.contarTareasCompletadas(),
+                    "El contador de completadas debe coincidir con el recorrido");
+        for (int prioridad = 1; prioridad <= 3; prioridad++) {
+            final int p = prioridad;
+            assertEquals(tareas.stream().filter(t -> t.getPrioridad() == p).count(),
+                        gestor.contarPorPrioridad(prioridad),
+                        "El contador de prioridad " + prioridad + " debe coincidir con el recorrido");
+        }
+        assertEquals(gestor.obtenerTotalTareas(),
+                    gestor.contarTareasCompletadas() + gestor.contarTareasPendientes());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Limpiar durante agregados concurrentes no duplica IDs")
+    void testLimpiarDuranteAgregados() throws Exception {
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+
+        for (int h = 0; h < HILOS; h++) {
+            final boolean limpiador = h == 0;
+            resultados.add(ejecutor.submit(() -> {
+                salida.await();
+                for (int i = 0; i < TAREAS_POR_HILO; i++) {
+                    if (limpiador && i % 500 == 0) {
+                        gestor.limpiarTodas();
+                    } else {
+                        gestor.agregarTarea("Tarea " + i, 1);
+                    }
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+
+        verificarInvariantes(gestor.listarTareas());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Lotes concurrentes reservan bloques de IDs disjuntos")
+    void testLotesConcurrentes() throws Exception {
+        int lotes = 50;
+        int tamanioLote = 100;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+
+        for (int h = 0; h < HILOS; h++) {
+            resultados.add(ejecutor.submit(() -> {
+                salida.await();
+                String[] nombres = new String[tamanioLote];
+                int[] prioridades = new int[tamanioLote];
+                for (int i = 0; i < tamanioLote; i++) {
+                    nombres[i] = "Tarea " + i;
+                    prioridades[i] = (i % 3) + 1;
+                }
+                for (int l = 0; l < lotes; l++) {
+                    ResultadoLote alta = gestor.agregarTareas(nombres, prioridades);
+                    for (int i = 0; i < alta.obtenerTotal(); i++) {
+                        assertTrue(ids.add(alta.obtenerId(i)), "ID duplicado: " + alta.obtenerId(i));
+                    }
+                    int[] pares = new int[tamanioLote / 2];
+                    for (int i = 0; i < pares.length; i++) {
+                        pares[i] = alta.obtenerId(i * 2);
+                    }
+                    assertTrue(gestor.completarTareas(pares).todosExitosos());
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+
+        assertEquals(HILOS * lotes * tamanioLote, gestor.obtenerTotalTareas());
+        assertEquals(gestor.obtenerTotalTareas() / 2, gestor.contarTareasCompletadas());
+        verificarInvariantes(gestor.listarTareas());
+    }
+
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Tras limpiar mientras se agregan, los IDs siguen siendo únicos y el índice resuelve cada tarea")
+    void testIdsUnicosTrasLimpiarDuranteAltas() throws Exception {
+        int porHilo = 400;
+        for (int ronda = 0; ronda < 200; ronda++) {
+            gestor.limpiarTodas();
+            CountDownLatch salida = new CountDownLatch(1);
+            List<Future<?>> resultados = new ArrayList<>();
+            for (int h = 0; h < HILOS - 1; h++) {
+                final boolean porLotes = h % 2 == 0;
+                resultados.add(ejecutor.submit(() -> {
+                    salida.await();
+                    for (int i = 0; i < porHilo; i++) {
+                        if (porLotes) {
+                            gestor.agregarTareas(new String[] {"A", "B"}, new int[] {1, 3});
+                        } else {
+                            gestor.agregarTarea("Tarea", 2);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            salida.countDown();
+            Thread.sleep(0, 200_000);
+            gestor.limpiarTodas();
+            for (Future<?> resultado : resultados) {
+                resultado.get(30, TimeUnit.SECONDS);
+            }
+
+            // Se sigue agregando para que el contador vuelva a pasar por los IDs
+            // que se hubieran asignado antes del reinicio
+            for (int i = 0; i < HILOS * porHilo * 2; i++) {
+                gestor.agregarTarea("Posterior", 1);
+            }
+
+            List<Tarea> tareas = gestor.listarTareas();
+            verificarInvariantes(tareas);
+            for (Tarea tarea : tareas) {
+                assertSame(tarea, gestor.buscarTareaPorId(tarea.getId()), "El índice debe resolver cada tarea: " + tarea.getId());
+            }
+        }
+    }
+    /**
+     * Verifica que una instantánea no tenga IDs repetidos y que cada tarea
+     * pueda resolverse por su ID.
+     *
+     * @param tareas Instantánea obtenida con listarTareas
+     */
+    private void verificarInvariantes(List<Tarea> tareas) {
+        Set<Integer> ids = new HashSet<>();
+        for (Tarea tarea : tareas) {
+            assertTrue(ids.add(tarea.getId()), "ID repetido en la lista: " + tarea.getId());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Suite de pruebas para la clase GestorTareasParticionado.
+ * Verifica que las operaciones por ID, las consultas combinadas y las estadísticas
+ * sumadas entre particiones se comporten igual que en GestorTareas.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasParticionado")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasParticionadoTest {
+
+    private GestorTareasParticionado gestor;
+
+    @BeforeEach
+    @DisplayName("Setup: Inicializar gestor con 4 particiones")
+    void setUp() {
+        gestor = new GestorTareasParticionado(4);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: La cantidad de particiones se redondea a potencia de 2")
+    void testCantidadParticiones() {
+        assertEquals(4, gestor.obtenerCantidadParticiones());
+        assertEquals(8, new GestorTareasParticionado(5).obtenerCantidadParticiones());
+        assertEquals(1, new GestorTareasParticionado(1).obtenerCantidadParticiones());
+        assertThrows(IllegalArgumentException.class, () -> new GestorTareasParticionado(0));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Operaciones básicas y estadísticas sumadas")
+    void testOperacionesBasicas() {
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, gestor.agregarTarea("Tarea " + i, (i % 3) + 1).getId());
+        }
+        gestor.marcarComoCompletada(2);
+        gestor.marcarComoCompletada(7);
+        gestor.eliminarTarea(3);
+
+        assertEquals(9, gestor.obtenerTotalTareas());
+        assertEquals(2, gestor.contarTareasCompletadas());
+        assertEquals(7, gestor.contarTareasPendientes());
+        assertEquals(2, gestor.contarPorPrioridad(1));
+        assertEquals(2, gestor.filtrarPorPrioridad(1).size());
+        assertEquals(22.22, gestor.calcularPorcentajeCompletadas(), 0.01);
+        assertNull(gestor.buscarTareaPorId(3));
+
+        List<Tarea> tareas = gestor.listarTareas();
+        for (int i = 1; i < tareas.size(); i++) {
+            assertTrue(tareas.get(i - 1).getId() < tareas.get(i).getId(), "La lista debe estar ordenada por ID");
+        }
+
+        gestor.limpiarTodas();
+        assertTrue(gestor.estaVacia());
+        assertEquals(1, gestor.agregarTarea("Nueva", 1).getId(), "El ID debe reiniciarse a 1");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Cambiar el ID traslada la tarea a su nueva partición")
+    void testCambioIdTrasladaParticion() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 2);
+        Tarea t2 = gestor.agregarTarea("Tarea 2", 2);
+
+        t1.setId(42);
+
+        assertSame(t1, gestor.buscarTareaPorId(42));
+        assertNull(gestor.buscarTareaPorId(1));
+        assertEquals(2, gestor.obtenerTotalTareas());
+        assertEquals(43, gestor.agregarTarea("Tarea 3", 1).getId());
+
+        assertThrows(IllegalArgumentException.class, () -> t2.setId(42));
+        assertSame(t2, gestor.buscarTareaPorId(2));
+
+        t1.setPrioridad(3);
+        assertEquals(1, gestor.contarPorPrioridad(3), "La partición destino debe recibir las notificaciones");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Escrituras concurrentes mantienen IDs únicos y contadores")
+    void testEscriturasConcurrentes() throws Exception {
+        int hilos = 8;
+        int tareasPorHilo = 5_000;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+        try {
+            for (int h = 0; h < hilos; h++) {
+                resultados.add(ejecutor.submit(() -> {
+                    salida.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < tareasPorHilo; i++) {
+                        Tarea tarea = gestor.agregarTarea("Tarea", random.nextInt(1, 4));
+                        assertTrue(ids.add(tarea.getId()), "ID duplicado: " + tarea.getId());
+                        if (random.nextBoolean()) {
+                            gestor.marcarComoCompletada(random.nextInt(1, tarea.getId() + 1));
+                        } else if (random.nextInt(4) == 0) {
+                            gestor.eliminarTarea(random.nextInt(1, tarea.getId() + 1));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            salida.countDown();
+            for (Future<?> resultado : resultados) {
+                resultado.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+
+        List<Tarea> tareas = gestor.listarTareas();
+        assertEquals(hilos * tareasPorHilo, ids.size());
+        assertEquals(tareas.size(), gestor.obtenerTotalTareas());
+        assertEquals(tareas.stream().filter(Tarea::isCompletado).count(), gestor.contarTareasCompletadas());
+        assertEquals(gestor.obtenerTotalTareas(),
+                    gestor.contarPorPrioridad(1) + gestor.contarPorPrioridad(2) + gestor.contarPorPrioridad(3));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Los lotes se reparten entre particiones y conservan el orden de entrada")
+    void testOperacionesPorLotes() {
+        ResultadoLote alta = gestor.agregarTareas(
+            new String[] {"A", "B", "C", "D", "E", "F"}, new int[] {1, 2, 3, 1, 2, 3});
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6}, alta.obtenerIdsExitosos());
+        assertEquals(6, gestor.listarTareas().size());
+
+        ResultadoLote completadas = gestor.completarTareas(new int[] {6, 9, 1, 5});
+        assertTrue(completadas.fueExitoso(0));
+        assertFalse(completadas.fueExitoso(1));
+        assertTrue(completadas.fueExitoso(3));
+        assertEquals(3, gestor.contarTareasCompletadas());
+
+        ResultadoLote eliminadas = gestor.eliminarTareas(new int[] {8, 4, 1});
+        assertArrayEquals(new int[] {4, 1}, eliminadas.obtenerIdsExitosos());
+        assertArrayEquals(new int[] {8}, eliminadas.obtenerIdsFallidos());
+        assertEquals(4, gestor.obtenerTotalTareas());
+        assertEquals(2, gestor.contarTareasCompletadas());
+        assertEquals(7, gestor.agregarTarea("G", 1).getId());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Un lote de tareas construidas se reparte entre particiones")
+    void testLoteDeTareasConstruidas() {
+        gestor.agregarTarea("Existente", 1);
+        Tarea[] tareas = new Tarea[10];
+        for (int i = 0; i < tareas.length; i++) {
+            tareas[i] = new TareaNormal(0, "Normal " + i, (i % 3) + 1, "Categoría", i);
+        }
+
+        ResultadoLote resultado = gestor.agregarTareas(tareas);
+
+        assertEquals(10, resultado.contarExitosos());
+        assertEquals(11, gestor.obtenerTotalTareas());
+        for (int i = 0; i < tareas.length; i++) {
+            assertSame(tareas[i], gestor.buscarTareaPorId(i + 2));
+        }
+        tareas[4].marcarCompletada();
+        assertEquals(1, gestor.contarTareasCompletadas());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Las consultas por fecha límite combinan las particiones en orden")
+    void testConsultasPorFechaLimite() {
+        GestorTareas referencia = new GestorTareas();
+        LocalDateTime ahora = LocalDateTime.now();
+        for (GestorTareas destino : List.<GestorTareas>of(referencia, gestor)) {
+            Tarea[] tareas = new Tarea[40];
+            for (int i = 0; i < tareas.length; i++) {
+                // Fechas distintas entre 10 horas atrás y 29 horas adelante, en desorden
+                LocalDateTime limite = i % 8 == 0 ? null : ahora.plusHours((i * 17) % 40 - 10).plusMinutes(1);
+                tareas[i] = new TareaUrgente(0, "Urgente " + i, 3, limite, 5, "Equipo");
+            }
+            destino.agregarTareas(tareas);
+            destino.agregarTarea("Común", 1);
+            destino.eliminarTarea(5);
+            ((TareaUrgente) destino.buscarTareaPorId(9)).setFechaLimite(ahora.plusSeconds(30));
+        }
+
+        assertEquals(nombres(referencia.obtenerTareasVencidas()), nombres(gestor.obtenerTareasVencidas()));
+        assertEquals(nombres(referencia.obtenerTareasPorVencer(12)), nombres(gestor.obtenerTareasPorVencer(12)));
+        assertEquals(nombres(referencia.obtenerProximosVencimientos(7)), nombres(gestor.obtenerProximosVencimientos(7)));
+        assertEquals("Urgente 8", gestor.obtenerProximosVencimientos(1).get(0).getNombre());
+        assertFalse(gestor.obtenerTareasVencidas().isEmpty());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Tras limpiar mientras se agregan, los IDs siguen siendo únicos y el índice resuelve cada tarea")
+    void testIdsUnicosTrasLimpiarDuranteAltas() throws Exception {
+        int hilos = 6;
+        int porHilo = 400;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            for (int ronda = 0; ronda < 200; ronda++) {
+                gestor.limpiarTodas();
+                CountDownLatch salida = new CountDownLatch(1);
+                List<Future<?>> resultados = new ArrayList<>();
+                for (int h = 0; h < hilos; h++) {
+                    final boolean porLotes = h % 2 == 0;
+                    resultados.add(ejecutor.submit(() -> {
+                        salida.await();
+                        for (int i = 0; i < porHilo; i++) {
+                            if (porLotes) {
+                                gestor.agregarTareas(new String[] {"A", "B"}, new int[] {1, 3});
+                            } else {
+                                gestor.agregarTarea("Tarea", 2);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                salida.countDown();
+                Thread.sleep(0, 200_000);
+                gestor.limpiarTodas();
+                for (Future<?> resultado : resultados) {
+                    resultado.get(30, TimeUnit.SECONDS);
+                }
+
+                // Se sigue agregando para que el contador vuelva a pasar por los IDs
+                // que se hubieran asignado antes del reinicio
+                for (int i = 0; i < hilos * porHilo * 2; i++) {
+                    gestor.agregarTarea("Posterior", 1);
+                }
+
+                List<Tarea> tareas = gestor.listarTareas();
+                Set<Integer> ids = tareas.stream().map(Tarea::getId).collect(Collectors.toSet());
+                assertEquals(tareas.size(), ids.size(), "No debe haber IDs repetidos");
+                for (Tarea tarea : tareas) {
+                    assertSame(tarea, gestor.buscarTareaPorId(tarea.getId()), "El índice debe resolver cada tarea: " + tarea.getId());
+                }
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Obtiene los nombres de una lista de tareas, en orden.
+     *
+     * @param tareas Tareas
+     * @return Nombres de las tareas
+     */
+    private static List<String> nombres(List<Tarea> tareas) {
+        return tareas.stream().map(Tarea::getNombre).collect(Collectors.toList());
+    }
+}
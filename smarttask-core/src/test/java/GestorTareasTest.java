@@ -2,7 +2,9 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Suite de pruebas unitarias para la clase GestorTareas.
@@ -239,21 +241,28 @@ public class GestorTareasTest {
     
     @Test
     @Order(17)
-    @DisplayName("Test 017: Listar tareas retorna copia defensiva")
-    void testListarTareasRetornaCopiaDefensiva() {
+    @DisplayName("Test 017: Listar tareas retorna instantánea inmutable compartida")
+    void testListarTareasRetornaInstantaneaInmutable() {
         gestor.agregarTarea("Tarea original", 2);
         
         List<Tarea> tareas1 = gestor.listarTareas();
         List<Tarea> tareas2 = gestor.listarTareas();
         
-        assertNotSame(tareas1, tareas2, 
-                     "Cada llamada debe retornar una nueva instancia de lista");
+        assertSame(tareas1, tareas2, 
+                  "Sin cambios intermedios debe reutilizarse la misma instantánea");
         
         // Intentar modificar la lista retornada no debe afectar al gestor
-        tareas1.clear();
+        assertThrows(UnsupportedOperationException.class, tareas1::clear);
         
         assertEquals(1, gestor.obtenerTotalTareas(), 
                     "El gestor debe mantener su estado interno");
+        
+        // Los cambios posteriores generan una instantánea nueva sin alterar la anterior
+        gestor.agregarTarea("Tarea nueva", 1);
+        
+        assertEquals(1, tareas1.size(), "La instantánea entregada no debe cambiar");
+        assertNotSame(tareas1, gestor.listarTareas(), "Debe publicarse una instantánea nueva");
+        assertEquals(2, gestor.listarTareas().size());
     }
     
     // ==================== PRUEBAS DE marcarComoCompletada() ====================
@@ -695,4 +704,395 @@ public class GestorTareasTest {
         assertEquals("🔴", GestorTareas.obtenerEmojPrioridad(3));
         assertEquals("⚪", GestorTareas.obtenerEmojPrioridad(0));
     }
+    
+    // ==================== PRUEBAS DEL ÍNDICE POR ID ====================
+    
+    @Test
+    @Order(49)
+    @DisplayName("Test 049: Eliminar reubica la última tarea sin romper búsquedas")
+    void testEliminarMantieneIndiceConsistente() {
+        for (int i = 1; i <= 100; i++) {
+            gestor.agregarTarea("Tarea " + i, (i % 3) + 1);
+        }
+        
+        for (int id = 1; id <= 100; id += 2) {
+            assertTrue(gestor.eliminarTarea(id), "Debe eliminar la tarea " + id);
+        }
+        
+        assertEquals(50, gestor.obtenerTotalTareas(), "Deben quedar 50 tareas");
+        for (int id = 1; id <= 100; id++) {
+            Tarea tarea = gestor.buscarTareaPorId(id);
+            if (id % 2 == 0) {
+                assertNotNull(tarea, "La tarea " + id + " debe existir");
+                assertEquals(id, tarea.getId(), "El índice debe apuntar a la tarea correcta");
+            } else {
+                assertNull(tarea, "La tarea " + id + " no debe existir");
+            }
+        }
+    }
+    
+    // ==================== PRUEBAS DE CONTADORES INCREMENTALES ====================
+    
+    @Test
+    @Order(50)
+    @DisplayName("Test 050: Contadores reflejan cambios directos sobre la tarea")
+    void testContadoresConSettersDirectos() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 1);
+        Tarea t2 = gestor.agregarTarea("Tarea 2", 2);
+        
+        t1.setCompletado(true);
+        t2.setPrioridad(3);
+        
+        assertEquals(1, gestor.contarTareasCompletadas(), "Debe contar la tarea completada por setter");
+        assertEquals(1, gestor.contarTareasPendientes(), "Debe quedar 1 pendiente");
+        assertEquals(0, gestor.contarPorPrioridad(2), "No debe quedar ninguna tarea media");
+        assertEquals(1, gestor.contarPorPrioridad(3), "Debe haber 1 tarea alta");
+        
+        t1.marcarPendiente();
+        t1.marcarPendiente();
+        
+        assertEquals(0, gestor.contarTareasCompletadas(), "Marcar pendiente dos veces no debe descontar de más");
+        assertEquals(0.0, gestor.calcularPorcentajeCompletadas(), 0.01);
+    }
+    
+    @Test
+    @Order(51)
+    @DisplayName("Test 051: Contadores se ajustan al eliminar y limpiar")
+    void testContadoresAlEliminarYLimpiar() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 3);
+        gestor.agregarTarea("Tarea 2", 3);
+        gestor.marcarComoCompletada(t1.getId());
+        
+        gestor.eliminarTarea(t1.getId());
+        
+        assertEquals(0, gestor.contarTareasCompletadas(), "La completada eliminada no debe contarse");
+        assertEquals(1, gestor.contarPorPrioridad(3), "Debe quedar 1 tarea alta");
+        
+        // Una tarea eliminada ya no afecta a los contadores del gestor
+        t1.setPrioridad(1);
+        t1.setCompletado(false);
+        assertEquals(0, gestor.contarPorPrioridad(1), "La tarea eliminada no debe contarse");
+        
+        gestor.limpiarTodas();
+        
+        assertEquals(0, gestor.contarPorPrioridad(3), "Limpiar debe reiniciar los contadores");
+        assertEquals(0, gestor.contarTareasPendientes());
+    }
+    
+    // ==================== PRUEBAS DE CUBETAS POR PRIORIDAD ====================
+    
+    @Test
+    @Order(52)
+    @DisplayName("Test 052: Filtrar por prioridad retorna vista de solo lectura")
+    void testFiltrarPorPrioridadVistaSoloLectura() {
+        gestor.agregarTarea("Tarea alta", 3);
+        
+        List<Tarea> altas = gestor.filtrarPorPrioridad(3);
+        
+        assertSame(altas, gestor.filtrarPorPrioridad(3), "Debe reutilizar la misma vista");
+        assertThrows(UnsupportedOperationException.class, altas::clear,
+                    "La vista no debe permitir modificaciones");
+        assertTrue(gestor.filtrarPorPrioridad(7).isEmpty(), "Una prioridad inválida debe retornar lista vacía");
+    }
+    
+    @Test
+    @Order(53)
+    @DisplayName("Test 053: Cambiar la prioridad mueve la tarea de cubeta")
+    void testCambioPrioridadMueveDeCubeta() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 1);
+        Tarea t2 = gestor.agregarTarea("Tarea 2", 1);
+        Tarea t3 = gestor.agregarTarea("Tarea 3", 1);
+        
+        t1.setPrioridad(3);
+        gestor.eliminarTarea(t2.getId());
+        
+        assertEquals(List.of(t3), gestor.filtrarPorPrioridad(1), "Solo debe quedar T3 en prioridad baja");
+        assertEquals(List.of(t1), gestor.filtrarPorPrioridad(3), "T1 debe estar en prioridad alta");
+        
+        t3.setPrioridad(2);
+        
+        assertTrue(gestor.filtrarPorPrioridad(1).isEmpty(), "La cubeta baja debe quedar vacía");
+        assertEquals(1, gestor.contarPorPrioridad(2));
+    }
+    
+    // ==================== PRUEBAS DE SINCRONIZACIÓN CON TAREAS ====================
+    
+    @Test
+    @Order(54)
+    @DisplayName("Test 054: Cambiar el ID de una tarea actualiza el índice")
+    void testCambioIdActualizaIndice() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 1);
+        Tarea t2 = gestor.agregarTarea("Tarea 2", 2);
+        
+        t1.setId(50);
+        
+        assertNull(gestor.buscarTareaPorId(1), "El ID anterior no debe resolverse");
+        assertSame(t1, gestor.buscarTareaPorId(50), "El nuevo ID debe resolverse a la tarea");
+        assertEquals(51, gestor.agregarTarea("Tarea 3", 3).getId(),
+                    "Los IDs automáticos no deben colisionar con el nuevo ID");
+        
+        assertThrows(IllegalArgumentException.class, () -> t2.setId(50),
+                    "No debe permitir un ID duplicado");
+        assertEquals(2, t2.getId(), "La tarea debe conservar su ID");
+        assertSame(t2, gestor.buscarTareaPorId(2));
+    }
+    
+    @Test
+    @Order(55)
+    @DisplayName("Test 055: Las tareas eliminadas dejan de notificar al gestor")
+    void testTareaEliminadaSeDesvincula() {
+        Tarea t1 = gestor.agregarTarea("Tarea 1", 1);
+        gestor.agregarTarea("Tarea 2", 1);
+        gestor.eliminarTarea(t1.getId());
+        
+        t1.setId(2);
+        
+        assertEquals(2, t1.getId(), "Una tarea fuera del gestor acepta cualquier ID");
+        assertNotSame(t1, gestor.buscarTareaPorId(2));
+    }
+    
+    @Test
+    @Order(56)
+    @DisplayName("Test 056: La versión solo cambia con altas, bajas y limpiezas")
+    void testVersionCambiaConModificacionesEstructurales() {
+        long inicial = gestor.obtenerVersion();
+        Tarea tarea = gestor.agregarTarea("Tarea", 1);
+        long trasAgregar = gestor.obtenerVersion();
+        
+        tarea.setPrioridad(3);
+        gestor.marcarComoCompletada(tarea.getId());
+        
+        assertTrue(trasAgregar > inicial, "Agregar debe avanzar la versión");
+        assertEquals(trasAgregar, gestor.obtenerVersion(), "Modificar atributos no cambia la versión");
+        
+        gestor.eliminarTarea(tarea.getId());
+        
+        assertTrue(gestor.obtenerVersion() > trasAgregar, "Eliminar debe avanzar la versión");
+    }
+    
+    @Test
+    @Order(57)
+    @DisplayName("Test 057: Agregar un lote asigna IDs consecutivos en orden")
+    void testAgregarTareasLote() {
+        gestor.agregarTarea("Previa", 1);
+        
+        ResultadoLote resultado = gestor.agregarTareas(
+            new String[] {"  Tarea A  ", "Tarea B", "Tarea C"}, new int[] {1, 3, 3});
+        
+        assertTrue(resultado.todosExitosos());
+        assertArrayEquals(new int[] {2, 3, 4}, resultado.obtenerIdsExitosos());
+        assertEquals(4, gestor.obtenerTotalTareas());
+        assertEquals(2, gestor.contarPorPrioridad(3));
+        assertEquals("Tarea A", gestor.buscarTareaPorId(2).getNombre(), "El nombre debe recortarse");
+        assertEquals(5, gestor.agregarTarea("Siguiente", 2).getId());
+    }
+    
+    @Test
+    @Order(58)
+    @DisplayName("Test 058: Un lote con una entrada inválida no agrega ninguna tarea")
+    void testAgregarTareasLoteInvalido() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new String[] {"Tarea A", " "}, new int[] {1, 2}));
+        assertTrue(e.getMessage().contains("posición 1"));
+        assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new String[] {"Tarea A"}, new int[] {4}));
+        assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new String[] {"Tarea A"}, new int[] {1, 2}));
+        
+        assertTrue(gestor.estaVacia());
+        assertEquals(1, gestor.agregarTarea("Tarea", 1).getId(), "No deben consumirse IDs");
+    }
+    
+    @Test
+    @Order(59)
+    @DisplayName("Test 059: Completar un lote informa los IDs inexistentes")
+    void testCompletarTareasLote() {
+        gestor.agregarTareas(new String[] {"A", "B", "C", "D"}, new int[] {1, 1, 2, 3});
+        gestor.marcarComoCompletada(2);
+        
+        ResultadoLote resultado = gestor.completarTareas(new int[] {1, 2, 99, 4});
+        
+        assertEquals(3, resultado.contarExitosos());
+        assertArrayEquals(new int[] {99}, resultado.obtenerIdsFallidos());
+        assertFalse(resultado.fueExitoso(2));
+        assertEquals(3, gestor.contarTareasCompletadas());
+        assertTrue(gestor.buscarTareaPorId(4).isCompletado());
+        assertFalse(gestor.buscarTareaPorId(3).isCompletado());
+        
+        gestor.buscarTareaPorId(1).marcarPendiente();
+        assertEquals(2, gestor.contarTareasCompletadas(), "Las tareas del lote siguen notificando al gestor");
+    }
+    
+    @Test
+    @Order(60)
+    @DisplayName("Test 060: Eliminar un lote mantiene índices, cubetas y contadores")
+    void testEliminarTareasLote() {
+        gestor.agregarTareas(new String[] {"A", "B", "C", "D", "E"}, new int[] {1, 2, 2, 3, 3});
+        gestor.completarTareas(new int[] {2, 4});
+        long version = gestor.obtenerVersion();
+        
+        ResultadoLote resultado = gestor.eliminarTareas(new int[] {2, 5, 2, 7});
+        
+        assertArrayEquals(new int[] {2, 5}, resultado.obtenerIdsExitosos());
+        assertEquals(2, resultado.contarFallidos(), "Un ID repetido solo se elimina una vez");
+        assertEquals(3, gestor.obtenerTotalTareas());
+        assertEquals(1, gestor.contarTareasCompletadas());
+        assertEquals(1, gestor.contarPorPrioridad(2));
+        assertEquals(1, gestor.contarPorPrioridad(3));
+        assertNull(gestor.buscarTareaPorId(5));
+        assertSame(gestor.listarTareas().get(1), gestor.buscarTareaPorId(gestor.listarTareas().get(1).getId()));
+        assertEquals(version + 1, gestor.obtenerVersion(), "El lote avanza la versión una sola vez");
+    }
+    
+    @Test
+    @Order(61)
+    @DisplayName("Test 061: Un lote de tareas construidas conserva su tipo y sus atributos")
+    void testAgregarTareasConstruidas() {
+        gestor.agregarTarea("Existente", 1);
+        TareaNormal normal = new TareaNormal(50, "Estudiar", 2, "Estudio", 90);
+        TareaUrgente urgente = new TareaUrgente(50, "Incidente", 3, null, 9, "DevOps");
+        urgente.setCompletado(true);
+        
+        ResultadoLote resultado = gestor.agregarTareas(new Tarea[] {normal, urgente});
+        
+        assertArrayEquals(new int[] {2, 3}, resultado.obtenerIdsExitosos(), "Los IDs recibidos se reemplazan");
+        assertSame(normal, gestor.buscarTareaPorId(2));
+        assertSame(urgente, gestor.buscarTareaPorId(3));
+        assertEquals("Estudio", normal.getCategoria());
+        assertEquals(1, gestor.contarTareasCompletadas());
+        assertEquals(1, gestor.contarPorPrioridad(3));
+        
+        normal.setPrioridad(3);
+        assertEquals(2, gestor.contarPorPrioridad(3), "Las tareas del lote notifican al gestor");
+    }
+    
+    @Test
+    @Order(62)
+    @DisplayName("Test 062: Un lote de tareas construidas se valida completo antes de agregar")
+    void testAgregarTareasConstruidasInvalidas() {
+        Tarea valida = new Tarea(0, "Válida", 1);
+        assertThrows(IllegalArgumentException.class, () -> gestor.agregarTareas((Tarea[]) null));
+        assertThrows(IllegalArgumentException.class, () -> gestor.agregarTareas(new Tarea[] {valida, null}));
+        assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new Tarea[] {valida, new Tarea(0, " ", 1)}));
+        assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new Tarea[] {valida, new Tarea(0, "Prioridad", 7)}));
+        assertThrows(IllegalArgumentException.class, () -> gestor.agregarTareas(new Tarea[] {valida, valida}));
+        assertTrue(gestor.estaVacia());
+        assertEquals(0, valida.getId(), "Un lote rechazado no modifica las tareas");
+        
+        Tarea propia = gestor.agregarTarea("Propia", 1);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> gestor.agregarTareas(new Tarea[] {propia}));
+        assertTrue(e.getMessage().contains("ya pertenece"));
+    }
+    
+    @Test
+    @Order(63)
+    @DisplayName("Test 063: obtenerTareasVencidas devuelve solo las urgentes con fecha límite pasada")
+    void testObtenerTareasVencidas() {
+        LocalDateTime ahora = LocalDateTime.now();
+        gestor.agregarTarea("Común", 1);
+        gestor.agregarTareas(new Tarea[] {
+            new TareaUrgente(0, "Vencida", 3, ahora.minusHours(2), 9, "Ana"),
+            new TareaUrgente(0, "Vigente", 3, ahora.plusHours(2), 9, "Ana"),
+            new TareaUrgente(0, "Sin fecha", 3, null, 9, "Ana"),
+            new TareaNormal(0, "Normal", 2, "Estudio", 30)
+        });
+        
+        List<Tarea> vencidas = gestor.obtenerTareasVencidas();
+        assertEquals(1, vencidas.size());
+        assertEquals("Vencida", vencidas.get(0).getNombre());
+        
+        ((TareaUrgente) gestor.buscarTareaPorId(3)).setFechaLimite(ahora.minusMinutes(1));
+        assertEquals(2, gestor.obtenerTareasVencidas().size());
+    }
+    
+    @Test
+    @Order(64)
+    @DisplayName("Test 064: Filtrar por categoría y por responsable compara los códigos del diccionario")
+    void testFiltrarPorCategoriaYResponsable() {
+        gestor.agregarTarea("Común", 1);
+        gestor.agregarTareas(new Tarea[] {
+            new TareaNormal(0, "Leer", 1, "Estudio", 30),
+            new TareaNormal(0, "Informe", 2, "Trabajo", 60),
+            new TareaNormal(0, "Repasar", 2, new String("Estudio"), 45),
+            new TareaNormal(0, "Sin categoría", 1, null, 10),
+            new TareaUrgente(0, "Servidor", 3, null, 9, "Ana"),
+            new TareaUrgente(0, "Cliente", 3, null, 7, "Luis"),
+            new TareaUrgente(0, "Sin responsable", 3, null, 5, null)
+        });
+        
+        assertEquals(List.of("Leer", "Repasar"), nombres(gestor.filtrarPorCategoria("Estudio")));
+        assertEquals(List.of("Sin categoría"), nombres(gestor.filtrarPorCategoria(null)));
+        assertTrue(gestor.filtrarPorCategoria("Categoría que nadie usó " + System.nanoTime()).isEmpty());
+        assertEquals(List.of("Servidor"), nombres(gestor.filtrarPorResponsable("Ana")));
+        assertEquals(List.of("Sin responsable"), nombres(gestor.filtrarPorResponsable(null)));
+        assertTrue(gestor.filtrarPorResponsable("Estudio").isEmpty(), "Los diccionarios son independientes");
+        
+        TareaNormal informe = (TareaNormal) gestor.buscarTareaPorId(3);
+        informe.setCategoria("Estudio");
+        assertEquals("Estudio", informe.getCategoria());
+        assertEquals(3, gestor.filtrarPorCategoria("Estudio").size());
+        assertTrue(gestor.filtrarPorCategoria("Trabajo").isEmpty());
+    }
+    
+    @Test
+    @Order(65)
+    @DisplayName("Test 065: El índice de fechas límite responde vencidas, por vencer y próximas en orden")
+    void testIndiceFechasLimite() {
+        LocalDateTime ahora = LocalDateTime.now();
+        gestor.agregarTarea("Común", 1);
+        gestor.agregarTareas(new Tarea[] {
+            new TareaUrgente(0, "En 5 horas", 3, ahora.plusHours(5), 9, "Ana"),
+            new TareaUrgente(0, "Vencida ayer", 3, ahora.minusDays(1), 9, "Ana"),
+            new TareaUrgente(0, "En 1 hora", 3, ahora.plusHours(1), 9, "Ana"),
+            new TareaUrgente(0, "Vencida hace 1 hora", 3, ahora.minusHours(1), 9, "Ana"),
+            new TareaUrgente(0, "Sin fecha", 3, null, 9, "Ana"),
+            new TareaUrgente(0, "En 3 días", 3, ahora.plusDays(3), 9, "Ana"),
+            new TareaNormal(0, "Normal", 2, "Estudio", 30)
+        });
+        
+        assertEquals(List.of("Vencida ayer", "Vencida hace 1 hora"), nombres(gestor.obtenerTareasVencidas()));
+        assertEquals(List.of("En 1 hora", "En 5 horas"), nombres(gestor.obtenerTareasPorVencer(6)));
+        assertTrue(gestor.obtenerTareasPorVencer(0).isEmpty());
+        assertEquals(3, gestor.obtenerTareasPorVencer(Integer.MAX_VALUE).size(), "Una ventana enorme no desborda");
+        assertEquals(List.of("En 1 hora", "En 5 horas"), nombres(gestor.obtenerProximosVencimientos(2)));
+        assertEquals(3, gestor.obtenerProximosVencimientos(10).size());
+        assertTrue(gestor.obtenerProximosVencimientos(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> gestor.obtenerTareasPorVencer(-1));
+        assertThrows(IllegalArgumentException.class, () -> gestor.obtenerProximosVencimientos(-1));
+        
+        // setFechaLimite reubica la tarea en el índice
+        TareaUrgente enTresDias = (TareaUrgente) gestor.buscarTareaPorId(7);
+        enTresDias.setFechaLimite(ahora.plusMinutes(30));
+        assertEquals(List.of("En 3 días", "En 1 hora"), nombres(gestor.obtenerProximosVencimientos(2)));
+        ((TareaUrgente) gestor.buscarTareaPorId(6)).setFechaLimite(ahora.plusHours(2));
+        assertEquals(List.of("En 3 días", "En 1 hora", "Sin fecha", "En 5 horas"),
+                     nombres(gestor.obtenerTareasPorVencer(6)));
+        ((TareaUrgente) gestor.buscarTareaPorId(3)).setFechaLimite(null);
+        assertEquals(List.of("Vencida hace 1 hora"), nombres(gestor.obtenerTareasVencidas()));
+        
+        // Cambiar el ID no desordena el índice; eliminar y limpiar lo vacían
+        enTresDias.setId(100);
+        gestor.eliminarTarea(5);
+        assertTrue(gestor.obtenerTareasVencidas().isEmpty());
+        assertEquals(100, gestor.obtenerProximosVencimientos(1).get(0).getId());
+        enTresDias.setFechaLimite(ahora.minusMinutes(1));
+        assertEquals(List.of(100), gestor.obtenerTareasVencidas().stream().map(Tarea::getId).collect(Collectors.toList()));
+        gestor.limpiarTodas();
+        assertTrue(gestor.obtenerProximosVencimientos(10).isEmpty());
+        enTresDias.setFechaLimite(ahora.minusDays(2));
+        assertTrue(gestor.obtenerTareasVencidas().isEmpty(), "Una tarea de un gestor limpiado ya no se indexa");
+    }
+    
+    /**
+     * Obtiene los nombres de una lista de tareas, en orden.
+     *
+     * @param tareas Tareas
+     * @return Nombres de las tareas
+     */
+    private static List<String> nombres(List<Tarea> tareas) {
+        return tareas.stream().map(Tarea::getNombre).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Suite de pruebas unitarias para la clase IndiceEnteros.
+ * Verifica inserción, búsqueda, eliminación y redimensionamiento del índice.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: IndiceEnteros")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IndiceEnterosTest {
+
+    private IndiceEnteros indice;
+
+    @BeforeEach
+    @DisplayName("Setup: Inicializar IndiceEnteros")
+    void setUp() {
+        indice = new IndiceEnteros();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Índice nuevo está vacío")
+    void testIndiceNuevoVacio() {
+        assertEquals(0, indice.tamanio(), "El índice debe iniciar vacío");
+        assertEquals(IndiceEnteros.AUSENTE, indice.obtener(1), "Una clave inexistente debe retornar AUSENTE");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Poner y obtener valores")
+    void testPonerYObtener() {
+        indice.poner(1, 10);
+        indice.poner(2, 20);
+
+        assertEquals(10, indice.obtener(1));
+        assertEquals(20, indice.obtener(2));
+        assertEquals(2, indice.tamanio());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Poner una clave existente reemplaza el valor")
+    void testPonerReemplaza() {
+        indice.poner(5, 1);
+        indice.poner(5, 2);
+
+        assertEquals(2, indice.obtener(5), "Debe conservar el último valor");
+        assertEquals(1, indice.tamanio(), "No debe duplicar la clave");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: La clave 0 y claves negativas se admiten")
+    void testClaveCeroYNegativas() {
+        indice.poner(0, 7);
+        indice.poner(-3, 8);
+
+        assertEquals(7, indice.obtener(0));
+        assertEquals(8, indice.obtener(-3));
+        assertEquals(7, indice.eliminar(0));
+        assertEquals(IndiceEnteros.AUSENTE, indice.obtener(0));
+        assertEquals(1, indice.tamanio());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Eliminar retorna el valor y deja la clave ausente")
+    void testEliminar() {
+        indice.poner(3, 30);
+
+        assertEquals(30, indice.eliminar(3));
+        assertEquals(IndiceEnteros.AUSENTE, indice.obtener(3));
+        assertEquals(IndiceEnteros.AUSENTE, indice.eliminar(3), "Eliminar dos veces debe retornar AUSENTE");
+        assertEquals(0, indice.tamanio());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Crecimiento conserva todas las entradas")
+    void testRedimensionamiento() {
+        for (int i = 1; i <= 10_000; i++) {
+            indice.poner(i, i * 2);
+        }
+
+        assertEquals(10_000, indice.tamanio());
+        for (int i = 1; i <= 10_000; i++) {
+            assertEquals(i * 2, indice.obtener(i));
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Operaciones aleatorias coinciden con HashMap")
+    void testOperacionesAleatoriasContraHashMap() {
+        Map<Integer, Integer> referencia = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int clave = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                indice.poner(clave, i);
+                referencia.put(clave, i);
+            } else {
+                Integer esperado = referencia.remove(clave);
+                assertEquals(esperado == null ? IndiceEnteros.AUSENTE : esperado, indice.eliminar(clave));
+            }
+        }
+
+        assertEquals(referencia.size(), indice.tamanio());
+        for (int clave = -1_000; clave < 1_000; clave++) {
+            Integer esperado = referencia.get(clave);
+            assertEquals(esperado == null ? IndiceEnteros.AUSENTE : esperado, indice.obtener(clave));
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Limpiar elimina todas las entradas")
+    void testLimpiar() {
+        indice.poner(0, 1);
+        indice.poner(1, 2);
+        indice.limpiar();
+
+        assertEquals(0, indice.tamanio());
+        assertEquals(IndiceEnteros.AUSENTE, indice.obtener(0));
+        assertEquals(IndiceEnteros.AUSENTE, indice.obtener(1));
+    }
+}
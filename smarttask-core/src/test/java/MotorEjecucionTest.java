@@ -0,0 +1,199 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite de pruebas unitarias para la clase MotorEjecucion.
+ * Verifica el límite de concurrencia con acciones bloqueantes, el rechazo de acciones
+ * inválidas, la cancelación por tiempo límite y el registro de fallos y latencias.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: MotorEjecucion")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MotorEjecucionTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Las acciones bloqueantes corren en paralelo sin exceder el límite de concurrencia")
+    void testConcurrenciaLimitada() throws InterruptedException {
+        int cantidad = 400;
+        int limite = 100;
+        long pausa = 50;
+        AtomicInteger enCurso = new AtomicInteger();
+        AtomicInteger pico = new AtomicInteger();
+        List<AccionPrueba> acciones = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            acciones.add(new AccionPrueba(() -> {
+                pico.accumulateAndGet(enCurso.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(pausa);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    enCurso.decrementAndGet();
+                }
+            }));
+        }
+
+        long inicio = System.nanoTime();
+        List<ResultadoEjecucion> resultados;
+        try (MotorEjecucion motor = new MotorEjecucion(limite, Duration.ofSeconds(30))) {
+            resultados = motor.ejecutarTodas(acciones);
+            assertEquals(0, motor.contarEnEjecucion());
+        }
+        long transcurrido = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertTrue(pico.get() <= limite, "Pico de concurrencia: " + pico.get());
+        assertTrue(pico.get() > 1, "Las acciones se ejecutan en paralelo");
+        assertTrue(transcurrido < cantidad * pausa / 4, "Mucho más rápido que en secuencia: " + transcurrido + " ms");
+        for (ResultadoEjecucion resultado : resultados) {
+            assertEquals(EstadoEjecucion.COMPLETADA, resultado.getEstado());
+            assertTrue(resultado.getDuracionNanos() >= TimeUnit.MILLISECONDS.toNanos(pausa));
+            assertTrue(resultado.getLatenciaNanos() >= resultado.getDuracionNanos());
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Las acciones inválidas se rechazan sin ejecutarse")
+    void testAccionesInvalidasRechazadas() throws InterruptedException {
+        TareaNormal valida = new TareaNormal(1, "Revisar informe", 2, "Trabajo", 30);
+        TareaNormal sinNombre = new TareaNormal(2, " ", 2, "Trabajo", 30);
+        TareaUrgente sinFecha = new TareaUrgente(3, "Servidor caído", 3, null, 9, "Equipo");
+        AccionPrueba invalida = new AccionPrueba(() -> fail("No debe ejecutarse"));
+        invalida.valida = false;
+
+        List<ResultadoEjecucion> resultados;
+        try (MotorEjecucion motor = new MotorEjecucion(4, Duration.ofSeconds(5))) {
+            resultados = motor.ejecutarTodas(List.of(valida, sinNombre, sinFecha, invalida));
+        }
+
+        assertEquals(EstadoEjecucion.COMPLETADA, resultados.get(0).getEstado());
+        assertEquals(EstadoEjecucion.RECHAZADA, resultados.get(1).getEstado());
+        assertEquals(EstadoEjecucion.RECHAZADA, resultados.get(2).getEstado());
+        assertEquals(EstadoEjecucion.RECHAZADA, resultados.get(3).getEstado());
+        assertEquals(0, invalida.ejecuciones.get());
+        assertEquals(0, resultados.get(3).getDuracionNanos());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Al vencer el tiempo límite se interrumpe la acción y se invoca cancelar()")
+    void testTiempoLimite() throws Exception {
+        CountDownLatch interrumpida = new CountDownLatch(1);
+        AccionPrueba lenta = new AccionPrueba(() -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+            }
+        });
+        AccionPrueba rapida = new AccionPrueba(() -> { });
+
+        try (MotorEjecucion motor = new MotorEjecucion(1, Duration.ofMillis(100))) {
+            ResultadoEjecucion resultado = motor.enviar(lenta).get();
+            assertEquals(EstadoEjecucion.VENCIDA, resultado.getEstado());
+            assertEquals(1, lenta.cancelaciones.get());
+            assertTrue(interrumpida.await(5, TimeUnit.SECONDS), "El hilo de la acción se interrumpe");
+            assertTrue(resultado.getDuracionNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+
+            // El único cupo vuelve a quedar libre para la siguiente acción
+            assertEquals(EstadoEjecucion.COMPLETADA, motor.enviar(rapida).get().getEstado());
+            assertEquals(0, rapida.cancelaciones.get());
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Los fallos se registran por acción y los resultados conservan el orden")
+    void testFallosYOrden() throws InterruptedException {
+        IllegalStateException error = new IllegalStateException("Fallo de prueba");
+        List<AccionPrueba> acciones = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            long pausa = 20 - i;
+            acciones.add(new AccionPrueba(i % 5 == 0
+                ? () -> { throw error; }
+                : () -> {
+                    try {
+                        Thread.sleep(pausa);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        }
+
+        MotorEjecucion cerrado;
+        try (MotorEjecucion motor = new MotorEjecucion(8, Duration.ofSeconds(5))) {
+            cerrado = motor;
+            List<ResultadoEjecucion> resultados = motor.ejecutarTodas(acciones);
+            for (int i = 0; i < acciones.size(); i++) {
+                ResultadoEjecucion resultado = resultados.get(i);
+                assertSame(acciones.get(i), resultado.getAccion());
+                if (i % 5 == 0) {
+                    assertEquals(EstadoEjecucion.FALLIDA, resultado.getEstado());
+                    assertSame(error, resultado.getError());
+                } else {
+                    assertTrue(resultado.esExitosa());
+                    assertNull(resultado.getError());
+                }
+            }
+            assertThrows(IllegalArgumentException.class, () -> motor.enviar(null));
+            assertThrows(IllegalArgumentException.class, () -> motor.ejecutarTodas(null));
+        }
+        assertThrows(RejectedExecutionException.class, () -> cerrado.enviar(new AccionPrueba(() -> { })));
+
+        assertThrows(IllegalArgumentException.class, () -> new MotorEjecucion(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new MotorEjecucion(1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new MotorEjecucion(1, null));
+    }
+
+    /**
+     * Acción de prueba que ejecuta un cuerpo dado y cuenta ejecuciones y cancelaciones.
+     */
+    private static class AccionPrueba implements Accionable {
+        private final Runnable cuerpo;
+        private final AtomicInteger ejecuciones = new AtomicInteger();
+        private final AtomicInteger cancelaciones = new AtomicInteger();
+        private volatile boolean valida = true;
+
+        AccionPrueba(Runnable cuerpo) {
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public void ejecutar() {
+            ejecuciones.incrementAndGet();
+            cuerpo.run();
+        }
+
+        @Override
+        public void cancelar() {
+            cancelaciones.incrementAndGet();
+        }
+
+        @Override
+        public boolean validar() {
+            return valida;
+        }
+
+        @Override
+        public int obtenerNivelImportancia() {
+            return 1;
+        }
+
+        @Override
+        public String obtenerDescripcionAccion() {
+            return "Acción de prueba";
+        }
+    }
+}
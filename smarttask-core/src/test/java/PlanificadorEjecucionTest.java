@@ -0,0 +1,135 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite de pruebas unitarias para las clases PlanificadorEjecucion y PlanEjecucion.
+ * Verifica el reparto con la tarea más larga primero, el orden por importancia por minuto,
+ * la planificación de las tareas pendientes de un gestor y de lotes grandes.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: PlanificadorEjecucion")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PlanificadorEjecucionTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: La tarea más larga primero asigna cada tarea al trabajador que queda libre antes")
+    void testMasLargaPrimero() {
+        int[] minutos = {3, 5, 4, 3, 5, 3, 4};
+        List<TareaNormal> tareas = new ArrayList<>();
+        for (int i = 0; i < minutos.length; i++) {
+            tareas.add(new TareaNormal(i, "T" + i, 2, "Trabajo", minutos[i]));
+        }
+
+        PlanEjecucion plan = new PlanificadorEjecucion(3).planificar(tareas, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO);
+
+        assertEquals(7, plan.obtenerTotal());
+        assertEquals(List.of(tareas.get(1), tareas.get(0), tareas.get(5)), plan.obtenerSecuencia(0));
+        assertEquals(List.of(tareas.get(4), tareas.get(3)), plan.obtenerSecuencia(1));
+        assertEquals(List.of(tareas.get(2), tareas.get(6)), plan.obtenerSecuencia(2));
+        assertEquals(11, plan.obtenerCarga(0));
+        assertEquals(8, plan.obtenerCarga(2));
+
+        // Es el caso peor clásico: el óptimo es 9 y la heurística queda dentro de 4/3
+        assertEquals(11, plan.obtenerMakespan());
+        assertEquals(9, plan.calcularCotaInferior());
+        assertSame(tareas.get(5), plan.obtenerTarea(6));
+        assertEquals(0, plan.obtenerTrabajador(6));
+        assertEquals(8, plan.obtenerInicio(6));
+        assertEquals(11, plan.obtenerFin(6));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Primero la más valiosa ordena por importancia por minuto y reduce la espera ponderada")
+    void testMasValiosaPrimero() {
+        TareaNormal baja = new TareaNormal(1, "Baja", 1, "Trabajo", 10);
+        TareaNormal alta = new TareaNormal(2, "Alta", 3, "Trabajo", 10);
+        TareaUrgente urgente = new TareaUrgente(3, "Urgente", 3, null, 9, "Equipo");
+        TareaNormal breve = new TareaNormal(4, "Breve", 2, "Trabajo", 5);
+        List<Tarea> tareas = List.of(baja, alta, urgente, breve);
+        PlanificadorEjecucion planificador = new PlanificadorEjecucion(1);
+
+        PlanEjecucion valiosa = planificador.planificar(tareas, PlanificadorEjecucion.Criterio.MAS_VALIOSA_PRIMERO);
+        PlanEjecucion larga = planificador.planificar(tareas, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO);
+
+        // 2/5 > 3/10 = 9/30 (empate resuelto por orden de entrada) > 1/10
+        assertEquals(List.of(breve, alta, urgente, baja), valiosa.obtenerSecuencia(0));
+        assertEquals(List.of(urgente, baja, alta, breve), larga.obtenerSecuencia(0));
+        assertEquals(55, valiosa.obtenerMakespan());
+        assertEquals(55, larga.obtenerMakespan());
+        assertEquals(2 * 5 + 3 * 15 + 9 * 45 + 55, valiosa.calcularFinalizacionPonderada());
+        assertEquals(9 * 30 + 40 + 3 * 50 + 2 * 55, larga.calcularFinalizacionPonderada());
+        assertEquals(PlanificadorEjecucion.Criterio.MAS_VALIOSA_PRIMERO, valiosa.getCriterio());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Se planifican solo las pendientes del gestor y 100.000 tareas en milisegundos")
+    void testGestorYLoteGrande() {
+        GestorTareas gestor = new GestorTareas();
+        gestor.agregarTareas(new Tarea[] {
+            new TareaNormal(0, "Larga", 2, "Trabajo", 90),
+            new TareaNormal(0, "Hecha", 2, "Trabajo", 500),
+            new TareaUrgente(0, "Urgente", 3, null, 8, "Equipo")
+        });
+        gestor.marcarComoCompletada(gestor.listarTareas().get(1).getId());
+        PlanEjecucion pendientes = new PlanificadorEjecucion(2).planificar(gestor, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO);
+        assertEquals(2, pendientes.obtenerTotal());
+        assertEquals(90, pendientes.obtenerMakespan());
+        assertEquals(EjecutorRoboTrabajo.COSTO_DEFECTO, pendientes.obtenerCarga(1));
+
+        Random aleatorio = new Random(7);
+        List<Tarea> lote = new ArrayList<>();
+        int maxima = 0;
+        for (int i = 0; i < 100_000; i++) {
+            int minutos = 1 + aleatorio.nextInt(240);
+            maxima = Math.max(maxima, minutos);
+            lote.add(new TareaNormal(i, "Lote " + i, 1 + i % 3, "Trabajo", minutos));
+        }
+        PlanificadorEjecucion planificador = new PlanificadorEjecucion(64);
+        planificador.planificar(lote, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO);
+
+        long inicio = System.nanoTime();
+        PlanEjecucion plan = planificador.planificar(lote, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO);
+        long milisegundos = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertTrue(milisegundos < 1_000, "Planificar 100.000 tareas tardó " + milisegundos + " ms");
+        assertTrue(plan.obtenerMakespan() - plan.calcularCotaInferior() < maxima);
+        long[] libre = new long[plan.getTrabajadores()];
+        for (int k = 0; k < plan.obtenerTotal(); k++) {
+            int trabajador = plan.obtenerTrabajador(k);
+            assertEquals(libre[trabajador], plan.obtenerInicio(k), "Cada tarea empieza cuando termina la anterior");
+            libre[trabajador] = plan.obtenerFin(k);
+        }
+        for (int t = 0; t < libre.length; t++) {
+            assertEquals(plan.obtenerCarga(t), libre[t]);
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Validación de parámetros y plan vacío")
+    void testValidaciones() {
+        PlanificadorEjecucion planificador = new PlanificadorEjecucion(3);
+        PlanEjecucion vacio = planificador.planificar(new GestorTareas(), PlanificadorEjecucion.Criterio.MAS_VALIOSA_PRIMERO);
+        assertEquals(0, vacio.obtenerTotal());
+        assertEquals(0, vacio.obtenerMakespan());
+        assertTrue(vacio.obtenerSecuencia(2).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorEjecucion(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> planificador.planificar((GestorTareas) null, PlanificadorEjecucion.Criterio.MAS_LARGA_PRIMERO));
+        assertThrows(IllegalArgumentException.class, () -> planificador.planificar(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> vacio.obtenerSecuencia(3));
+        assertThrows(IllegalArgumentException.class, () -> vacio.obtenerTarea(0));
+    }
+}
@@ -0,0 +1,177 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Suite de pruebas unitarias para la clase PlanificadorRecordatorios.
+ * Verifica que cada recordatorio venza en su paso en todos los niveles de la rueda,
+ * la cancelación y reprogramación desde la tarea, y el comportamiento con muchos recordatorios.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: PlanificadorRecordatorios")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PlanificadorRecordatoriosTest {
+
+    /**
+     * Duración de un paso en las pruebas: un segundo.
+     */
+    private static final long PASO = 1_000_000_000L;
+
+    /**
+     * Anticipación de los recordatorios en las pruebas: diez pasos.
+     */
+    private static final long ANTICIPACION = 10 * PASO;
+
+    private List<TareaUrgente> ejecutadas;
+    private PlanificadorRecordatorios planificador;
+
+    @BeforeEach
+    void setUp() {
+        ejecutadas = new ArrayList<>();
+        planificador = new PlanificadorRecordatorios(PASO, ANTICIPACION, 0, ejecutadas::add);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Cada recordatorio vence en su paso, en todos los niveles de la rueda")
+    void testVencimientoEnCadaNivel() {
+        long[] pasos = {1, 255, 256, 257, 70_000, 65_536, 16_777_216, 20_000_000};
+        List<TareaUrgente> tareas = new ArrayList<>();
+        for (long paso : pasos) {
+            TareaUrgente tarea = urgente("Paso " + paso, paso * PASO + ANTICIPACION);
+            assertTrue(planificador.programar(tarea));
+            tareas.add(tarea);
+        }
+        assertEquals(pasos.length, planificador.contarProgramados());
+
+        long[] ordenados = pasos.clone();
+        Arrays.sort(ordenados);
+        for (long paso : ordenados) {
+            int antes = ejecutadas.size();
+            assertEquals(0, planificador.avanzarHasta(paso * PASO - 1), "No vence antes de su paso: " + paso);
+            assertEquals(1, planificador.avanzarHasta(paso * PASO), "Vence en su paso: " + paso);
+            assertEquals("Paso " + paso, ejecutadas.get(antes).getNombre());
+        }
+        assertEquals(0, planificador.contarProgramados());
+        for (TareaUrgente tarea : tareas) {
+            assertFalse(planificador.estaProgramada(tarea));
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Cancelar y desactivar notificaciones quitan el recordatorio; cambiar la fecha lo mueve")
+    void testCancelarYReprogramar() {
+        TareaUrgente cancelada = urgente("Cancelada", 100 * PASO);
+        TareaUrgente silenciada = urgente("Silenciada", 100 * PASO);
+        TareaUrgente desprogramada = urgente("Desprogramada", 100 * PASO);
+        TareaUrgente movida = urgente("Movida", 100 * PASO);
+        for (TareaUrgente tarea : List.of(cancelada, silenciada, desprogramada, movida)) {
+            planificador.programar(tarea);
+        }
+
+        cancelada.cancelar();
+        silenciada.setNotificacionesActivas(false);
+        assertTrue(planificador.cancelar(desprogramada));
+        assertFalse(planificador.cancelar(desprogramada));
+        movida.setFechaLimiteEpochNanos(500 * PASO);
+        assertEquals(1, planificador.contarProgramados());
+
+        assertEquals(0, planificador.avanzarHasta(400 * PASO));
+        assertEquals(1, planificador.avanzarHasta(490 * PASO));
+        assertSame(movida, ejecutadas.get(0));
+
+        // Una vez vencido, cambiar la fecha no vuelve a programarlo
+        movida.setFechaLimiteEpochNanos(900 * PASO);
+        assertFalse(planificador.estaProgramada(movida));
+        assertTrue(planificador.programar(movida));
+        movida.setFechaLimite(null);
+        assertFalse(planificador.estaProgramada(movida), "Sin fecha límite no hay recordatorio");
+        assertEquals(0, planificador.contarProgramados());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Tareas sin notificaciones, sin fecha, vencidas o de otro planificador")
+    void testCasosLimite() {
+        TareaUrgente sinFecha = urgente("Sin fecha", TareaUrgente.SIN_FECHA);
+        TareaUrgente silenciosa = urgente("Silenciosa", 50 * PASO);
+        silenciosa.setNotificacionesActivas(false);
+        assertFalse(planificador.programar(sinFecha));
+        assertFalse(planificador.programar(silenciosa));
+        assertThrows(IllegalArgumentException.class, () -> planificador.programar(null));
+
+        planificador.avanzarHasta(1_000 * PASO);
+        TareaUrgente atrasada = urgente("Atrasada", 10 * PASO);
+        assertTrue(planificador.programar(atrasada));
+        assertEquals(1, planificador.avanzarHasta(1_001 * PASO), "Un recordatorio ya pasado vence en el siguiente paso");
+
+        TareaUrgente ajena = urgente("Ajena", 5_000 * PASO);
+        PlanificadorRecordatorios otro = new PlanificadorRecordatorios(PASO, 0, 0, tarea -> { });
+        otro.programar(ajena);
+        assertThrows(IllegalArgumentException.class, () -> planificador.programar(ajena));
+        assertFalse(planificador.cancelar(ajena));
+
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorRecordatorios(0, 0, 0, tarea -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorRecordatorios(PASO, -1, 0, tarea -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorRecordatorios(PASO, 0, 0, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PlanificadorRecordatorios(null, Duration.ZERO, tarea -> { }));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Con muchos recordatorios y cancelaciones, cada uno vence una vez y a tiempo")
+    void testMuchosRecordatorios() {
+        Random aleatorio = new Random(42);
+        int cantidad = 200_000;
+        long horizonte = 2_000_000;
+        TareaUrgente[] tareas = new TareaUrgente[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            tareas[i] = urgente("T" + i, (1 + (long) (aleatorio.nextDouble() * horizonte)) * PASO + ANTICIPACION);
+            planificador.programar(tareas[i]);
+        }
+        int canceladas = 0;
+        for (int i = 0; i < cantidad; i += 7) {
+            planificador.cancelar(tareas[i]);
+            canceladas++;
+        }
+        assertEquals(cantidad - canceladas, planificador.contarProgramados());
+
+        long anterior = 0;
+        long objetivo = 0;
+        while (objetivo < (horizonte + 2) * PASO) {
+            objetivo += (1 + aleatorio.nextInt(50_000)) * PASO;
+            int antes = ejecutadas.size();
+            planificador.avanzarHasta(objetivo);
+            for (int i = antes; i < ejecutadas.size(); i++) {
+                long momento = ejecutadas.get(i).getFechaLimiteEpochNanos() - ANTICIPACION;
+                assertTrue(momento > anterior && momento <= objetivo, "Vence dentro del intervalo avanzado");
+            }
+            anterior = objetivo;
+        }
+        assertEquals(cantidad - canceladas, ejecutadas.size());
+        assertEquals(0, planificador.contarProgramados());
+    }
+
+    /**
+     * Crea una tarea urgente con una fecha límite en la escala de epoch nanos.
+     *
+     * @param nombre Nombre de la tarea
+     * @param limite Fecha límite, o {@link TareaUrgente#SIN_FECHA}
+     * @return Tarea con notificaciones activas
+     */
+    private static TareaUrgente urgente(String nombre, long limite) {
+        TareaUrgente tarea = new TareaUrgente(0, nombre, 3, null, 5, "Equipo");
+        tarea.setFechaLimiteEpochNanos(limite);
+        return tarea;
+    }
+}
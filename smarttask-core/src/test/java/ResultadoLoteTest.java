@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+
+/**
+ * Suite de pruebas para la clase ResultadoLote.
+ * Verifica los conteos y la selección de IDs exitosos y fallidos.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: ResultadoLote")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ResultadoLoteTest {
+
+    private ResultadoLote resultado;
+
+    @BeforeEach
+    @DisplayName("Setup: Lote de 4 IDs con 2 éxitos")
+    void setUp() {
+        BitSet exitosos = new BitSet();
+        exitosos.set(0);
+        exitosos.set(2);
+        resultado = new ResultadoLote(new int[] {10, 20, 30, 40}, exitosos);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Conteos de éxitos y fallos")
+    void testConteos() {
+        assertEquals(4, resultado.obtenerTotal());
+        assertEquals(2, resultado.contarExitosos());
+        assertEquals(2, resultado.contarFallidos());
+        assertFalse(resultado.todosExitosos());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Consulta por posición y selección de IDs")
+    void testSeleccion() {
+        assertEquals(30, resultado.obtenerId(2));
+        assertTrue(resultado.fueExitoso(2));
+        assertFalse(resultado.fueExitoso(3));
+        assertArrayEquals(new int[] {10, 30}, resultado.obtenerIdsExitosos());
+        assertArrayEquals(new int[] {20, 40}, resultado.obtenerIdsFallidos());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Un lote vacío se considera completamente exitoso")
+    void testLoteVacio() {
+        ResultadoLote vacio = new ResultadoLote(new int[0], new BitSet());
+        assertTrue(vacio.todosExitosos());
+        assertEquals(0, vacio.obtenerIdsExitosos().length);
+        assertEquals("ResultadoLote | Total: 0 | Exitosos: 0 | Fallidos: 0", vacio.toString());
+    }
+}
@@ -0,0 +1,56 @@
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Suite de pruebas unitarias para la clase SeleccionLimites.
+ * Compara la selección acotada con ordenar todas las candidatas, incluyendo empates.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: SeleccionLimites")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SeleccionLimitesTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Selecciona las primeras en vencer, en orden y desempatando por posición")
+    void testSeleccionContraOrdenCompleto() {
+        Random aleatorio = new Random(42);
+        long[] limites = new long[5_000];
+        for (int i = 0; i < limites.length; i++) {
+            // Pocas fechas distintas para forzar muchos empates
+            limites[i] = aleatorio.nextInt(300) - 150;
+        }
+        int[] esperado = IntStream.range(0, limites.length).boxed()
+            .sorted(Comparator.<Integer>comparingLong(i -> limites[i]).thenComparingInt(i -> i))
+            .mapToInt(Integer::intValue).toArray();
+
+        for (int maximo : new int[] {1, 5, 17, 1_000, limites.length, Integer.MAX_VALUE}) {
+            SeleccionLimites seleccion = new SeleccionLimites(maximo);
+            for (int i = 0; i < limites.length; i++) {
+                seleccion.ofrecer(limites[i], i);
+            }
+            int[] obtenidas = seleccion.posicionesOrdenadas();
+            assertArrayEquals(Arrays.copyOf(esperado, Math.min(maximo, esperado.length)), obtenidas,
+                              "maximo=" + maximo);
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Sin candidatas o con máximo cero la selección queda vacía")
+    void testSeleccionVacia() {
+        assertEquals(0, new SeleccionLimites(5).posicionesOrdenadas().length);
+        SeleccionLimites ninguna = new SeleccionLimites(0);
+        ninguna.ofrecer(1, 0);
+        ninguna.ofrecer(0, 1);
+        assertEquals(0, ninguna.posicionesOrdenadas().length);
+    }
+}
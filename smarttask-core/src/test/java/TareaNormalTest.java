@@ -97,10 +97,10 @@ public class TareaNormalTest {
     void testSetTiempoEstimadoValorInvalido() {
         tarea.setTiempoEstimado(30);
         
-        tarea.setTiempoEstimado(0);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setTiempoEstimado(0));
         assertEquals(30, tarea.getTiempoEstimado(), "No debe cambiar con 0");
         
-        tarea.setTiempoEstimado(-10);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setTiempoEstimado(-10));
         assertEquals(30, tarea.getTiempoEstimado(), "No debe cambiar con negativo");
     }
     
@@ -446,4 +446,63 @@ public class TareaTest {
         copia.setNombre("Modificada");
         assertNotEquals(original.getNombre(), copia.getNombre());
     }
+    
+    // ==================== PRUEBAS DE OBSERVADOR ====================
+    
+    @Test
+    @Order(36)
+    @DisplayName("Test 036: El observador recibe solo cambios efectivos")
+    void testObservadorRecibeCambiosEfectivos() {
+        int[] notificaciones = new int[4];
+        tarea.observador = new ObservadorTarea() {
+            @Override
+            public void nombreCambiado(Tarea t, String nombreAnterior) {
+                notificaciones[0]++;
+            }
+            
+            @Override
+            public void prioridadCambiada(Tarea t, int prioridadAnterior) {
+                notificaciones[1]++;
+                assertEquals(1, prioridadAnterior, "Debe informar la prioridad anterior");
+            }
+            
+            @Override
+            public void estadoCambiado(Tarea t) {
+                notificaciones[2]++;
+            }
+            
+            @Override
+            public void idCambiado(Tarea t, int idAnterior) {
+                notificaciones[3]++;
+            }
+        };
+        
+        tarea.setNombre("Nueva");
+        tarea.setNombre("Nueva");
+        tarea.setPrioridad(3);
+        tarea.setPrioridad(3);
+        tarea.marcarCompletada();
+        tarea.setCompletado(true);
+        tarea.marcarPendiente();
+        tarea.setId(9);
+        
+        assertArrayEquals(new int[] {1, 1, 2, 1}, notificaciones,
+                         "Cada cambio real debe notificarse una sola vez");
+    }
+    
+    @Test
+    @Order(37)
+    @DisplayName("Test 037: Un cambio de ID rechazado conserva el ID anterior")
+    void testCambioIdRechazadoConservaId() {
+        tarea.setId(4);
+        tarea.observador = new ObservadorTarea() {
+            @Override
+            public void idCambiado(Tarea t, int idAnterior) {
+                throw new IllegalArgumentException("ID en uso");
+            }
+        };
+        
+        assertThrows(IllegalArgumentException.class, () -> tarea.setId(7));
+        assertEquals(4, tarea.getId(), "Debe conservar el ID anterior");
+    }
 }
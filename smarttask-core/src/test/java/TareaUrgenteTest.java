@@ -1,7 +1,9 @@
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * Suite de pruebas unitarias para la clase TareaUrgente.
@@ -119,13 +121,13 @@ public class TareaUrgenteTest {
     void testSetNivelCriticidadFueraDeRango() {
         tarea.setNivelCriticidad(8);
         
-        tarea.setNivelCriticidad(0);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setNivelCriticidad(0));
         assertEquals(8, tarea.getNivelCriticidad(), "No debe cambiar con 0");
         
-        tarea.setNivelCriticidad(11);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setNivelCriticidad(11));
         assertEquals(8, tarea.getNivelCriticidad(), "No debe cambiar con 11");
         
-        tarea.setNivelCriticidad(-5);
+        assertThrows(IllegalArgumentException.class, () -> tarea.setNivelCriticidad(-5));
         assertEquals(8, tarea.getNivelCriticidad(), "No debe cambiar con negativo");
     }
     
@@ -499,4 +501,62 @@ public class TareaUrgenteTest {
         assertTrue(desc.contains("10"));
         assertTrue(desc.contains("Desarrollador Senior"));
     }
+
+    // ==================== PRUEBAS DE FECHA LÍMITE COMPACTA ====================
+
+    @Test
+    @Order(35)
+    @DisplayName("Test 035: La fecha límite se conserva exacta como nanosegundos desde la época")
+    void testFechaLimiteEpochNanos() {
+        LocalDateTime fecha = LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_789);
+        tarea.setFechaLimite(fecha);
+        long nanos = tarea.getFechaLimiteEpochNanos();
+        assertEquals(fecha.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + 123_456_789, nanos);
+        assertEquals(fecha, tarea.getFechaLimite());
+
+        tarea.setFechaLimiteEpochNanos(nanos + 1);
+        assertEquals(fecha.plusNanos(1), tarea.getFechaLimite());
+
+        LocalDateTime antigua = LocalDateTime.of(1900, 1, 1, 0, 0, 0, 1);
+        tarea.setFechaLimite(antigua);
+        assertEquals(antigua, tarea.getFechaLimite());
+
+        tarea.setFechaLimite(null);
+        assertFalse(tarea.tieneFechaLimite());
+        assertEquals(TareaUrgente.SIN_FECHA, tarea.getFechaLimiteEpochNanos());
+        assertNull(tarea.getFechaLimite());
+        assertFalse(tarea.esVencida(), "Sin fecha límite nunca está vencida");
+        assertThrows(IllegalStateException.class, () -> tarea.horasRestantes());
+        assertDoesNotThrow(() -> tarea.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> tarea.setFechaLimite(LocalDateTime.of(3000, 1, 1, 0, 0)));
+    }
+
+    @Test
+    @Order(36)
+    @DisplayName("Test 036: Con una sola lectura del reloj se revisan varias tareas")
+    void testRevisionConInstanteCompartido() {
+        LocalDateTime base = LocalDateTime.of(2026, 10, 18, 12, 0);
+        long ahora = base.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L;
+        TareaUrgente pasada = new TareaUrgente(1, "Pasada", 3, base.minusMinutes(90), 5, "Ana");
+        TareaUrgente justa = new TareaUrgente(2, "Justa", 3, base, 5, "Ana");
+        TareaUrgente futura = new TareaUrgente(3, "Futura", 3, base.plusHours(10).plusMinutes(59), 5, "Ana");
+
+        assertTrue(pasada.esVencida(ahora));
+        assertFalse(justa.esVencida(ahora), "Vence estrictamente después de la fecha límite");
+        assertFalse(futura.esVencida(ahora));
+
+        assertEquals(-1, pasada.horasRestantes(ahora));
+        assertEquals(0, justa.horasRestantes(ahora));
+        assertEquals(10, futura.horasRestantes(ahora));
+        // Mismo resultado que Duration.between(ahora, limite).toHours()
+        for (TareaUrgente t : new TareaUrgente[] {pasada, justa, futura}) {
+            assertEquals(Duration.between(base, t.getFechaLimite()).toHours(), t.horasRestantes(ahora));
+        }
+
+        long reloj = TareaUrgente.instanteActual();
+        LocalDateTime local = LocalDateTime.now();
+        long diferencia = Math.abs(local.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + local.getNano() - reloj);
+        assertTrue(diferencia < 5_000_000_000L, "instanteActual usa la hora local en la escala de las fechas límite");
+    }
 }
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compacta en segundo plano el diario de un {@link GestorTareasPersistente}.
+ * Cada intervalo revisa cuántos registros se anotaron desde la última instantánea y, si
+ * superan el mínimo indicado, llama a {@link GestorTareasPersistente#compactar()}: se guarda
+ * una instantánea nueva y se borran los segmentos del diario que ella incluye, sin detener
+ * a los hilos que siguen modificando el gestor.
+ *
+ * <p>Debe cerrarse antes que el gestor. Si una compactación falla, el error queda disponible
+ * en {@link #obtenerUltimoFallo()} y se vuelve a intentar en el siguiente intervalo.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see GestorTareasPersistente
+ */
+public final class CompactadorTareas implements AutoCloseable {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Intervalo de revisión por defecto, en milisegundos.
+     */
+    public static final long INTERVALO_POR_DEFECTO = 60_000;
+
+    /**
+     * Registros nuevos que justifican una compactación cuando no se indica otra cantidad.
+     */
+    public static final long REGISTROS_MINIMOS_POR_DEFECTO = 100_000;
+
+    // ==================== ATRIBUTOS ====================
+
+    private final GestorTareasPersistente gestor;
+    private final long intervaloNanos;
+    private final long registrosMinimos;
+    private final Thread hilo;
+
+    /**
+     * Cantidad de compactaciones que guardaron una instantánea.
+     */
+    private volatile long compactaciones;
+
+    /**
+     * Error de la última compactación fallida, o null.
+     */
+    private volatile Exception ultimoFallo;
+
+    private volatile boolean cerrado;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Inicia el compactador con el intervalo y el mínimo de registros por defecto.
+     *
+     * @param gestor Gestor cuyo diario se compacta
+     * @throws IllegalArgumentException si el gestor es null
+     */
+    public CompactadorTareas(GestorTareasPersistente gestor) {
+        this(gestor, INTERVALO_POR_DEFECTO, REGISTROS_MINIMOS_POR_DEFECTO);
+    }
+
+    /**
+     * Inicia el compactador.
+     *
+     * @param gestor Gestor cuyo diario se compacta
+     * @param intervaloMilisegundos Tiempo entre revisiones
+     * @param registrosMinimos Registros nuevos desde la última instantánea necesarios para compactar
+     * @throws IllegalArgumentException si el gestor es null, o si el intervalo o el mínimo no son positivos
+     */
+    public CompactadorTareas(GestorTareasPersistente gestor, long intervaloMilisegundos, long registrosMinimos) {
+        if (gestor == null) {
+            throw new IllegalArgumentException("El gestor no puede ser null");
+        }
+        if (intervaloMilisegundos <= 0) {
+            throw new IllegalArgumentException("El intervalo de compactación debe ser mayor a 0");
+        }
+        if (registrosMinimos <= 0) {
+            throw new IllegalArgumentException("El mínimo de registros debe ser mayor a 0");
+        }
+        this.gestor = gestor;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMilisegundos);
+        this.registrosMinimos = registrosMinimos;
+        this.hilo = new Thread(this::ejecutar, "smarttask-compactador");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene la cantidad de compactaciones que guardaron una instantánea.
+     *
+     * @return Compactaciones realizadas
+     */
+    public long obtenerCompactaciones() {
+        return compactaciones;
+    }
+
+    /**
+     * Obtiene el error de la última compactación fallida.
+     *
+     * @return El error, o null si ninguna compactación ha fallado
+     */
+    public Exception obtenerUltimoFallo() {
+        return ultimoFallo;
+    }
+
+    // ==================== CIERRE ====================
+
+    /**
+     * Detiene el compactador, esperando a que termine la compactación en curso.
+     * Llamarlo más de una vez no tiene efecto.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        LockSupport.unpark(hilo);
+        try {
+            hilo.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Ciclo del hilo: espera cada intervalo y compacta si hay suficientes registros nuevos.
+     * Termina al cerrar el compactador o si el gestor se cerró.
+     */
+    private void ejecutar() {
+        while (!cerrado) {
+            LockSupport.parkNanos(this, intervaloNanos);
+            if (cerrado) {
+                break;
+            }
+            if (gestor.registrosSinInstantanea() < registrosMinimos) {
+                continue;
+            }
+            try {
+                if (gestor.compactar()) {
+                    compactaciones++;
+                }
+            } catch (IOException | UncheckedIOException e) {
+                ultimoFallo = e;
+            } catch (IllegalStateException e) {
+                // El gestor se cerró: ya no queda nada que compactar
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,901 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Diario de escritura anticipada (write-ahead log) de solo anexado.
+ * Guarda una secuencia de registros numerados en archivos de segmento dentro de un directorio
+ * y permite reproducirlos al iniciar para reconstruir el estado que los generó.
+ *
+ * <p>Formato de cada registro (enteros en big-endian):</p>
+ * <pre>
+ * [longitud: int][crc32c: int][secuencia: long][tipo: byte][datos...]
+ * </pre>
+ * <p>{@code longitud} cuenta los bytes desde {@code secuencia} hasta el final de los datos,
+ * y el CRC-32C se calcula sobre esos mismos bytes. Cada segmento se llama
+ * {@code diario-<primera secuencia>.log}.</p>
+ *
+ * <p>Commit agrupado: {@code registrar} solo copia el registro a un búfer en memoria
+ * y le asigna su número de secuencia. {@link #esperarDurabilidad(long)} escribe el búfer
+ * completo en el segmento; mientras un hilo escribe y sincroniza, los registros de los
+ * demás se acumulan en un segundo búfer y se escriben juntos en la siguiente descarga.
+ * Así muchas operaciones comparten un mismo fsync.</p>
+ *
+ * <p>Un registro incompleto o con CRC inválido al final del último segmento se interpreta
+ * como una escritura interrumpida por una caída: se descarta y el segmento se trunca.
+ * Cualquier otro registro inválido se informa como diario corrupto.</p>
+ *
+ * <p>Si una escritura falla, el diario queda inutilizable: las operaciones posteriores
+ * (incluido {@code registrar}) lanzan el mismo error, y los registros que no llegaron
+ * al disco se pierden como en una caída. Debe cerrarse y recuperarse de nuevo.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ModoDurabilidad
+ */
+public class DiarioTareas implements Closeable {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Intervalo de sincronización por defecto del modo {@link ModoDurabilidad#PERIODICO}, en milisegundos.
+     */
+    public static final long INTERVALO_POR_DEFECTO = 100;
+
+    /**
+     * Tamaño a partir del cual se inicia un nuevo segmento, en bytes.
+     */
+    static final long TAMANIO_SEGMENTO_POR_DEFECTO = 64L * 1024 * 1024;
+
+    /**
+     * Bytes de longitud y CRC que preceden a cada registro.
+     */
+    private static final int PREFIJO_REGISTRO = Integer.BYTES * 2;
+
+    /**
+     * Bytes de secuencia y tipo al inicio de cada registro.
+     */
+    private static final int CABECERA_REGISTRO = Long.BYTES + 1;
+
+    /**
+     * Capacidad inicial de cada búfer de registros.
+     */
+    private static final int CAPACIDAD_INICIAL = 256 * 1024;
+
+    private static final String PREFIJO_SEGMENTO = "diario-";
+    private static final String SUFIJO_SEGMENTO = ".log";
+
+    // ==================== TIPOS ====================
+
+    /**
+     * Recibe los registros del diario durante la recuperación.
+     */
+    @FunctionalInterface
+    public interface Visitante {
+
+        /**
+         * Procesa un registro.
+         *
+         * @param secuencia Número de secuencia del registro
+         * @param tipo Tipo del registro, tal como se registró
+         * @param datos Datos del registro, desde la posición actual hasta el límite
+         * @throws IOException si el registro no puede aplicarse
+         */
+        void visitar(long secuencia, byte tipo, ByteBuffer datos) throws IOException;
+    }
+
+    // ==================== ATRIBUTOS ====================
+
+    private final Path directorio;
+    private final ModoDurabilidad modo;
+    private final long intervaloNanos;
+    private final long tamanioSegmento;
+
+    /**
+     * Protege el búfer activo, el CRC y la numeración de registros.
+     */
+    private final ReentrantLock bloqueoBufer = new ReentrantLock();
+
+    /**
+     * Protege el segmento abierto; quien lo tiene es el líder de la descarga en curso.
+     */
+    private final ReentrantLock bloqueoDescarga = new ReentrantLock();
+
+    /**
+     * Búfer donde se anexan los registros nuevos.
+     */
+    private ByteBuffer activo;
+
+    /**
+     * Búfer que se está escribiendo (o se escribirá) en el segmento.
+     */
+    private ByteBuffer enEscritura;
+
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * Secuencia del último registro anexado al búfer.
+     */
+    private long ultimaSecuencia;
+
+    /**
+     * Indica si ya se ejecutó {@link #recuperar(Visitante)}; protegido por el bloqueo del búfer.
+     */
+    private boolean recuperado;
+
+    /**
+     * Secuencia del último registro entregado al sistema operativo.
+     */
+    private volatile long secuenciaEscrita;
+
+    /**
+     * Secuencia del último registro sincronizado con el disco.
+     */
+    private volatile long secuenciaSincronizada;
+
+    /**
+     * Segmento abierto para anexar; null hasta {@link #recuperar(Visitante)}.
+     */
+    private FileChannel segmento;
+
+    /**
+     * Hilo de sincronización del modo {@link ModoDurabilidad#PERIODICO}.
+     */
+    private Thread hiloPeriodico;
+
+    /**
+     * Primer error de escritura del diario. Una vez fijado el diario queda inutilizable:
+     * el búfer que no se pudo escribir queda a medias y el segmento puede tener un registro
+     * incompleto, así que toda operación posterior lo informa en lugar de seguir anexando.
+     */
+    private volatile UncheckedIOException fallo;
+
+    private volatile boolean cerrado;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea un diario con el intervalo de sincronización por defecto.
+     *
+     * @param directorio Directorio de los segmentos (se crea si no existe)
+     * @param modo Modo de durabilidad
+     */
+    public DiarioTareas(Path directorio, ModoDurabilidad modo) {
+        this(directorio, modo, INTERVALO_POR_DEFECTO);
+    }
+
+    /**
+     * Crea un diario.
+     *
+     * @param directorio Directorio de los segmentos (se crea si no existe)
+     * @param modo Modo de durabilidad
+     * @param intervaloMilisegundos Intervalo de sincronización del modo {@link ModoDurabilidad#PERIODICO}
+     * @throws IllegalArgumentException si el intervalo no es positivo
+     */
+    public DiarioTareas(Path directorio, ModoDurabilidad modo, long intervaloMilisegundos) {
+        this(directorio, modo, intervaloMilisegundos, TAMANIO_SEGMENTO_POR_DEFECTO);
+    }
+
+    /**
+     * Crea un diario indicando el tamaño de los segmentos.
+     *
+     * @param directorio Directorio de los segmentos (se crea si no existe)
+     * @param modo Modo de durabilidad
+     * @param intervaloMilisegundos Intervalo de sincronización del modo {@link ModoDurabilidad#PERIODICO}
+     * @param tamanioSegmento Tamaño a partir del cual se inicia un nuevo segmento, en bytes
+     * @throws IllegalArgumentException si el intervalo o el tamaño no son positivos
+     */
+    DiarioTareas(Path directorio, ModoDurabilidad modo, long intervaloMilisegundos, long tamanioSegmento) {
+        if (intervaloMilisegundos <= 0) {
+            throw new IllegalArgumentException("El intervalo de sincronización debe ser mayor a 0");
+        }
+        if (tamanioSegmento <= 0) {
+            throw new IllegalArgumentException("El tamaño de segmento debe ser mayor a 0");
+        }
+        this.directorio = directorio;
+        this.modo = modo;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMilisegundos);
+        this.tamanioSegmento = tamanioSegmento;
+        this.activo = ByteBuffer.allocateDirect(CAPACIDAD_INICIAL);
+        this.enEscritura = ByteBuffer.allocateDirect(CAPACIDAD_INICIAL);
+    }
+
+    // ==================== RECUPERACIÓN ====================
+
+    /**
+     * Lee todos los segmentos en orden, entrega cada registro válido al visitante
+     * y deja el diario listo para anexar a continuación del último registro.
+     * Debe llamarse una vez, antes de registrar.
+     *
+     * @param visitante Receptor de los registros
+     * @return Cantidad de registros reproducidos
+     * @throws IOException si falla la lectura, el diario está corrupto o el visitante falla
+     * @throws IllegalStateException si el diario ya fue recuperado
+     */
+    public long recuperar(Visitante visitante) throws IOException {
+        return recuperar(0, visitante);
+    }
+
+    /**
+     * Igual que {@link #recuperar(Visitante)}, pero entrega solo los registros posteriores
+     * a una secuencia ya incorporada por otro medio (por ejemplo, una instantánea).
+     * Los segmentos que contienen únicamente registros anteriores no se leen, y la
+     * numeración de los registros nuevos continúa después de {@code desde} aunque el
+     * diario no llegue hasta ella.
+     *
+     * @param desde Última secuencia ya incorporada (0 para reproducir todo)
+     * @param visitante Receptor de los registros
+     * @return Cantidad de registros entregados al visitante
+     * @throws IOException si falla la lectura, el diario está corrupto o el visitante falla
+     * @throws IllegalStateException si el diario ya fue recuperado
+     */
+    public long recuperar(long desde, Visitante visitante) throws IOException {
+        bloqueoDescarga.lock();
+        try {
+            if (segmento != null || cerrado) {
+                throw new IllegalStateException("El diario ya fue recuperado");
+            }
+            Files.createDirectories(directorio);
+            List<Path> segmentos = listarSegmentos();
+            CRC32C verificacion = new CRC32C();
+
+            long cantidad = 0;
+            long ultima = 0;
+            Path ultimoSegmento = null;
+            for (int i = 0; i < segmentos.size(); i++) {
+                ultimoSegmento = segmentos.get(i);
+                if (i < segmentos.size() - 1 && primeraSecuencia(segmentos.get(i + 1)) <= desde + 1) {
+                    // Todos sus registros son anteriores a la siguiente que interesa
+                    continue;
+                }
+                ByteBuffer contenido = ByteBuffer.wrap(Files.readAllBytes(ultimoSegmento));
+                while (contenido.hasRemaining()) {
+                    int inicio = contenido.position();
+                    int fin = finDeRegistroValido(contenido, inicio, verificacion);
+                    if (fin < 0) {
+                        if (i < segmentos.size() - 1) {
+                            throw new IOException("Diario corrupto: registro inválido en "
+                                + ultimoSegmento.getFileName() + ", posición " + inicio);
+                        }
+                        truncar(ultimoSegmento, inicio);
+                        break;
+                    }
+
+                    long secuencia = contenido.getLong(inicio + PREFIJO_REGISTRO);
+                    if (ultima != 0 && secuencia != ultima + 1) {
+                        throw new IOException("Diario corrupto: se esperaba la secuencia " + (ultima + 1)
+                            + " y se encontró " + secuencia + " en " + ultimoSegmento.getFileName());
+                    }
+                    if (secuencia > desde) {
+                        byte tipo = contenido.get(inicio + PREFIJO_REGISTRO + Long.BYTES);
+                        ByteBuffer datos = contenido.slice(inicio + PREFIJO_REGISTRO + CABECERA_REGISTRO,
+                                                           fin - inicio - PREFIJO_REGISTRO - CABECERA_REGISTRO);
+                        visitante.visitar(secuencia, tipo, datos);
+                        cantidad++;
+                    }
+                    ultima = secuencia;
+                    contenido.position(fin);
+                }
+            }
+
+            if (ultimoSegmento == null || ultima < desde) {
+                // Si el diario no llega hasta la secuencia ya incorporada, se continúa en un
+                // segmento nuevo para no dejar un salto de numeración dentro de un segmento
+                ultima = Math.max(ultima, desde);
+                abrirNuevoSegmento(ultima + 1);
+            } else {
+                segmento = FileChannel.open(ultimoSegmento, StandardOpenOption.WRITE);
+                segmento.position(segmento.size());
+            }
+
+            secuenciaEscrita = ultima;
+            secuenciaSincronizada = ultima;
+            bloqueoBufer.lock();
+            try {
+                ultimaSecuencia = ultima;
+                recuperado = true;
+            } finally {
+                bloqueoBufer.unlock();
+            }
+
+            if (modo == ModoDurabilidad.PERIODICO) {
+                iniciarHiloPeriodico();
+            }
+            return cantidad;
+        } finally {
+            bloqueoDescarga.unlock();
+        }
+    }
+
+    /**
+     * Entrega al visitante los registros de un intervalo de secuencias ya escritas,
+     * leyendo directamente los segmentos. Puede llamarse mientras otros hilos siguen
+     * registrando, porque los registros pedidos ya no cambian; se usa para construir
+     * una instantánea fuera del gestor.
+     *
+     * @param desde Última secuencia ya incorporada; se entregan las posteriores
+     * @param hasta Última secuencia a entregar, ya escrita (por ejemplo, la devuelta por {@link #rotar()})
+     * @param visitante Receptor de los registros
+     * @return Cantidad de registros entregados al visitante
+     * @throws IOException si falla la lectura, falta algún registro del intervalo o el visitante falla
+     * @throws IllegalArgumentException si {@code hasta} todavía no se ha escrito
+     */
+    public long reproducir(long desde, long hasta, Visitante visitante) throws IOException {
+        if (hasta > secuenciaEscrita) {
+            throw new IllegalArgumentException("La secuencia " + hasta + " todavía no se ha escrito en el diario");
+        }
+        List<Path> segmentos = listarSegmentos();
+        CRC32C verificacion = new CRC32C();
+
+        long cantidad = 0;
+        long ultima = desde;
+        for (int i = 0; i < segmentos.size() && ultima < hasta; i++) {
+            Path ruta = segmentos.get(i);
+            if (i < segmentos.size() - 1 && primeraSecuencia(segmentos.get(i + 1)) <= desde + 1) {
+                continue;
+            }
+            ByteBuffer contenido = ByteBuffer.wrap(Files.readAllBytes(ruta));
+            while (contenido.hasRemaining() && ultima < hasta) {
+                int inicio = contenido.position();
+                int fin = finDeRegistroValido(contenido, inicio, verificacion);
+                if (fin < 0) {
+                    throw new IOException("Diario corrupto: registro inválido en "
+                        + ruta.getFileName() + ", posición " + inicio);
+                }
+                long secuencia = contenido.getLong(inicio + PREFIJO_REGISTRO);
+                if (secuencia > desde) {
+                    if (secuencia != ultima + 1) {
+                        throw new IOException("Diario incompleto: se esperaba la secuencia " + (ultima + 1)
+                            + " y se encontró " + secuencia + " en " + ruta.getFileName());
+                    }
+                    byte tipo = contenido.get(inicio + PREFIJO_REGISTRO + Long.BYTES);
+                    ByteBuffer datos = contenido.slice(inicio + PREFIJO_REGISTRO + CABECERA_REGISTRO,
+                                                       fin - inicio - PREFIJO_REGISTRO - CABECERA_REGISTRO);
+                    visitante.visitar(secuencia, tipo, datos);
+                    cantidad++;
+                    ultima = secuencia;
+                }
+                contenido.position(fin);
+            }
+        }
+        if (ultima < hasta) {
+            throw new IOException("Diario incompleto: faltan los registros desde la secuencia " + (ultima + 1));
+        }
+        return cantidad;
+    }
+
+    /**
+     * Borra los segmentos cuyos registros son todos anteriores o iguales a una secuencia,
+     * por ejemplo porque una instantánea ya los incluye. El segmento más reciente nunca se borra.
+     *
+     * @param secuencia Última secuencia que ya no se necesita
+     * @return Cantidad de segmentos borrados
+     * @throws IOException si algún segmento no puede borrarse
+     */
+    public int descartarHasta(long secuencia) throws IOException {
+        List<Path> segmentos = listarSegmentos();
+        int descartados = 0;
+        while (descartados < segmentos.size() - 1
+                && primeraSecuencia(segmentos.get(descartados + 1)) <= secuencia + 1) {
+            Files.delete(segmentos.get(descartados));
+            descartados++;
+        }
+        if (descartados > 0) {
+            sincronizarDirectorio(directorio);
+        }
+        return descartados;
+    }
+
+    // ==================== REGISTRO ====================
+
+    /**
+     * Anexa un registro sin datos.
+     *
+     * @param tipo Tipo del registro
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo) {
+        return anexar(tipo, 0, 0, 0, null, null);
+    }
+
+    /**
+     * Anexa un registro con un entero.
+     *
+     * @param tipo Tipo del registro
+     * @param valor Dato del registro
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo, int valor) {
+        return anexar(tipo, 1, valor, 0, null, null);
+    }
+
+    /**
+     * Anexa un registro con dos enteros.
+     *
+     * @param tipo Tipo del registro
+     * @param valor1 Primer dato
+     * @param valor2 Segundo dato
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo, int valor1, int valor2) {
+        return anexar(tipo, 2, valor1, valor2, null, null);
+    }
+
+    /**
+     * Anexa un registro con un entero y un texto.
+     *
+     * @param tipo Tipo del registro
+     * @param valor Dato entero
+     * @param texto Dato de texto (se guarda en UTF-8; se lee con {@link #leerTexto(ByteBuffer)})
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo, int valor, String texto) {
+        return anexar(tipo, 1, valor, 0, texto, null);
+    }
+
+    /**
+     * Anexa un registro con dos enteros y un texto.
+     *
+     * @param tipo Tipo del registro
+     * @param valor1 Primer dato entero
+     * @param valor2 Segundo dato entero
+     * @param texto Dato de texto (se guarda en UTF-8; se lee con {@link #leerTexto(ByteBuffer)})
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo, int valor1, int valor2, String texto) {
+        return anexar(tipo, 2, valor1, valor2, texto, null);
+    }
+
+    /**
+     * Anexa un registro con datos ya codificados por quien registra, para los registros
+     * que no se ajustan a las formas anteriores.
+     *
+     * @param tipo Tipo del registro
+     * @param datos Datos del registro, desde la posición actual hasta el límite (no se modifica)
+     * @return Secuencia asignada al registro
+     */
+    public long registrar(byte tipo, ByteBuffer datos) {
+        return anexar(tipo, 0, 0, 0, null, datos);
+    }
+
+    /**
+     * Espera a que el registro indicado sea duradero según el modo del diario.
+     * En {@link ModoDurabilidad#PERIODICO} retorna de inmediato.
+     *
+     * @param secuencia Secuencia devuelta por {@code registrar}
+     * @throws UncheckedIOException si falla la escritura del diario
+     */
+    public void esperarDurabilidad(long secuencia) {
+        switch (modo) {
+            case CADA_OPERACION:
+                if (secuencia > secuenciaSincronizada) {
+                    descargar(secuencia, true);
+                }
+                break;
+            case SISTEMA_OPERATIVO:
+                if (secuencia > secuenciaEscrita) {
+                    descargar(secuencia, false);
+                }
+                break;
+            default:
+                verificarFallo();
+        }
+    }
+
+    /**
+     * Escribe y sincroniza con el disco todos los registros anexados hasta ahora,
+     * sin importar el modo de durabilidad.
+     *
+     * @throws UncheckedIOException si falla la escritura del diario
+     */
+    public void sincronizar() {
+        descargar(obtenerUltimaSecuencia(), true);
+    }
+
+    /**
+     * Escribe y sincroniza los registros anexados hasta ahora y continúa en un segmento nuevo.
+     * Se usa al guardar una instantánea: así los registros que ella ya incluye quedan en
+     * segmentos que {@link #recuperar(long, Visitante)} no necesita leer.
+     *
+     * @return Última secuencia escrita; todos los registros hasta ella quedan en segmentos cerrados
+     * @throws UncheckedIOException si falla la escritura del diario
+     * @throws IllegalStateException si el diario no fue recuperado o ya está cerrado
+     */
+    public long rotar() {
+        bloqueoDescarga.lock();
+        try {
+            verificarFallo();
+            if (segmento == null || !segmento.isOpen()) {
+                throw new IllegalStateException("El diario está cerrado");
+            }
+            descargar(obtenerUltimaSecuencia(), true);
+            if (segmento.position() > 0) {
+                segmento.close();
+                abrirNuevoSegmento(secuenciaEscrita + 1);
+            }
+            return secuenciaEscrita;
+        } catch (IOException e) {
+            throw fallar(new UncheckedIOException("No se pudo rotar el diario en " + directorio, e));
+        } finally {
+            bloqueoDescarga.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la secuencia del último registro anexado.
+     *
+     * @return Última secuencia asignada (0 si el diario está vacío)
+     */
+    public long obtenerUltimaSecuencia() {
+        bloqueoBufer.lock();
+        try {
+            return ultimaSecuencia;
+        } finally {
+            bloqueoBufer.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el directorio donde se guardan los segmentos.
+     *
+     * @return Directorio del diario
+     */
+    public Path obtenerDirectorio() {
+        return directorio;
+    }
+
+    /**
+     * Obtiene el modo de durabilidad del diario.
+     *
+     * @return Modo de durabilidad
+     */
+    public ModoDurabilidad obtenerModo() {
+        return modo;
+    }
+
+    /**
+     * Lee un texto guardado con {@code registrar(..., String)}.
+     *
+     * @param datos Datos del registro, posicionados al inicio del texto
+     * @return El texto
+     */
+    public static String leerTexto(ByteBuffer datos) {
+        int longitud = datos.getInt();
+        String texto = StandardCharsets.UTF_8.decode(datos.slice(datos.position(), longitud)).toString();
+        datos.position(datos.position() + longitud);
+        return texto;
+    }
+
+    /**
+     * Escribe y sincroniza los registros pendientes, detiene el hilo periódico y cierra el segmento.
+     * Llamarlo más de una vez no tiene efecto.
+     *
+     * @throws IOException si falla la escritura o el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        bloqueoBufer.lock();
+        try {
+            if (cerrado) {
+                return;
+            }
+            // A partir de aquí no se anexan registros, así que la descarga final los incluye a todos
+            cerrado = true;
+        } finally {
+            bloqueoBufer.unlock();
+        }
+        if (hiloPeriodico != null) {
+            LockSupport.unpark(hiloPeriodico);
+            try {
+                hiloPeriodico.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        bloqueoDescarga.lock();
+        try {
+            if (segmento != null) {
+                try {
+                    descargar(obtenerUltimaSecuencia(), true);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                } finally {
+                    segmento.close();
+                }
+            }
+        } finally {
+            bloqueoDescarga.unlock();
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Copia un registro al búfer activo y le asigna la siguiente secuencia.
+     *
+     * @param tipo Tipo del registro
+     * @param enteros Cantidad de enteros del registro (0 a 2)
+     * @param valor1 Primer entero
+     * @param valor2 Segundo entero
+     * @param texto Texto del registro, o null
+     * @param datos Datos ya codificados que se agregan al final, o null
+     * @return Secuencia asignada
+     */
+    private long anexar(byte tipo, int enteros, int valor1, int valor2, String texto, ByteBuffer datos) {
+        byte[] bytesTexto = texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+        int longitud = CABECERA_REGISTRO + enteros * Integer.BYTES
+                     + (bytesTexto == null ? 0 : Integer.BYTES + bytesTexto.length)
+                     + (datos == null ? 0 : datos.remaining());
+
+        bloqueoBufer.lock();
+        try {
+            if (cerrado || !recuperado) {
+                throw new IllegalStateException(cerrado ? "El diario está cerrado" : "El diario no ha sido recuperado");
+            }
+            verificarFallo();
+            asegurarEspacio(PREFIJO_REGISTRO + longitud);
+
+            long secuencia = ++ultimaSecuencia;
+            int inicio = activo.position();
+            activo.putInt(longitud).putInt(0).putLong(secuencia).put(tipo);
+            if (enteros > 0) {
+                activo.putInt(valor1);
+            }
+            if (enteros > 1) {
+                activo.putInt(valor2);
+            }
+            if (bytesTexto != null) {
+                activo.putInt(bytesTexto.length).put(bytesTexto);
+            }
+            if (datos != null) {
+                activo.put(datos.duplicate());
+            }
+
+            // El CRC se calcula reposicionando el mismo búfer, sin crear vistas
+            int fin = activo.position();
+            crc.reset();
+            activo.position(inicio + PREFIJO_REGISTRO).limit(fin);
+            crc.update(activo);
+            activo.limit(activo.capacity());
+            activo.putInt(inicio + Integer.BYTES, (int) crc.getValue());
+            return secuencia;
+        } finally {
+            bloqueoBufer.unlock();
+        }
+    }
+
+    /**
+     * Garantiza que el búfer activo tenga espacio para un registro, duplicando su capacidad si hace falta.
+     *
+     * @param bytes Bytes necesarios
+     */
+    private void asegurarEspacio(int bytes) {
+        if (activo.remaining() >= bytes) {
+            return;
+        }
+        int capacidad = Math.max(activo.capacity() * 2, activo.position() + bytes);
+        ByteBuffer mayor = ByteBuffer.allocateDirect(capacidad);
+        activo.flip();
+        mayor.put(activo);
+        activo = mayor;
+    }
+
+    /**
+     * Escribe en el segmento todos los registros anexados, como líder de la descarga.
+     * Si otro hilo ya descargó la secuencia pedida mientras se esperaba el bloqueo, no hace nada:
+     * así las operaciones que esperaban detrás de una sincronización quedan cubiertas por ella.
+     *
+     * @param hasta Secuencia que debe quedar descargada
+     * @param forzar true para sincronizar con el disco después de escribir
+     * @throws UncheckedIOException si falla la escritura
+     */
+    private void descargar(long hasta, boolean forzar) {
+        bloqueoDescarga.lock();
+        try {
+            if (hasta <= (forzar ? secuenciaSincronizada : secuenciaEscrita)) {
+                return;
+            }
+            verificarFallo();
+            if (segmento == null || !segmento.isOpen()) {
+                throw new IllegalStateException("El diario está cerrado");
+            }
+
+            long escrita;
+            ByteBuffer pendiente;
+            bloqueoBufer.lock();
+            try {
+                pendiente = activo;
+                activo = enEscritura;
+                enEscritura = pendiente;
+                escrita = ultimaSecuencia;
+            } finally {
+                bloqueoBufer.unlock();
+            }
+
+            if (pendiente.position() > 0) {
+                if (segmento.position() >= tamanioSegmento) {
+                    segmento.force(false);
+                    segmento.close();
+                    abrirNuevoSegmento(secuenciaEscrita + 1);
+                }
+                pendiente.flip();
+                while (pendiente.hasRemaining()) {
+                    segmento.write(pendiente);
+                }
+                pendiente.clear();
+                secuenciaEscrita = escrita;
+            }
+            if (forzar) {
+                segmento.force(false);
+                secuenciaSincronizada = escrita;
+            }
+        } catch (IOException e) {
+            // El búfer pendiente quedó a medias y el segmento puede terminar en un registro
+            // incompleto: seguir anexando detrás desordenaría las secuencias
+            throw fallar(new UncheckedIOException("No se pudo escribir el diario en " + directorio, e));
+        } finally {
+            bloqueoDescarga.unlock();
+        }
+    }
+
+    /**
+     * Crea un segmento vacío y lo deja abierto para anexar.
+     *
+     * @param primeraSecuencia Secuencia del primer registro que contendrá
+     * @return Ruta del segmento
+     * @throws IOException si no puede crearse
+     */
+    private Path abrirNuevoSegmento(long primeraSecuencia) throws IOException {
+        Path ruta = directorio.resolve(String.format("%s%020d%s", PREFIJO_SEGMENTO, primeraSecuencia, SUFIJO_SEGMENTO));
+        segmento = FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        segmento.position(segmento.size());
+        sincronizarDirectorio(directorio);
+        return ruta;
+    }
+
+    /**
+     * Lista los segmentos del directorio ordenados por su primera secuencia.
+     *
+     * @return Rutas de los segmentos
+     * @throws IOException si no puede leerse el directorio
+     */
+    private List<Path> listarSegmentos() throws IOException {
+        List<Path> segmentos = new ArrayList<>();
+        try (DirectoryStream<Path> archivos =
+                 Files.newDirectoryStream(directorio, PREFIJO_SEGMENTO + "*" + SUFIJO_SEGMENTO)) {
+            for (Path archivo : archivos) {
+                segmentos.add(archivo);
+            }
+        }
+        // Los nombres tienen ancho fijo, así que el orden alfabético es el orden de secuencia
+        segmentos.sort(null);
+        return segmentos;
+    }
+
+    /**
+     * Obtiene la secuencia del primer registro de un segmento a partir de su nombre.
+     *
+     * @param segmento Ruta del segmento
+     * @return Primera secuencia del segmento
+     */
+    private static long primeraSecuencia(Path segmento) {
+        String nombre = segmento.getFileName().toString();
+        return Long.parseLong(nombre.substring(PREFIJO_SEGMENTO.length(), nombre.length() - SUFIJO_SEGMENTO.length()));
+    }
+
+    /**
+     * Valida el registro que empieza en la posición indicada.
+     *
+     * @param contenido Contenido del segmento
+     * @param inicio Posición del registro
+     * @param verificacion CRC reutilizable para la verificación
+     * @return Posición siguiente al registro, o -1 si está incompleto o su CRC no coincide
+     */
+    private static int finDeRegistroValido(ByteBuffer contenido, int inicio, CRC32C verificacion) {
+        int disponibles = contenido.limit() - inicio;
+        if (disponibles < PREFIJO_REGISTRO + CABECERA_REGISTRO) {
+            return -1;
+        }
+        int longitud = contenido.getInt(inicio);
+        if (longitud < CABECERA_REGISTRO || longitud > disponibles - PREFIJO_REGISTRO) {
+            return -1;
+        }
+        verificacion.reset();
+        verificacion.update(contenido.array(), contenido.arrayOffset() + inicio + PREFIJO_REGISTRO, longitud);
+        if ((int) verificacion.getValue() != contenido.getInt(inicio + Integer.BYTES)) {
+            return -1;
+        }
+        return inicio + PREFIJO_REGISTRO + longitud;
+    }
+
+    /**
+     * Descarta el final incompleto de un segmento.
+     *
+     * @param ruta Segmento
+     * @param longitud Bytes válidos que se conservan
+     * @throws IOException si no puede truncarse
+     */
+    private static void truncar(Path ruta, long longitud) throws IOException {
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.WRITE)) {
+            canal.truncate(longitud);
+            canal.force(true);
+        }
+    }
+
+    /**
+     * Sincroniza las entradas de un directorio para que un archivo recién creado o renombrado
+     * sobreviva a una caída. Algunos sistemas (por ejemplo Windows) no permiten abrir
+     * directorios; allí se omite.
+     *
+     * @param directorio Directorio a sincronizar
+     */
+    static void sincronizarDirectorio(Path directorio) {
+        try (FileChannel canal = FileChannel.open(directorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // No soportado en esta plataforma: el sistema de archivos persiste la entrada por sí mismo
+        }
+    }
+
+    /**
+     * Inicia el hilo que descarga y sincroniza el diario cada intervalo.
+     */
+    private void iniciarHiloPeriodico() {
+        hiloPeriodico = new Thread(() -> {
+            while (!cerrado) {
+                LockSupport.parkNanos(this, intervaloNanos);
+                if (cerrado) {
+                    break;
+                }
+                try {
+                    descargar(obtenerUltimaSecuencia(), true);
+                } catch (UncheckedIOException e) {
+                    // Queda registrado en fallo y se informa en la siguiente operación
+                    break;
+                }
+            }
+        }, "smarttask-diario");
+        hiloPeriodico.setDaemon(true);
+        hiloPeriodico.start();
+    }
+
+    /**
+     * Informa el error de escritura que dejó el diario inutilizable, si lo hubo.
+     *
+     * @throws UncheckedIOException si una escritura anterior del diario falló
+     */
+    private void verificarFallo() {
+        UncheckedIOException actual = fallo;
+        if (actual != null) {
+            throw actual;
+        }
+    }
+
+    /**
+     * Deja el diario inutilizable por un error de escritura. Se conserva el primer error.
+     *
+     * @param error Error de escritura
+     * @return El error que queda registrado
+     */
+    private UncheckedIOException fallar(UncheckedIOException error) {
+        if (fallo == null) {
+            fallo = error;
+        }
+        return fallo;
+    }
+}
@@ -0,0 +1,1092 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Variante de {@link GestorTareas} que guarda las tareas en archivos proyectados en memoria
+ * en lugar de mantenerlas como objetos en el heap, para conjuntos de tareas mayores que la
+ * memoria de la JVM. El sistema operativo decide qué páginas se mantienen en memoria.
+ *
+ * <p>Almacenamiento, dentro del directorio indicado:</p>
+ * <ul>
+ *   <li>{@code tareas.dat}: cabecera y un registro de ancho fijo por tarea, contiguos y sin huecos
+ *       (al eliminar, el último registro ocupa el lugar del eliminado)</li>
+ *   <li>{@code textos.dat}: nombres, categorías y responsables, de largo variable y anexados;
+ *       los registros guardan la posición de cada texto. Un texto solo se vuelve a escribir
+ *       cuando cambia, y cuando los textos que ya no usa ningún registro superan a los vivos
+ *       se compactan al inicio del archivo, de modo que no crece sin límite</li>
+ * </ul>
+ * <p>Registro ({@value #REGISTRO} bytes, big-endian):</p>
+ * <pre>
+ * [id: int][prioridad: byte][estado: byte][tipo: byte][criticidad: byte][tiempo estimado: int]
+ * [reservado: int][límite: long][nombre: long][categoría o responsable: long]
+ * </pre>
+ * <p>El límite usa la escala de {@link TareaUrgente#getFechaLimiteEpochNanos()}.</p>
+ *
+ * <p>En el heap solo quedan el índice por ID y los contadores, que se reconstruyen al abrir
+ * recorriendo los registros. Las búsquedas y los filtros leen la proyección directamente y
+ * solo crean objetos para las tareas que devuelven.</p>
+ *
+ * <p>Las tareas devueltas son vistas materializadas de un registro: sus setters escriben el
+ * cambio en el registro, pero cada consulta entrega una vista nueva, por lo que una vista
+ * anterior no refleja los cambios hechos a través de otra. Cada setter escribe solo el atributo
+ * que cambia, así que modificar una vista anterior tampoco deshace los cambios hechos a través
+ * de otra. Una vista de una tarea eliminada,
+ * o anterior a {@link #limpiarTodas()}, queda desvinculada del almacén.</p>
+ *
+ * <p>Igual que {@link GestorTareas}, no es seguro para compartir entre hilos. Los cambios llegan
+ * al disco cuando el sistema operativo descarga las páginas o al llamar a {@link #sincronizar()}
+ * o {@link #close()}; ante una caída del sistema operativo no hay garantías de consistencia
+ * (para eso existe {@link GestorTareasPersistente}).</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see RegionesMapeadas
+ */
+public final class GestorTareasMapeado extends GestorTareas implements AutoCloseable {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Bytes de cada registro de tarea.
+     */
+    static final int REGISTRO = 40;
+
+    /**
+     * Registros por región proyectada cuando no se indica otra cantidad (40 MB por región).
+     */
+    static final int REGISTROS_POR_REGION = 1 << 20;
+
+    /**
+     * Bytes por región proyectada de textos cuando no se indica otro tamaño.
+     */
+    static final int TAMANIO_REGION_TEXTOS = 64 * 1024 * 1024;
+
+    /**
+     * Identifica los archivos del almacén ("STMP").
+     */
+    private static final int MAGICO = 0x53544D50;
+    private static final int VERSION = 1;
+
+    // Cabecera de tareas.dat
+    private static final int CABECERA = 64;
+    private static final int C_MAGICO = 0;
+    private static final int C_VERSION = 4;
+    private static final int C_CANTIDAD = 8;
+    private static final int C_SIGUIENTE_ID = 12;
+    private static final int C_TEXTOS_USADOS = 16;
+    private static final int C_REGISTROS_POR_REGION = 24;
+    private static final int C_TAMANIO_REGION_TEXTOS = 28;
+    private static final int C_TEXTOS_LIBRES = 32;
+
+    // Campos del registro
+    private static final int R_ID = 0;
+    private static final int R_PRIORIDAD = 4;
+    private static final int R_ESTADO = 5;
+    private static final int R_TIPO = 6;
+    private static final int R_CRITICIDAD = 7;
+    private static final int R_TIEMPO = 8;
+    private static final int R_LIMITE = 16;
+    private static final int R_NOMBRE = 24;
+    private static final int R_EXTRA = 32;
+
+    // Bits del campo de estado
+    private static final byte COMPLETADA = 1;
+    private static final byte NOTIFICACIONES = 2;
+
+    private static final byte TIPO_TAREA = 0;
+    private static final byte TIPO_NORMAL = 1;
+    private static final byte TIPO_URGENTE = 2;
+
+    /**
+     * Referencia de texto nulo.
+     */
+    private static final long SIN_TEXTO = -1;
+
+    // ==================== ATRIBUTOS ====================
+
+    private final FileChannel canalTareas;
+    private final FileChannel canalTextos;
+    private final MappedByteBuffer cabecera;
+    private final RegionesMapeadas registros;
+    private final RegionesMapeadas textos;
+
+    /**
+     * Índice que asocia el ID de cada tarea con la posición de su registro.
+     */
+    private final IndiceEnteros indicePorId = new IndiceEnteros();
+
+    /**
+     * Cantidad de registros ocupados.
+     */
+    private int cantidad;
+
+    /**
+     * Bytes ocupados en {@code textos.dat}.
+     */
+    private long textosUsados;
+
+    /**
+     * Bytes de {@code textos.dat} ocupados por textos que ya no usa ningún registro.
+     */
+    private long textosLibres;
+
+    private int totalCompletadas;
+
+    /**
+     * Cantidad de tareas por prioridad, indexada por el valor de la prioridad (1-3).
+     */
+    private final int[] totalPorPrioridad = new int[PRIORIDAD_ALTA + 1];
+
+    /**
+     * Número de modificaciones estructurales (altas, bajas y limpiezas) realizadas.
+     */
+    private long version;
+
+    /**
+     * Observador registrado en las vistas entregadas; se reemplaza al limpiar
+     * para desvincular las vistas anteriores.
+     */
+    private ObservadorTarea observador;
+
+    private boolean cerrado;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Abre (o crea) el almacén de tareas de un directorio.
+     *
+     * @param directorio Directorio de datos
+     * @throws IOException si los archivos no pueden abrirse o no son un almacén válido
+     */
+    public GestorTareasMapeado(Path directorio) throws IOException {
+        this(directorio, REGISTROS_POR_REGION, TAMANIO_REGION_TEXTOS);
+    }
+
+    /**
+     * Abre (o crea) el almacén indicando el tamaño de las regiones proyectadas.
+     * Los tamaños solo se usan al crear el almacén; uno existente conserva los suyos.
+     *
+     * @param directorio Directorio de datos
+     * @param registrosPorRegion Registros por región proyectada de tareas
+     * @param tamanioRegionTextos Bytes por región proyectada de textos
+     * @throws IOException si los archivos no pueden abrirse o no son un almacén válido
+     */
+    GestorTareasMapeado(Path directorio, int registrosPorRegion, int tamanioRegionTextos) throws IOException {
+        super();
+        Files.createDirectories(directorio);
+        canalTareas = FileChannel.open(directorio.resolve("tareas.dat"),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel textosAbierto = null;
+        try {
+            textosAbierto = FileChannel.open(directorio.resolve("textos.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean nuevo = canalTareas.size() == 0;
+            cabecera = canalTareas.map(FileChannel.MapMode.READ_WRITE, 0, CABECERA);
+            if (nuevo) {
+                cabecera.putInt(C_MAGICO, MAGICO)
+                        .putInt(C_VERSION, VERSION)
+                        .putInt(C_REGISTROS_POR_REGION, registrosPorRegion)
+                        .putInt(C_TAMANIO_REGION_TEXTOS, tamanioRegionTextos);
+                cabecera.putInt(C_SIGUIENTE_ID, 1);
+            } else if (cabecera.getInt(C_MAGICO) != MAGICO) {
+                throw new IOException("El archivo " + directorio.resolve("tareas.dat") + " no es un almacén de tareas");
+            } else if (cabecera.getInt(C_VERSION) != VERSION) {
+                throw new IOException("Versión de almacén no soportada: " + cabecera.getInt(C_VERSION));
+            }
+            canalTextos = textosAbierto;
+            registros = new RegionesMapeadas(canalTareas, CABECERA,
+                                             cabecera.getInt(C_REGISTROS_POR_REGION) * REGISTRO);
+            textos = new RegionesMapeadas(canalTextos, 0, cabecera.getInt(C_TAMANIO_REGION_TEXTOS));
+            observador = crearObservador();
+            cargarIndice();
+        } catch (IOException | RuntimeException e) {
+            canalTareas.close();
+            if (textosAbierto != null) {
+                textosAbierto.close();
+            }
+            throw e;
+        }
+    }
+
+    // ==================== OPERACIONES CRUD ====================
+
+    @Override
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        asegurarAbierto();
+        Tarea nuevaTarea = crearTarea(nombre, prioridad);
+        anexarRegistro(nuevaTarea);
+        guardarCabecera();
+        version++;
+        return vincular(nuevaTarea);
+    }
+
+    /**
+     * Copia al almacén una tarea de cualquier tipo conservando su ID y sus atributos,
+     * por ejemplo para migrar las tareas de otro gestor.
+     *
+     * @param tarea Tarea a copiar (no se modifica)
+     * @return Vista de la tarea almacenada
+     * @throws IllegalArgumentException si el nombre o la prioridad son inválidos,
+     *         o si el ID ya está en uso
+     */
+    public Tarea importarTarea(Tarea tarea) {
+        asegurarAbierto();
+        if (tarea.getNombre() == null || tarea.getNombre().trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre de la tarea no puede estar vacío");
+        }
+        if (!tarea.esPrioridadValida()) {
+            throw new IllegalArgumentException("La prioridad debe estar entre 1 y 3");
+        }
+        if (indicePorId.obtener(tarea.getId()) != IndiceEnteros.AUSENTE) {
+            throw new IllegalArgumentException("Ya existe una tarea con el ID " + tarea.getId());
+        }
+        int posicion = anexarRegistro(tarea);
+        adelantarContador(tarea.getId());
+        guardarCabecera();
+        version++;
+        return materializar(posicion);
+    }
+
+    @Override
+    public boolean marcarComoCompletada(int id) {
+        asegurarAbierto();
+        int posicion = indicePorId.obtener(id);
+        if (posicion == IndiceEnteros.AUSENTE) {
+            return false;
+        }
+        completar(posicion);
+        return true;
+    }
+
+    @Override
+    public boolean eliminarTarea(int id) {
+        asegurarAbierto();
+        int posicion = indicePorId.eliminar(id);
+        if (posicion == IndiceEnteros.AUSENTE) {
+            return false;
+        }
+        quitarRegistro(posicion);
+        compactarTextosSiConviene();
+        guardarCabecera();
+        version++;
+        return true;
+    }
+
+    /**
+     * Elimina todas las tareas y reinicia el contador de IDs a 1.
+     * El espacio de los archivos se reutiliza; las vistas entregadas quedan desvinculadas.
+     */
+    @Override
+    public void limpiarTodas() {
+        asegurarAbierto();
+        super.limpiarTodas();
+        indicePorId.limpiar();
+        cantidad = 0;
+        textosUsados = 0;
+        textosLibres = 0;
+        totalCompletadas = 0;
+        for (int prioridad = PRIORIDAD_BAJA; prioridad <= PRIORIDAD_ALTA; prioridad++) {
+            totalPorPrioridad[prioridad] = 0;
+        }
+        observador = crearObservador();
+        guardarCabecera();
+        version++;
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    @Override
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        asegurarAbierto();
+        Tarea[] tareas = crearTareas(nombres, prioridades);
+        indicePorId.asegurarCapacidad(cantidad + tareas.length);
+        for (Tarea tarea : tareas) {
+            anexarRegistro(tarea);
+        }
+        guardarCabecera();
+        version++;
+        return resultadoAlta(tareas);
+    }
+
+    /**
+     * Agrega varias tareas ya construidas, de cualquier tipo, copiando sus atributos a
+     * registros nuevos. Cada tarea recibe un ID nuevo y queda vinculada a su registro,
+     * igual que las devueltas por las consultas.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida,
+     *         o si algún texto no cabe en una región
+     */
+    @Override
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        asegurarAbierto();
+        Tarea[] lote = prepararLote(tareas);
+        indicePorId.asegurarCapacidad(cantidad + lote.length);
+        for (Tarea tarea : lote) {
+            anexarRegistro(tarea);
+            vincular(tarea);
+        }
+        guardarCabecera();
+        version++;
+        return resultadoAlta(lote);
+    }
+
+    @Override
+    public ResultadoLote completarTareas(int[] ids) {
+        asegurarAbierto();
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.obtener(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                completar(posicion);
+                exitosos.set(i);
+            }
+        }
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    @Override
+    public ResultadoLote eliminarTareas(int[] ids) {
+        asegurarAbierto();
+        validarLote(ids);
+        BitSet exitosos = new BitSet(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int posicion = indicePorId.eliminar(ids[i]);
+            if (posicion != IndiceEnteros.AUSENTE) {
+                quitarRegistro(posicion);
+                exitosos.set(i);
+            }
+        }
+        if (!exitosos.isEmpty()) {
+            compactarTextosSiConviene();
+            guardarCabecera();
+            version++;
+        }
+        return new ResultadoLote(ids.clone(), exitosos);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene todas las tareas.
+     * Cada llamada materializa una vista nueva de cada registro, por lo que con muchos
+     * registros conviene preferir las consultas filtradas y las estadísticas.
+     *
+     * @return Lista inmutable con una vista de cada tarea
+     */
+    @Override
+    public List<Tarea> listarTareas() {
+        List<Tarea> tareas = new ArrayList<>(cantidad);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            tareas.add(materializar(posicion));
+        }
+        return Collections.unmodifiableList(tareas);
+    }
+
+    /**
+     * Recorre las tareas materializando cada vista solo al llegar a su posición, de modo
+     * que el recorrido usa memoria constante. Las bajas y las altas durante el recorrido lo
+     * interrumpen con {@link ConcurrentModificationException}.
+     *
+     * @return Vistas de las tareas, en el orden de {@link #listarTareas()}
+     */
+    @Override
+    Iterable<Tarea> recorrerTareas() {
+        return () -> new Iterator<Tarea>() {
+            private final long versionInicial = version;
+            private int posicion;
+
+            @Override
+            public boolean hasNext() {
+                return posicion < cantidad;
+            }
+
+            @Override
+            public Tarea next() {
+                if (version != versionInicial) {
+                    throw new ConcurrentModificationException();
+                }
+                if (posicion >= cantidad) {
+                    throw new NoSuchElementException();
+                }
+                return materializar(posicion++);
+            }
+        };
+    }
+
+    @Override
+    public long obtenerVersion() {
+        return version;
+    }
+
+    @Override
+    public Tarea buscarTareaPorId(int id) {
+        int posicion = indicePorId.obtener(id);
+        return posicion == IndiceEnteros.AUSENTE ? null : materializar(posicion);
+    }
+
+    /**
+     * Filtra las tareas con una prioridad específica leyendo solo el campo de prioridad
+     * de cada registro; únicamente se materializan las que coinciden.
+     *
+     * @param prioridad Nivel de prioridad a filtrar (1: Baja, 2: Media, 3: Alta)
+     * @return Lista inmutable con las tareas que coinciden con la prioridad
+     */
+    @Override
+    public List<Tarea> filtrarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return Collections.emptyList();
+        }
+        List<Tarea> tareas = new ArrayList<>(totalPorPrioridad[prioridad]);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            if (registros.get(campo(posicion, R_PRIORIDAD)) == prioridad) {
+                tareas.add(materializar(posicion));
+            }
+        }
+        return Collections.unmodifiableList(tareas);
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasCompletadas() {
+        return filtrarPorEstado(true, totalCompletadas);
+    }
+
+    @Override
+    public List<Tarea> obtenerTareasPendientes() {
+        return filtrarPorEstado(false, cantidad - totalCompletadas);
+    }
+
+    /**
+     * Obtiene las tareas urgentes vencidas recorriendo solo el campo de fecha límite de cada registro;
+     * únicamente se materializan las que coinciden.
+     *
+     * @param ahora Instante de referencia
+     * @return Lista con las tareas urgentes vencidas, ordenadas por fecha límite
+     */
+    @Override
+    List<Tarea> vencidasAl(long ahora) {
+        // SIN_FECHA es el menor long, así que empezar en el siguiente excluye las tareas sin fecha
+        return limitesEnRango(TareaUrgente.SIN_FECHA + 1, ahora - 1, Integer.MAX_VALUE);
+    }
+
+    @Override
+    List<Tarea> vencenEntre(long desde, long hasta) {
+        return limitesEnRango(desde, hasta, Integer.MAX_VALUE);
+    }
+
+    @Override
+    List<Tarea> proximosVencimientos(long desde, int cantidad) {
+        return limitesEnRango(desde, Long.MAX_VALUE, cantidad);
+    }
+
+    // ==================== ESTADÍSTICAS ====================
+
+    @Override
+    public int obtenerTotalTareas() {
+        return cantidad;
+    }
+
+    @Override
+    public int contarTareasCompletadas() {
+        return totalCompletadas;
+    }
+
+    @Override
+    public int contarTareasPendientes() {
+        return cantidad - totalCompletadas;
+    }
+
+    @Override
+    public int contarPorPrioridad(int prioridad) {
+        if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA) {
+            return 0;
+        }
+        return totalPorPrioridad[prioridad];
+    }
+
+    @Override
+    public double calcularPorcentajeCompletadas() {
+        return cantidad == 0 ? 0.0 : (totalCompletadas * 100.0) / cantidad;
+    }
+
+    @Override
+    public double calcularPorcentajePendientes() {
+        return cantidad == 0 ? 0.0 : ((cantidad - totalCompletadas) * 100.0) / cantidad;
+    }
+
+    @Override
+    public boolean estaVacia() {
+        return cantidad == 0;
+    }
+
+    // ==================== SINCRONIZACIÓN Y CIERRE ====================
+
+    /**
+     * Fuerza la escritura en disco de todos los registros, textos y la cabecera.
+     */
+    public void sincronizar() {
+        textos.sincronizar();
+        registros.sincronizar();
+        cabecera.force();
+    }
+
+    /**
+     * Sincroniza el almacén con el disco y cierra sus archivos.
+     * Después de cerrar, cualquier modificación lanza {@link IllegalStateException}.
+     * Llamarlo más de una vez no tiene efecto.
+     *
+     * @throws IOException si falla el cierre de los archivos
+     */
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            sincronizar();
+        } finally {
+            try {
+                canalTareas.close();
+            } finally {
+                canalTextos.close();
+            }
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS - REGISTROS ====================
+
+    /**
+     * Recorre los registros para reconstruir el índice por ID y los contadores.
+     *
+     * @throws IOException si la cabecera o algún registro son inconsistentes
+     */
+    private void cargarIndice() throws IOException {
+        cantidad = cabecera.getInt(C_CANTIDAD);
+        textosUsados = cabecera.getLong(C_TEXTOS_USADOS);
+        textosLibres = cabecera.getLong(C_TEXTOS_LIBRES);
+        if (cantidad < 0 || textosUsados < 0 || textosUsados > canalTextos.size()
+                || textosLibres < 0 || textosLibres > textosUsados
+                || (long) cantidad * REGISTRO > canalTareas.size() - CABECERA) {
+            throw new IOException("Cabecera del almacén de tareas inconsistente");
+        }
+        indicePorId.asegurarCapacidad(cantidad);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            int id = registros.getInt(campo(posicion, R_ID));
+            int prioridad = registros.get(campo(posicion, R_PRIORIDAD));
+            if (prioridad < PRIORIDAD_BAJA || prioridad > PRIORIDAD_ALTA
+                    || indicePorId.obtener(id) != IndiceEnteros.AUSENTE) {
+                throw new IOException("Registro de tarea inválido en la posición " + posicion);
+            }
+            indicePorId.poner(id, posicion);
+            totalPorPrioridad[prioridad]++;
+            if ((registros.get(campo(posicion, R_ESTADO)) & COMPLETADA) != 0) {
+                totalCompletadas++;
+            }
+        }
+        adelantarContador(cabecera.getInt(C_SIGUIENTE_ID) - 1);
+    }
+
+    /**
+     * Escribe una tarea en un registro nuevo al final y la agrega al índice y a los contadores.
+     *
+     * @param tarea Tarea a escribir (su ID no debe estar en uso)
+     * @return Posición del registro
+     */
+    private int anexarRegistro(Tarea tarea) {
+        int posicion = cantidad;
+        long base = campo(posicion, 0);
+        byte tipo = tarea instanceof TareaUrgente ? TIPO_URGENTE
+                  : tarea instanceof TareaNormal ? TIPO_NORMAL : TIPO_TAREA;
+        registros.putInt(base + R_ID, tarea.getId());
+        registros.put(base + R_PRIORIDAD, (byte) tarea.getPrioridad());
+        registros.put(base + R_TIPO, tipo);
+        registros.put(base + R_ESTADO, tarea.isCompletado() ? COMPLETADA : 0);
+        registros.putLong(base + R_NOMBRE, escribirTexto(tarea.getNombre().trim()));
+        registros.putLong(base + R_EXTRA, SIN_TEXTO);
+        escribirAtributos(posicion, tarea);
+
+        indicePorId.poner(tarea.getId(), posicion);
+        totalPorPrioridad[tarea.getPrioridad()]++;
+        if (tarea.isCompletado()) {
+            totalCompletadas++;
+        }
+        cantidad++;
+        return posicion;
+    }
+
+    /**
+     * Escribe los atributos propios de las subclases de una tarea.
+     * El bit de completada del registro se conserva: solo lo cambian {@link #completar(int)}
+     * y la notificación de estado, que también actualizan {@link #totalCompletadas}.
+     *
+     * @param posicion Posición del registro
+     * @param tarea Tarea de la que se toman los valores
+     */
+    private void escribirAtributos(int posicion, Tarea tarea) {
+        long base = campo(posicion, 0);
+        byte estado = (byte) (registros.get(base + R_ESTADO) & COMPLETADA);
+        int criticidad = 0;
+        int tiempo = 0;
+        long limite = TareaUrgente.SIN_FECHA;
+        String extra = null;
+        if (tarea instanceof TareaUrgente) {
+            TareaUrgente urgente = (TareaUrgente) tarea;
+            if (urgente.isNotificacionesActivas()) {
+                estado |= NOTIFICACIONES;
+            }
+            criticidad = urgente.getNivelCriticidad();
+            limite = urgente.getFechaLimiteEpochNanos();
+            extra = urgente.getResponsable();
+        } else if (tarea instanceof TareaNormal) {
+            TareaNormal normal = (TareaNormal) tarea;
+            tiempo = normal.getTiempoEstimado();
+            extra = normal.getCategoria();
+        }
+        registros.put(base + R_ESTADO, estado);
+        registros.put(base + R_CRITICIDAD, (byte) criticidad);
+        registros.putInt(base + R_TIEMPO, tiempo);
+        registros.putLong(base + R_LIMITE, limite);
+        registros.putLong(base + R_EXTRA, reemplazarTexto(registros.getLong(base + R_EXTRA), extra));
+    }
+
+    /**
+     * Escribe en el registro un único atributo de una tarea, para que una vista desactualizada
+     * no pise con sus valores los cambios hechos a través de otra.
+     *
+     * @param posicion Posición del registro
+     * @param tarea Tarea de la que se toma el valor
+     * @param atributo Atributo que cambió
+     */
+    private void escribirAtributo(int posicion, Tarea tarea, AtributoTarea atributo) {
+        long base = campo(posicion, 0);
+        switch (atributo) {
+            case CATEGORIA:
+                registros.putLong(base + R_EXTRA, reemplazarTexto(registros.getLong(base + R_EXTRA),
+                                                                  ((TareaNormal) tarea).getCategoria()));
+                break;
+            case TIEMPO_ESTIMADO:
+                registros.putInt(base + R_TIEMPO, ((TareaNormal) tarea).getTiempoEstimado());
+                break;
+            case FECHA_LIMITE:
+                registros.putLong(base + R_LIMITE, ((TareaUrgente) tarea).getFechaLimiteEpochNanos());
+                break;
+            case NOTIFICACIONES: {
+                byte estado = registros.get(base + R_ESTADO);
+                registros.put(base + R_ESTADO, (byte) (((TareaUrgente) tarea).isNotificacionesActivas()
+                                                       ? estado | NOTIFICACIONES : estado & ~NOTIFICACIONES));
+                break;
+            }
+            case CRITICIDAD:
+                registros.put(base + R_CRITICIDAD, (byte) ((TareaUrgente) tarea).getNivelCriticidad());
+                break;
+            case RESPONSABLE:
+                registros.putLong(base + R_EXTRA, reemplazarTexto(registros.getLong(base + R_EXTRA),
+                                                                  ((TareaUrgente) tarea).getResponsable()));
+                break;
+        }
+    }
+
+    /**
+     * Retira un registro (cuyo ID ya se quitó del índice) moviendo el último a su lugar.
+     *
+     * @param posicion Posición del registro a retirar
+     */
+    private void quitarRegistro(int posicion) {
+        long base = campo(posicion, 0);
+        liberarTexto(registros.getLong(base + R_NOMBRE));
+        liberarTexto(registros.getLong(base + R_EXTRA));
+        totalPorPrioridad[registros.get(base + R_PRIORIDAD)]--;
+        if ((registros.get(base + R_ESTADO) & COMPLETADA) != 0) {
+            totalCompletadas--;
+        }
+        int ultima = --cantidad;
+        if (posicion != ultima) {
+            registros.copiar(campo(ultima, 0), base, REGISTRO);
+            indicePorId.poner(registros.getInt(base + R_ID), posicion);
+        }
+    }
+
+    /**
+     * Marca como completada la tarea de un registro.
+     *
+     * @param posicion Posición del registro
+     */
+    private void completar(int posicion) {
+        long estado = campo(posicion, R_ESTADO);
+        byte actual = registros.get(estado);
+        if ((actual & COMPLETADA) == 0) {
+            registros.put(estado, (byte) (actual | COMPLETADA));
+            totalCompletadas++;
+        }
+    }
+
+    /**
+     * Materializa las tareas de un estado recorriendo solo el campo de estado de cada registro.
+     *
+     * @param completadas true para las completadas, false para las pendientes
+     * @param esperadas Cantidad esperada, para dimensionar la lista
+     * @return Lista con las tareas del estado indicado
+     */
+    private List<Tarea> filtrarPorEstado(boolean completadas, int esperadas) {
+        List<Tarea> tareas = new ArrayList<>(esperadas);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            if (((registros.get(campo(posicion, R_ESTADO)) & COMPLETADA) != 0) == completadas) {
+                tareas.add(materializar(posicion));
+            }
+        }
+        return tareas;
+    }
+
+    /**
+     * Busca las tareas con fecha límite dentro de un intervalo cerrado recorriendo el campo de fecha límite de cada registro
+     * (sin índice ordenado) y materializa las primeras en vencer, seleccionadas con {@link SeleccionLimites}.
+     *
+     * @param desde Inicio del intervalo, incluido
+     * @param hasta Fin del intervalo, incluido
+     * @param maximo Número máximo de tareas a materializar
+     * @return Lista ordenada por fecha límite
+     */
+    private List<Tarea> limitesEnRango(long desde, long hasta, int maximo) {
+        SeleccionLimites seleccion = new SeleccionLimites(maximo);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            long limite = registros.getLong(campo(posicion, R_LIMITE));
+            if (limite >= desde && limite <= hasta && limite != TareaUrgente.SIN_FECHA) {
+                seleccion.ofrecer(limite, posicion);
+            }
+        }
+        int[] seleccionadas = seleccion.posicionesOrdenadas();
+        List<Tarea> tareas = new ArrayList<>(seleccionadas.length);
+        for (int posicion : seleccionadas) {
+            tareas.add(materializar(posicion));
+        }
+        return tareas;
+    }
+
+    /**
+     * Crea la vista de un registro.
+     *
+     * @param posicion Posición del registro
+     * @return Tarea del tipo guardado, vinculada al registro
+     */
+    private Tarea materializar(int posicion) {
+        long base = campo(posicion, 0);
+        int id = registros.getInt(base + R_ID);
+        int prioridad = registros.get(base + R_PRIORIDAD);
+        byte estado = registros.get(base + R_ESTADO);
+        String nombre = leerTexto(registros.getLong(base + R_NOMBRE));
+
+        Tarea tarea;
+        switch (registros.get(base + R_TIPO)) {
+            case TIPO_NORMAL:
+                tarea = new TareaNormal(id, nombre, prioridad,
+                                        leerTexto(registros.getLong(base + R_EXTRA)),
+                                        registros.getInt(base + R_TIEMPO));
+                break;
+            case TIPO_URGENTE: {
+                TareaUrgente urgente = new TareaUrgente(id, nombre, prioridad, null,
+                                                        registros.get(base + R_CRITICIDAD),
+                                                        leerTexto(registros.getLong(base + R_EXTRA)));
+                urgente.setFechaLimiteEpochNanos(registros.getLong(base + R_LIMITE));
+                urgente.setNotificacionesActivas((estado & NOTIFICACIONES) != 0);
+                tarea = urgente;
+                break;
+            }
+            default:
+                tarea = new Tarea(id, nombre, prioridad);
+        }
+        tarea.setCompletado((estado & COMPLETADA) != 0);
+        return vincular(tarea);
+    }
+
+    /**
+     * Vincula una tarea con su registro para que sus setters escriban en él.
+     *
+     * @param tarea Tarea cuyo ID ya figura en el índice
+     * @return La misma tarea
+     */
+    private Tarea vincular(Tarea tarea) {
+        tarea.idIndexado = tarea.getId();
+        tarea.observador = observador;
+        return tarea;
+    }
+
+    /**
+     * Obtiene la posición del registro de una vista.
+     *
+     * @param tarea Vista entregada por este gestor
+     * @return Posición del registro, o {@link IndiceEnteros#AUSENTE} si la vista está desvinculada
+     */
+    private int registroDe(Tarea tarea) {
+        if (tarea.observador != observador) {
+            return IndiceEnteros.AUSENTE;
+        }
+        return indicePorId.obtener(tarea.idIndexado);
+    }
+
+    /**
+     * Calcula la posición de un campo de un registro.
+     *
+     * @param posicion Posición del registro
+     * @param campo Desplazamiento del campo dentro del registro
+     * @return Posición del campo en la proyección
+     */
+    private static long campo(int posicion, int campo) {
+        return (long) posicion * REGISTRO + campo;
+    }
+
+    // ==================== MÉTODOS PRIVADOS - TEXTOS ====================
+
+    /**
+     * Anexa un texto a {@code textos.dat} como [longitud: int][UTF-8].
+     * Si no cabe en lo que queda de la región actual, comienza en la siguiente.
+     *
+     * @param texto Texto a guardar (puede ser null)
+     * @return Posición del texto, o {@link #SIN_TEXTO} si es null
+     * @throws IllegalArgumentException si el texto no cabe en una región
+     */
+    private long escribirTexto(String texto) {
+        if (texto == null) {
+            return SIN_TEXTO;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        int tamanioRegion = textos.obtenerTamanioRegion();
+        int necesario = Integer.BYTES + bytes.length;
+        if (necesario > tamanioRegion) {
+            throw new IllegalArgumentException("El texto supera el tamaño máximo de " + tamanioRegion + " bytes");
+        }
+        long posicion = textosUsados;
+        long libres = tamanioRegion - posicion % tamanioRegion;
+        if (necesario > libres) {
+            posicion += libres;
+        }
+        textos.putInt(posicion, bytes.length);
+        textos.escribir(posicion + Integer.BYTES, bytes);
+        textosUsados = posicion + necesario;
+        return posicion;
+    }
+
+    /**
+     * Sustituye un texto guardado, escribiendo el nuevo solo si es distinto.
+     *
+     * @param actual Posición del texto guardado, o {@link #SIN_TEXTO}
+     * @param texto Texto nuevo (puede ser null)
+     * @return Posición del texto nuevo; la misma si no cambió
+     */
+    private long reemplazarTexto(long actual, String texto) {
+        if (Objects.equals(leerTexto(actual), texto)) {
+            return actual;
+        }
+        long posicion = escribirTexto(texto);
+        liberarTexto(actual);
+        return posicion;
+    }
+
+    /**
+     * Descuenta un texto que ya no usa ningún registro.
+     *
+     * @param posicion Posición del texto, o {@link #SIN_TEXTO}
+     */
+    private void liberarTexto(long posicion) {
+        if (posicion != SIN_TEXTO) {
+            textosLibres += Integer.BYTES + textos.getInt(posicion);
+        }
+    }
+
+    /**
+     * Compacta los textos si los libres superan a los vivos y ocupan al menos una región,
+     * así {@code textos.dat} no pasa del doble de los textos vivos más una región y el
+     * costo de compactar se reparte entre los textos liberados desde la anterior.
+     * Debe llamarse cuando ningún registro quedó a medio escribir.
+     */
+    private void compactarTextosSiConviene() {
+        if (textosLibres * 2 > textosUsados && textosUsados >= textos.obtenerTamanioRegion()) {
+            compactarTextos();
+        }
+    }
+
+    /**
+     * Mueve los textos vivos al inicio de {@code textos.dat}, en su mismo orden y con la misma
+     * regla de regiones que {@link #escribirTexto(String)}, y actualiza las posiciones de los
+     * registros. Como cada texto se mueve a una posición menor o igual, puede hacerse en el
+     * mismo archivo recorriendo los textos de menor a mayor posición. Si el proceso termina
+     * a mitad de la compactación, algunos registros pueden quedar apuntando a textos ya movidos.
+     */
+    private void compactarTextos() {
+        long[] anteriores = new long[cantidad * 2];
+        int vivos = 0;
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            anteriores[vivos++] = registros.getLong(campo(posicion, R_NOMBRE));
+            long extra = registros.getLong(campo(posicion, R_EXTRA));
+            if (extra != SIN_TEXTO) {
+                anteriores[vivos++] = extra;
+            }
+        }
+        Arrays.sort(anteriores, 0, vivos);
+
+        int tamanioRegion = textos.obtenerTamanioRegion();
+        long[] nuevas = new long[vivos];
+        long destino = 0;
+        for (int i = 0; i < vivos; i++) {
+            if (i > 0 && anteriores[i] == anteriores[i - 1]) {
+                nuevas[i] = nuevas[i - 1];
+                continue;
+            }
+            int longitud = Integer.BYTES + textos.getInt(anteriores[i]);
+            long libres = tamanioRegion - destino % tamanioRegion;
+            if (longitud > libres) {
+                destino += libres;
+            }
+            if (destino != anteriores[i]) {
+                textos.copiar(anteriores[i], destino, longitud);
+            }
+            nuevas[i] = destino;
+            destino += longitud;
+        }
+
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            long campoNombre = campo(posicion, R_NOMBRE);
+            registros.putLong(campoNombre, nuevas[Arrays.binarySearch(anteriores, 0, vivos, registros.getLong(campoNombre))]);
+            long campoExtra = campo(posicion, R_EXTRA);
+            long extra = registros.getLong(campoExtra);
+            if (extra != SIN_TEXTO) {
+                registros.putLong(campoExtra, nuevas[Arrays.binarySearch(anteriores, 0, vivos, extra)]);
+            }
+        }
+        textosUsados = destino;
+        textosLibres = 0;
+    }
+
+    /**
+     * Lee un texto de {@code textos.dat}.
+     *
+     * @param posicion Posición devuelta por {@link #escribirTexto(String)}
+     * @return El texto, o null si la posición es {@link #SIN_TEXTO}
+     */
+    private String leerTexto(long posicion) {
+        if (posicion == SIN_TEXTO) {
+            return null;
+        }
+        byte[] bytes = new byte[textos.getInt(posicion)];
+        textos.leer(posicion + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== MÉTODOS PRIVADOS - SOPORTE ====================
+
+    /**
+     * Actualiza en la cabecera la cantidad de registros, el contador de IDs y los textos usados.
+     */
+    private void guardarCabecera() {
+        cabecera.putInt(C_CANTIDAD, cantidad)
+                .putInt(C_SIGUIENTE_ID, consultarSiguienteId())
+                .putLong(C_TEXTOS_USADOS, textosUsados)
+                .putLong(C_TEXTOS_LIBRES, textosLibres);
+    }
+
+    /**
+     * Verifica que el almacén no se haya cerrado.
+     *
+     * @throws IllegalStateException si el almacén está cerrado
+     */
+    private void asegurarAbierto() {
+        if (cerrado) {
+            throw new IllegalStateException("El almacén de tareas está cerrado");
+        }
+    }
+
+    /**
+     * Crea el observador que traslada a los registros los cambios hechos con los setters de las vistas.
+     *
+     * @return Observador nuevo
+     */
+    private ObservadorTarea crearObservador() {
+        return new ObservadorTarea() {
+            @Override
+            public void idCambiado(Tarea tarea, int idAnterior) {
+                int posicion = registroDe(tarea);
+                if (posicion == IndiceEnteros.AUSENTE) {
+                    return;
+                }
+                asegurarAbierto();
+                int id = tarea.getId();
+                if (indicePorId.obtener(id) != IndiceEnteros.AUSENTE) {
+                    throw new IllegalArgumentException("Ya existe una tarea con el ID " + id);
+                }
+                indicePorId.eliminar(tarea.idIndexado);
+                indicePorId.poner(id, posicion);
+                registros.putInt(campo(posicion, R_ID), id);
+                tarea.idIndexado = id;
+                adelantarContador(id);
+                guardarCabecera();
+            }
+
+            @Override
+            public void nombreCambiado(Tarea tarea, String nombreAnterior) {
+                int posicion = registroDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    asegurarAbierto();
+                    long campoNombre = campo(posicion, R_NOMBRE);
+                    registros.putLong(campoNombre, reemplazarTexto(registros.getLong(campoNombre), tarea.getNombre()));
+                    compactarTextosSiConviene();
+                    guardarCabecera();
+                }
+            }
+
+            @Override
+            public void prioridadCambiada(Tarea tarea, int prioridadAnterior) {
+                int posicion = registroDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    asegurarAbierto();
+                    long campoPrioridad = campo(posicion, R_PRIORIDAD);
+                    totalPorPrioridad[registros.get(campoPrioridad)]--;
+                    totalPorPrioridad[tarea.getPrioridad()]++;
+                    registros.put(campoPrioridad, (byte) tarea.getPrioridad());
+                }
+            }
+
+            @Override
+            public void estadoCambiado(Tarea tarea) {
+                int posicion = registroDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    asegurarAbierto();
+                    long campoEstado = campo(posicion, R_ESTADO);
+                    byte estado = registros.get(campoEstado);
+                    boolean completada = tarea.isCompletado();
+                    if (((estado & COMPLETADA) != 0) != completada) {
+                        totalCompletadas += completada ? 1 : -1;
+                        registros.put(campoEstado, (byte) (completada ? estado | COMPLETADA : estado & ~COMPLETADA));
+                    }
+                }
+            }
+
+            @Override
+            public void atributoCambiado(Tarea tarea, AtributoTarea atributo) {
+                int posicion = registroDe(tarea);
+                if (posicion != IndiceEnteros.AUSENTE) {
+                    asegurarAbierto();
+                    escribirAtributo(posicion, tarea, atributo);
+                    compactarTextosSiConviene();
+                    guardarCabecera();
+                }
+            }
+        };
+    }
+}
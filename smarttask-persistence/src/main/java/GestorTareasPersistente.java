@@ -0,0 +1,817 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Variante de {@link GestorTareasConcurrente} que conserva las tareas entre ejecuciones.
+ * Cada modificación se anota en un {@link DiarioTareas} y, al crear el gestor,
+ * el diario se reproduce para reconstruir las tareas, sus estados y el contador de IDs.
+ *
+ * <p>Se registran las operaciones del gestor ({@code agregarTarea}, {@code marcarComoCompletada},
+ * {@code eliminarTarea}, {@code limpiarTodas} y sus versiones por lotes, incluido el alta de
+ * tareas ya construidas de cualquier tipo) y también los cambios hechos directamente sobre una
+ * tarea del gestor mediante sus setters (ID, nombre, prioridad, estado y los atributos de
+ * {@link TareaNormal} y {@link TareaUrgente}).</p>
+ *
+ * <p>El registro se anexa bajo el bloqueo de escritura, para que el orden del diario sea el
+ * orden en que se aplicaron los cambios; la espera por la durabilidad ocurre después de
+ * liberarlo, de modo que mientras un hilo espera el disco los demás siguen modificando el
+ * gestor y sus registros viajan en la misma sincronización.</p>
+ *
+ * <p>Para que el inicio no dependa del largo del diario, {@link #guardarInstantanea()}
+ * (que también se ejecuta al cerrar) guarda todas las tareas en una {@link InstantaneaTareas}.
+ * Al abrir se carga la instantánea más reciente y solo se reproducen los registros
+ * posteriores a ella.</p>
+ *
+ * <p>Cada instantánea borra los segmentos del diario que ya incluye, de modo que el diario
+ * no crece sin límite. {@link #compactar()} la construye sin tomar el bloqueo del gestor,
+ * a partir de la instantánea anterior y de los registros ya escritos del diario, que no
+ * cambian: las modificaciones concurrentes siguen su curso mientras tanto.
+ * {@link CompactadorTareas} la ejecuta periódicamente en segundo plano.</p>
+ *
+ * <p>Si la escritura del diario falla, la operación ya aplicada en memoria se conserva y
+ * se lanza {@link java.io.UncheckedIOException}.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see DiarioTareas
+ * @see InstantaneaTareas
+ * @see CompactadorTareas
+ */
+public final class GestorTareasPersistente extends GestorTareasConcurrente implements AutoCloseable {
+
+    // ==================== TIPOS DE REGISTRO ====================
+
+    /** Alta de una tarea: id, prioridad, nombre. */
+    static final byte ALTA = 1;
+
+    /** Tarea marcada como completada: id. */
+    static final byte COMPLETADA = 2;
+
+    /** Tarea marcada como pendiente: id. */
+    static final byte PENDIENTE = 3;
+
+    /** Baja de una tarea: id. */
+    static final byte ELIMINADA = 4;
+
+    /** Eliminación de todas las tareas y reinicio del contador de IDs. */
+    static final byte LIMPIEZA = 5;
+
+    /** Cambio de prioridad: id, prioridad. */
+    static final byte PRIORIDAD = 6;
+
+    /** Cambio de nombre: id, nombre. */
+    static final byte NOMBRE = 7;
+
+    /** Cambio de ID: id anterior, id nuevo. */
+    static final byte CAMBIO_ID = 8;
+
+    /** Alta de una tarea de cualquier tipo, con todos sus atributos (ver {@code codificarTarea}). */
+    static final byte TAREA = 9;
+
+    /** Nuevos atributos de una tarea existente, con el mismo formato que {@link #TAREA}. */
+    static final byte ATRIBUTOS = 10;
+
+    // Tipo de tarea dentro de los registros TAREA y ATRIBUTOS
+    private static final byte CLASE_TAREA = 0;
+    private static final byte CLASE_NORMAL = 1;
+    private static final byte CLASE_URGENTE = 2;
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    // ==================== ATRIBUTOS ====================
+
+    /**
+     * Diario donde se anotan las modificaciones.
+     */
+    private final DiarioTareas diario;
+
+    /**
+     * Verdadero mientras se reproduce el diario, para no volver a anotar lo que se reproduce.
+     */
+    private boolean reproduciendo;
+
+    /**
+     * Secuencia del diario incluida en la última instantánea cargada o guardada.
+     */
+    private volatile long secuenciaInstantanea;
+
+    /**
+     * Serializa la escritura de instantáneas y el borrado de segmentos del diario.
+     */
+    private final ReentrantLock bloqueoInstantanea = new ReentrantLock();
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Abre (o crea) el gestor guardado en un directorio, sincronizando cada operación con el disco.
+     *
+     * @param directorio Directorio de datos
+     * @throws IOException si el diario no puede leerse o está corrupto
+     */
+    public GestorTareasPersistente(Path directorio) throws IOException {
+        this(directorio, ModoDurabilidad.CADA_OPERACION);
+    }
+
+    /**
+     * Abre (o crea) el gestor guardado en un directorio con el modo de durabilidad indicado.
+     *
+     * @param directorio Directorio de datos
+     * @param modo Modo de durabilidad
+     * @throws IOException si el diario no puede leerse o está corrupto
+     */
+    public GestorTareasPersistente(Path directorio, ModoDurabilidad modo) throws IOException {
+        this(new DiarioTareas(directorio, modo));
+    }
+
+    /**
+     * Abre (o crea) el gestor guardado en un directorio con el modo y el intervalo de sincronización indicados.
+     *
+     * @param directorio Directorio de datos
+     * @param modo Modo de durabilidad
+     * @param intervaloMilisegundos Intervalo de sincronización del modo {@link ModoDurabilidad#PERIODICO}
+     * @throws IOException si el diario no puede leerse o está corrupto
+     */
+    public GestorTareasPersistente(Path directorio, ModoDurabilidad modo, long intervaloMilisegundos)
+            throws IOException {
+        this(new DiarioTareas(directorio, modo, intervaloMilisegundos));
+    }
+
+    /**
+     * Crea el gestor sobre un diario todavía no recuperado: carga la última instantánea
+     * del directorio del diario, si existe, y reproduce los registros posteriores.
+     *
+     * @param diario Diario del gestor
+     * @throws IOException si el diario no puede leerse o está corrupto
+     */
+    GestorTareasPersistente(DiarioTareas diario) throws IOException {
+        super();
+        this.diario = diario;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        reproduciendo = true;
+        try {
+            InstantaneaTareas instantanea = InstantaneaTareas.cargarUltima(diario.obtenerDirectorio());
+            if (instantanea != null) {
+                indexarLote(instantanea.obtenerTareas());
+                adelantarContador(instantanea.obtenerSiguienteId() - 1);
+                secuenciaInstantanea = instantanea.obtenerSecuencia();
+            }
+            diario.recuperar(secuenciaInstantanea,
+                             (secuencia, tipo, datos) -> aplicar(this, secuencia, tipo, datos));
+        } catch (IOException | RuntimeException e) {
+            diario.close();
+            throw e;
+        } finally {
+            reproduciendo = false;
+            escritura.unlock();
+        }
+    }
+
+    // ==================== OPERACIONES CRUD ====================
+
+    @Override
+    public Tarea agregarTarea(String nombre, int prioridad) {
+        Tarea nuevaTarea;
+        long secuencia;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            nuevaTarea = super.agregarTarea(nombre, prioridad);
+            secuencia = registrarAlta(nuevaTarea);
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return nuevaTarea;
+    }
+
+    /**
+     * Marca una tarea como completada.
+     * El cambio de estado se anota desde la notificación de la tarea.
+     *
+     * @param id ID de la tarea a marcar como completada
+     * @return true si se encontró y marcó la tarea, false si no existe
+     */
+    @Override
+    public boolean marcarComoCompletada(int id) {
+        boolean encontrada;
+        long secuencia;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            encontrada = super.marcarComoCompletada(id);
+            secuencia = diario.obtenerUltimaSecuencia();
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return encontrada;
+    }
+
+    @Override
+    public boolean eliminarTarea(int id) {
+        boolean eliminada;
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            eliminada = super.eliminarTarea(id);
+            if (eliminada && !reproduciendo) {
+                secuencia = diario.registrar(ELIMINADA, id);
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return eliminada;
+    }
+
+    @Override
+    public void limpiarTodas() {
+        long secuencia;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            super.limpiarTodas();
+            secuencia = reproduciendo ? 0 : diario.registrar(LIMPIEZA);
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    // ==================== OPERACIONES POR LOTES ====================
+
+    /**
+     * Agrega varias tareas en una sola operación.
+     * Todo el lote comparte una única espera de durabilidad.
+     *
+     * @param nombres Descripciones de las tareas
+     * @param prioridades Prioridad de cada tarea, en la misma posición que su nombre
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus entradas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(String[] nombres, int[] prioridades) {
+        ResultadoLote resultado;
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            resultado = super.agregarTareas(nombres, prioridades);
+            for (int i = 0; i < resultado.obtenerTotal(); i++) {
+                secuencia = registrarAlta(buscarTareaPorId(resultado.obtenerId(i)));
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return resultado;
+    }
+
+    /**
+     * Agrega varias tareas ya construidas, de cualquier tipo.
+     * Cada alta se anota con todos los atributos de la tarea y el lote completo
+     * comparte una única espera de durabilidad.
+     *
+     * @param tareas Tareas a agregar
+     * @return Resultado con los IDs asignados, en el orden de entrada
+     * @throws IllegalArgumentException si el lote o alguna de sus tareas es inválida
+     */
+    @Override
+    public ResultadoLote agregarTareas(Tarea[] tareas) {
+        ResultadoLote resultado;
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            resultado = super.agregarTareas(tareas);
+            for (int i = 0; i < resultado.obtenerTotal(); i++) {
+                secuencia = registrarAlta(buscarTareaPorId(resultado.obtenerId(i)));
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return resultado;
+    }
+
+    @Override
+    public ResultadoLote completarTareas(int[] ids) {
+        ResultadoLote resultado;
+        long secuencia;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            resultado = super.completarTareas(ids);
+            secuencia = registrarLote(resultado, COMPLETADA);
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return resultado;
+    }
+
+    @Override
+    public ResultadoLote eliminarTareas(int[] ids) {
+        ResultadoLote resultado;
+        long secuencia;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            resultado = super.eliminarTareas(ids);
+            secuencia = registrarLote(resultado, ELIMINADA);
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+        return resultado;
+    }
+
+    // ==================== INSTANTÁNEAS Y CIERRE ====================
+
+    /**
+     * Guarda todas las tareas en una instantánea, para que la próxima apertura
+     * reproduzca solo los registros del diario posteriores a este momento.
+     * Las tareas se codifican en memoria bajo el bloqueo de escritura, que detiene a los
+     * demás hilos durante la codificación; la escritura en disco ocurre después de liberarlo.
+     * Con el gestor en uso conviene {@link #compactar()}, que no toma el bloqueo.
+     *
+     * @throws IOException si no puede escribirse la instantánea
+     */
+    public void guardarInstantanea() throws IOException {
+        bloqueoInstantanea.lock();
+        try {
+            ByteBuffer contenido;
+            long secuencia;
+            Lock escritura = bloqueoEscritura();
+            escritura.lock();
+            try {
+                secuencia = diario.obtenerUltimaSecuencia();
+                contenido = InstantaneaTareas.codificar(secuencia, consultarSiguienteId(), listarTareas());
+            } finally {
+                escritura.unlock();
+            }
+            // La instantánea nunca debe quedar por delante de lo que el diario tiene en disco:
+            // de lo contrario, tras una caída se volverían a numerar secuencias ya incluidas en ella.
+            // Al rotar, además, los registros incluidos quedan en segmentos que ya no se leerán.
+            diario.rotar();
+            publicarInstantanea(secuencia, contenido);
+        } finally {
+            bloqueoInstantanea.unlock();
+        }
+    }
+
+    /**
+     * Guarda una instantánea sin detener a los hilos que modifican el gestor y borra los
+     * segmentos del diario que ya incluye.
+     *
+     * <p>El diario se rota para fijar el punto de corte: todos los registros hasta ese punto
+     * quedan escritos y ya no cambian. La instantánea se construye reproduciendo esos registros
+     * sobre la instantánea anterior en un {@link GestorTareas} aparte, por lo que solo el corte
+     * comparte bloqueos con las demás operaciones; a cambio, durante la compactación se mantiene
+     * en memoria una segunda copia de las tareas.</p>
+     *
+     * @return true si se guardó una instantánea, false si no había registros nuevos
+     * @throws IOException si falla la lectura del diario o la escritura de la instantánea
+     * @throws IllegalStateException si el gestor está cerrado
+     */
+    public boolean compactar() throws IOException {
+        bloqueoInstantanea.lock();
+        try {
+            long secuencia = diario.rotar();
+            if (secuencia <= secuenciaInstantanea) {
+                return false;
+            }
+
+            GestorTareas vista = new GestorTareas();
+            long desde = 0;
+            InstantaneaTareas anterior = InstantaneaTareas.cargarUltima(diario.obtenerDirectorio());
+            if (anterior != null) {
+                vista.indexarLote(anterior.obtenerTareas());
+                vista.adelantarContador(anterior.obtenerSiguienteId() - 1);
+                desde = anterior.obtenerSecuencia();
+            }
+            diario.reproducir(desde, secuencia, (s, tipo, datos) -> aplicar(vista, s, tipo, datos));
+            publicarInstantanea(secuencia,
+                InstantaneaTareas.codificar(secuencia, vista.consultarSiguienteId(), vista.listarTareas()));
+            return true;
+        } finally {
+            bloqueoInstantanea.unlock();
+        }
+    }
+
+    /**
+     * Guarda una instantánea si hubo cambios desde la última, sincroniza el diario y lo cierra.
+     * Después de cerrar, cualquier modificación lanza {@link IllegalStateException}.
+     *
+     * @throws IOException si falla la instantánea o la escritura final del diario
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (diario.obtenerUltimaSecuencia() > secuenciaInstantanea) {
+                guardarInstantanea();
+            }
+        } finally {
+            diario.close();
+        }
+    }
+
+    /**
+     * Cuenta los registros del diario posteriores a la última instantánea.
+     *
+     * @return Registros que una nueva instantánea incluiría
+     */
+    long registrosSinInstantanea() {
+        return diario.obtenerUltimaSecuencia() - secuenciaInstantanea;
+    }
+
+    /**
+     * Obtiene el diario del gestor.
+     *
+     * @return Diario donde se anotan las modificaciones
+     */
+    DiarioTareas obtenerDiario() {
+        return diario;
+    }
+
+    // ==================== NOTIFICACIONES DE TAREAS ====================
+
+    @Override
+    void idCambiado(Tarea tarea, int idAnterior) {
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            int indexado = tarea.idIndexado;
+            super.idCambiado(tarea, idAnterior);
+            if (!reproduciendo && esPropia(tarea) && tarea.idIndexado != indexado) {
+                secuencia = diario.registrar(CAMBIO_ID, indexado, tarea.idIndexado);
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    @Override
+    void nombreCambiado(Tarea tarea) {
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            super.nombreCambiado(tarea);
+            if (!reproduciendo && esPropia(tarea)) {
+                secuencia = diario.registrar(NOMBRE, tarea.idIndexado, tarea.getNombre());
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    @Override
+    void estadoCambiado(Tarea tarea) {
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            boolean completada = tarea.completadaIndexada;
+            super.estadoCambiado(tarea);
+            if (!reproduciendo && esPropia(tarea) && tarea.completadaIndexada != completada) {
+                secuencia = diario.registrar(tarea.completadaIndexada ? COMPLETADA : PENDIENTE, tarea.idIndexado);
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    @Override
+    void prioridadCambiada(Tarea tarea, int anterior) {
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            int prioridad = tarea.prioridadIndexada;
+            super.prioridadCambiada(tarea, anterior);
+            if (!reproduciendo && esPropia(tarea) && tarea.prioridadIndexada != prioridad) {
+                secuencia = diario.registrar(PRIORIDAD, tarea.idIndexado, tarea.prioridadIndexada);
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    @Override
+    void atributosCambiados(Tarea tarea) {
+        long secuencia = 0;
+        Lock escritura = bloqueoEscritura();
+        escritura.lock();
+        try {
+            super.atributosCambiados(tarea);
+            if (!reproduciendo && esPropia(tarea)) {
+                secuencia = diario.registrar(ATRIBUTOS, codificarTarea(tarea.idIndexado, tarea));
+            }
+        } finally {
+            escritura.unlock();
+        }
+        esperar(secuencia);
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Escribe una instantánea ya codificada y borra los segmentos del diario que incluye.
+     * Debe llamarse con el bloqueo de instantáneas tomado y después de rotar el diario.
+     *
+     * @param secuencia Última secuencia incluida
+     * @param contenido Instantánea codificada
+     * @throws IOException si falla la escritura o el borrado
+     */
+    private void publicarInstantanea(long secuencia, ByteBuffer contenido) throws IOException {
+        InstantaneaTareas.escribir(diario.obtenerDirectorio(), secuencia, contenido);
+        secuenciaInstantanea = Math.max(secuenciaInstantanea, secuencia);
+        diario.descartarHasta(secuencia);
+    }
+
+    /**
+     * Anota el alta de una tarea. Una tarea pendiente de la clase base se anota con el
+     * registro compacto {@link #ALTA}; cualquier otra, con todos sus atributos.
+     *
+     * @param tarea Tarea agregada
+     * @return Secuencia del registro
+     */
+    private long registrarAlta(Tarea tarea) {
+        if (tarea.getClass() == Tarea.class && !tarea.isCompletado()) {
+            return diario.registrar(ALTA, tarea.getId(), tarea.getPrioridad(), tarea.getNombre());
+        }
+        return diario.registrar(TAREA, codificarTarea(tarea.getId(), tarea));
+    }
+
+    /**
+     * Anota un registro por cada ID exitoso de un lote ya aplicado.
+     *
+     * @param resultado Resultado del lote
+     * @param tipo Tipo de registro de cada ID
+     * @return Secuencia del último registro (0 si no se anotó nada)
+     */
+    private long registrarLote(ResultadoLote resultado, byte tipo) {
+        long secuencia = 0;
+        for (int i = 0; i < resultado.obtenerTotal(); i++) {
+            if (resultado.fueExitoso(i)) {
+                secuencia = diario.registrar(tipo, resultado.obtenerId(i));
+            }
+        }
+        return secuencia;
+    }
+
+    /**
+     * Espera la durabilidad de un registro, salvo que el hilo actual esté dentro de otra
+     * modificación del gestor: en ese caso la espera la hace la modificación externa,
+     * después de liberar el bloqueo.
+     *
+     * @param secuencia Secuencia del registro (0 si no se anotó nada)
+     */
+    private void esperar(long secuencia) {
+        if (secuencia > 0 && !escrituraTomadaPorHiloActual()) {
+            diario.esperarDurabilidad(secuencia);
+        }
+    }
+
+    /**
+     * Aplica un registro del diario a un gestor.
+     * Lo usan la reproducción al abrir y la compactación.
+     *
+     * @param destino Gestor que se reconstruye
+     * @param secuencia Secuencia del registro
+     * @param tipo Tipo del registro
+     * @param datos Datos del registro
+     * @throws IOException si el registro es desconocido o inconsistente con el estado reconstruido
+     */
+    private static void aplicar(GestorTareas destino, long secuencia, byte tipo, ByteBuffer datos)
+            throws IOException {
+        switch (tipo) {
+            case ALTA: {
+                int id = datos.getInt();
+                int prioridad = datos.getInt();
+                String nombre = DiarioTareas.leerTexto(datos);
+                if (destino.buscarTareaPorId(id) != null) {
+                    throw new IOException("El registro " + secuencia + " del diario repite el ID " + id);
+                }
+                destino.indexar(new Tarea(id, nombre, prioridad));
+                destino.adelantarContador(id);
+                break;
+            }
+            case COMPLETADA:
+            case PENDIENTE:
+                tareaDelRegistro(destino, secuencia, datos.getInt()).setCompletado(tipo == COMPLETADA);
+                break;
+            case ELIMINADA:
+                destino.eliminarTarea(tareaDelRegistro(destino, secuencia, datos.getInt()).getId());
+                break;
+            case LIMPIEZA:
+                destino.limpiarTodas();
+                break;
+            case PRIORIDAD: {
+                Tarea tarea = tareaDelRegistro(destino, secuencia, datos.getInt());
+                tarea.setPrioridad(datos.getInt());
+                break;
+            }
+            case NOMBRE: {
+                Tarea tarea = tareaDelRegistro(destino, secuencia, datos.getInt());
+                tarea.setNombre(DiarioTareas.leerTexto(datos));
+                break;
+            }
+            case CAMBIO_ID: {
+                Tarea tarea = tareaDelRegistro(destino, secuencia, datos.getInt());
+                tarea.setId(datos.getInt());
+                break;
+            }
+            case TAREA: {
+                Tarea tarea = decodificarTarea(datos);
+                if (destino.buscarTareaPorId(tarea.getId()) != null) {
+                    throw new IOException("El registro " + secuencia + " del diario repite el ID " + tarea.getId());
+                }
+                destino.indexar(tarea);
+                destino.adelantarContador(tarea.getId());
+                break;
+            }
+            case ATRIBUTOS: {
+                // La tarea se reemplaza por la del registro, que trae su estado completo
+                Tarea tarea = decodificarTarea(datos);
+                destino.eliminarTarea(tareaDelRegistro(destino, secuencia, tarea.getId()).getId());
+                destino.indexar(tarea);
+                break;
+            }
+            default:
+                throw new IOException("Tipo de registro desconocido en la secuencia " + secuencia + ": " + tipo);
+        }
+    }
+
+    /**
+     * Obtiene la tarea a la que se refiere un registro durante la reproducción.
+     *
+     * @param destino Gestor que se reconstruye
+     * @param secuencia Secuencia del registro
+     * @param id ID de la tarea
+     * @return La tarea
+     * @throws IOException si la tarea no existe en el estado reconstruido
+     */
+    private static Tarea tareaDelRegistro(GestorTareas destino, long secuencia, int id) throws IOException {
+        Tarea tarea = destino.buscarTareaPorId(id);
+        if (tarea == null) {
+            throw new IOException("El registro " + secuencia + " del diario se refiere a la tarea "
+                + id + ", que no existe");
+        }
+        return tarea;
+    }
+
+    /**
+     * Codifica una tarea completa para los registros {@link #TAREA} y {@link #ATRIBUTOS}.
+     * Formato: [clase: byte][id: int][prioridad: int][completada: byte][nombre: texto] seguido,
+     * para TareaNormal, de [tiempo estimado: int][categoría: texto] y, para TareaUrgente, de
+     * [criticidad: int][notificaciones: byte][segundos UTC: long][nanos: int][responsable: texto].
+     * Cada texto es [longitud: int, -1 si es null][UTF-8]; una fecha límite nula se guarda
+     * con {@link Long#MIN_VALUE} como segundos.
+     *
+     * @param id ID con el que se anota la tarea
+     * @param tarea Tarea a codificar
+     * @return Datos del registro, listos para leer
+     */
+    private static ByteBuffer codificarTarea(int id, Tarea tarea) {
+        byte[] nombre = aBytes(tarea.getNombre());
+        byte[] extra = null;
+        byte clase = CLASE_TAREA;
+        if (tarea instanceof TareaUrgente) {
+            clase = CLASE_URGENTE;
+            extra = aBytes(((TareaUrgente) tarea).getResponsable());
+        } else if (tarea instanceof TareaNormal) {
+            clase = CLASE_NORMAL;
+            extra = aBytes(((TareaNormal) tarea).getCategoria());
+        }
+        int longitud = 1 + Integer.BYTES * 3 + 1 + largoTexto(nombre);
+        if (clase == CLASE_NORMAL) {
+            longitud += Integer.BYTES + largoTexto(extra);
+        } else if (clase == CLASE_URGENTE) {
+            longitud += Integer.BYTES + 1 + Long.BYTES + Integer.BYTES + largoTexto(extra);
+        }
+
+        ByteBuffer datos = ByteBuffer.allocate(longitud);
+        datos.put(clase).putInt(id).putInt(tarea.getPrioridad()).put((byte) (tarea.isCompletado() ? 1 : 0));
+        ponerTexto(datos, nombre);
+        if (clase == CLASE_NORMAL) {
+            datos.putInt(((TareaNormal) tarea).getTiempoEstimado());
+            ponerTexto(datos, extra);
+        } else if (clase == CLASE_URGENTE) {
+            TareaUrgente urgente = (TareaUrgente) tarea;
+            long limite = urgente.getFechaLimiteEpochNanos();
+            boolean sinFecha = limite == TareaUrgente.SIN_FECHA;
+            datos.putInt(urgente.getNivelCriticidad())
+                 .put((byte) (urgente.isNotificacionesActivas() ? 1 : 0))
+                 .putLong(sinFecha ? Long.MIN_VALUE : Math.floorDiv(limite, NANOS_POR_SEGUNDO))
+                 .putInt(sinFecha ? 0 : (int) Math.floorMod(limite, NANOS_POR_SEGUNDO));
+            ponerTexto(datos, extra);
+        }
+        return datos.flip();
+    }
+
+    /**
+     * Reconstruye una tarea codificada con {@link #codificarTarea(int, Tarea)}.
+     *
+     * @param datos Datos del registro
+     * @return Tarea nueva, sin gestor
+     * @throws IOException si la clase de tarea es desconocida
+     */
+    private static Tarea decodificarTarea(ByteBuffer datos) throws IOException {
+        byte clase = datos.get();
+        int id = datos.getInt();
+        int prioridad = datos.getInt();
+        boolean completada = datos.get() != 0;
+        String nombre = leerTextoOpcional(datos);
+        Tarea tarea;
+        switch (clase) {
+            case CLASE_TAREA:
+                tarea = new Tarea(id, nombre, prioridad);
+                break;
+            case CLASE_NORMAL: {
+                int tiempo = datos.getInt();
+                tarea = new TareaNormal(id, nombre, prioridad, leerTextoOpcional(datos), tiempo);
+                break;
+            }
+            case CLASE_URGENTE: {
+                int criticidad = datos.getInt();
+                boolean notificaciones = datos.get() != 0;
+                long segundos = datos.getLong();
+                int nanos = datos.getInt();
+                TareaUrgente urgente = new TareaUrgente(id, nombre, prioridad, null, criticidad,
+                                                        leerTextoOpcional(datos));
+                if (segundos != Long.MIN_VALUE) {
+                    urgente.setFechaLimiteEpochNanos(segundos * NANOS_POR_SEGUNDO + nanos);
+                }
+                urgente.setNotificacionesActivas(notificaciones);
+                tarea = urgente;
+                break;
+            }
+            default:
+                throw new IOException("Clase de tarea desconocida en el diario: " + clase);
+        }
+        tarea.setCompletado(completada);
+        return tarea;
+    }
+
+    /**
+     * Convierte un texto opcional a UTF-8.
+     *
+     * @param texto Texto, o null
+     * @return Bytes del texto, o null
+     */
+    private static byte[] aBytes(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Calcula los bytes que ocupa un texto opcional codificado.
+     *
+     * @param bytes Bytes del texto, o null
+     * @return Bytes del prefijo de longitud más los del texto
+     */
+    private static int largoTexto(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Escribe un texto opcional como [longitud][UTF-8], con longitud -1 si es null.
+     *
+     * @param datos Búfer de destino
+     * @param bytes Bytes del texto, o null
+     */
+    private static void ponerTexto(ByteBuffer datos, byte[] bytes) {
+        if (bytes == null) {
+            datos.putInt(-1);
+        } else {
+            datos.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    /**
+     * Lee un texto opcional escrito con {@link #ponerTexto(ByteBuffer, byte[])}.
+     *
+     * @param datos Datos posicionados al inicio del texto
+     * @return El texto, o null
+     */
+    private static String leerTextoOpcional(ByteBuffer datos) {
+        if (datos.getInt(datos.position()) < 0) {
+            datos.getInt();
+            return null;
+        }
+        return DiarioTareas.leerTexto(datos);
+    }
+}
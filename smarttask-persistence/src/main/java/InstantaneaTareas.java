@@ -0,0 +1,482 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Instantánea binaria del conjunto completo de tareas de un gestor.
+ * Permite iniciar el gestor cargando la instantánea y reproduciendo solo los registros
+ * del {@link DiarioTareas} posteriores a ella, en lugar de reproducir el diario desde cero.
+ *
+ * <p>Formato (enteros en big-endian):</p>
+ * <pre>
+ * Cabecera:  [mágico: int][versión: int][secuencia del diario: long][siguiente ID: int]
+ *            [cadenas: int][tareas: int][bytes de cadenas: int]
+ * Cadenas:   [longitud: int] × cadenas, seguido de los bytes UTF-8 de todas ellas
+ * Tareas:    [tipo: byte][id: int][prioridad: byte][completada: byte][nombre: int]
+ *            + TareaNormal:  [categoría: int][tiempo estimado: int]
+ *            + TareaUrgente: [límite, segundos UTC: long][límite, nanos: int]
+ *                            [notificaciones: byte][criticidad: int][responsable: int]
+ * Final:     [crc32c de todo lo anterior: int]
+ * </pre>
+ * <p>Los textos se guardan una sola vez en la tabla de cadenas y las tareas los
+ * referencian por posición (-1 para null), de modo que los nombres, categorías y
+ * responsables repetidos no se duplican ni en disco ni en memoria al cargar.</p>
+ *
+ * <p>Cada instantánea se escribe en un archivo temporal, se sincroniza con el disco y
+ * recién entonces se renombra a {@code instantanea-<secuencia>.snap}; así una caída
+ * durante la escritura nunca deja una instantánea a medias en lugar de la anterior.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see GestorTareasPersistente
+ */
+final class InstantaneaTareas {
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Identifica los archivos de instantánea ("STSN").
+     */
+    static final int MAGICO = 0x5354534E;
+
+    /**
+     * Versión del formato que escribe esta clase.
+     */
+    static final int VERSION = 1;
+
+    private static final byte TIPO_TAREA = 0;
+    private static final byte TIPO_NORMAL = 1;
+    private static final byte TIPO_URGENTE = 2;
+
+    private static final int CABECERA = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES * 4;
+    private static final int BYTES_TAREA = 1 + Integer.BYTES + 1 + 1 + Integer.BYTES;
+    private static final int BYTES_NORMAL = Integer.BYTES * 2;
+    private static final int BYTES_URGENTE = Long.BYTES + Integer.BYTES + 1 + Integer.BYTES * 2;
+
+    /**
+     * Marca de fecha límite nula.
+     */
+    private static final long SIN_FECHA = Long.MIN_VALUE;
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private static final String PREFIJO = "instantanea-";
+    private static final String SUFIJO = ".snap";
+    private static final String SUFIJO_TEMPORAL = ".tmp";
+
+    // ==================== ATRIBUTOS ====================
+
+    private final long secuencia;
+    private final int siguienteId;
+    private final Tarea[] tareas;
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea una instantánea ya leída.
+     *
+     * @param secuencia Último registro del diario incluido en la instantánea
+     * @param siguienteId Valor del contador de IDs
+     * @param tareas Tareas reconstruidas
+     */
+    private InstantaneaTareas(long secuencia, int siguienteId, Tarea[] tareas) {
+        this.secuencia = secuencia;
+        this.siguienteId = siguienteId;
+        this.tareas = tareas;
+    }
+
+    // ==================== GETTERS ====================
+
+    /**
+     * Obtiene la secuencia del último registro del diario incluido en la instantánea.
+     *
+     * @return Secuencia del diario
+     */
+    long obtenerSecuencia() {
+        return secuencia;
+    }
+
+    /**
+     * Obtiene el próximo ID automático que tenía el gestor.
+     *
+     * @return Valor del contador de IDs
+     */
+    int obtenerSiguienteId() {
+        return siguienteId;
+    }
+
+    /**
+     * Obtiene las tareas reconstruidas, que aún no pertenecen a ningún gestor.
+     *
+     * @return Tareas de la instantánea
+     */
+    Tarea[] obtenerTareas() {
+        return tareas;
+    }
+
+    // ==================== ESCRITURA ====================
+
+    /**
+     * Codifica las tareas de un gestor en memoria.
+     * Se guardan el ID, la prioridad y el estado con que el gestor tiene registrada
+     * cada tarea, que son los que corresponden a la secuencia indicada aunque otro
+     * hilo esté modificando la tarea en este momento. Debe llamarse con el bloqueo
+     * de escritura del gestor tomado.
+     *
+     * @param secuencia Último registro del diario reflejado en las tareas
+     * @param siguienteId Valor del contador de IDs del gestor
+     * @param tareas Tareas del gestor
+     * @return Búfer con la instantánea completa, listo para {@link #escribir(Path, long, ByteBuffer)}
+     */
+    static ByteBuffer codificar(long secuencia, int siguienteId, List<Tarea> tareas) {
+        // Los textos se leen una sola vez y se recuerda su posición, por si un setter
+        // concurrente los reemplaza entre el cálculo del tamaño y la escritura
+        Map<String, Integer> indices = new HashMap<>();
+        List<byte[]> cadenas = new ArrayList<>();
+        int[] nombres = new int[tareas.size()];
+        int[] extras = new int[tareas.size()];
+        long bytesTareas = 0;
+        for (int i = 0; i < nombres.length; i++) {
+            Tarea tarea = tareas.get(i);
+            nombres[i] = registrarCadena(tarea.getNombre(), indices, cadenas);
+            bytesTareas += BYTES_TAREA;
+            if (tarea instanceof TareaUrgente) {
+                extras[i] = registrarCadena(((TareaUrgente) tarea).getResponsable(), indices, cadenas);
+                bytesTareas += BYTES_URGENTE;
+            } else if (tarea instanceof TareaNormal) {
+                extras[i] = registrarCadena(((TareaNormal) tarea).getCategoria(), indices, cadenas);
+                bytesTareas += BYTES_NORMAL;
+            }
+        }
+        long bytesCadenas = 0;
+        for (byte[] cadena : cadenas) {
+            bytesCadenas += cadena.length;
+        }
+        long total = CABECERA + (long) cadenas.size() * Integer.BYTES + bytesCadenas + bytesTareas + Integer.BYTES;
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("La instantánea supera el tamaño máximo de 2 GB");
+        }
+
+        ByteBuffer contenido = ByteBuffer.allocateDirect((int) total);
+        contenido.putInt(MAGICO).putInt(VERSION).putLong(secuencia).putInt(siguienteId)
+                 .putInt(cadenas.size()).putInt(nombres.length).putInt((int) bytesCadenas);
+        for (byte[] cadena : cadenas) {
+            contenido.putInt(cadena.length);
+        }
+        for (byte[] cadena : cadenas) {
+            contenido.put(cadena);
+        }
+
+        for (int i = 0; i < nombres.length; i++) {
+            Tarea tarea = tareas.get(i);
+            byte tipo = tarea instanceof TareaUrgente ? TIPO_URGENTE
+                      : tarea instanceof TareaNormal ? TIPO_NORMAL : TIPO_TAREA;
+            contenido.put(tipo)
+                     .putInt(tarea.idIndexado)
+                     .put((byte) tarea.prioridadIndexada)
+                     .put((byte) (tarea.completadaIndexada ? 1 : 0))
+                     .putInt(nombres[i]);
+            if (tipo == TIPO_NORMAL) {
+                contenido.putInt(extras[i]).putInt(((TareaNormal) tarea).getTiempoEstimado());
+            } else if (tipo == TIPO_URGENTE) {
+                TareaUrgente urgente = (TareaUrgente) tarea;
+                long limite = urgente.getFechaLimiteEpochNanos();
+                boolean sinFecha = limite == TareaUrgente.SIN_FECHA;
+                contenido.putLong(sinFecha ? SIN_FECHA : Math.floorDiv(limite, NANOS_POR_SEGUNDO))
+                         .putInt(sinFecha ? 0 : (int) Math.floorMod(limite, NANOS_POR_SEGUNDO))
+                         .put((byte) (urgente.isNotificacionesActivas() ? 1 : 0))
+                         .putInt(urgente.getNivelCriticidad())
+                         .putInt(extras[i]);
+            }
+        }
+
+        CRC32C crc = new CRC32C();
+        int fin = contenido.position();
+        contenido.flip();
+        crc.update(contenido);
+        contenido.limit(contenido.capacity()).position(fin);
+        contenido.putInt((int) crc.getValue());
+        contenido.flip();
+        return contenido;
+    }
+
+    /**
+     * Escribe una instantánea codificada en el directorio y elimina las anteriores.
+     * El archivo definitivo solo aparece una vez que su contenido está sincronizado con el disco.
+     *
+     * @param directorio Directorio de datos
+     * @param secuencia Secuencia con la que se codificó la instantánea
+     * @param contenido Resultado de {@link #codificar(long, int, List)}
+     * @return Ruta de la instantánea escrita
+     * @throws IOException si no puede escribirse
+     */
+    static Path escribir(Path directorio, long secuencia, ByteBuffer contenido) throws IOException {
+        Files.createDirectories(directorio);
+        Path destino = directorio.resolve(String.format("%s%020d%s", PREFIJO, secuencia, SUFIJO));
+        Path temporal = directorio.resolve(destino.getFileName() + SUFIJO_TEMPORAL);
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contenido.hasRemaining()) {
+                canal.write(contenido);
+            }
+            canal.force(true);
+        }
+        Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        DiarioTareas.sincronizarDirectorio(directorio);
+
+        for (Path anterior : listar(directorio)) {
+            if (secuenciaDe(anterior) < secuencia) {
+                Files.deleteIfExists(anterior);
+            }
+        }
+        return destino;
+    }
+
+    // ==================== LECTURA ====================
+
+    /**
+     * Carga la instantánea más reciente del directorio.
+     *
+     * @param directorio Directorio de datos
+     * @return La instantánea, o null si no hay ninguna
+     * @throws IOException si no puede leerse o está corrupta
+     */
+    static InstantaneaTareas cargarUltima(Path directorio) throws IOException {
+        if (!Files.isDirectory(directorio)) {
+            return null;
+        }
+        List<Path> instantaneas = listar(directorio);
+        return instantaneas.isEmpty() ? null : leer(instantaneas.get(instantaneas.size() - 1));
+    }
+
+    /**
+     * Lee una instantánea completa con una única proyección del archivo en memoria.
+     *
+     * @param archivo Archivo de instantánea
+     * @return La instantánea
+     * @throws IOException si no puede leerse, está corrupta o tiene una versión no soportada
+     */
+    static InstantaneaTareas leer(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio < CABECERA + Integer.BYTES || tamanio > Integer.MAX_VALUE) {
+                throw corrupta(archivo, "tamaño inválido");
+            }
+            MappedByteBuffer contenido = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanio);
+            int fin = (int) tamanio - Integer.BYTES;
+
+            if (contenido.getInt(0) != MAGICO) {
+                throw corrupta(archivo, "no es una instantánea de SmartTask");
+            }
+            int version = contenido.getInt(Integer.BYTES);
+            if (version != VERSION) {
+                throw new IOException("Versión de instantánea no soportada en " + archivo.getFileName()
+                    + ": " + version);
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(contenido.limit(fin));
+            contenido.limit((int) tamanio);
+            if ((int) crc.getValue() != contenido.getInt(fin)) {
+                throw corrupta(archivo, "CRC inválido");
+            }
+
+            contenido.position(Integer.BYTES * 2);
+            long secuencia = contenido.getLong();
+            int siguienteId = contenido.getInt();
+            int totalCadenas = contenido.getInt();
+            int totalTareas = contenido.getInt();
+            int bytesCadenas = contenido.getInt();
+            if (totalCadenas < 0 || totalTareas < 0 || bytesCadenas < 0
+                    || (long) totalCadenas * Integer.BYTES + bytesCadenas
+                       + (long) totalTareas * BYTES_TAREA > fin - CABECERA) {
+                throw corrupta(archivo, "cabecera inconsistente");
+            }
+
+            String[] cadenas = leerCadenas(contenido, totalCadenas, bytesCadenas, archivo);
+            Tarea[] tareas = new Tarea[totalTareas];
+            try {
+                for (int i = 0; i < totalTareas; i++) {
+                    tareas[i] = leerTarea(contenido, cadenas);
+                }
+            } catch (RuntimeException e) {
+                throw corrupta(archivo, "tarea inválida (" + e.getMessage() + ")");
+            }
+            if (contenido.position() != fin) {
+                throw corrupta(archivo, "datos sobrantes");
+            }
+            return new InstantaneaTareas(secuencia, siguienteId, tareas);
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Agrega un texto a la tabla de cadenas si aún no está.
+     *
+     * @param texto Texto a registrar (puede ser null)
+     * @param indices Posición de cada texto en la tabla
+     * @param cadenas Bytes UTF-8 de cada texto de la tabla
+     * @return Posición del texto en la tabla, o -1 si es null
+     */
+    private static int registrarCadena(String texto, Map<String, Integer> indices, List<byte[]> cadenas) {
+        if (texto == null) {
+            return -1;
+        }
+        Integer indice = indices.get(texto);
+        if (indice == null) {
+            indice = cadenas.size();
+            indices.put(texto, indice);
+            cadenas.add(texto.getBytes(StandardCharsets.UTF_8));
+        }
+        return indice;
+    }
+
+    /**
+     * Lee la tabla de cadenas con una sola copia de sus bytes.
+     *
+     * @param contenido Instantánea, posicionada al inicio de la tabla
+     * @param total Cantidad de cadenas
+     * @param bytes Bytes UTF-8 de todas las cadenas
+     * @param archivo Archivo leído, para los mensajes de error
+     * @return Las cadenas, en orden
+     * @throws IOException si las longitudes no coinciden con los bytes declarados
+     */
+    private static String[] leerCadenas(ByteBuffer contenido, int total, int bytes, Path archivo)
+            throws IOException {
+        int[] longitudes = new int[total];
+        long suma = 0;
+        for (int i = 0; i < total; i++) {
+            longitudes[i] = contenido.getInt();
+            suma += longitudes[i];
+            if (longitudes[i] < 0) {
+                throw corrupta(archivo, "longitud de cadena negativa");
+            }
+        }
+        if (suma != bytes) {
+            throw corrupta(archivo, "tabla de cadenas inconsistente");
+        }
+
+        byte[] datos = new byte[bytes];
+        contenido.get(datos);
+        String[] cadenas = new String[total];
+        int desplazamiento = 0;
+        for (int i = 0; i < total; i++) {
+            cadenas[i] = new String(datos, desplazamiento, longitudes[i], StandardCharsets.UTF_8);
+            desplazamiento += longitudes[i];
+        }
+        return cadenas;
+    }
+
+    /**
+     * Reconstruye la siguiente tarea de la instantánea.
+     *
+     * @param contenido Instantánea, posicionada al inicio de la tarea
+     * @param cadenas Tabla de cadenas
+     * @return La tarea
+     * @throws IllegalArgumentException si el tipo es desconocido
+     */
+    private static Tarea leerTarea(ByteBuffer contenido, String[] cadenas) {
+        byte tipo = contenido.get();
+        int id = contenido.getInt();
+        int prioridad = contenido.get();
+        boolean completada = contenido.get() != 0;
+        String nombre = cadena(cadenas, contenido.getInt());
+
+        Tarea tarea;
+        switch (tipo) {
+            case TIPO_TAREA:
+                return new Tarea(id, nombre, prioridad, completada);
+            case TIPO_NORMAL: {
+                String categoria = cadena(cadenas, contenido.getInt());
+                tarea = new TareaNormal(id, nombre, prioridad, categoria, contenido.getInt());
+                break;
+            }
+            case TIPO_URGENTE: {
+                long segundos = contenido.getLong();
+                int nanos = contenido.getInt();
+                boolean notificaciones = contenido.get() != 0;
+                int criticidad = contenido.getInt();
+                TareaUrgente urgente = new TareaUrgente(id, nombre, prioridad, null, criticidad,
+                                                        cadena(cadenas, contenido.getInt()));
+                if (segundos != SIN_FECHA) {
+                    urgente.setFechaLimiteEpochNanos(segundos * NANOS_POR_SEGUNDO + nanos);
+                }
+                urgente.setNotificacionesActivas(notificaciones);
+                tarea = urgente;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("tipo desconocido " + tipo);
+        }
+        tarea.setCompletado(completada);
+        return tarea;
+    }
+
+    /**
+     * Obtiene un texto de la tabla de cadenas.
+     *
+     * @param cadenas Tabla de cadenas
+     * @param indice Posición del texto, o -1 para null
+     * @return El texto
+     */
+    private static String cadena(String[] cadenas, int indice) {
+        return indice == -1 ? null : cadenas[indice];
+    }
+
+    /**
+     * Lista las instantáneas del directorio ordenadas por secuencia.
+     *
+     * @param directorio Directorio de datos
+     * @return Rutas de las instantáneas
+     * @throws IOException si no puede leerse el directorio
+     */
+    private static List<Path> listar(Path directorio) throws IOException {
+        List<Path> instantaneas = new ArrayList<>();
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, PREFIJO + "*" + SUFIJO)) {
+            for (Path archivo : archivos) {
+                instantaneas.add(archivo);
+            }
+        } catch (NoSuchFileException e) {
+            return instantaneas;
+        }
+        // Los nombres tienen ancho fijo, así que el orden alfabético es el orden de secuencia
+        instantaneas.sort(null);
+        return instantaneas;
+    }
+
+    /**
+     * Obtiene la secuencia de una instantánea a partir de su nombre.
+     *
+     * @param instantanea Ruta de la instantánea
+     * @return Secuencia del diario incluida en ella
+     */
+    private static long secuenciaDe(Path instantanea) {
+        String nombre = instantanea.getFileName().toString();
+        return Long.parseLong(nombre.substring(PREFIJO.length(), nombre.length() - SUFIJO.length()));
+    }
+
+    /**
+     * Crea el error de una instantánea inválida.
+     *
+     * @param archivo Archivo leído
+     * @param motivo Descripción del problema
+     * @return La excepción
+     */
+    private static IOException corrupta(Path archivo, String motivo) {
+        return new IOException("Instantánea corrupta en " + archivo.getFileName() + ": " + motivo);
+    }
+}
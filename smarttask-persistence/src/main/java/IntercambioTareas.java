@@ -0,0 +1,969 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Importación y exportación de tareas en archivos CSV y JSON Lines (un objeto JSON por línea).
+ * Cubre toda la jerarquía: los atributos de {@link TareaNormal} (categoría y tiempo estimado)
+ * y de {@link TareaUrgente} (fecha límite, criticidad, responsable y notificaciones).
+ *
+ * <p>Ambos sentidos trabajan en flujo y en memoria constante: la exportación escribe cada
+ * tarea directamente en el {@link Writer}, y la importación lee el archivo carácter a carácter
+ * desde un búfer fijo, sin construir el contenido completo ni una línea como {@code String};
+ * los números, booleanos y fechas se interpretan sobre el mismo búfer de campo reutilizable.
+ * Las tareas leídas se agregan al gestor en lotes de {@value #TAMANIO_LOTE} mediante
+ * {@link GestorTareas#agregarTareas(Tarea[])}.</p>
+ *
+ * <p>Columnas (CSV, con fila de encabezado) y claves (JSON):</p>
+ * <pre>
+ * tipo, id, nombre, prioridad, completada, categoria, tiempoEstimado,
+ * fechaLimite, nivelCriticidad, responsable, notificaciones
+ * </pre>
+ * <p>{@code tipo} es {@code TAREA}, {@code NORMAL} o {@code URGENTE}; la fecha límite usa el
+ * formato ISO-8601 ({@code 2026-10-19T08:30}). Un valor vacío en CSV, o {@code null} o ausente
+ * en JSON, significa que el atributo no tiene valor. Al importar, el orden de las columnas es
+ * libre, las columnas desconocidas se ignoran y el {@code id} del archivo no se conserva:
+ * el gestor asigna IDs nuevos, como en cualquier alta.</p>
+ *
+ * <p>Si un registro es inválido la importación se detiene con una {@link IOException} que
+ * indica la línea; los lotes anteriores ya quedaron agregados.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IntercambioTareas {
+
+    // ==================== TIPOS ====================
+
+    /**
+     * Formatos de archivo soportados.
+     */
+    public enum Formato {
+
+        /** Valores separados por comas con fila de encabezado (RFC 4180). */
+        CSV,
+
+        /** Un objeto JSON por línea. */
+        JSON_LINEAS;
+
+        /**
+         * Deduce el formato a partir de la extensión de un archivo:
+         * {@code .csv}, o {@code .jsonl} / {@code .ndjson}.
+         *
+         * @param archivo Ruta del archivo
+         * @return El formato correspondiente
+         * @throws IllegalArgumentException si la extensión no es reconocida
+         */
+        public static Formato desdeArchivo(Path archivo) {
+            String nombre = archivo.getFileName().toString().toLowerCase();
+            if (nombre.endsWith(".csv")) {
+                return CSV;
+            }
+            if (nombre.endsWith(".jsonl") || nombre.endsWith(".ndjson")) {
+                return JSON_LINEAS;
+            }
+            throw new IllegalArgumentException("Extensión no reconocida (use .csv, .jsonl o .ndjson): " + nombre);
+        }
+    }
+
+    // ==================== CONSTANTES ====================
+
+    /**
+     * Cantidad de tareas que se agregan al gestor en cada lote durante la importación.
+     */
+    static final int TAMANIO_LOTE = 1024;
+
+    private static final int TIPO = 0;
+    private static final int ID = 1;
+    private static final int NOMBRE = 2;
+    private static final int PRIORIDAD = 3;
+    private static final int COMPLETADA = 4;
+    private static final int CATEGORIA = 5;
+    private static final int TIEMPO_ESTIMADO = 6;
+    private static final int FECHA_LIMITE = 7;
+    private static final int CRITICIDAD = 8;
+    private static final int RESPONSABLE = 9;
+    private static final int NOTIFICACIONES = 10;
+
+    /**
+     * Nombre de cada columna o clave, indexado por las constantes anteriores.
+     */
+    private static final String[] COLUMNAS = {
+        "tipo", "id", "nombre", "prioridad", "completada", "categoria", "tiempoEstimado",
+        "fechaLimite", "nivelCriticidad", "responsable", "notificaciones"
+    };
+
+    private static final String TIPO_TAREA = "TAREA";
+    private static final String TIPO_NORMAL = "NORMAL";
+    private static final String TIPO_URGENTE = "URGENTE";
+
+    /**
+     * Columna que no corresponde a ningún atributo conocido.
+     */
+    private static final int DESCONOCIDA = -1;
+
+    /**
+     * Marca de orden de bytes que algunos editores escriben al inicio de los archivos UTF-8.
+     */
+    private static final char MARCA_ORDEN_BYTES = '\uFEFF';
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Clase de utilidades: no se instancia.
+     */
+    private IntercambioTareas() {
+    }
+
+    // ==================== EXPORTACIÓN ====================
+
+    /**
+     * Exporta las tareas de un gestor a un archivo, con el formato que indica su extensión.
+     * Las tareas se escriben a medida que se recorren, sin construir una lista: en los
+     * gestores que materializan vistas ({@link GestorTareasColumnar}, {@link GestorTareasMapeado})
+     * cada vista se crea al escribirla y se descarta después.
+     *
+     * @param gestor Gestor de origen
+     * @param archivo Archivo de destino (se reemplaza si existe)
+     * @return Cantidad de tareas exportadas
+     * @throws IOException si falla la escritura
+     * @throws IllegalArgumentException si la extensión no es reconocida
+     */
+    public static long exportar(GestorTareas gestor, Path archivo) throws IOException {
+        Formato formato = Formato.desdeArchivo(archivo);
+        try (Writer destino = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            return exportar(gestor.recorrerTareas(), destino, formato);
+        }
+    }
+
+    /**
+     * Exporta tareas a un {@link Writer}, una por línea.
+     * No cierra el destino; conviene que tenga búfer.
+     *
+     * @param tareas Tareas a exportar
+     * @param destino Destino de la escritura
+     * @param formato Formato de salida
+     * @return Cantidad de tareas exportadas
+     * @throws IOException si falla la escritura
+     */
+    public static long exportar(Iterable<Tarea> tareas, Writer destino, Formato formato) throws IOException {
+        if (formato == Formato.CSV) {
+            for (int i = 0; i < COLUMNAS.length; i++) {
+                if (i > 0) {
+                    destino.write(',');
+                }
+                destino.write(COLUMNAS[i]);
+            }
+            destino.write('\n');
+        }
+        long cantidad = 0;
+        for (Tarea tarea : tareas) {
+            if (formato == Formato.CSV) {
+                escribirCsv(tarea, destino);
+            } else {
+                escribirJson(tarea, destino);
+            }
+            cantidad++;
+        }
+        destino.flush();
+        return cantidad;
+    }
+
+    // ==================== IMPORTACIÓN ====================
+
+    /**
+     * Importa las tareas de un archivo, con el formato que indica su extensión.
+     *
+     * @param archivo Archivo de origen (UTF-8)
+     * @param gestor Gestor de destino
+     * @return Cantidad de tareas agregadas
+     * @throws IOException si falla la lectura o algún registro es inválido
+     * @throws IllegalArgumentException si la extensión no es reconocida
+     */
+    public static long importar(Path archivo, GestorTareas gestor) throws IOException {
+        Formato formato = Formato.desdeArchivo(archivo);
+        try (Reader origen = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return importar(origen, formato, gestor);
+        }
+    }
+
+    /**
+     * Importa tareas desde un {@link Reader} y las agrega al gestor en lotes.
+     * No cierra el origen.
+     *
+     * @param origen Origen de la lectura
+     * @param formato Formato de entrada
+     * @param gestor Gestor de destino
+     * @return Cantidad de tareas agregadas
+     * @throws IOException si falla la lectura o algún registro es inválido
+     */
+    public static long importar(Reader origen, Formato formato, GestorTareas gestor) throws IOException {
+        Lector lector = new Lector(origen);
+        RegistroLeido registro = new RegistroLeido();
+        Tarea[] lote = new Tarea[TAMANIO_LOTE];
+        int enLote = 0;
+        long cantidad = 0;
+
+        int[] columnas = formato == Formato.CSV ? leerEncabezadoCsv(lector) : null;
+        while (formato == Formato.CSV ? leerFilaCsv(lector, columnas, registro)
+                                      : leerObjetoJson(lector, registro)) {
+            lote[enLote++] = registro.construir();
+            if (enLote == lote.length) {
+                gestor.agregarTareas(lote);
+                cantidad += enLote;
+                enLote = 0;
+            }
+        }
+        if (enLote > 0) {
+            gestor.agregarTareas(Arrays.copyOf(lote, enLote));
+            cantidad += enLote;
+        }
+        return cantidad;
+    }
+
+    // ==================== MÉTODOS PRIVADOS - ESCRITURA ====================
+
+    /**
+     * Escribe una tarea como fila CSV.
+     *
+     * @param tarea Tarea a escribir
+     * @param destino Destino
+     * @throws IOException si falla la escritura
+     */
+    private static void escribirCsv(Tarea tarea, Writer destino) throws IOException {
+        String[] valores = new String[COLUMNAS.length];
+        valoresDe(tarea, valores);
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                destino.write(',');
+            }
+            String valor = valores[i];
+            if (valor == null) {
+                continue;
+            }
+            if (valor.isEmpty() || requiereComillas(valor)) {
+                destino.write('"');
+                for (int j = 0; j < valor.length(); j++) {
+                    char c = valor.charAt(j);
+                    if (c == '"') {
+                        destino.write('"');
+                    }
+                    destino.write(c);
+                }
+                destino.write('"');
+            } else {
+                destino.write(valor);
+            }
+        }
+        destino.write('\n');
+    }
+
+    /**
+     * Escribe una tarea como objeto JSON en una línea; los atributos sin valor se omiten.
+     *
+     * @param tarea Tarea a escribir
+     * @param destino Destino
+     * @throws IOException si falla la escritura
+     */
+    private static void escribirJson(Tarea tarea, Writer destino) throws IOException {
+        String[] valores = new String[COLUMNAS.length];
+        valoresDe(tarea, valores);
+        destino.write('{');
+        boolean primero = true;
+        for (int i = 0; i < valores.length; i++) {
+            String valor = valores[i];
+            if (valor == null) {
+                continue;
+            }
+            if (!primero) {
+                destino.write(',');
+            }
+            primero = false;
+            destino.write('"');
+            destino.write(COLUMNAS[i]);
+            destino.write("\":");
+            if (esTextoJson(i)) {
+                escribirTextoJson(valor, destino);
+            } else {
+                destino.write(valor);
+            }
+        }
+        destino.write("}\n");
+    }
+
+    /**
+     * Obtiene el valor de cada columna de una tarea, como texto.
+     *
+     * @param tarea Tarea de origen
+     * @param valores Arreglo de destino, indexado por columna (null si no tiene valor)
+     */
+    private static void valoresDe(Tarea tarea, String[] valores) {
+        valores[TIPO] = TIPO_TAREA;
+        valores[ID] = Integer.toString(tarea.getId());
+        valores[NOMBRE] = tarea.getNombre();
+        valores[PRIORIDAD] = Integer.toString(tarea.getPrioridad());
+        valores[COMPLETADA] = Boolean.toString(tarea.isCompletado());
+        if (tarea instanceof TareaUrgente) {
+            TareaUrgente urgente = (TareaUrgente) tarea;
+            valores[TIPO] = TIPO_URGENTE;
+            valores[FECHA_LIMITE] = urgente.getFechaLimite() == null ? null : urgente.getFechaLimite().toString();
+            valores[CRITICIDAD] = Integer.toString(urgente.getNivelCriticidad());
+            valores[RESPONSABLE] = urgente.getResponsable();
+            valores[NOTIFICACIONES] = Boolean.toString(urgente.isNotificacionesActivas());
+        } else if (tarea instanceof TareaNormal) {
+            TareaNormal normal = (TareaNormal) tarea;
+            valores[TIPO] = TIPO_NORMAL;
+            valores[CATEGORIA] = normal.getCategoria();
+            valores[TIEMPO_ESTIMADO] = Integer.toString(normal.getTiempoEstimado());
+        }
+    }
+
+    /**
+     * Indica si un valor CSV debe ir entre comillas.
+     *
+     * @param valor Valor a escribir
+     * @return true si contiene comas, comillas, saltos de línea o espacios en los extremos
+     */
+    private static boolean requiereComillas(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return Character.isWhitespace(valor.charAt(0)) || Character.isWhitespace(valor.charAt(valor.length() - 1));
+    }
+
+    /**
+     * Indica si una columna se escribe como texto JSON (entre comillas).
+     *
+     * @param columna Índice de la columna
+     * @return true para los textos y la fecha límite
+     */
+    private static boolean esTextoJson(int columna) {
+        return columna == TIPO || columna == NOMBRE || columna == CATEGORIA
+            || columna == FECHA_LIMITE || columna == RESPONSABLE;
+    }
+
+    /**
+     * Escribe un texto JSON con sus caracteres especiales escapados.
+     *
+     * @param texto Texto a escribir
+     * @param destino Destino
+     * @throws IOException si falla la escritura
+     */
+    private static void escribirTextoJson(String texto, Writer destino) throws IOException {
+        destino.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"':
+                    destino.write("\\\"");
+                    break;
+                case '\\':
+                    destino.write("\\\\");
+                    break;
+                case '\n':
+                    destino.write("\\n");
+                    break;
+                case '\r':
+                    destino.write("\\r");
+                    break;
+                case '\t':
+                    destino.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        destino.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        destino.write(c);
+                    }
+            }
+        }
+        destino.write('"');
+    }
+
+    // ==================== MÉTODOS PRIVADOS - LECTURA CSV ====================
+
+    /**
+     * Lee la fila de encabezado y asocia cada posición con su columna.
+     *
+     * @param lector Lector del archivo
+     * @return Columna de cada posición ({@link #DESCONOCIDA} si no se reconoce)
+     * @throws IOException si falta el encabezado o no incluye nombre y prioridad
+     */
+    private static int[] leerEncabezadoCsv(Lector lector) throws IOException {
+        int[] posiciones = new int[0];
+        boolean nombre = false;
+        boolean prioridad = false;
+        int c = lector.saltarLineasVacias();
+        if (c == -1) {
+            return posiciones;
+        }
+        while (true) {
+            c = lector.leerCampoCsv(c);
+            int columna = columnaDe(lector.campo);
+            nombre |= columna == NOMBRE;
+            prioridad |= columna == PRIORIDAD;
+            posiciones = Arrays.copyOf(posiciones, posiciones.length + 1);
+            posiciones[posiciones.length - 1] = columna;
+            if (c != ',') {
+                break;
+            }
+            c = lector.leer();
+        }
+        if (!nombre || !prioridad) {
+            throw new IOException("Línea 1: el encabezado debe incluir las columnas nombre y prioridad");
+        }
+        return posiciones;
+    }
+
+    /**
+     * Lee la siguiente fila CSV.
+     *
+     * @param lector Lector del archivo
+     * @param columnas Columna de cada posición, según el encabezado
+     * @param registro Registro que se completa
+     * @return false si no quedan filas
+     * @throws IOException si la fila es inválida
+     */
+    private static boolean leerFilaCsv(Lector lector, int[] columnas, RegistroLeido registro) throws IOException {
+        int c = lector.saltarLineasVacias();
+        if (c == -1) {
+            return false;
+        }
+        registro.iniciar(lector.linea);
+        int posicion = 0;
+        while (true) {
+            c = lector.leerCampoCsv(c);
+            if (posicion >= columnas.length) {
+                throw registro.error("tiene más valores que columnas el encabezado");
+            }
+            if (lector.campo.length() > 0 || lector.campoEntreComillas) {
+                registro.asignar(columnas[posicion], lector.campo);
+            }
+            posicion++;
+            if (c != ',') {
+                return true;
+            }
+            c = lector.leer();
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS - LECTURA JSON ====================
+
+    /**
+     * Lee el siguiente objeto JSON, que debe ocupar una línea.
+     * Los valores deben ser textos, números, booleanos o null.
+     *
+     * @param lector Lector del archivo
+     * @param registro Registro que se completa
+     * @return false si no quedan objetos
+     * @throws IOException si el objeto es inválido
+     */
+    private static boolean leerObjetoJson(Lector lector, RegistroLeido registro) throws IOException {
+        int c = lector.saltarEspacios(lector.saltarLineasVacias());
+        if (c == -1) {
+            return false;
+        }
+        registro.iniciar(lector.linea);
+        if (c != '{') {
+            throw registro.error("se esperaba '{'");
+        }
+        c = lector.saltarEspacios(lector.leer());
+        if (c != '}') {
+            while (true) {
+                if (c != '"') {
+                    throw registro.error("se esperaba el nombre de una clave");
+                }
+                lector.leerTextoJson(registro);
+                int columna = columnaDe(lector.campo);
+                if (lector.saltarEspacios(lector.leer()) != ':') {
+                    throw registro.error("se esperaba ':'");
+                }
+                c = lector.saltarEspacios(lector.leer());
+                if (c == '"') {
+                    lector.leerTextoJson(registro);
+                    c = lector.leer();
+                } else {
+                    c = lector.leerLiteralJson(c);
+                }
+                if (!lector.literalNulo) {
+                    registro.asignar(columna, lector.campo);
+                }
+                c = lector.saltarEspacios(c);
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw registro.error("se esperaba ',' o '}'");
+                }
+                c = lector.saltarEspacios(lector.leer());
+            }
+        }
+        c = lector.saltarEspacios(lector.leer());
+        if (c == '\r') {
+            c = lector.leer();
+        }
+        if (c != '\n' && c != -1) {
+            throw registro.error("cada objeto debe ocupar una línea");
+        }
+        return true;
+    }
+
+    // ==================== MÉTODOS PRIVADOS - SOPORTE ====================
+
+    /**
+     * Busca la columna que corresponde a un nombre, sin crear cadenas.
+     *
+     * @param nombre Nombre leído
+     * @return Índice de la columna, o {@link #DESCONOCIDA}
+     */
+    private static int columnaDe(CharSequence nombre) {
+        for (int i = 0; i < COLUMNAS.length; i++) {
+            if (COLUMNAS[i].contentEquals(nombre)) {
+                return i;
+            }
+        }
+        return DESCONOCIDA;
+    }
+
+    // ==================== CLASES INTERNAS ====================
+
+    /**
+     * Lectura carácter a carácter con un búfer fijo, que reutiliza un único
+     * {@link StringBuilder} para el campo en curso.
+     */
+    private static final class Lector {
+
+        private final Reader origen;
+        private final char[] bufer = new char[8192];
+        private int posicion;
+        private int limite;
+
+        /**
+         * Contenido del último campo, texto o literal leído.
+         */
+        final StringBuilder campo = new StringBuilder(64);
+
+        /**
+         * Indica si el último campo CSV estaba entre comillas.
+         */
+        boolean campoEntreComillas;
+
+        /**
+         * Indica si el último literal JSON fue {@code null}.
+         */
+        boolean literalNulo;
+
+        /**
+         * Línea actual (desde 1).
+         */
+        long linea = 1;
+
+        /**
+         * Indica si todavía no se leyó ningún carácter, para omitir la marca de orden de bytes.
+         */
+        private boolean alInicio = true;
+
+        Lector(Reader origen) {
+            this.origen = origen;
+        }
+
+        /**
+         * Lee el siguiente carácter.
+         *
+         * @return El carácter, o -1 al final del origen
+         * @throws IOException si falla la lectura
+         */
+        int leer() throws IOException {
+            if (posicion == limite) {
+                limite = origen.read(bufer, 0, bufer.length);
+                posicion = 0;
+                if (limite <= 0) {
+                    limite = 0;
+                    return -1;
+                }
+            }
+            char c = bufer[posicion++];
+            if (c == '\n') {
+                linea++;
+            }
+            return c;
+        }
+
+        /**
+         * Consulta el siguiente carácter sin consumirlo.
+         *
+         * @return El carácter, o -1 al final del origen
+         * @throws IOException si falla la lectura
+         */
+        int mirar() throws IOException {
+            if (posicion == limite) {
+                limite = origen.read(bufer, 0, bufer.length);
+                posicion = 0;
+                if (limite <= 0) {
+                    limite = 0;
+                    return -1;
+                }
+            }
+            return bufer[posicion];
+        }
+
+        /**
+         * Omite las líneas vacías (y la marca de orden de bytes al inicio del origen, si la hay).
+         *
+         * @return Primer carácter de la siguiente línea con contenido, o -1
+         * @throws IOException si falla la lectura
+         */
+        int saltarLineasVacias() throws IOException {
+            int c = leer();
+            if (alInicio) {
+                alInicio = false;
+                if (c == MARCA_ORDEN_BYTES) {
+                    c = leer();
+                }
+            }
+            while (c == '\n' || c == '\r') {
+                c = leer();
+            }
+            return c;
+        }
+
+        /**
+         * Omite espacios y tabulaciones.
+         *
+         * @param c Carácter actual
+         * @return Primer carácter que no es espacio
+         * @throws IOException si falla la lectura
+         */
+        int saltarEspacios(int c) throws IOException {
+            while (c == ' ' || c == '\t') {
+                c = leer();
+            }
+            return c;
+        }
+
+        /**
+         * Lee un campo CSV en {@link #campo}, con o sin comillas.
+         * Al terminar la fila consume también el salto de línea.
+         *
+         * @param c Primer carácter del campo
+         * @return El separador que siguió al campo: ',', '\n' o -1
+         * @throws IOException si hay comillas sin cerrar o texto después de ellas
+         */
+        int leerCampoCsv(int c) throws IOException {
+            campo.setLength(0);
+            campoEntreComillas = c == '"';
+            if (campoEntreComillas) {
+                while (true) {
+                    c = leer();
+                    if (c == -1) {
+                        throw new IOException("Línea " + linea + ": comillas sin cerrar");
+                    }
+                    if (c == '"') {
+                        if (mirar() != '"') {
+                            c = leer();
+                            break;
+                        }
+                        leer();
+                    }
+                    campo.append((char) c);
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    campo.append((char) c);
+                    c = leer();
+                }
+            }
+            if (c == '\r') {
+                c = leer();
+                if (c != '\n' && c != -1) {
+                    throw new IOException("Línea " + linea + ": retorno de carro sin salto de línea");
+                }
+            }
+            if (c != ',' && c != '\n' && c != -1) {
+                throw new IOException("Línea " + linea + ": texto después de las comillas de cierre");
+            }
+            return c;
+        }
+
+        /**
+         * Lee un texto JSON (ya consumida la comilla inicial) en {@link #campo}, resolviendo los escapes.
+         *
+         * @param registro Registro en curso, para informar errores
+         * @throws IOException si el texto no se cierra o tiene un escape inválido
+         */
+        void leerTextoJson(RegistroLeido registro) throws IOException {
+            campo.setLength(0);
+            literalNulo = false;
+            while (true) {
+                int c = leer();
+                if (c == -1 || c == '\n') {
+                    throw registro.error("texto sin cerrar");
+                }
+                if (c == '"') {
+                    return;
+                }
+                if (c != '\\') {
+                    campo.append((char) c);
+                    continue;
+                }
+                c = leer();
+                switch (c) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        campo.append((char) c);
+                        break;
+                    case 'b':
+                        campo.append('\b');
+                        break;
+                    case 'f':
+                        campo.append('\f');
+                        break;
+                    case 'n':
+                        campo.append('\n');
+                        break;
+                    case 'r':
+                        campo.append('\r');
+                        break;
+                    case 't':
+                        campo.append('\t');
+                        break;
+                    case 'u': {
+                        int codigo = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digito = Character.digit(leer(), 16);
+                            if (digito < 0) {
+                                throw registro.error("escape \\u inválido");
+                            }
+                            codigo = codigo * 16 + digito;
+                        }
+                        campo.append((char) codigo);
+                        break;
+                    }
+                    default:
+                        throw registro.error("escape inválido");
+                }
+            }
+        }
+
+        /**
+         * Lee un número, {@code true}, {@code false} o {@code null} en {@link #campo}.
+         *
+         * @param c Primer carácter del literal
+         * @return Carácter siguiente al literal
+         * @throws IOException si falla la lectura
+         */
+        int leerLiteralJson(int c) throws IOException {
+            campo.setLength(0);
+            while (c != ',' && c != '}' && c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != -1) {
+                campo.append((char) c);
+                c = leer();
+            }
+            literalNulo = "null".contentEquals(campo);
+            return c;
+        }
+    }
+
+    /**
+     * Atributos del registro en curso, reutilizado para todos los registros del archivo.
+     */
+    private static final class RegistroLeido {
+
+        private long linea;
+        private String tipo;
+        private String nombre;
+        private int prioridad;
+        private boolean completada;
+        private String categoria;
+        private int tiempoEstimado;
+        /**
+         * Fecha límite en la escala de {@link TareaUrgente#getFechaLimiteEpochNanos()}.
+         */
+        private long limiteNanos;
+        private int nivelCriticidad;
+        private String responsable;
+        private boolean notificaciones;
+
+        /**
+         * Reinicia los atributos para un registro nuevo.
+         *
+         * @param linea Línea donde comienza el registro
+         */
+        void iniciar(long linea) {
+            this.linea = linea;
+            tipo = TIPO_TAREA;
+            nombre = null;
+            prioridad = 0;
+            completada = false;
+            categoria = null;
+            tiempoEstimado = 0;
+            limiteNanos = TareaUrgente.SIN_FECHA;
+            nivelCriticidad = TareaUrgente.CRITICIDAD_DEFECTO;
+            responsable = null;
+            notificaciones = true;
+        }
+
+        /**
+         * Interpreta el valor de una columna.
+         *
+         * @param columna Índice de la columna
+         * @param valor Texto del valor
+         * @throws IOException si el valor no es válido para la columna
+         */
+        void asignar(int columna, CharSequence valor) throws IOException {
+            switch (columna) {
+                case TIPO:
+                    if (TIPO_TAREA.contentEquals(valor)) {
+                        tipo = TIPO_TAREA;
+                    } else if (TIPO_NORMAL.contentEquals(valor)) {
+                        tipo = TIPO_NORMAL;
+                    } else if (TIPO_URGENTE.contentEquals(valor)) {
+                        tipo = TIPO_URGENTE;
+                    } else {
+                        throw error("tipo de tarea desconocido: " + valor);
+                    }
+                    break;
+                case NOMBRE:
+                    nombre = valor.toString();
+                    break;
+                case PRIORIDAD:
+                    prioridad = entero(valor, "prioridad");
+                    break;
+                case COMPLETADA:
+                    completada = booleano(valor, "completada");
+                    break;
+                case CATEGORIA:
+                    categoria = valor.toString();
+                    break;
+                case TIEMPO_ESTIMADO:
+                    tiempoEstimado = entero(valor, "tiempoEstimado");
+                    break;
+                case FECHA_LIMITE:
+                    try {
+                        limiteNanos = TareaUrgente.aEpochNanos(LocalDateTime.parse(valor));
+                    } catch (DateTimeParseException | IllegalArgumentException e) {
+                        throw error("fecha límite inválida: " + valor);
+                    }
+                    break;
+                case CRITICIDAD:
+                    nivelCriticidad = entero(valor, "nivelCriticidad");
+                    break;
+                case RESPONSABLE:
+                    responsable = valor.toString();
+                    break;
+                case NOTIFICACIONES:
+                    notificaciones = booleano(valor, "notificaciones");
+                    break;
+                default:
+                    // El id y las columnas desconocidas no se usan
+            }
+        }
+
+        /**
+         * Valida los atributos y crea la tarea del tipo indicado.
+         *
+         * @return Tarea nueva, sin ID asignado
+         * @throws IOException si falta el nombre o algún valor está fuera de rango
+         */
+        Tarea construir() throws IOException {
+            if (nombre == null || nombre.trim().isEmpty()) {
+                throw error("el nombre no puede estar vacío");
+            }
+            if (prioridad < GestorTareas.PRIORIDAD_BAJA || prioridad > GestorTareas.PRIORIDAD_ALTA) {
+                throw error("la prioridad debe estar entre 1 y 3");
+            }
+            Tarea tarea;
+            if (tipo == TIPO_NORMAL) {
+                if (tiempoEstimado < 0) {
+                    throw error("el tiempo estimado no puede ser negativo");
+                }
+                tarea = new TareaNormal(0, nombre.trim(), prioridad, categoria, tiempoEstimado);
+            } else if (tipo == TIPO_URGENTE) {
+                if (nivelCriticidad < TareaUrgente.CRITICIDAD_MINIMA || nivelCriticidad > TareaUrgente.CRITICIDAD_MAXIMA) {
+                    throw error("el nivel de criticidad debe estar entre " + TareaUrgente.CRITICIDAD_MINIMA
+                        + " y " + TareaUrgente.CRITICIDAD_MAXIMA);
+                }
+                TareaUrgente urgente = new TareaUrgente(0, nombre.trim(), prioridad, null,
+                                                        nivelCriticidad, responsable);
+                urgente.setFechaLimiteEpochNanos(limiteNanos);
+                urgente.setNotificacionesActivas(notificaciones);
+                tarea = urgente;
+            } else {
+                tarea = new Tarea(0, nombre.trim(), prioridad);
+            }
+            tarea.setCompletado(completada);
+            return tarea;
+        }
+
+        /**
+         * Crea el error de un registro inválido.
+         *
+         * @param motivo Descripción del problema
+         * @return Excepción con la línea del registro
+         */
+        IOException error(String motivo) {
+            return new IOException("Línea " + linea + ": " + motivo);
+        }
+
+        /**
+         * Interpreta un entero sin crear cadenas.
+         *
+         * @param valor Texto del valor
+         * @param columna Nombre de la columna, para el mensaje de error
+         * @return El entero
+         * @throws IOException si no es un entero válido
+         */
+        private int entero(CharSequence valor, String columna) throws IOException {
+            int longitud = valor.length();
+            boolean negativo = longitud > 0 && valor.charAt(0) == '-';
+            int inicio = negativo ? 1 : 0;
+            if (longitud == inicio) {
+                throw error(columna + " debe ser un número entero");
+            }
+            long resultado = 0;
+            for (int i = inicio; i < longitud; i++) {
+                int digito = valor.charAt(i) - '0';
+                if (digito < 0 || digito > 9) {
+                    throw error(columna + " debe ser un número entero: " + valor);
+                }
+                resultado = resultado * 10 + digito;
+                if (resultado > Integer.MAX_VALUE + 1L) {
+                    throw error(columna + " está fuera de rango: " + valor);
+                }
+            }
+            resultado = negativo ? -resultado : resultado;
+            if (resultado > Integer.MAX_VALUE) {
+                throw error(columna + " está fuera de rango: " + valor);
+            }
+            return (int) resultado;
+        }
+
+        /**
+         * Interpreta un booleano ({@code true} o {@code false}).
+         *
+         * @param valor Texto del valor
+         * @param columna Nombre de la columna, para el mensaje de error
+         * @return El booleano
+         * @throws IOException si no es un booleano válido
+         */
+        private boolean booleano(CharSequence valor, String columna) throws IOException {
+            if ("true".contentEquals(valor)) {
+                return true;
+            }
+            if ("false".contentEquals(valor)) {
+                return false;
+            }
+            throw error(columna + " debe ser true o false: " + valor);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Define cuándo se considera duradera una operación registrada en el {@link DiarioTareas}.
+ *
+ * <p>Los modos van de más seguro y lento a más rápido y menos seguro:</p>
+ * <ul>
+ *   <li>{@link #CADA_OPERACION}: la operación no termina hasta que su registro está en disco</li>
+ *   <li>{@link #PERIODICO}: los registros se sincronizan con el disco cada cierto intervalo</li>
+ *   <li>{@link #SISTEMA_OPERATIVO}: los registros se entregan al sistema operativo sin sincronizar</li>
+ * </ul>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ModoDurabilidad {
+
+    /**
+     * Cada operación espera a que su registro se escriba y se sincronice con el disco.
+     * Las operaciones concurrentes comparten la misma sincronización (commit agrupado),
+     * por lo que el costo de cada fsync se reparte entre todas las que llegaron mientras tanto.
+     * Sobrevive a la caída del proceso y del sistema operativo.
+     */
+    CADA_OPERACION,
+
+    /**
+     * Las operaciones no esperan: un hilo de fondo escribe y sincroniza los registros
+     * pendientes cada cierto intervalo. Ante una caída se pierden, como máximo,
+     * las operaciones del último intervalo.
+     */
+    PERIODICO,
+
+    /**
+     * Cada operación espera a que su registro se entregue al sistema operativo,
+     * sin forzar la sincronización con el disco. Sobrevive a la caída del proceso,
+     * pero no a la del sistema operativo.
+     */
+    SISTEMA_OPERATIVO
+}
@@ -0,0 +1,206 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Vista de un archivo como una secuencia de regiones proyectadas en memoria.
+ * Un {@link MappedByteBuffer} no puede superar los 2 GB, por lo que el archivo se
+ * proyecta en regiones de tamaño fijo que se crean a medida que se accede a ellas;
+ * al proyectar una región más allá del final, el archivo crece hasta cubrirla.
+ *
+ * <p>Las posiciones son relativas al inicio de la primera región. Cada lectura o
+ * escritura debe caer completa dentro de una región: quien usa esta clase organiza
+ * sus datos para que nunca crucen un límite.</p>
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ * @see GestorTareasMapeado
+ */
+final class RegionesMapeadas {
+
+    // ==================== ATRIBUTOS ====================
+
+    private final FileChannel canal;
+
+    /**
+     * Posición del archivo donde comienza la primera región.
+     */
+    private final long inicio;
+
+    /**
+     * Bytes de cada región.
+     */
+    private final int tamanioRegion;
+
+    /**
+     * Regiones proyectadas hasta ahora; null las que aún no se han usado.
+     */
+    private MappedByteBuffer[] regiones = new MappedByteBuffer[0];
+
+    // ==================== CONSTRUCTORES ====================
+
+    /**
+     * Crea la vista sin proyectar todavía ninguna región.
+     *
+     * @param canal Canal del archivo, abierto para lectura y escritura
+     * @param inicio Posición del archivo donde comienza la primera región
+     * @param tamanioRegion Bytes de cada región
+     */
+    RegionesMapeadas(FileChannel canal, long inicio, int tamanioRegion) {
+        this.canal = canal;
+        this.inicio = inicio;
+        this.tamanioRegion = tamanioRegion;
+    }
+
+    // ==================== ACCESO ====================
+
+    /**
+     * Obtiene el tamaño de cada región.
+     *
+     * @return Bytes por región
+     */
+    int obtenerTamanioRegion() {
+        return tamanioRegion;
+    }
+
+    /**
+     * Lee un byte.
+     *
+     * @param posicion Posición del byte
+     * @return El valor
+     */
+    byte get(long posicion) {
+        return region(posicion).get(local(posicion));
+    }
+
+    /**
+     * Escribe un byte.
+     *
+     * @param posicion Posición del byte
+     * @param valor Valor a escribir
+     */
+    void put(long posicion, byte valor) {
+        region(posicion).put(local(posicion), valor);
+    }
+
+    /**
+     * Lee un entero.
+     *
+     * @param posicion Posición del primer byte
+     * @return El valor
+     */
+    int getInt(long posicion) {
+        return region(posicion).getInt(local(posicion));
+    }
+
+    /**
+     * Escribe un entero.
+     *
+     * @param posicion Posición del primer byte
+     * @param valor Valor a escribir
+     */
+    void putInt(long posicion, int valor) {
+        region(posicion).putInt(local(posicion), valor);
+    }
+
+    /**
+     * Lee un entero largo.
+     *
+     * @param posicion Posición del primer byte
+     * @return El valor
+     */
+    long getLong(long posicion) {
+        return region(posicion).getLong(local(posicion));
+    }
+
+    /**
+     * Escribe un entero largo.
+     *
+     * @param posicion Posición del primer byte
+     * @param valor Valor a escribir
+     */
+    void putLong(long posicion, long valor) {
+        region(posicion).putLong(local(posicion), valor);
+    }
+
+    /**
+     * Copia bytes desde la proyección.
+     *
+     * @param posicion Posición del primer byte
+     * @param destino Arreglo que se llena completo
+     */
+    void leer(long posicion, byte[] destino) {
+        region(posicion).get(local(posicion), destino);
+    }
+
+    /**
+     * Copia bytes hacia la proyección.
+     *
+     * @param posicion Posición del primer byte
+     * @param origen Bytes a escribir
+     */
+    void escribir(long posicion, byte[] origen) {
+        region(posicion).put(local(posicion), origen);
+    }
+
+    /**
+     * Copia un bloque dentro de la proyección.
+     *
+     * @param desde Posición de origen
+     * @param hacia Posición de destino
+     * @param longitud Bytes a copiar
+     */
+    void copiar(long desde, long hacia, int longitud) {
+        region(hacia).put(local(hacia), region(desde), local(desde), longitud);
+    }
+
+    /**
+     * Fuerza la escritura en disco de todas las regiones proyectadas.
+     */
+    void sincronizar() {
+        for (MappedByteBuffer region : regiones) {
+            if (region != null) {
+                region.force();
+            }
+        }
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Obtiene la región que contiene una posición, proyectándola si hace falta.
+     *
+     * @param posicion Posición relativa a la primera región
+     * @return La región
+     * @throws UncheckedIOException si la región no puede proyectarse
+     */
+    private MappedByteBuffer region(long posicion) {
+        int numero = (int) (posicion / tamanioRegion);
+        if (numero < regiones.length && regiones[numero] != null) {
+            return regiones[numero];
+        }
+        if (numero >= regiones.length) {
+            regiones = Arrays.copyOf(regiones, Math.max(numero + 1, regiones.length * 2));
+        }
+        try {
+            regiones[numero] = canal.map(FileChannel.MapMode.READ_WRITE,
+                                         inicio + (long) numero * tamanioRegion, tamanioRegion);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo proyectar la región " + numero, e);
+        }
+        return regiones[numero];
+    }
+
+    /**
+     * Convierte una posición en el desplazamiento dentro de su región.
+     *
+     * @param posicion Posición relativa a la primera región
+     * @return Desplazamiento dentro de la región
+     */
+    private int local(long posicion) {
+        return (int) (posicion % tamanioRegion);
+    }
+}
@@ -0,0 +1,290 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Suite de pruebas para la clase DiarioTareas.
+ * Verifica la reproducción de registros, el descarte de escrituras interrumpidas,
+ * la detección de corrupción, la rotación de segmentos, el commit agrupado y el
+ * descarte de los segmentos ya incluidos en una instantánea.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: DiarioTareas")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DiarioTareasTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Los registros se reproducen en orden con sus datos")
+    void testRegistrarYRecuperar() throws IOException {
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            assertEquals(0, diario.recuperar((secuencia, tipo, datos) -> fail("El diario debe estar vacío")));
+            assertEquals(1, diario.registrar((byte) 1));
+            assertEquals(2, diario.registrar((byte) 2, 42));
+            assertEquals(3, diario.registrar((byte) 3, 7, -1));
+            long ultima = diario.registrar((byte) 4, 9, 3, "Tarea con ñ y emoji 🚀");
+            diario.esperarDurabilidad(ultima);
+        }
+
+        List<String> leidos = new ArrayList<>();
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            long cantidad = diario.recuperar((secuencia, tipo, datos) -> {
+                StringBuilder registro = new StringBuilder(secuencia + ":" + tipo);
+                while (datos.remaining() >= Integer.BYTES && tipo < 4) {
+                    registro.append(':').append(datos.getInt());
+                }
+                if (tipo == 4) {
+                    registro.append(':').append(datos.getInt()).append(':').append(datos.getInt())
+                            .append(':').append(DiarioTareas.leerTexto(datos));
+                }
+                leidos.add(registro.toString());
+            });
+            assertEquals(4, cantidad);
+            assertEquals(5, diario.registrar((byte) 1), "La numeración continúa tras la recuperación");
+        }
+
+        assertEquals(List.of("1:1", "2:2:42", "3:3:7:-1", "4:4:9:3:Tarea con ñ y emoji 🚀"), leidos);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Un registro incompleto al final se descarta y el segmento se trunca")
+    void testEscrituraInterrumpida() throws IOException {
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            diario.recuperar((secuencia, tipo, datos) -> { });
+            diario.registrar((byte) 1, 1);
+            diario.esperarDurabilidad(diario.registrar((byte) 1, 2));
+        }
+        Path segmento = unicoSegmento();
+        long tamanioValido = Files.size(segmento);
+        Files.write(segmento, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        List<Long> secuencias = new ArrayList<>();
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            diario.recuperar((secuencia, tipo, datos) -> secuencias.add(secuencia));
+            assertEquals(tamanioValido, Files.size(segmento), "El final incompleto debe truncarse");
+            diario.esperarDurabilidad(diario.registrar((byte) 1, 3));
+        }
+        assertEquals(List.of(1L, 2L), secuencias);
+
+        secuencias.clear();
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            diario.recuperar((secuencia, tipo, datos) -> secuencias.add(secuencia));
+        }
+        assertEquals(List.of(1L, 2L, 3L), secuencias);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Un registro corrupto en un segmento intermedio se informa")
+    void testCorrupcionEnSegmentoIntermedio() throws IOException {
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION, 100, 64)) {
+            diario.recuperar((secuencia, tipo, datos) -> { });
+            for (int i = 0; i < 20; i++) {
+                diario.esperarDurabilidad(diario.registrar((byte) 1, i, "Registro " + i));
+            }
+        }
+        List<Path> segmentos = segmentos();
+        assertTrue(segmentos.size() > 2, "Con segmentos de 64 bytes debe haber varios");
+
+        try (FileChannel canal = FileChannel.open(segmentos.get(0), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), 20);
+        }
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            IOException error = assertThrows(IOException.class, () -> diario.recuperar((s, t, d) -> { }));
+            assertTrue(error.getMessage().contains("corrupto"));
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Los segmentos rotan y se reproducen completos")
+    void testRotacionDeSegmentos() throws IOException {
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 256)) {
+            diario.recuperar((secuencia, tipo, datos) -> { });
+            for (int i = 1; i <= 100; i++) {
+                diario.esperarDurabilidad(diario.registrar((byte) 2, i));
+            }
+        }
+        assertTrue(segmentos().size() > 1);
+
+        long[] suma = new long[1];
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 256)) {
+            assertEquals(100, diario.recuperar((secuencia, tipo, datos) -> {
+                assertEquals(secuencia, datos.getInt());
+                suma[0] += secuencia;
+            }));
+        }
+        assertEquals(5050, suma[0]);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: No se puede registrar antes de recuperar ni después de cerrar")
+    void testEstadosInvalidos() throws IOException {
+        DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.PERIODICO, 10);
+        assertThrows(IllegalStateException.class, () -> diario.registrar((byte) 1));
+        diario.recuperar((secuencia, tipo, datos) -> { });
+        assertThrows(IllegalStateException.class, () -> diario.recuperar((secuencia, tipo, datos) -> { }));
+        diario.registrar((byte) 1);
+        diario.close();
+        diario.close();
+        assertThrows(IllegalStateException.class, () -> diario.registrar((byte) 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new DiarioTareas(directorio, ModoDurabilidad.PERIODICO, 0));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Hilos concurrentes comparten las sincronizaciones sin perder registros")
+    void testCommitAgrupado() throws Exception {
+        int hilos = 8;
+        int registrosPorHilo = 500;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            diario.recuperar((secuencia, tipo, datos) -> { });
+            List<Future<?>> resultados = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                final int hilo = h;
+                resultados.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < registrosPorHilo; i++) {
+                        diario.esperarDurabilidad(diario.registrar((byte) 1, hilo, i));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> resultado : resultados) {
+                resultado.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+
+        int[] siguientePorHilo = new int[hilos];
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION)) {
+            assertEquals(hilos * registrosPorHilo, diario.recuperar((secuencia, tipo, datos) -> {
+                int hilo = datos.getInt();
+                assertEquals(siguientePorHilo[hilo]++, datos.getInt(), "Cada hilo debe conservar su orden");
+            }));
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Se reproduce un intervalo ya escrito y se descartan los segmentos anteriores")
+    void testReproducirYDescartar() throws IOException {
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 256)) {
+            diario.recuperar((secuencia, tipo, datos) -> { });
+            for (int i = 1; i <= 59; i++) {
+                diario.esperarDurabilidad(diario.registrar((byte) 2, i));
+            }
+            diario.registrar((byte) 2, 60);
+            assertThrows(IllegalArgumentException.class,
+                () -> diario.reproducir(0, 60, (secuencia, tipo, datos) -> { }));
+            assertEquals(60, diario.rotar());
+            // Los registros siguientes no alteran el intervalo ya escrito
+            diario.registrar((byte) 2, 61);
+
+            List<Long> vistas = new ArrayList<>();
+            assertEquals(20, diario.reproducir(30, 50, (secuencia, tipo, datos) -> {
+                assertEquals(secuencia, datos.getInt());
+                vistas.add(secuencia);
+            }));
+            assertEquals(31L, vistas.get(0));
+            assertEquals(50L, vistas.get(vistas.size() - 1));
+
+            int antes = segmentos().size();
+            assertTrue(diario.descartarHasta(40) > 0);
+            assertTrue(segmentos().size() < antes);
+            assertEquals(20, diario.reproducir(40, 60, (secuencia, tipo, datos) -> { }));
+            IOException error = assertThrows(IOException.class,
+                () -> diario.reproducir(0, 60, (secuencia, tipo, datos) -> { }));
+            assertTrue(error.getMessage().contains("incompleto"));
+
+            // El segmento activo nunca se descarta
+            diario.descartarHasta(Long.MAX_VALUE - 1);
+            assertEquals(1, segmentos().size());
+        }
+
+        try (DiarioTareas diario = new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 256)) {
+            assertEquals(1, diario.recuperar(60, (secuencia, tipo, datos) -> assertEquals(61, secuencia)));
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Tras un fallo de escritura el diario queda inutilizable y lo ya escrito se recupera")
+    void testFalloDeEscritura() throws IOException {
+        Path subdirectorio = directorio.resolve("fallido");
+        DiarioTareas diario = new DiarioTareas(subdirectorio, ModoDurabilidad.CADA_OPERACION, 100, 1);
+        diario.recuperar((secuencia, tipo, datos) -> { });
+        diario.esperarDurabilidad(diario.registrar((byte) 1, 10));
+
+        // El siguiente segmento no puede crearse porque el directorio ya no existe
+        Path primero = subdirectorio.resolve("diario-00000000000000000001.log");
+        Path escrito = directorio.resolve("copia.log");
+        Files.copy(primero, escrito);
+        Files.delete(primero);
+        Files.delete(subdirectorio);
+        long segunda = diario.registrar((byte) 1, 20);
+        assertThrows(UncheckedIOException.class, () -> diario.esperarDurabilidad(segunda));
+
+        assertThrows(UncheckedIOException.class, () -> diario.registrar((byte) 1, 30));
+        assertThrows(UncheckedIOException.class, diario::sincronizar);
+        assertThrows(UncheckedIOException.class, diario::rotar);
+        assertThrows(IOException.class, diario::close);
+
+        Files.createDirectories(subdirectorio);
+        Files.copy(escrito, primero);
+        List<Long> secuencias = new ArrayList<>();
+        try (DiarioTareas recuperado = new DiarioTareas(subdirectorio, ModoDurabilidad.CADA_OPERACION)) {
+            assertEquals(1, recuperado.recuperar((secuencia, tipo, datos) -> secuencias.add(secuencia)));
+        }
+        assertEquals(List.of(1L), secuencias);
+    }
+
+    /**
+     * Lista los segmentos del directorio en orden.
+     *
+     * @return Rutas de los segmentos
+     * @throws IOException si no puede leerse el directorio
+     */
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.filter(p -> p.getFileName().toString().startsWith("diario-")).sorted().toList();
+        }
+    }
+
+    /**
+     * Obtiene el único segmento del directorio.
+     *
+     * @return Ruta del segmento
+     * @throws IOException si no puede leerse el directorio
+     */
+    private Path unicoSegmento() throws IOException {
+        List<Path> segmentos = segmentos();
+        assertEquals(1, segmentos.size());
+        return segmentos.get(0);
+    }
+}
@@ -0,0 +1,386 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Suite de pruebas para la clase GestorTareasMapeado.
+ * Verifica las operaciones del gestor sobre los registros proyectados, la conservación
+ * de los datos al reabrir, la escritura de los setters en los registros y el uso de
+ * varias regiones proyectadas.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasMapeado")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasMapeadoTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Altas, bajas, consultas y estadísticas sobre los registros")
+    void testOperacionesBasicas() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertTrue(gestor.estaVacia());
+            Tarea primera = gestor.agregarTarea("  Primera  ", GestorTareas.PRIORIDAD_ALTA);
+            gestor.agregarTarea("Segunda", GestorTareas.PRIORIDAD_BAJA);
+            gestor.agregarTarea("Tercera", GestorTareas.PRIORIDAD_ALTA);
+
+            assertEquals(1, primera.getId());
+            assertEquals("Primera", gestor.buscarTareaPorId(1).getNombre());
+            assertTrue(gestor.marcarComoCompletada(3));
+            assertFalse(gestor.marcarComoCompletada(99));
+
+            assertEquals(3, gestor.obtenerTotalTareas());
+            assertEquals(1, gestor.contarTareasCompletadas());
+            assertEquals(2, gestor.contarTareasPendientes());
+            assertEquals(2, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+            assertEquals(List.of(1, 3), ids(gestor.filtrarPorPrioridad(GestorTareas.PRIORIDAD_ALTA)));
+            assertEquals(List.of(3), ids(gestor.obtenerTareasCompletadas()));
+            assertEquals(List.of(1, 2), ids(gestor.obtenerTareasPendientes()));
+            assertEquals(100.0 / 3, gestor.calcularPorcentajeCompletadas(), 0.001);
+
+            long version = gestor.obtenerVersion();
+            assertTrue(gestor.eliminarTarea(1));
+            assertFalse(gestor.eliminarTarea(1));
+            assertTrue(gestor.obtenerVersion() > version);
+            assertNull(gestor.buscarTareaPorId(1));
+            assertEquals(1, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+            // El último registro ocupa el lugar del eliminado
+            assertEquals(List.of(3, 2), ids(gestor.listarTareas()));
+            assertEquals("Segunda", gestor.buscarTareaPorId(2).getNombre());
+
+            assertThrows(IllegalArgumentException.class, () -> gestor.agregarTarea(" ", 1));
+            assertThrows(IllegalArgumentException.class, () -> gestor.agregarTarea("Tarea", 4));
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Al reabrir se conservan todas las tareas, sus atributos y el contador")
+    void testReabrirConservaDatos() throws IOException {
+        LocalDateTime limite = LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_789);
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            gestor.agregarTarea("Tarea base", GestorTareas.PRIORIDAD_MEDIA).marcarCompletada();
+            gestor.importarTarea(new TareaNormal(10, "Estudiar JUnit", GestorTareas.PRIORIDAD_BAJA, "Estudio", 90));
+            TareaUrgente urgente = new TareaUrgente(20, "Incidente producción", GestorTareas.PRIORIDAD_ALTA,
+                                                    limite, 9, "Equipo DevOps");
+            urgente.setNotificacionesActivas(false);
+            gestor.importarTarea(urgente);
+            gestor.importarTarea(new TareaUrgente(21, "Sin fecha", GestorTareas.PRIORIDAD_ALTA, null, 2, null));
+
+            assertThrows(IllegalArgumentException.class,
+                () -> gestor.importarTarea(new Tarea(10, "Repetida", GestorTareas.PRIORIDAD_BAJA)));
+        }
+
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(4, gestor.obtenerTotalTareas());
+            assertEquals(1, gestor.contarTareasCompletadas());
+            assertEquals(2, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+
+            Tarea base = gestor.buscarTareaPorId(1);
+            assertEquals(Tarea.class, base.getClass());
+            assertTrue(base.isCompletado());
+
+            TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(10);
+            assertEquals("Estudiar JUnit", normal.getNombre());
+            assertEquals("Estudio", normal.getCategoria());
+            assertEquals(90, normal.getTiempoEstimado());
+
+            TareaUrgente urgente = (TareaUrgente) gestor.buscarTareaPorId(20);
+            assertEquals("Incidente producción", urgente.getNombre());
+            assertEquals(limite, urgente.getFechaLimite());
+            assertEquals(9, urgente.getNivelCriticidad());
+            assertEquals("Equipo DevOps", urgente.getResponsable());
+            assertFalse(urgente.isNotificacionesActivas());
+
+            TareaUrgente sinFecha = (TareaUrgente) gestor.buscarTareaPorId(21);
+            assertNull(sinFecha.getFechaLimite());
+            assertNull(sinFecha.getResponsable());
+            assertTrue(sinFecha.isNotificacionesActivas());
+
+            // El contador continúa después del mayor ID importado
+            assertEquals(22, gestor.agregarTarea("Nueva", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Los setters de las tareas devueltas escriben en los registros")
+    void testSettersEscribenEnRegistros() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            gestor.agregarTarea("Original", GestorTareas.PRIORIDAD_BAJA);
+            gestor.agregarTarea("Otra", GestorTareas.PRIORIDAD_BAJA);
+            gestor.importarTarea(new TareaNormal(5, "Normal", GestorTareas.PRIORIDAD_MEDIA, "Estudio", 30));
+
+            Tarea tarea = gestor.buscarTareaPorId(1);
+            tarea.setNombre("Renombrada");
+            tarea.setPrioridad(GestorTareas.PRIORIDAD_ALTA);
+            tarea.setCompletado(true);
+            tarea.setId(40);
+            assertThrows(IllegalArgumentException.class, () -> tarea.setId(2));
+            assertEquals(40, tarea.getId());
+
+            TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(5);
+            normal.setCategoria("Trabajo");
+            normal.setTiempoEstimado(45);
+
+            assertNull(gestor.buscarTareaPorId(1));
+            assertEquals(1, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+            assertEquals(1, gestor.contarTareasCompletadas());
+        }
+
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            Tarea tarea = gestor.buscarTareaPorId(40);
+            assertEquals("Renombrada", tarea.getNombre());
+            assertEquals(GestorTareas.PRIORIDAD_ALTA, tarea.getPrioridad());
+            assertTrue(tarea.isCompletado());
+            TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(5);
+            assertEquals("Trabajo", normal.getCategoria());
+            assertEquals(45, normal.getTiempoEstimado());
+            assertEquals(41, gestor.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Los registros y textos se reparten en varias regiones proyectadas")
+    void testVariasRegiones() throws IOException {
+        int tareas = 1_000;
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio, 16, 256)) {
+            String[] nombres = new String[tareas];
+            int[] prioridades = new int[tareas];
+            for (int i = 0; i < tareas; i++) {
+                nombres[i] = "Tarea número " + i;
+                prioridades[i] = (i % 3) + 1;
+            }
+            assertTrue(gestor.agregarTareas(nombres, prioridades).todosExitosos());
+            assertThrows(IllegalArgumentException.class,
+                () -> gestor.agregarTarea("x".repeat(300), GestorTareas.PRIORIDAD_BAJA));
+        }
+
+        // Los tamaños de región guardados prevalecen sobre los indicados al reabrir
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(tareas, gestor.obtenerTotalTareas());
+            for (int i = 0; i < tareas; i++) {
+                assertEquals("Tarea número " + i, gestor.buscarTareaPorId(i + 1).getNombre());
+            }
+            assertEquals(tareas / 3, gestor.contarPorPrioridad(GestorTareas.PRIORIDAD_ALTA));
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Las operaciones por lotes informan cada resultado")
+    void testOperacionesPorLotes() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio, 4, 64)) {
+            ResultadoLote altas = gestor.agregarTareas(new String[] {"A", "B", "C", "D", "E"},
+                                                      new int[] {1, 2, 3, 1, 2});
+            assertArrayEquals(new int[] {1, 2, 3, 4, 5}, altas.obtenerIdsExitosos());
+
+            ResultadoLote completadas = gestor.completarTareas(new int[] {2, 9, 4});
+            assertArrayEquals(new int[] {9}, completadas.obtenerIdsFallidos());
+            assertEquals(2, gestor.contarTareasCompletadas());
+
+            ResultadoLote eliminadas = gestor.eliminarTareas(new int[] {1, 2, 1});
+            assertArrayEquals(new int[] {1, 2}, eliminadas.obtenerIdsExitosos());
+            assertEquals(List.of(3, 4, 5), ids(gestor.listarTareas()).stream().sorted().toList());
+            assertEquals(1, gestor.contarTareasCompletadas());
+
+            assertThrows(IllegalArgumentException.class,
+                () -> gestor.agregarTareas(new String[] {"F", ""}, new int[] {1, 1}));
+            assertEquals(3, gestor.obtenerTotalTareas());
+            assertThrows(IllegalArgumentException.class, () -> gestor.completarTareas(null));
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: limpiarTodas reinicia el almacén y desvincula las tareas entregadas")
+    void testLimpiarTodas() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            Tarea anterior = gestor.agregarTarea("Antes", GestorTareas.PRIORIDAD_BAJA);
+            gestor.limpiarTodas();
+            assertTrue(gestor.estaVacia());
+
+            Tarea nueva = gestor.agregarTarea("Después", GestorTareas.PRIORIDAD_MEDIA);
+            assertEquals(1, nueva.getId());
+            anterior.setNombre("No debe escribirse");
+            anterior.marcarCompletada();
+            assertEquals("Después", gestor.buscarTareaPorId(1).getNombre());
+            assertEquals(0, gestor.contarTareasCompletadas());
+        }
+
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(List.of(1), ids(gestor.listarTareas()));
+            assertEquals("Después", gestor.buscarTareaPorId(1).getNombre());
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Un archivo que no es un almacén se rechaza y uno cerrado no se modifica")
+    void testArchivoInvalidoYCierre() throws IOException {
+        GestorTareasMapeado gestor = new GestorTareasMapeado(directorio);
+        Tarea tarea = gestor.agregarTarea("Tarea", GestorTareas.PRIORIDAD_BAJA);
+        gestor.close();
+        gestor.close();
+        assertThrows(IllegalStateException.class, () -> gestor.agregarTarea("Otra", 1));
+        assertThrows(IllegalStateException.class, () -> tarea.setPrioridad(GestorTareas.PRIORIDAD_ALTA));
+
+        try (FileChannel canal = FileChannel.open(directorio.resolve("tareas.dat"), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {'X'}), 0);
+        }
+        assertThrows(IOException.class, () -> new GestorTareasMapeado(directorio));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Un lote de tareas importadas conserva su tipo y atributos al reabrir")
+    void testImportarLote() throws IOException {
+        String esperado;
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio, 4, 64)) {
+            String jsonl = "{\"tipo\":\"NORMAL\",\"nombre\":\"Informe\",\"prioridad\":2,\"categoria\":\"Trabajo\",\"tiempoEstimado\":90}\n"
+                         + "{\"tipo\":\"URGENTE\",\"nombre\":\"Caída\",\"prioridad\":3,\"fechaLimite\":\"2026-10-19T08:30\",\"responsable\":\"Ana\"}\n"
+                         + "{\"nombre\":\"Simple\",\"prioridad\":1,\"completada\":true}\n";
+            assertEquals(3, IntercambioTareas.importar(new StringReader(jsonl), IntercambioTareas.Formato.JSON_LINEAS, gestor));
+            assertEquals(List.of(1, 2, 3), ids(gestor.listarTareas()));
+            esperado = IntercambioTareasTest.describir(gestor);
+        }
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(esperado, IntercambioTareasTest.describir(gestor));
+            assertEquals(4, gestor.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Test 009: obtenerTareasVencidas lee solo el campo de fecha límite de los registros")
+    void testObtenerTareasVencidas() throws IOException {
+        LocalDateTime ahora = LocalDateTime.now();
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            gestor.agregarTarea("Común", GestorTareas.PRIORIDAD_BAJA);
+            gestor.agregarTareas(new Tarea[] {
+                new TareaUrgente(0, "Vencida", 3, ahora.minusHours(2), 9, "Ana"),
+                new TareaUrgente(0, "Vigente", 3, ahora.plusHours(2), 9, "Ana"),
+                new TareaUrgente(0, "Sin fecha", 3, null, 9, "Ana")
+            });
+            assertEquals(List.of(2), ids(gestor.obtenerTareasVencidas()));
+            ((TareaUrgente) gestor.buscarTareaPorId(3)).setFechaLimite(ahora.minusMinutes(1));
+        }
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(List.of(2, 3), ids(gestor.obtenerTareasVencidas()));
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Test 010: Cambiar un atributo desde una vista anterior no revierte el estado completado")
+    void testAtributosConservanEstado() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            gestor.agregarTareas(new Tarea[] {new TareaNormal(0, "Normal", 2, "Trabajo", 30)});
+            TareaNormal vista = (TareaNormal) gestor.buscarTareaPorId(1);
+            assertTrue(gestor.marcarComoCompletada(1));
+            vista.setTiempoEstimado(45);
+
+            assertEquals(1, gestor.contarTareasCompletadas());
+            assertEquals(List.of(1), ids(gestor.obtenerTareasCompletadas()));
+            assertTrue(gestor.buscarTareaPorId(1).isCompletado());
+            assertEquals(45, ((TareaNormal) gestor.buscarTareaPorId(1)).getTiempoEstimado());
+        }
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Test 011: Los textos reemplazados o de tareas eliminadas se reutilizan y textos.dat no crece sin límite")
+    void testTextosSeCompactan() throws IOException {
+        Map<Integer, String> categorias = new TreeMap<>();
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio, 16, 256)) {
+            for (int id = 1; id <= 20; id++) {
+                gestor.importarTarea(new TareaNormal(id, "Tarea " + id, 2, "Inicial", 10));
+                categorias.put(id, "Inicial");
+            }
+            int siguiente = 21;
+            for (int i = 0; i < 2_000; i++) {
+                int id = List.copyOf(categorias.keySet()).get(i % categorias.size());
+                TareaNormal vista = (TareaNormal) gestor.buscarTareaPorId(id);
+                vista.setTiempoEstimado(i + 1);
+                vista.setCategoria("Categoría " + i);
+                categorias.put(id, "Categoría " + i);
+                if (i % 10 == 0) {
+                    assertTrue(gestor.eliminarTarea(id));
+                    categorias.remove(id);
+                    gestor.importarTarea(new TareaNormal(siguiente, "Tarea " + siguiente, 2, "Nueva", 10));
+                    categorias.put(siguiente++, "Nueva");
+                }
+            }
+        }
+        long tamanio = Files.size(directorio.resolve("textos.dat"));
+        assertTrue(tamanio <= 16 * 256, "textos.dat ocupa " + tamanio + " bytes");
+
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            assertEquals(categorias.size(), gestor.obtenerTotalTareas());
+            for (Map.Entry<Integer, String> entrada : categorias.entrySet()) {
+                TareaNormal tarea = (TareaNormal) gestor.buscarTareaPorId(entrada.getKey());
+                assertEquals("Tarea " + entrada.getKey(), tarea.getNombre());
+                assertEquals(entrada.getValue(), tarea.getCategoria());
+            }
+        }
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Test 012: Un setter sobre una vista anterior no pisa los cambios hechos a través de otra")
+    void testVistasNoSePisan() throws IOException {
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            gestor.agregarTareas(new Tarea[] {
+                new TareaUrgente(0, "Urgente", 3, null, 5, "Ana"),
+                new TareaNormal(0, "Normal", 2, "Trabajo", 30)
+            });
+            TareaUrgente v1 = (TareaUrgente) gestor.buscarTareaPorId(1);
+            TareaUrgente v2 = (TareaUrgente) gestor.buscarTareaPorId(1);
+            v1.setNivelCriticidad(9);
+            v2.setResponsable("Luis");
+            v1.setNotificacionesActivas(false);
+
+            TareaNormal n1 = (TareaNormal) gestor.buscarTareaPorId(2);
+            TareaNormal n2 = (TareaNormal) gestor.buscarTareaPorId(2);
+            n1.setCategoria("Hogar");
+            n2.setTiempoEstimado(45);
+        }
+        try (GestorTareasMapeado gestor = new GestorTareasMapeado(directorio)) {
+            TareaUrgente urgente = (TareaUrgente) gestor.buscarTareaPorId(1);
+            assertEquals(9, urgente.getNivelCriticidad());
+            assertEquals("Luis", urgente.getResponsable());
+            assertFalse(urgente.isNotificacionesActivas());
+            TareaNormal normal = (TareaNormal) gestor.buscarTareaPorId(2);
+            assertEquals("Hogar", normal.getCategoria());
+            assertEquals(45, normal.getTiempoEstimado());
+        }
+    }
+
+    /**
+     * Obtiene los IDs de una lista de tareas.
+     *
+     * @param tareas Tareas
+     * @return IDs en el mismo orden
+     */
+    private static List<Integer> ids(List<Tarea> tareas) {
+        return tareas.stream().map(Tarea::getId).toList();
+    }
+}
@@ -0,0 +1,461 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Suite de pruebas para la clase GestorTareasPersistente.
+ * Verifica que al reabrir el gestor se reconstruyan las tareas, sus estados y el contador de IDs,
+ * tanto para las operaciones del gestor como para los cambios hechos con los setters de las tareas,
+ * y la compactación del diario en instantáneas.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: GestorTareasPersistente")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GestorTareasPersistenteTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Al reabrir se recuperan tareas, estados y contador de IDs")
+    void testReabrirRecuperaOperaciones() throws IOException {
+        String esperado;
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            gestor.agregarTarea("Estudiar Java", GestorTareas.PRIORIDAD_ALTA);
+            gestor.agregarTarea("Hacer ejercicio", GestorTareas.PRIORIDAD_MEDIA);
+            gestor.agregarTarea("Leer un libro", GestorTareas.PRIORIDAD_BAJA);
+            gestor.marcarComoCompletada(1);
+            gestor.eliminarTarea(2);
+            esperado = resumen(gestor);
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, resumen(gestor));
+            assertEquals(2, gestor.obtenerTotalTareas());
+            assertEquals(1, gestor.contarTareasCompletadas());
+            assertEquals(4, gestor.agregarTarea("Nueva", GestorTareas.PRIORIDAD_MEDIA).getId(),
+                "El contador de IDs debe continuar después del último ID usado");
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Los cambios hechos con los setters de una tarea se recuperan")
+    void testReabrirRecuperaSetters() throws IOException {
+        String esperado;
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            Tarea tarea = gestor.agregarTarea("Original", GestorTareas.PRIORIDAD_BAJA);
+            gestor.agregarTarea("Otra", GestorTareas.PRIORIDAD_MEDIA);
+            tarea.setNombre("Renombrada");
+            tarea.setPrioridad(GestorTareas.PRIORIDAD_ALTA);
+            tarea.marcarCompletada();
+            tarea.marcarPendiente();
+            tarea.setCompletado(true);
+            tarea.setId(50);
+            esperado = resumen(gestor);
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, resumen(gestor));
+            Tarea tarea = gestor.buscarTareaPorId(50);
+            assertNotNull(tarea);
+            assertEquals("Renombrada", tarea.getNombre());
+            assertEquals(GestorTareas.PRIORIDAD_ALTA, tarea.getPrioridad());
+            assertTrue(tarea.isCompletado());
+            assertEquals(51, gestor.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: limpiarTodas reinicia el contador también después de reabrir")
+    void testLimpiarTodasSeRecupera() throws IOException {
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            gestor.agregarTarea("Uno", GestorTareas.PRIORIDAD_ALTA);
+            gestor.agregarTarea("Dos", GestorTareas.PRIORIDAD_ALTA);
+            gestor.limpiarTodas();
+            gestor.agregarTarea("Tres", GestorTareas.PRIORIDAD_BAJA);
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(1, gestor.obtenerTotalTareas());
+            assertEquals("Tres", gestor.buscarTareaPorId(1).getNombre());
+            assertEquals(2, gestor.agregarTarea("Cuatro", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Las operaciones por lotes se recuperan")
+    void testLotesSeRecuperan() throws IOException {
+        String esperado;
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio, ModoDurabilidad.SISTEMA_OPERATIVO)) {
+            ResultadoLote alta = gestor.agregarTareas(
+                new String[] {"A", "B", "C", "D"},
+                new int[] {GestorTareas.PRIORIDAD_ALTA, GestorTareas.PRIORIDAD_BAJA,
+                           GestorTareas.PRIORIDAD_MEDIA, GestorTareas.PRIORIDAD_ALTA});
+            assertTrue(alta.todosExitosos());
+            assertEquals(2, gestor.completarTareas(new int[] {1, 3, 99}).contarExitosos());
+            assertEquals(1, gestor.eliminarTareas(new int[] {2, 99}).contarExitosos());
+            esperado = resumen(gestor);
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio, ModoDurabilidad.SISTEMA_OPERATIVO)) {
+            assertEquals(esperado, resumen(gestor));
+            assertEquals(5, gestor.agregarTarea("E", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Un registro interrumpido al final no impide abrir el gestor")
+    void testEscrituraInterrumpidaSeDescarta() throws IOException {
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            gestor.agregarTarea("Guardada", GestorTareas.PRIORIDAD_ALTA);
+        }
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            Path segmento = archivos.filter(p -> p.getFileName().toString().startsWith("diario-"))
+                                    .findFirst().orElseThrow();
+            Files.write(segmento, new byte[] {0, 0, 0, 99, 5, 5}, StandardOpenOption.APPEND);
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(1, gestor.obtenerTotalTareas());
+            assertEquals(2, gestor.agregarTarea("Después de la caída", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(2, gestor.obtenerTotalTareas());
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: Las escrituras concurrentes se recuperan completas en cada modo")
+    void testEscriturasConcurrentes() throws Exception {
+        for (ModoDurabilidad modo : ModoDurabilidad.values()) {
+            Path datos = directorio.resolve(modo.name());
+            int hilos = 4;
+            int tareasPorHilo = 250;
+            String esperado;
+            ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+            try (GestorTareasPersistente gestor = new GestorTareasPersistente(datos, modo, 5)) {
+                List<Future<?>> resultados = new ArrayList<>();
+                for (int h = 0; h < hilos; h++) {
+                    final int hilo = h;
+                    resultados.add(ejecutor.submit(() -> {
+                        for (int i = 0; i < tareasPorHilo; i++) {
+                            Tarea tarea = gestor.agregarTarea("Hilo " + hilo + " tarea " + i,
+                                                              GestorTareas.PRIORIDAD_BAJA + i % 3);
+                            if (i % 2 == 0) {
+                                gestor.marcarComoCompletada(tarea.getId());
+                            }
+                            if (i % 5 == 0) {
+                                gestor.eliminarTarea(tarea.getId());
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> resultado : resultados) {
+                    resultado.get(60, TimeUnit.SECONDS);
+                }
+                esperado = resumen(gestor);
+            } finally {
+                ejecutor.shutdownNow();
+            }
+
+            try (GestorTareasPersistente gestor = new GestorTareasPersistente(datos, modo, 5)) {
+                assertEquals(esperado, resumen(gestor), "Modo " + modo);
+                assertEquals(hilos * tareasPorHilo * 4 / 5, gestor.obtenerTotalTareas(), "Modo " + modo);
+                assertEquals(hilos * tareasPorHilo + 1,
+                    gestor.agregarTarea("Última", GestorTareas.PRIORIDAD_ALTA).getId(), "Modo " + modo);
+            }
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Después de cerrar no se aceptan modificaciones")
+    void testCerrado() throws IOException {
+        GestorTareasPersistente gestor = new GestorTareasPersistente(directorio);
+        gestor.agregarTarea("Antes de cerrar", GestorTareas.PRIORIDAD_MEDIA);
+        gestor.close();
+        assertThrows(IllegalStateException.class,
+            () -> gestor.agregarTarea("Después de cerrar", GestorTareas.PRIORIDAD_MEDIA));
+        assertNotNull(gestor.buscarTareaPorId(1), "Las consultas siguen funcionando");
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: Con una instantánea solo se reproducen los registros posteriores")
+    void testInstantaneaMasColaDelDiario() throws IOException {
+        String esperado;
+        GestorTareasPersistente gestor = new GestorTareasPersistente(
+            new DiarioTareas(directorio, ModoDurabilidad.CADA_OPERACION, 100, 64));
+        for (int i = 1; i <= 20; i++) {
+            gestor.agregarTarea("Antes " + i, GestorTareas.PRIORIDAD_BAJA);
+        }
+        gestor.eliminarTarea(20);
+        gestor.guardarInstantanea();
+        long secuenciaInstantanea = gestor.obtenerDiario().obtenerUltimaSecuencia();
+
+        // Los segmentos que solo tenían registros incluidos en la instantánea se borraron
+        for (Path segmento : segmentos()) {
+            assertTrue(primeraSecuencia(segmento) > secuenciaInstantanea, segmento.toString());
+        }
+
+        gestor.agregarTarea("Después", GestorTareas.PRIORIDAD_ALTA).setNombre("Después renombrada");
+        gestor.marcarComoCompletada(3);
+        esperado = resumen(gestor);
+        // Se cierra solo el diario, para que la cola no quede en una instantánea nueva
+        gestor.obtenerDiario().close();
+
+        try (GestorTareasPersistente reabierto = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, resumen(reabierto));
+            assertEquals(21, reabierto.buscarTareaPorId(21).getId());
+            assertEquals(22, reabierto.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Test 009: La instantánea basta aunque el diario ya no tenga sus registros")
+    void testInstantaneaSinDiario() throws IOException {
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            gestor.agregarTarea("Uno", GestorTareas.PRIORIDAD_ALTA);
+            gestor.agregarTarea("Dos", GestorTareas.PRIORIDAD_MEDIA);
+            gestor.agregarTarea("Tres", GestorTareas.PRIORIDAD_BAJA);
+            gestor.eliminarTarea(3);
+        }
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            for (Path segmento : archivos.filter(p -> p.getFileName().toString().startsWith("diario-")).toList()) {
+                Files.delete(segmento);
+            }
+        }
+
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(2, gestor.obtenerTotalTareas());
+            assertEquals(4, gestor.agregarTarea("Cuatro", GestorTareas.PRIORIDAD_ALTA).getId(),
+                "El contador de IDs se recupera de la instantánea");
+            assertTrue(gestor.obtenerDiario().obtenerUltimaSecuencia() > 4,
+                "Los registros nuevos se numeran después de la instantánea");
+            gestor.marcarComoCompletada(1);
+        }
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(3, gestor.obtenerTotalTareas());
+            assertTrue(gestor.buscarTareaPorId(1).isCompletado());
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Test 010: La compactación incluye todo tipo de cambios y borra el diario que cubre")
+    void testCompactarIncluyeCambios() throws IOException {
+        String esperado;
+        GestorTareasPersistente gestor = new GestorTareasPersistente(
+            new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 128));
+        gestor.agregarTarea("Descartada", GestorTareas.PRIORIDAD_BAJA);
+        gestor.limpiarTodas();
+        gestor.agregarTareas(new String[] {"Uno", "Dos", "Tres", "Cuatro"}, new int[] {1, 2, 3, 1});
+        gestor.buscarTareaPorId(1).setNombre("Uno renombrada");
+        gestor.buscarTareaPorId(2).setPrioridad(GestorTareas.PRIORIDAD_ALTA);
+        gestor.buscarTareaPorId(4).setId(10);
+        gestor.completarTareas(new int[] {3, 10});
+        gestor.buscarTareaPorId(3).setCompletado(false);
+        gestor.eliminarTarea(2);
+
+        assertTrue(gestor.compactar());
+        assertFalse(gestor.compactar(), "Sin registros nuevos no hay nada que compactar");
+        assertEquals(1, segmentos().size());
+        long cubierta = gestor.obtenerDiario().obtenerUltimaSecuencia();
+
+        gestor.agregarTarea("Posterior", GestorTareas.PRIORIDAD_MEDIA);
+        assertTrue(gestor.compactar(), "La segunda compactación parte de la primera instantánea");
+        gestor.marcarComoCompletada(1);
+        esperado = resumen(gestor);
+        gestor.obtenerDiario().close();
+
+        try (GestorTareasPersistente reabierto = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, resumen(reabierto));
+            assertTrue(reabierto.obtenerDiario().obtenerUltimaSecuencia() > cubierta);
+            assertEquals(12, reabierto.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Test 011: Se compacta mientras otros hilos siguen modificando el gestor")
+    void testCompactarConEscriturasConcurrentes() throws Exception {
+        int hilos = 4;
+        int tareasPorHilo = 2_000;
+        String esperado;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        GestorTareasPersistente gestor = new GestorTareasPersistente(
+            new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 4096));
+        try {
+            List<Future<?>> resultados = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                final int hilo = h;
+                resultados.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < tareasPorHilo; i++) {
+                        Tarea tarea = gestor.agregarTarea("Hilo " + hilo + " tarea " + i, (i % 3) + 1);
+                        if (i % 5 == 0) {
+                            gestor.eliminarTarea(tarea.getId());
+                        } else if (i % 2 == 0) {
+                            gestor.marcarComoCompletada(tarea.getId());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            int compactaciones = 0;
+            while (!todosTerminados(resultados)) {
+                if (gestor.compactar()) {
+                    compactaciones++;
+                }
+            }
+            for (Future<?> resultado : resultados) {
+                resultado.get(60, TimeUnit.SECONDS);
+            }
+            assertTrue(compactaciones > 0);
+            esperado = resumen(gestor);
+        } finally {
+            ejecutor.shutdownNow();
+            gestor.obtenerDiario().close();
+        }
+
+        try (GestorTareasPersistente reabierto = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, resumen(reabierto));
+            assertEquals(hilos * tareasPorHilo * 4 / 5, reabierto.obtenerTotalTareas());
+        }
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Test 012: El compactador en segundo plano compacta al acumularse registros")
+    void testCompactadorEnSegundoPlano() throws Exception {
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(
+                 new DiarioTareas(directorio, ModoDurabilidad.SISTEMA_OPERATIVO, 100, 1024))) {
+            assertThrows(IllegalArgumentException.class, () -> new CompactadorTareas(null));
+            assertThrows(IllegalArgumentException.class, () -> new CompactadorTareas(gestor, 0, 10));
+            try (CompactadorTareas compactador = new CompactadorTareas(gestor, 5, 100)) {
+                for (int i = 0; i < 50; i++) {
+                    gestor.agregarTarea("Pocas " + i, GestorTareas.PRIORIDAD_BAJA);
+                }
+                Thread.sleep(50);
+                assertEquals(0, compactador.obtenerCompactaciones(), "No se compacta bajo el mínimo");
+
+                for (int i = 0; i < 500; i++) {
+                    gestor.agregarTarea("Muchas " + i, GestorTareas.PRIORIDAD_ALTA);
+                }
+                long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (compactador.obtenerCompactaciones() == 0 && System.nanoTime() < limite) {
+                    Thread.sleep(5);
+                }
+                assertTrue(compactador.obtenerCompactaciones() > 0);
+                assertNull(compactador.obtenerUltimoFallo());
+            }
+            assertTrue(gestor.registrosSinInstantanea() < 550);
+        }
+        try (GestorTareasPersistente gestor = new GestorTareasPersistente(directorio)) {
+            assertEquals(550, gestor.obtenerTotalTareas());
+        }
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Test 013: Las tareas importadas conservan su tipo y atributos al reabrir")
+    void testTareasImportadasSeRecuperan() throws IOException {
+        String esperado;
+        GestorTareasPersistente gestor = new GestorTareasPersistente(directorio);
+        String csv = "tipo,nombre,prioridad,completada,categoria,tiempoEstimado,fechaLimite,nivelCriticidad,responsable\n"
+                   + "NORMAL,Informe,2,false,Trabajo,90,,,\n"
+                   + "URGENTE,Servidor caído,3,false,,,2026-10-19T08:30,10,Ana\n"
+                   + "TAREA,Simple,1,true,,,,,\n";
+        assertEquals(3, IntercambioTareas.importar(new StringReader(csv), IntercambioTareas.Formato.CSV, gestor));
+        ((TareaNormal) gestor.buscarTareaPorId(1)).setTiempoEstimado(120);
+        TareaUrgente urgente = (TareaUrgente) gestor.buscarTareaPorId(2);
+        urgente.setResponsable("Luis");
+        urgente.setNivelCriticidad(7);
+        urgente.setNotificacionesActivas(false);
+        gestor.buscarTareaPorId(3).setNombre("Simple renombrada");
+        esperado = IntercambioTareasTest.describir(gestor);
+        // Sin instantánea: todo se reconstruye desde el diario
+        gestor.obtenerDiario().close();
+
+        try (GestorTareasPersistente reabierto = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, IntercambioTareasTest.describir(reabierto));
+            assertTrue(reabierto.compactar());
+            reabierto.agregarTarea("Posterior", GestorTareas.PRIORIDAD_MEDIA);
+            esperado = IntercambioTareasTest.describir(reabierto);
+        }
+        try (GestorTareasPersistente reabierto = new GestorTareasPersistente(directorio)) {
+            assertEquals(esperado, IntercambioTareasTest.describir(reabierto));
+            assertEquals(5, reabierto.agregarTarea("Siguiente", GestorTareas.PRIORIDAD_BAJA).getId());
+        }
+    }
+
+    /**
+     * Indica si todas las tareas enviadas a un ejecutor terminaron.
+     *
+     * @param resultados Resultados de las tareas
+     * @return true si ninguna sigue en curso
+     */
+    private static boolean todosTerminados(List<Future<?>> resultados) {
+        return resultados.stream().allMatch(Future::isDone);
+    }
+
+    /**
+     * Lista los segmentos del diario en orden.
+     *
+     * @return Rutas de los segmentos
+     * @throws IOException si no puede leerse el directorio
+     */
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.filter(p -> p.getFileName().toString().startsWith("diario-")).sorted().toList();
+        }
+    }
+
+    /**
+     * Obtiene la primera secuencia de un segmento a partir de su nombre.
+     *
+     * @param segmento Ruta del segmento
+     * @return Primera secuencia
+     */
+    private static long primeraSecuencia(Path segmento) {
+        String nombre = segmento.getFileName().toString();
+        return Long.parseLong(nombre.substring("diario-".length(), nombre.indexOf('.')));
+    }
+
+    /**
+     * Resume el estado completo del gestor para compararlo entre aperturas.
+     *
+     * @param gestor Gestor a resumir
+     * @return Una línea por tarea, ordenadas por ID
+     */
+    private static String resumen(GestorTareas gestor) {
+        return gestor.listarTareas().stream()
+            .sorted((a, b) -> Integer.compare(a.getId(), b.getId()))
+            .map(t -> t.getId() + "|" + t.getNombre() + "|" + t.getPrioridad() + "|" + t.isCompletado())
+            .collect(Collectors.joining("\n"));
+    }
+}
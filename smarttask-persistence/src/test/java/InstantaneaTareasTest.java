@@ -0,0 +1,157 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Suite de pruebas para la clase InstantaneaTareas.
+ * Verifica la conservación de los datos de cada tipo de tarea, la tabla de cadenas,
+ * la detección de archivos corruptos y el reemplazo de instantáneas anteriores.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: InstantaneaTareas")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class InstantaneaTareasTest {
+
+    @TempDir
+    Path directorio;
+
+    private GestorTareas gestor;
+
+    @BeforeEach
+    void setUp() {
+        gestor = new GestorTareas();
+        gestor.agregarTarea("Tarea base", GestorTareas.PRIORIDAD_BAJA).marcarCompletada();
+
+        TareaNormal normal = new TareaNormal(10, "Estudiar JUnit", GestorTareas.PRIORIDAD_MEDIA, "Estudio", 90);
+        normal.setCompletado(true);
+        gestor.indexar(normal);
+        gestor.indexar(new TareaNormal(11, "Estudiar JUnit", GestorTareas.PRIORIDAD_ALTA, null, 15));
+
+        TareaUrgente urgente = new TareaUrgente(20, "Incidente producción", GestorTareas.PRIORIDAD_ALTA,
+                                                LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_789),
+                                                9, "Equipo DevOps");
+        urgente.setNotificacionesActivas(false);
+        gestor.indexar(urgente);
+        gestor.indexar(new TareaUrgente(21, "Estudio", GestorTareas.PRIORIDAD_MEDIA, null, 3, "Estudio"));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Se conservan los datos de Tarea, TareaNormal y TareaUrgente")
+    void testIdaYVuelta() throws IOException {
+        InstantaneaTareas.escribir(directorio, 42,
+            InstantaneaTareas.codificar(42, 22, gestor.listarTareas()));
+        InstantaneaTareas leida = InstantaneaTareas.cargarUltima(directorio);
+
+        assertEquals(42, leida.obtenerSecuencia());
+        assertEquals(22, leida.obtenerSiguienteId());
+        Tarea[] tareas = leida.obtenerTareas();
+        assertEquals(5, tareas.length);
+
+        Tarea base = tareas[0];
+        assertEquals(Tarea.class, base.getClass());
+        assertEquals("1|Tarea base|1|true", resumen(base));
+
+        TareaNormal normal = (TareaNormal) tareas[1];
+        assertEquals("10|Estudiar JUnit|2|true", resumen(normal));
+        assertEquals("Estudio", normal.getCategoria());
+        assertEquals(90, normal.getTiempoEstimado());
+        assertNull(((TareaNormal) tareas[2]).getCategoria());
+
+        TareaUrgente urgente = (TareaUrgente) tareas[3];
+        assertEquals("20|Incidente producción|3|false", resumen(urgente));
+        assertEquals(LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_789), urgente.getFechaLimite());
+        assertEquals(9, urgente.getNivelCriticidad());
+        assertEquals("Equipo DevOps", urgente.getResponsable());
+        assertFalse(urgente.isNotificacionesActivas());
+        assertNull(((TareaUrgente) tareas[4]).getFechaLimite());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Los textos repetidos se guardan una vez y se comparten al cargar")
+    void testTablaDeCadenas() throws IOException {
+        InstantaneaTareas.escribir(directorio, 1, InstantaneaTareas.codificar(1, 22, gestor.listarTareas()));
+        Tarea[] tareas = InstantaneaTareas.cargarUltima(directorio).obtenerTareas();
+
+        assertSame(tareas[1].getNombre(), tareas[2].getNombre());
+        // Categorías y responsables se comparten a través de los diccionarios de las tareas
+        assertEquals(((TareaNormal) tareas[1]).getCategoria(), tareas[4].getNombre());
+        assertSame(((TareaNormal) tareas[1]).getCategoria(),
+                   new TareaNormal(0, "Otra", 1, "Estudio", 10).getCategoria());
+        assertEquals(tareas[4].getNombre(), ((TareaUrgente) tareas[4]).getResponsable());
+
+        ByteBuffer contenido = InstantaneaTareas.codificar(1, 1, gestor.listarTareas());
+        // Cadenas distintas: "Tarea base", "Estudiar JUnit", "Estudio", "Incidente producción", "Equipo DevOps"
+        assertEquals(5, contenido.getInt(Integer.BYTES * 2 + Long.BYTES + Integer.BYTES));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Una instantánea alterada se rechaza")
+    void testCorrupcionDetectada() throws IOException {
+        Path archivo = InstantaneaTareas.escribir(directorio, 7,
+            InstantaneaTareas.codificar(7, 22, gestor.listarTareas()));
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {'X'}), Files.size(archivo) / 2);
+        }
+
+        IOException error = assertThrows(IOException.class, () -> InstantaneaTareas.cargarUltima(directorio));
+        assertTrue(error.getMessage().contains("corrupta"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Una versión de formato desconocida se informa")
+    void testVersionNoSoportada() throws IOException {
+        Path archivo = InstantaneaTareas.escribir(directorio, 7,
+            InstantaneaTareas.codificar(7, 22, gestor.listarTareas()));
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, InstantaneaTareas.VERSION + 1), Integer.BYTES);
+        }
+
+        IOException error = assertThrows(IOException.class, () -> InstantaneaTareas.cargarUltima(directorio));
+        assertTrue(error.getMessage().contains("no soportada"));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Cada instantánea nueva reemplaza a las anteriores")
+    void testReemplazoDeAnteriores() throws IOException {
+        assertNull(InstantaneaTareas.cargarUltima(directorio.resolve("inexistente")));
+        InstantaneaTareas.escribir(directorio, 5, InstantaneaTareas.codificar(5, 22, gestor.listarTareas()));
+        gestor.eliminarTarea(1);
+        InstantaneaTareas.escribir(directorio, 9, InstantaneaTareas.codificar(9, 22, gestor.listarTareas()));
+
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            List<String> nombres = archivos.map(p -> p.getFileName().toString()).toList();
+            assertEquals(List.of("instantanea-00000000000000000009.snap"), nombres);
+        }
+        InstantaneaTareas leida = InstantaneaTareas.cargarUltima(directorio);
+        assertEquals(9, leida.obtenerSecuencia());
+        assertEquals(4, leida.obtenerTareas().length);
+    }
+
+    /**
+     * Resume los datos base de una tarea.
+     *
+     * @param tarea Tarea a resumir
+     * @return ID, nombre, prioridad y estado separados por "|"
+     */
+    private static String resumen(Tarea tarea) {
+        return tarea.getId() + "|" + tarea.getNombre() + "|" + tarea.getPrioridad() + "|" + tarea.isCompletado();
+    }
+}
@@ -0,0 +1,309 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Suite de pruebas para la clase IntercambioTareas.
+ * Verifica que la exportación e importación en CSV y JSON Lines conserven todos los atributos
+ * de cada tipo de tarea, el manejo de comillas y escapes, los errores por línea y la
+ * importación por lotes de archivos grandes.
+ *
+ * @author Yulieta (Melek) Eyzaguirre
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DisplayName("Suite de Pruebas: IntercambioTareas")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IntercambioTareasTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @Order(1)
+    @DisplayName("Test 001: Exportar e importar conserva los atributos de cada tipo en ambos formatos")
+    void testIdaYVuelta() throws IOException {
+        GestorTareas origen = gestorConTodosLosTipos();
+        for (IntercambioTareas.Formato formato : IntercambioTareas.Formato.values()) {
+            StringWriter texto = new StringWriter();
+            assertEquals(4, IntercambioTareas.exportar(origen.listarTareas(), texto, formato));
+
+            GestorTareas destino = new GestorTareas();
+            assertEquals(4, IntercambioTareas.importar(new StringReader(texto.toString()), formato, destino));
+            assertEquals(describir(origen), describir(destino), formato.name());
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test 002: Comas, comillas y saltos de línea se escapan en CSV y JSON")
+    void testComillasYEscapes() throws IOException {
+        GestorTareas origen = new GestorTareas();
+        Tarea[] tareas = {
+            new TareaNormal(0, "Comprar pan, leche y \"huevos\"", 1, "Casa\nCocina", 10),
+            new TareaUrgente(0, "Barra \\ tab\t fin", 3, null, 5, "Ana \"la jefa\""),
+            new Tarea(0, "  espacios  ", 2)
+        };
+        origen.agregarTareas(tareas);
+
+        StringWriter csv = new StringWriter();
+        IntercambioTareas.exportar(origen.listarTareas(), csv, IntercambioTareas.Formato.CSV);
+        assertTrue(csv.toString().contains("\"Comprar pan, leche y \"\"huevos\"\"\""), csv.toString());
+
+        StringWriter json = new StringWriter();
+        IntercambioTareas.exportar(origen.listarTareas(), json, IntercambioTareas.Formato.JSON_LINEAS);
+        assertEquals(3, json.toString().lines().count(), "Cada tarea ocupa una línea");
+        assertTrue(json.toString().contains("\"Casa\\nCocina\""), json.toString());
+
+        for (StringWriter texto : List.of(csv, json)) {
+            IntercambioTareas.Formato formato = texto == csv ? IntercambioTareas.Formato.CSV
+                                                             : IntercambioTareas.Formato.JSON_LINEAS;
+            GestorTareas destino = new GestorTareas();
+            IntercambioTareas.importar(new StringReader(texto.toString()), formato, destino);
+            assertEquals(describir(origen).replace("  espacios  ", "espacios"), describir(destino), formato.name());
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test 003: Columnas en otro orden, desconocidas u omitidas usan los valores por defecto")
+    void testColumnasFlexibles() throws IOException {
+        String csv = "prioridad,extra,nombre,tipo,nivelCriticidad\r\n"
+                   + "3,x,Solo nombre,,\r\n"
+                   + "\r\n"
+                   + "1,y,Urgente mínima,URGENTE,\r\n";
+        GestorTareas destino = new GestorTareas();
+        assertEquals(2, IntercambioTareas.importar(new StringReader(csv), IntercambioTareas.Formato.CSV, destino));
+        assertEquals(Tarea.class, destino.buscarTareaPorId(1).getClass());
+        TareaUrgente urgente = (TareaUrgente) destino.buscarTareaPorId(2);
+        assertEquals(TareaUrgente.CRITICIDAD_DEFECTO, urgente.getNivelCriticidad());
+        assertNull(urgente.getFechaLimite());
+        assertTrue(urgente.isNotificacionesActivas());
+
+        String json = "{\"nombre\":\"Normal\",\"prioridad\":2,\"tipo\":\"NORMAL\",\"categoria\":null,"
+                    + "\"otra\":true,\"id\":99}\n"
+                    + "  { \"prioridad\" : 1 , \"nombre\" : \"Con espacios\" }  \n";
+        destino = new GestorTareas();
+        assertEquals(2, IntercambioTareas.importar(new StringReader(json), IntercambioTareas.Formato.JSON_LINEAS, destino));
+        TareaNormal normal = (TareaNormal) destino.buscarTareaPorId(1);
+        assertNull(normal.getCategoria());
+        assertEquals(0, normal.getTiempoEstimado());
+        assertNull(destino.buscarTareaPorId(99), "El ID del archivo no se conserva");
+        assertEquals("Con espacios", destino.buscarTareaPorId(2).getNombre());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Test 004: Un registro inválido se informa con su línea y conserva los lotes anteriores")
+    void testErroresPorLinea() {
+        assertError("nombre,prioridad\nBien,1\nMal,7\n", IntercambioTareas.Formato.CSV, "Línea 3");
+        assertError("nombre,prioridad\n\"sin cerrar,1\n", IntercambioTareas.Formato.CSV, "comillas sin cerrar");
+        assertError("nombre\nSin prioridad\n", IntercambioTareas.Formato.CSV, "Línea 1");
+        assertError("nombre,prioridad\nUno,1,extra\n", IntercambioTareas.Formato.CSV, "Línea 2");
+        assertError("{\"nombre\":\"A\",\"prioridad\":1}\n{\"nombre\":\"B\",\"prioridad\":x}\n",
+                    IntercambioTareas.Formato.JSON_LINEAS, "Línea 2");
+        assertError("{\"nombre\":\"A\",\"prioridad\":1,\"tipo\":\"OTRO\"}\n",
+                    IntercambioTareas.Formato.JSON_LINEAS, "tipo de tarea desconocido");
+        assertError("{\"nombre\":\"A\",\"prioridad\":1,\"tipo\":\"URGENTE\",\"fechaLimite\":\"mañana\"}\n",
+                    IntercambioTareas.Formato.JSON_LINEAS, "fecha límite inválida");
+        assertError("{\"nombre\":\"A\",\"prioridad\":1} {\"nombre\":\"B\",\"prioridad\":1}\n",
+                    IntercambioTareas.Formato.JSON_LINEAS, "una línea");
+
+        StringBuilder csv = new StringBuilder("nombre,prioridad\n");
+        for (int i = 0; i < IntercambioTareas.TAMANIO_LOTE; i++) {
+            csv.append("Tarea ").append(i).append(",2\n");
+        }
+        csv.append(",2\n");
+        GestorTareas destino = new GestorTareas();
+        assertThrows(IOException.class,
+            () -> IntercambioTareas.importar(new StringReader(csv.toString()), IntercambioTareas.Formato.CSV, destino));
+        assertEquals(IntercambioTareas.TAMANIO_LOTE, destino.obtenerTotalTareas(),
+            "El lote completo anterior al error ya quedó agregado");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test 005: Un archivo grande se importa en flujo y por lotes")
+    void testImportacionGrandePorLotes() throws IOException {
+        int cantidad = IntercambioTareas.TAMANIO_LOTE * 5 + 17;
+        Reader generado = new Reader() {
+            private int fila = -1;
+            private String pendiente = "";
+            private int posicion;
+
+            @Override
+            public int read(char[] destino, int desde, int largo) {
+                if (posicion == pendiente.length()) {
+                    if (++fila > cantidad) {
+                        return -1;
+                    }
+                    pendiente = fila == 0 ? "tipo,nombre,prioridad,categoria,tiempoEstimado\n"
+                                          : "NORMAL,Generada " + fila + "," + (fila % 3 + 1) + ",Lote," + fila + "\n";
+                    posicion = 0;
+                }
+                int copiar = Math.min(largo, pendiente.length() - posicion);
+                pendiente.getChars(posicion, posicion + copiar, destino, desde);
+                posicion += copiar;
+                return copiar;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        int[] lotes = new int[1];
+        GestorTareas destino = new GestorTareas() {
+            @Override
+            public ResultadoLote agregarTareas(Tarea[] tareas) {
+                lotes[0]++;
+                assertTrue(tareas.length <= IntercambioTareas.TAMANIO_LOTE);
+                return super.agregarTareas(tareas);
+            }
+        };
+        assertEquals(cantidad, IntercambioTareas.importar(generado, IntercambioTareas.Formato.CSV, destino));
+        assertEquals(6, lotes[0]);
+        assertEquals(cantidad, destino.obtenerTotalTareas());
+        TareaNormal ultima = (TareaNormal) destino.buscarTareaPorId(cantidad);
+        assertEquals("Generada " + cantidad, ultima.getNombre());
+        assertEquals(cantidad, ultima.getTiempoEstimado());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test 006: El formato del archivo se deduce de su extensión")
+    void testArchivos() throws IOException {
+        GestorTareas origen = gestorConTodosLosTipos();
+        for (String nombre : List.of("tareas.csv", "tareas.JSONL", "tareas.ndjson")) {
+            Path archivo = directorio.resolve(nombre);
+            assertEquals(4, IntercambioTareas.exportar(origen, archivo));
+            GestorTareas destino = new GestorTareas();
+            assertEquals(4, IntercambioTareas.importar(archivo, destino));
+            assertEquals(describir(origen), describir(destino), nombre);
+        }
+        Path otro = directorio.resolve("tareas.txt");
+        Files.writeString(otro, "");
+        assertThrows(IllegalArgumentException.class, () -> IntercambioTareas.importar(otro, new GestorTareas()));
+        Path vacio = Files.writeString(directorio.resolve("vacio.csv"), "");
+        assertEquals(0, IntercambioTareas.importar(vacio, new GestorTareas()));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test 007: Los gestores con vistas se exportan en flujo, sin listar sus tareas")
+    void testExportacionEnFlujo() throws IOException {
+        GestorTareas origen = gestorConTodosLosTipos();
+        StringWriter esperado = new StringWriter();
+        IntercambioTareas.exportar(origen.listarTareas(), esperado, IntercambioTareas.Formato.JSON_LINEAS);
+
+        GestorTareasColumnar columnar = new GestorTareasColumnar() {
+            @Override
+            public List<Tarea> listarTareas() {
+                throw new AssertionError("La exportación no debe construir la lista de tareas");
+            }
+        };
+        columnar.agregarTareas(gestorConTodosLosTipos().listarTareas().stream().map(Tarea::copiar).toArray(Tarea[]::new));
+        columnar.marcarComoCompletada(2);
+        Path archivo = directorio.resolve("columnar.jsonl");
+        assertEquals(4, IntercambioTareas.exportar(columnar, archivo));
+        assertEquals(esperado.toString(), Files.readString(archivo));
+
+        try (GestorTareasMapeado mapeado = new GestorTareasMapeado(directorio.resolve("mapeado"))) {
+            mapeado.agregarTareas(gestorConTodosLosTipos().listarTareas().stream().map(Tarea::copiar).toArray(Tarea[]::new));
+            mapeado.marcarComoCompletada(2);
+            archivo = directorio.resolve("mapeado.jsonl");
+            assertEquals(4, IntercambioTareas.exportar(mapeado, archivo));
+            assertEquals(esperado.toString(), Files.readString(archivo));
+
+            Iterator<Tarea> recorrido = mapeado.recorrerTareas().iterator();
+            recorrido.next();
+            mapeado.agregarTarea("Durante el recorrido", 1);
+            assertThrows(ConcurrentModificationException.class, recorrido::next);
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test 008: La marca de orden de bytes solo se omite al inicio del archivo")
+    void testMarcaOrdenBytes() throws IOException {
+        GestorTareas destino = new GestorTareas();
+        String texto = "\uFEFFnombre,prioridad\n\uFEFFSegunda,2\n";
+        assertEquals(1, IntercambioTareas.importar(new StringReader(texto), IntercambioTareas.Formato.CSV, destino));
+        assertEquals("\uFEFFSegunda", destino.buscarTareaPorId(1).getNombre());
+
+        destino = new GestorTareas();
+        texto = "\uFEFF{\"nombre\":\"JSON\",\"prioridad\":3}\n";
+        assertEquals(1, IntercambioTareas.importar(new StringReader(texto), IntercambioTareas.Formato.JSON_LINEAS, destino));
+        assertEquals("JSON", destino.buscarTareaPorId(1).getNombre());
+    }
+
+    /**
+     * Verifica que importar un texto falle con un mensaje que contenga el fragmento indicado.
+     *
+     * @param texto Contenido a importar
+     * @param formato Formato del contenido
+     * @param fragmento Texto esperado en el mensaje de error
+     */
+    private static void assertError(String texto, IntercambioTareas.Formato formato, String fragmento) {
+        IOException error = assertThrows(IOException.class,
+            () -> IntercambioTareas.importar(new StringReader(texto), formato, new GestorTareas()));
+        assertTrue(error.getMessage().contains(fragmento), error.getMessage());
+    }
+
+    /**
+     * Crea un gestor con una tarea de cada tipo, incluyendo atributos opcionales vacíos.
+     *
+     * @return Gestor con cuatro tareas
+     */
+    private static GestorTareas gestorConTodosLosTipos() {
+        GestorTareas gestor = new GestorTareas();
+        TareaUrgente sinFecha = new TareaUrgente(0, "Sin fecha", 2, null, 1, null);
+        sinFecha.setNotificacionesActivas(false);
+        gestor.agregarTareas(new Tarea[] {
+            new Tarea(0, "Básica", GestorTareas.PRIORIDAD_BAJA),
+            new TareaNormal(0, "Normal", GestorTareas.PRIORIDAD_MEDIA, "Estudio", 45),
+            new TareaUrgente(0, "Urgente", GestorTareas.PRIORIDAD_ALTA,
+                             LocalDateTime.of(2026, 10, 19, 8, 30, 15, 500), 9, "Melek"),
+            sinFecha
+        });
+        gestor.marcarComoCompletada(2);
+        return gestor;
+    }
+
+    /**
+     * Describe todas las tareas de un gestor, incluyendo los atributos de cada tipo.
+     *
+     * @param gestor Gestor a describir
+     * @return Una línea por tarea, en orden de ID
+     */
+    static String describir(GestorTareas gestor) {
+        StringBuilder texto = new StringBuilder();
+        gestor.listarTareas().stream()
+            .sorted((a, b) -> Integer.compare(a.getId(), b.getId()))
+            .forEach(t -> {
+                texto.append(t.getClass().getName()).append('|').append(t.getId()).append('|')
+                     .append(t.getNombre()).append('|').append(t.getPrioridad()).append('|').append(t.isCompletado());
+                if (t instanceof TareaNormal) {
+                    TareaNormal n = (TareaNormal) t;
+                    texto.append('|').append(n.getCategoria()).append('|').append(n.getTiempoEstimado());
+                } else if (t instanceof TareaUrgente) {
+                    TareaUrgente u = (TareaUrgente) t;
+                    texto.append('|').append(u.getFechaLimite()).append('|').append(u.getNivelCriticidad())
+                         .append('|').append(u.getResponsable()).append('|').append(u.isNotificacionesActivas());
+                }
+                texto.append('\n');
+            });
+        return texto.toString();
+    }
+}